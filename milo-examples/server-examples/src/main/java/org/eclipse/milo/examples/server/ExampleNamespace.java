@@ -84,7 +84,8 @@ public class ExampleNamespace extends ManagedNamespaceWithLifecycle {
   ExampleNamespace(OpcUaServer server) {
     super(server, NAMESPACE_URI);
 
-    subscriptionModel = new SubscriptionModel(server, this);
+    subscriptionModel =
+        new SubscriptionModel(server, this, server.getConfig().isSharedSamplingEnabled());
 
     getLifecycleManager().addLifecycle(subscriptionModel);
 
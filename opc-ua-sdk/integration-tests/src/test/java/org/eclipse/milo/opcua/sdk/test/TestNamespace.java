@@ -22,8 +22,8 @@ import org.eclipse.milo.opcua.sdk.core.Reference;
 import org.eclipse.milo.opcua.sdk.core.ValueRanks;
 import org.eclipse.milo.opcua.sdk.server.Lifecycle;
 import org.eclipse.milo.opcua.sdk.server.ManagedNamespaceWithLifecycle;
+import org.eclipse.milo.opcua.sdk.server.NodeManager;
 import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
-import org.eclipse.milo.opcua.sdk.server.UaNodeManager;
 import org.eclipse.milo.opcua.sdk.server.items.DataItem;
 import org.eclipse.milo.opcua.sdk.server.items.MonitoredItem;
 import org.eclipse.milo.opcua.sdk.server.methods.AbstractMethodInvocationHandler;
@@ -631,7 +631,7 @@ public class TestNamespace extends ManagedNamespaceWithLifecycle {
   @Override
   public void onMonitoringModeChanged(List<MonitoredItem> monitoredItems) {}
 
-  public void configure(BiConsumer<UaNodeContext, UaNodeManager> consumer) {
+  public void configure(BiConsumer<UaNodeContext, NodeManager<UaNode>> consumer) {
     consumer.accept(getNodeContext(), getNodeManager());
   }
 
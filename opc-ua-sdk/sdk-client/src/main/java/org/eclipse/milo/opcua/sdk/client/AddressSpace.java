@@ -31,6 +31,8 @@ import java.util.concurrent.ExecutionException;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.eclipse.milo.opcua.sdk.client.AddressSpaceCrawler.CrawlListener;
+import org.eclipse.milo.opcua.sdk.client.AddressSpaceCrawler.CrawlOptions;
 import org.eclipse.milo.opcua.sdk.client.ObjectTypeManager.ObjectNodeConstructor;
 import org.eclipse.milo.opcua.sdk.client.model.objects.ServerTypeNode;
 import org.eclipse.milo.opcua.sdk.client.nodes.UaDataTypeNode;
@@ -726,6 +728,42 @@ public class AddressSpace {
         });
   }
 
+  /**
+   * Crawl the address space breadth-first, starting from {@code startingNodeIds}, using batched
+   * multi-node Browse and BrowseNext requests.
+   *
+   * <p>Results are delivered to {@code listener} as they arrive rather than accumulated, making
+   * this suitable for discovering very large address spaces.
+   *
+   * @param startingNodeIds the {@link NodeId}s to start crawling from.
+   * @param crawlOptions the {@link CrawlOptions} to use.
+   * @param listener the {@link CrawlListener} that receives results.
+   * @return a CompletableFuture that completes successfully with the number of Nodes visited, or
+   *     completes exceptionally if a service-level error occurs.
+   * @see AddressSpaceCrawler
+   */
+  public CompletableFuture<Long> crawlAsync(
+      List<NodeId> startingNodeIds, CrawlOptions crawlOptions, CrawlListener listener) {
+
+    return new AddressSpaceCrawler(client, crawlOptions, listener).crawl(startingNodeIds);
+  }
+
+  /**
+   * Crawl the address space breadth-first, starting from {@code startingNodeId}, using the
+   * currently configured {@link BrowseOptions}.
+   *
+   * @param startingNodeId the {@link NodeId} to start crawling from.
+   * @param listener the {@link CrawlListener} that receives results.
+   * @return a CompletableFuture that completes successfully with the number of Nodes visited, or
+   *     completes exceptionally if a service-level error occurs.
+   * @see #crawlAsync(List, CrawlOptions, CrawlListener)
+   */
+  public CompletableFuture<Long> crawlAsync(NodeId startingNodeId, CrawlListener listener) {
+    CrawlOptions crawlOptions = CrawlOptions.builder().setBrowseOptions(getBrowseOptions()).build();
+
+    return crawlAsync(List.of(startingNodeId), crawlOptions, listener);
+  }
+
   private static CompletableFuture<List<? extends UaNode>> sequence(
       List<CompletableFuture<? extends UaNode>> cfs) {
 
@@ -0,0 +1,541 @@
+/*
+ * Copyright (c) 2025 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.client;
+
+import static java.util.Objects.requireNonNullElse;
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import org.eclipse.milo.opcua.sdk.client.AddressSpace.BrowseOptions;
+import org.eclipse.milo.opcua.stack.core.AttributeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ByteString;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import org.eclipse.milo.opcua.stack.core.types.structured.BrowseDescription;
+import org.eclipse.milo.opcua.stack.core.types.structured.BrowseResult;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReferenceDescription;
+import org.eclipse.milo.opcua.stack.core.types.structured.ViewDescription;
+import org.eclipse.milo.opcua.stack.core.util.ExecutionQueue;
+import org.eclipse.milo.opcua.stack.core.util.Lists;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Breadth-first traversal of a Server's address space using batched multi-node Browse, BrowseNext,
+ * and optionally Read requests.
+ *
+ * <p>Each request carries as many Nodes as the Server's {@link OperationLimits} allow, and up to
+ * {@link CrawlOptions#getMaxRequestsInFlight()} requests are outstanding at any time. BrowseNext
+ * requests for continuation points are issued as soon as they are received, ahead of browsing new
+ * Nodes, so the Server can release them quickly. Each Node is visited only once.
+ *
+ * <p>Results are delivered to a {@link CrawlListener} as they arrive. Listener callbacks are
+ * serialized; they are never invoked concurrently. If a callback throws, the crawl stops and
+ * completes exceptionally with what it threw.
+ *
+ * <p>When a crawl fails, continuation points it still holds, including any returned by requests
+ * outstanding at the time, are released with a BrowseNext request.
+ *
+ * @see AddressSpace#crawlAsync(List, CrawlOptions, CrawlListener)
+ */
+public class AddressSpaceCrawler {
+
+  private static final int DEFAULT_MAX_NODES_PER_BROWSE = 100;
+  private static final int DEFAULT_MAX_NODES_PER_READ = 1000;
+
+  private final AtomicLong nodesVisited = new AtomicLong(0L);
+  private final CompletableFuture<Long> future = new CompletableFuture<>();
+
+  /** NodeIds that have been queued for browsing. */
+  private final Set<NodeId> visited = new HashSet<>();
+
+  /** NodeIds waiting to be browsed. */
+  private final ArrayDeque<NodeId> browseQueue = new ArrayDeque<>();
+
+  /** Continuation points waiting for a BrowseNext, and the Node each belongs to. */
+  private final ArrayDeque<PendingContinuation> continuationQueue = new ArrayDeque<>();
+
+  /** NodeIds waiting to have their attributes read. */
+  private final ArrayDeque<NodeId> readQueue = new ArrayDeque<>();
+
+  private int requestsInFlight = 0;
+  private int maxNodesPerBrowse;
+  private int maxNodesPerRead;
+
+  private final ExecutionQueue executionQueue;
+
+  private final OpcUaClient client;
+  private final CrawlOptions options;
+  private final CrawlListener listener;
+
+  AddressSpaceCrawler(OpcUaClient client, CrawlOptions options, CrawlListener listener) {
+    this.client = client;
+    this.options = options;
+    this.listener = listener;
+
+    executionQueue = new ExecutionQueue(client.getTransport().getConfig().getExecutor());
+
+    // Used until the Server's OperationLimits are known, or if they can't be read, so batches are
+    // never empty, e.g. when releasing continuation points.
+    maxNodesPerBrowse =
+        limit(options.getMaxNodesPerBrowse(), Optional.empty(), DEFAULT_MAX_NODES_PER_BROWSE);
+    maxNodesPerRead =
+        limit(options.getMaxNodesPerRead(), Optional.empty(), DEFAULT_MAX_NODES_PER_READ);
+  }
+
+  /**
+   * Start crawling from {@code startingNodeIds}.
+   *
+   * @param startingNodeIds the {@link NodeId}s to start the crawl from.
+   * @return a {@link CompletableFuture} that completes with the number of Nodes visited once the
+   *     crawl is finished, or completes exceptionally if a service-level error occurs.
+   */
+  CompletableFuture<Long> crawl(List<NodeId> startingNodeIds) {
+    client
+        .getOperationLimitsAsync()
+        .whenComplete(
+            (limits, ex) ->
+                submit(
+                    () -> {
+                      if (limits != null) {
+                        maxNodesPerBrowse =
+                            limit(
+                                options.getMaxNodesPerBrowse(),
+                                limits.maxNodesPerBrowse(),
+                                DEFAULT_MAX_NODES_PER_BROWSE);
+
+                        maxNodesPerRead =
+                            limit(
+                                options.getMaxNodesPerRead(),
+                                limits.maxNodesPerRead(),
+                                DEFAULT_MAX_NODES_PER_READ);
+                      }
+
+                      startingNodeIds.forEach(this::enqueue);
+
+                      pump();
+                    }));
+
+    return future;
+  }
+
+  /**
+   * Submit {@code task} to the queue, failing the crawl if it throws, e.g. because a {@link
+   * CrawlListener} callback did.
+   */
+  private void submit(Runnable task) {
+    executionQueue.submit(
+        () -> {
+          try {
+            task.run();
+          } catch (Throwable t) {
+            fail(t);
+          }
+        });
+  }
+
+  /** Complete the crawl exceptionally and release held continuation points. */
+  private void fail(Throwable failure) {
+    if (future.completeExceptionally(failure)) {
+      var continuationPoints = new ArrayList<ByteString>();
+      continuationQueue.forEach(pending -> continuationPoints.add(pending.continuationPoint()));
+      continuationQueue.clear();
+
+      releaseContinuationPoints(continuationPoints);
+    }
+  }
+
+  /**
+   * Release continuation points returned in {@code results} that won't be browsed because the crawl
+   * has already completed.
+   */
+  private void releaseResultContinuationPoints(List<BrowseResult> results) {
+    var continuationPoints = new ArrayList<ByteString>();
+
+    for (BrowseResult result : results) {
+      ByteString continuationPoint = result.getContinuationPoint();
+      if (continuationPoint != null && continuationPoint.isNotNull()) {
+        continuationPoints.add(continuationPoint);
+      }
+    }
+
+    releaseContinuationPoints(continuationPoints);
+  }
+
+  private void releaseContinuationPoints(List<ByteString> continuationPoints) {
+    Lists.partition(continuationPoints, maxNodesPerBrowse)
+        .forEach(partition -> client.browseNextAsync(true, partition));
+  }
+
+  private void enqueue(NodeId nodeId) {
+    if (nodeId.isNotNull() && visited.add(nodeId)) {
+      browseQueue.add(nodeId);
+
+      if (!options.getAttributesToRead().isEmpty()) {
+        readQueue.add(nodeId);
+      }
+    }
+  }
+
+  /** Issue as many requests as the in-flight limit allows. Must be called on the queue. */
+  private void pump() {
+    if (future.isDone()) return;
+
+    while (requestsInFlight < options.getMaxRequestsInFlight()) {
+      if (!continuationQueue.isEmpty()) {
+        browseNext();
+      } else if (!browseQueue.isEmpty()) {
+        browse();
+      } else if (!readQueue.isEmpty()) {
+        read();
+      } else {
+        break;
+      }
+    }
+
+    if (requestsInFlight == 0
+        && browseQueue.isEmpty()
+        && continuationQueue.isEmpty()
+        && readQueue.isEmpty()) {
+
+      future.complete(nodesVisited.get());
+    }
+  }
+
+  private void browse() {
+    BrowseOptions browseOptions = options.getBrowseOptions();
+
+    var nodeIds = new ArrayList<NodeId>();
+    var nodesToBrowse = new ArrayList<BrowseDescription>();
+
+    while (!browseQueue.isEmpty() && nodesToBrowse.size() < maxNodesPerBrowse) {
+      NodeId nodeId = browseQueue.poll();
+      nodeIds.add(nodeId);
+      nodesToBrowse.add(
+          new BrowseDescription(
+              nodeId,
+              browseOptions.getBrowseDirection(),
+              browseOptions.getReferenceTypeId(),
+              browseOptions.isIncludeSubtypes(),
+              browseOptions.getNodeClassMask(),
+              browseOptions.getResultMask()));
+    }
+
+    requestsInFlight++;
+
+    var viewDescription = new ViewDescription(NodeId.NULL_VALUE, DateTime.MIN_VALUE, uint(0));
+
+    client
+        .browseAsync(viewDescription, browseOptions.getMaxReferencesPerNode(), nodesToBrowse)
+        .whenComplete(
+            (response, ex) ->
+                submit(
+                    () -> {
+                      requestsInFlight--;
+
+                      if (response == null) {
+                        fail(ex);
+                      } else if (future.isDone()) {
+                        releaseResultContinuationPoints(Lists.ofNullable(response.getResults()));
+                      } else {
+                        onBrowseResults(nodeIds, Lists.ofNullable(response.getResults()), true);
+                        pump();
+                      }
+                    }));
+  }
+
+  private void browseNext() {
+    var nodeIds = new ArrayList<NodeId>();
+    var continuationPoints = new ArrayList<ByteString>();
+
+    while (!continuationQueue.isEmpty() && continuationPoints.size() < maxNodesPerBrowse) {
+      PendingContinuation pending = continuationQueue.poll();
+      nodeIds.add(pending.nodeId());
+      continuationPoints.add(pending.continuationPoint());
+    }
+
+    requestsInFlight++;
+
+    client
+        .browseNextAsync(false, continuationPoints)
+        .whenComplete(
+            (response, ex) ->
+                submit(
+                    () -> {
+                      requestsInFlight--;
+
+                      if (response == null) {
+                        fail(ex);
+                      } else if (future.isDone()) {
+                        releaseResultContinuationPoints(Lists.ofNullable(response.getResults()));
+                      } else {
+                        onBrowseResults(nodeIds, Lists.ofNullable(response.getResults()), false);
+                        pump();
+                      }
+                    }));
+  }
+
+  private void onBrowseResults(List<NodeId> nodeIds, List<BrowseResult> results, boolean first) {
+    int count = Math.min(nodeIds.size(), results.size());
+
+    // Queue every continuation point before any listener callback, so they're all released if one
+    // of the callbacks throws.
+    for (int i = 0; i < count; i++) {
+      BrowseResult result = results.get(i);
+      ByteString continuationPoint = result.getContinuationPoint();
+
+      if (result.getStatusCode().isGood()
+          && continuationPoint != null
+          && continuationPoint.isNotNull()) {
+
+        continuationQueue.add(new PendingContinuation(nodeIds.get(i), continuationPoint));
+      }
+    }
+
+    for (int i = 0; i < count; i++) {
+      NodeId nodeId = nodeIds.get(i);
+      BrowseResult result = results.get(i);
+      StatusCode statusCode = result.getStatusCode();
+
+      if (first) {
+        nodesVisited.incrementAndGet();
+      }
+
+      if (statusCode.isGood()) {
+        List<ReferenceDescription> references =
+            List.of(requireNonNullElse(result.getReferences(), new ReferenceDescription[0]));
+
+        for (ReferenceDescription reference : references) {
+          reference.getNodeId().toNodeId(client.getNamespaceTable()).ifPresent(this::enqueue);
+        }
+
+        listener.onReferences(nodeId, references);
+      } else {
+        listener.onBrowseFailure(nodeId, statusCode);
+      }
+    }
+  }
+
+  private void read() {
+    List<AttributeId> attributeIds = options.getAttributesToRead();
+    int nodesPerRequest = Math.max(1, maxNodesPerRead / attributeIds.size());
+
+    var nodeIds = new ArrayList<NodeId>();
+    var readValueIds = new ArrayList<ReadValueId>();
+
+    while (!readQueue.isEmpty() && nodeIds.size() < nodesPerRequest) {
+      NodeId nodeId = readQueue.poll();
+      nodeIds.add(nodeId);
+
+      for (AttributeId attributeId : attributeIds) {
+        readValueIds.add(
+            new ReadValueId(nodeId, attributeId.uid(), null, QualifiedName.NULL_VALUE));
+      }
+    }
+
+    requestsInFlight++;
+
+    client
+        .readAsync(0.0, TimestampsToReturn.Neither, readValueIds)
+        .whenComplete(
+            (response, ex) ->
+                submit(
+                    () -> {
+                      requestsInFlight--;
+
+                      if (response != null && !future.isDone()) {
+                        List<DataValue> values = Lists.ofNullable(response.getResults());
+
+                        for (int i = 0; i < nodeIds.size(); i++) {
+                          int from = i * attributeIds.size();
+                          int to = from + attributeIds.size();
+
+                          if (to <= values.size()) {
+                            listener.onAttributes(nodeIds.get(i), values.subList(from, to));
+                          }
+                        }
+
+                        pump();
+                      } else if (response == null) {
+                        fail(ex);
+                      }
+                    }));
+  }
+
+  private static int limit(int configured, Optional<UInteger> serverLimit, int defaultLimit) {
+    int server = serverLimit.map(UInteger::intValue).filter(l -> l > 0).orElse(0);
+
+    if (configured > 0 && server > 0) {
+      return Math.min(configured, server);
+    } else if (configured > 0) {
+      return configured;
+    } else if (server > 0) {
+      return server;
+    } else {
+      return defaultLimit;
+    }
+  }
+
+  private record PendingContinuation(NodeId nodeId, ByteString continuationPoint) {}
+
+  /** Receives the results of a crawl as they arrive. */
+  public interface CrawlListener {
+
+    /**
+     * References were browsed from {@code nodeId}.
+     *
+     * <p>May be called more than once for the same Node if the Server returned a continuation
+     * point.
+     *
+     * @param nodeId the {@link NodeId} of the Node that was browsed.
+     * @param references the {@link ReferenceDescription}s browsed from {@code nodeId}.
+     */
+    void onReferences(NodeId nodeId, List<ReferenceDescription> references);
+
+    /**
+     * The attributes requested by {@link CrawlOptions#getAttributesToRead()} were read.
+     *
+     * @param nodeId the {@link NodeId} of the Node that was read.
+     * @param values the attribute values, in the same order as {@link
+     *     CrawlOptions#getAttributesToRead()}.
+     */
+    default void onAttributes(NodeId nodeId, List<DataValue> values) {}
+
+    /**
+     * Browsing {@code nodeId} failed with {@code statusCode}.
+     *
+     * @param nodeId the {@link NodeId} of the Node that could not be browsed.
+     * @param statusCode the operation-level {@link StatusCode}.
+     */
+    default void onBrowseFailure(NodeId nodeId, StatusCode statusCode) {}
+  }
+
+  public static class CrawlOptions {
+
+    private final BrowseOptions browseOptions;
+    private final int maxNodesPerBrowse;
+    private final int maxNodesPerRead;
+    private final int maxRequestsInFlight;
+    private final List<AttributeId> attributesToRead;
+
+    public CrawlOptions() {
+      this(new BrowseOptions(), 0, 0, 4, List.of());
+    }
+
+    /**
+     * @param browseOptions the {@link BrowseOptions} used for each Node browsed.
+     * @param maxNodesPerBrowse the maximum number of Nodes per Browse or BrowseNext request, or 0
+     *     to use the Server's OperationLimits.
+     * @param maxNodesPerRead the maximum number of operations per Read request, or 0 to use the
+     *     Server's OperationLimits.
+     * @param maxRequestsInFlight the maximum number of requests outstanding at once.
+     * @param attributesToRead the attributes to read from each Node visited, if any.
+     */
+    public CrawlOptions(
+        BrowseOptions browseOptions,
+        int maxNodesPerBrowse,
+        int maxNodesPerRead,
+        int maxRequestsInFlight,
+        List<AttributeId> attributesToRead) {
+
+      if (maxRequestsInFlight < 1) {
+        throw new IllegalArgumentException("maxRequestsInFlight must be >= 1");
+      }
+
+      this.browseOptions = browseOptions;
+      this.maxNodesPerBrowse = maxNodesPerBrowse;
+      this.maxNodesPerRead = maxNodesPerRead;
+      this.maxRequestsInFlight = maxRequestsInFlight;
+      this.attributesToRead = List.copyOf(attributesToRead);
+    }
+
+    public BrowseOptions getBrowseOptions() {
+      return browseOptions;
+    }
+
+    public int getMaxNodesPerBrowse() {
+      return maxNodesPerBrowse;
+    }
+
+    public int getMaxNodesPerRead() {
+      return maxNodesPerRead;
+    }
+
+    public int getMaxRequestsInFlight() {
+      return maxRequestsInFlight;
+    }
+
+    public List<AttributeId> getAttributesToRead() {
+      return attributesToRead;
+    }
+
+    public static Builder builder() {
+      return new Builder();
+    }
+
+    public static class Builder {
+
+      private BrowseOptions browseOptions = new BrowseOptions();
+      private int maxNodesPerBrowse = 0;
+      private int maxNodesPerRead = 0;
+      private int maxRequestsInFlight = 4;
+      private List<AttributeId> attributesToRead = List.of();
+
+      private Builder() {}
+
+      public Builder setBrowseOptions(BrowseOptions browseOptions) {
+        this.browseOptions = browseOptions;
+        return this;
+      }
+
+      public Builder setMaxNodesPerBrowse(int maxNodesPerBrowse) {
+        this.maxNodesPerBrowse = maxNodesPerBrowse;
+        return this;
+      }
+
+      public Builder setMaxNodesPerRead(int maxNodesPerRead) {
+        this.maxNodesPerRead = maxNodesPerRead;
+        return this;
+      }
+
+      public Builder setMaxRequestsInFlight(int maxRequestsInFlight) {
+        this.maxRequestsInFlight = maxRequestsInFlight;
+        return this;
+      }
+
+      public Builder setAttributesToRead(@Nullable List<AttributeId> attributesToRead) {
+        this.attributesToRead = attributesToRead != null ? attributesToRead : List.of();
+        return this;
+      }
+
+      public CrawlOptions build() {
+        return new CrawlOptions(
+            browseOptions,
+            maxNodesPerBrowse,
+            maxNodesPerRead,
+            maxRequestsInFlight,
+            attributesToRead);
+      }
+    }
+  }
+}
@@ -161,6 +161,7 @@ import org.eclipse.milo.opcua.stack.transport.client.OpcClientTransport;
 import org.eclipse.milo.opcua.stack.transport.client.tcp.OpcTcpClientTransport;
 import org.eclipse.milo.opcua.stack.transport.client.tcp.OpcTcpClientTransportConfig;
 import org.eclipse.milo.opcua.stack.transport.client.tcp.OpcTcpClientTransportConfigBuilder;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -312,6 +313,8 @@ public class OpcUaClient {
 
   private final Lazy<OperationLimits> operationLimits = new Lazy<>();
 
+  private final @Nullable OperationBatcher operationBatcher;
+
   private final ObjectTypeManager objectTypeManager = new ObjectTypeManager();
 
   private final VariableTypeManager variableTypeManager = new VariableTypeManager();
@@ -461,6 +464,15 @@ public class OpcUaClient {
 
     faultNotificationQueue = new ExecutionQueue(transport.getConfig().getExecutor());
 
+    long batchingWindow = config.getOperationBatchingWindow().longValue();
+    if (batchingWindow > 0) {
+      int batchingMaxSize =
+          (int) Math.min(config.getOperationBatchingMaxSize().longValue(), Integer.MAX_VALUE);
+      operationBatcher = new OperationBatcher(this, batchingWindow, Math.max(batchingMaxSize, 1));
+    } else {
+      operationBatcher = null;
+    }
+
     addressSpace = new AddressSpace(this);
     publishingManager = new PublishingManager(this);
 
@@ -566,6 +578,16 @@ public class OpcUaClient {
     return transport;
   }
 
+  /**
+   * Get the {@link OperationBatcher} combining concurrent single-node operations, if enabled by
+   * {@link OpcUaClientConfig#getOperationBatchingWindow()}.
+   *
+   * @return the {@link OperationBatcher}, if operation batching is enabled.
+   */
+  public Optional<OperationBatcher> getOperationBatcher() {
+    return Optional.ofNullable(operationBatcher);
+  }
+
   public AddressSpace getAddressSpace() {
     return addressSpace;
   }
@@ -894,6 +916,25 @@ public class OpcUaClient {
     return operationLimits.getOrThrow(() -> OperationLimits.read(this));
   }
 
+  /**
+   * Get the local copy of the server's {@link OperationLimits}, or read them from the server if
+   * they have not been read, without blocking the caller.
+   *
+   * @return a {@link CompletionStage} that completes successfully with the server's {@link
+   *     OperationLimits}, or completes exceptionally if an error occurs reading them.
+   */
+  public CompletionStage<OperationLimits> getOperationLimitsAsync() {
+    return CompletableFuture.supplyAsync(
+        () -> {
+          try {
+            return getOperationLimits();
+          } catch (UaException e) {
+            throw new CompletionException(e);
+          }
+        },
+        transport.getConfig().getExecutor());
+  }
+
   /**
    * Read the server's OperationLimits and update the local copy.
    *
@@ -1041,6 +1082,9 @@ public class OpcUaClient {
   /**
    * Read one or more attributes of one or more Nodes.
    *
+   * <p>If operation batching is enabled, a request for a single ReadValueId may be sent together
+   * with other concurrent single-operation requests; see {@link OperationBatcher}.
+   *
    * @param maxAge the requested max age of the value, in milliseconds. If maxAge is set to 0, the
    *     Server shall attempt to read a new value from the data source. If maxAge is set to the max
    *     Int32 value or greater, the Server shall attempt to get a cached value. Negative values are
@@ -1055,6 +1099,16 @@ public class OpcUaClient {
   public CompletableFuture<ReadResponse> readAsync(
       double maxAge, TimestampsToReturn timestampsToReturn, List<ReadValueId> readValueIds) {
 
+    if (operationBatcher != null && readValueIds.size() == 1) {
+      return operationBatcher.read(maxAge, timestampsToReturn, readValueIds.get(0));
+    } else {
+      return readAsyncUnbatched(maxAge, timestampsToReturn, readValueIds);
+    }
+  }
+
+  CompletableFuture<ReadResponse> readAsyncUnbatched(
+      double maxAge, TimestampsToReturn timestampsToReturn, List<ReadValueId> readValueIds) {
+
     return getSessionAsync()
         .thenCompose(
             session -> {
@@ -1138,6 +1192,9 @@ public class OpcUaClient {
   /**
    * Write attribute values to one or more Nodes.
    *
+   * <p>If operation batching is enabled, a request for a single WriteValue may be sent together
+   * with other concurrent single-operation requests; see {@link OperationBatcher}.
+   *
    * @param writeValues a List of {@link WriteValue}s describing the Nodes and attribute values to
    *     write
    * @return a {@link CompletableFuture} that completes successfully with the {@link WriteResponse},
@@ -1146,6 +1203,14 @@ public class OpcUaClient {
    *     https://reference.opcfoundation.org/Core/Part4/v105/docs/5.10.4</a>
    */
   public CompletableFuture<WriteResponse> writeAsync(List<WriteValue> writeValues) {
+    if (operationBatcher != null && writeValues.size() == 1) {
+      return operationBatcher.write(writeValues.get(0));
+    } else {
+      return writeAsyncUnbatched(writeValues);
+    }
+  }
+
+  CompletableFuture<WriteResponse> writeAsyncUnbatched(List<WriteValue> writeValues) {
     return getSessionAsync()
         .thenCompose(
             session -> {
@@ -1321,6 +1386,9 @@ public class OpcUaClient {
   /**
    * Call (invoke) one or more methods.
    *
+   * <p>If operation batching is enabled, a request for a single CallMethodRequest may be sent
+   * together with other concurrent single-operation requests; see {@link OperationBatcher}.
+   *
    * @param requests the {@link CallMethodRequest}s identifying the object/method to call and the
    *     input arguments.
    * @return a {@link CompletableFuture} that completes successfully with the {@link CallResponse},
@@ -1329,6 +1397,14 @@ public class OpcUaClient {
    *     https://reference.opcfoundation.org/Core/Part4/v105/docs/5.11.2</a>
    */
   public CompletableFuture<CallResponse> callAsync(List<CallMethodRequest> requests) {
+    if (operationBatcher != null && requests.size() == 1) {
+      return operationBatcher.call(requests.get(0));
+    } else {
+      return callAsyncUnbatched(requests);
+    }
+  }
+
+  CompletableFuture<CallResponse> callAsyncUnbatched(List<CallMethodRequest> requests) {
     return getSessionAsync()
         .thenCompose(
             session -> {
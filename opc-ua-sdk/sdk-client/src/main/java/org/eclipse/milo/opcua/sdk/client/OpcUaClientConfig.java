@@ -139,6 +139,20 @@ public interface OpcUaClientConfig {
    */
   UInteger getKeepAliveTimeout();
 
+  /**
+   * @return the time, in milliseconds, concurrent single-node Read, Write, and Call operations are
+   *     collected for before being sent as one request, or 0 if operations are not batched.
+   * @see OperationBatcher
+   */
+  UInteger getOperationBatchingWindow();
+
+  /**
+   * @return the maximum number of operations sent in one batched request. The server's {@link
+   *     OperationLimits} further restrict this once known.
+   * @see OperationBatcher
+   */
+  UInteger getOperationBatchingMaxSize();
+
   /**
    * @return a new {@link OpcUaClientConfigBuilder}.
    */
@@ -173,6 +187,8 @@ public interface OpcUaClientConfig {
     builder.setKeepAliveFailuresAllowed(config.getKeepAliveFailuresAllowed());
     builder.setKeepAliveInterval(config.getKeepAliveInterval());
     builder.setKeepAliveTimeout(config.getKeepAliveTimeout());
+    builder.setOperationBatchingWindow(config.getOperationBatchingWindow());
+    builder.setOperationBatchingMaxSize(config.getOperationBatchingMaxSize());
     builder.setSessionLocaleIds(config.getSessionLocaleIds());
 
     return builder;
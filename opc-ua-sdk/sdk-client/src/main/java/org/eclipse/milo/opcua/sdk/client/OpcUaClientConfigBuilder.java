@@ -53,6 +53,9 @@ public class OpcUaClientConfigBuilder {
   private UInteger keepAliveInterval = uint(5000);
   private UInteger keepAliveTimeout = uint(5000);
 
+  private UInteger operationBatchingWindow = uint(0);
+  private UInteger operationBatchingMaxSize = uint(1000);
+
   public OpcUaClientConfigBuilder setApplicationName(LocalizedText applicationName) {
     this.applicationName = applicationName;
     return this;
@@ -123,6 +126,31 @@ public class OpcUaClientConfigBuilder {
     return this;
   }
 
+  /**
+   * Set the time, in milliseconds, concurrent single-node Read, Write, and Call operations are
+   * collected for before being sent as one request. 0, the default, disables batching.
+   *
+   * @param operationBatchingWindow the batching window, in milliseconds.
+   * @return this {@link OpcUaClientConfigBuilder}.
+   * @see OperationBatcher
+   */
+  public OpcUaClientConfigBuilder setOperationBatchingWindow(UInteger operationBatchingWindow) {
+    this.operationBatchingWindow = operationBatchingWindow;
+    return this;
+  }
+
+  /**
+   * Set the maximum number of operations sent in one batched request.
+   *
+   * @param operationBatchingMaxSize the maximum number of operations per batched request.
+   * @return this {@link OpcUaClientConfigBuilder}.
+   * @see OperationBatcher
+   */
+  public OpcUaClientConfigBuilder setOperationBatchingMaxSize(UInteger operationBatchingMaxSize) {
+    this.operationBatchingMaxSize = operationBatchingMaxSize;
+    return this;
+  }
+
   public OpcUaClientConfigBuilder setEndpoint(EndpointDescription endpoint) {
     this.endpoint = endpoint;
     return this;
@@ -175,7 +203,9 @@ public class OpcUaClientConfigBuilder {
         identityProvider,
         keepAliveFailuresAllowed,
         keepAliveInterval,
-        keepAliveTimeout);
+        keepAliveTimeout,
+        operationBatchingWindow,
+        operationBatchingMaxSize);
   }
 
   static class OpcUaClientConfigImpl implements OpcUaClientConfig {
@@ -200,6 +230,8 @@ public class OpcUaClientConfigBuilder {
     private final UInteger keepAliveFailuresAllowed;
     private final UInteger keepAliveInterval;
     private final UInteger keepAliveTimeout;
+    private final UInteger operationBatchingWindow;
+    private final UInteger operationBatchingMaxSize;
 
     OpcUaClientConfigImpl(
         EndpointDescription endpoint,
@@ -220,7 +252,9 @@ public class OpcUaClientConfigBuilder {
         IdentityProvider identityProvider,
         UInteger keepAliveFailuresAllowed,
         UInteger keepAliveInterval,
-        UInteger keepAliveTimeout) {
+        UInteger keepAliveTimeout,
+        UInteger operationBatchingWindow,
+        UInteger operationBatchingMaxSize) {
       this.endpoint = endpoint;
       this.keyPair = keyPair;
       this.certificate = certificate;
@@ -240,6 +274,8 @@ public class OpcUaClientConfigBuilder {
       this.keepAliveFailuresAllowed = keepAliveFailuresAllowed;
       this.keepAliveInterval = keepAliveInterval;
       this.keepAliveTimeout = keepAliveTimeout;
+      this.operationBatchingWindow = operationBatchingWindow;
+      this.operationBatchingMaxSize = operationBatchingMaxSize;
     }
 
     @Override
@@ -336,5 +372,15 @@ public class OpcUaClientConfigBuilder {
     public UInteger getKeepAliveTimeout() {
       return keepAliveTimeout;
     }
+
+    @Override
+    public UInteger getOperationBatchingWindow() {
+      return operationBatchingWindow;
+    }
+
+    @Override
+    public UInteger getOperationBatchingMaxSize() {
+      return operationBatchingMaxSize;
+    }
   }
 }
@@ -0,0 +1,373 @@
+/*
+ * Copyright (c) 2025 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.client;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.eclipse.milo.opcua.sdk.client.subscriptions.OpcUaSubscription;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaException;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import org.eclipse.milo.opcua.stack.core.types.structured.BrowseDescription;
+import org.eclipse.milo.opcua.stack.core.types.structured.BrowseResponse;
+import org.eclipse.milo.opcua.stack.core.types.structured.BrowseResult;
+import org.eclipse.milo.opcua.stack.core.types.structured.HistoryReadDetails;
+import org.eclipse.milo.opcua.stack.core.types.structured.HistoryReadResponse;
+import org.eclipse.milo.opcua.stack.core.types.structured.HistoryReadValueId;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadResponse;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
+import org.eclipse.milo.opcua.stack.core.types.structured.ViewDescription;
+import org.eclipse.milo.opcua.stack.transport.client.tcp.OpcTcpClientTransportConfigBuilder;
+
+/**
+ * A pool of {@link OpcUaClient}s connected to the same endpoint, each with its own transport,
+ * secure channel, and session.
+ *
+ * <p>Each {@link OpcUaClient} serializes and secures its requests on a single channel, so spreading
+ * bulk Read, HistoryRead, and Browse requests across several members allows encoding and crypto to
+ * run in parallel. Requests are sent using the member with an active session and the fewest
+ * outstanding requests.
+ *
+ * <p>Each member keeps its own session open and reconnects independently; while a member is
+ * reconnecting, requests are sent using the other members.
+ *
+ * <p>Subscriptions must stay with the session that created them, so create them using {@link
+ * #getSubscriptionClient()}, which is always the same member.
+ *
+ * <p>The pool listens for session activity on each member; {@link #close()} the pool when it's no
+ * longer used.
+ */
+public class OpcUaClientPool implements AutoCloseable {
+
+  private final List<Member> members;
+
+  /**
+   * Create a pool from {@code clients}, which must all be configured for the same endpoint and must
+   * not share a transport.
+   *
+   * @param clients the {@link OpcUaClient}s in the pool. The first is used for subscriptions.
+   */
+  public OpcUaClientPool(List<OpcUaClient> clients) {
+    if (clients.isEmpty()) {
+      throw new IllegalArgumentException("clients must not be empty");
+    }
+
+    var members = new ArrayList<Member>(clients.size());
+    clients.forEach(client -> members.add(new Member(client)));
+    this.members = List.copyOf(members);
+  }
+
+  /**
+   * Create a pool of {@code size} {@link OpcUaClient}s configured with {@code config}, each using
+   * its own OPC UA TCP transport.
+   *
+   * @param config the {@link OpcUaClientConfig}.
+   * @param size the number of clients in the pool.
+   * @return a new {@link OpcUaClientPool}.
+   * @throws UaException if a client could not be created.
+   */
+  public static OpcUaClientPool create(OpcUaClientConfig config, int size) throws UaException {
+    return create(config, size, b -> {});
+  }
+
+  /**
+   * Create a pool of {@code size} {@link OpcUaClient}s configured with {@code config}, each using
+   * its own OPC UA TCP transport.
+   *
+   * @param config the {@link OpcUaClientConfig}.
+   * @param size the number of clients in the pool.
+   * @param configureTransport a Consumer that receives an {@link
+   *     OpcTcpClientTransportConfigBuilder} for each client's transport.
+   * @return a new {@link OpcUaClientPool}.
+   * @throws UaException if a client could not be created.
+   */
+  public static OpcUaClientPool create(
+      OpcUaClientConfig config,
+      int size,
+      Consumer<OpcTcpClientTransportConfigBuilder> configureTransport)
+      throws UaException {
+
+    if (size < 1) {
+      throw new IllegalArgumentException("size must be at least 1: " + size);
+    }
+
+    var clients = new ArrayList<OpcUaClient>(size);
+    for (int i = 0; i < size; i++) {
+      clients.add(OpcUaClient.create(config, configureTransport));
+    }
+
+    return new OpcUaClientPool(clients);
+  }
+
+  /**
+   * Connect every client in the pool.
+   *
+   * @return this {@link OpcUaClientPool}.
+   * @throws UaException if any client failed to connect. Clients that failed will keep trying to
+   *     reconnect in the background.
+   */
+  public OpcUaClientPool connect() throws UaException {
+    try {
+      return connectAsync().get();
+    } catch (InterruptedException | ExecutionException e) {
+      throw UaException.extract(e).orElse(new UaException(StatusCodes.Bad_UnexpectedError, e));
+    }
+  }
+
+  /**
+   * Connect every client in the pool.
+   *
+   * @return a {@link CompletableFuture} that completes successfully with this {@link
+   *     OpcUaClientPool} once every client is connected, or completes exceptionally if any client
+   *     failed to connect.
+   */
+  public CompletableFuture<OpcUaClientPool> connectAsync() {
+    CompletableFuture<?>[] futures =
+        members.stream().map(m -> m.client.connectAsync()).toArray(CompletableFuture[]::new);
+
+    return CompletableFuture.allOf(futures).thenApply(v -> this);
+  }
+
+  /**
+   * Disconnect every client in the pool.
+   *
+   * @return this {@link OpcUaClientPool}.
+   * @throws UaException if an unexpected error occurs.
+   */
+  public OpcUaClientPool disconnect() throws UaException {
+    try {
+      return disconnectAsync().get();
+    } catch (InterruptedException | ExecutionException e) {
+      throw UaException.extract(e).orElse(new UaException(StatusCodes.Bad_UnexpectedError, e));
+    }
+  }
+
+  /**
+   * Disconnect every client in the pool.
+   *
+   * @return a {@link CompletableFuture} that completes with this {@link OpcUaClientPool} once every
+   *     client is disconnected.
+   */
+  public CompletableFuture<OpcUaClientPool> disconnectAsync() {
+    CompletableFuture<?>[] futures =
+        members.stream().map(m -> m.client.disconnectAsync()).toArray(CompletableFuture[]::new);
+
+    return CompletableFuture.allOf(futures).thenApply(v -> this);
+  }
+
+  /**
+   * Stop tracking session activity on the clients in this pool.
+   *
+   * <p>This does not disconnect the clients; use {@link #disconnect()} first if they are no longer
+   * needed.
+   */
+  @Override
+  public void close() {
+    members.forEach(m -> m.client.removeSessionActivityListener(m));
+  }
+
+  /**
+   * @return the {@link OpcUaClient}s in this pool.
+   */
+  public List<OpcUaClient> getClients() {
+    return members.stream().map(m -> m.client).toList();
+  }
+
+  /**
+   * Get the {@link OpcUaClient} that {@link OpcUaSubscription}s should be created with.
+   *
+   * <p>This is always the same client, so all subscriptions share its session.
+   *
+   * @return the {@link OpcUaClient} to create subscriptions with.
+   */
+  public OpcUaClient getSubscriptionClient() {
+    return members.get(0).client;
+  }
+
+  /**
+   * Run {@code operation} using the least busy client in the pool.
+   *
+   * <p>Use this for sequences of requests that must share a session, e.g. following the
+   * continuation points returned by Browse or HistoryRead.
+   *
+   * @param operation a function that sends one or more requests using the client it's given.
+   * @param <T> the result type.
+   * @return the {@link CompletableFuture} returned by {@code operation}.
+   */
+  public <T> CompletableFuture<T> execute(Function<OpcUaClient, CompletableFuture<T>> operation) {
+
+    Member member = select();
+    member.outstanding.incrementAndGet();
+
+    CompletableFuture<T> future;
+    try {
+      future = operation.apply(member.client);
+    } catch (Throwable t) {
+      future = CompletableFuture.failedFuture(t);
+    }
+
+    return future.whenComplete((r, ex) -> member.outstanding.decrementAndGet());
+  }
+
+  /**
+   * Read attributes of one or more Nodes using the least busy client in the pool.
+   *
+   * @see OpcUaClient#readAsync(double, TimestampsToReturn, List)
+   */
+  public CompletableFuture<ReadResponse> readAsync(
+      double maxAge, TimestampsToReturn timestampsToReturn, List<ReadValueId> readValueIds) {
+
+    return execute(c -> c.readAsync(maxAge, timestampsToReturn, readValueIds));
+  }
+
+  /**
+   * Read the Value attribute of one or more Nodes using the least busy client in the pool.
+   *
+   * @see OpcUaClient#readValuesAsync(double, TimestampsToReturn, List)
+   */
+  public CompletableFuture<List<DataValue>> readValuesAsync(
+      double maxAge, TimestampsToReturn timestampsToReturn, List<NodeId> nodeIds) {
+
+    return execute(c -> c.readValuesAsync(maxAge, timestampsToReturn, nodeIds));
+  }
+
+  /**
+   * Read historical values or events using the least busy client in the pool.
+   *
+   * <p>Continuation points are only valid for the session that returned them, so the response is
+   * returned with the client that received it; use {@link PooledResponse#client()} to follow them.
+   *
+   * @see OpcUaClient#historyReadAsync(HistoryReadDetails, TimestampsToReturn, boolean, List)
+   */
+  public CompletableFuture<PooledResponse<HistoryReadResponse>> historyReadAsync(
+      HistoryReadDetails historyReadDetails,
+      TimestampsToReturn timestampsToReturn,
+      boolean releaseContinuationPoints,
+      List<HistoryReadValueId> nodesToRead) {
+
+    return executePooled(
+        c ->
+            c.historyReadAsync(
+                historyReadDetails, timestampsToReturn, releaseContinuationPoints, nodesToRead));
+  }
+
+  /**
+   * Browse references of one or more Nodes using the least busy client in the pool.
+   *
+   * <p>Continuation points are only valid for the session that returned them, so the response is
+   * returned with the client that received it; use {@link PooledResponse#client()} to follow them.
+   *
+   * @see OpcUaClient#browseAsync(ViewDescription, UInteger, List)
+   */
+  public CompletableFuture<PooledResponse<BrowseResponse>> browseAsync(
+      ViewDescription viewDescription,
+      UInteger maxReferencesPerNode,
+      List<BrowseDescription> nodesToBrowse) {
+
+    return executePooled(c -> c.browseAsync(viewDescription, maxReferencesPerNode, nodesToBrowse));
+  }
+
+  /**
+   * Browse a list of nodes, with no view and no max references specified, using the least busy
+   * client in the pool.
+   *
+   * <p>Continuation points are only valid for the session that returned them, so the results are
+   * returned with the client that received them; use {@link PooledResponse#client()} to follow
+   * them.
+   *
+   * @see OpcUaClient#browseAsync(List)
+   */
+  public CompletableFuture<PooledResponse<List<BrowseResult>>> browseAsync(
+      List<BrowseDescription> nodesToBrowse) {
+
+    return executePooled(c -> c.browseAsync(nodesToBrowse));
+  }
+
+  private <T> CompletableFuture<PooledResponse<T>> executePooled(
+      Function<OpcUaClient, CompletableFuture<T>> operation) {
+
+    return execute(c -> operation.apply(c).thenApply(r -> new PooledResponse<>(c, r)));
+  }
+
+  /**
+   * Select the member with an active session and the fewest outstanding requests. If no member has
+   * an active session, select the member with the fewest outstanding requests; its request will
+   * wait for its session like any other {@link OpcUaClient} request.
+   */
+  private Member select() {
+    Member selected = null;
+    boolean selectedActive = false;
+
+    for (Member member : members) {
+      boolean active = member.active;
+
+      if (selected == null
+          || (active && !selectedActive)
+          || (active == selectedActive && member.outstanding.get() < selected.outstanding.get())) {
+
+        selected = member;
+        selectedActive = active;
+      }
+    }
+
+    return selected;
+  }
+
+  /**
+   * A response, with the {@link OpcUaClient} in the pool that received it.
+   *
+   * <p>Continuation points in the response are only valid for the session of {@code client}, so
+   * BrowseNext or further HistoryRead requests that use them must be sent with it.
+   *
+   * @param client the {@link OpcUaClient} that received the response.
+   * @param response the response.
+   * @param <T> the response type.
+   */
+  public record PooledResponse<T>(OpcUaClient client, T response) {}
+
+  private static class Member implements SessionActivityListener {
+
+    private final AtomicInteger outstanding = new AtomicInteger(0);
+    private volatile boolean active = false;
+
+    private final OpcUaClient client;
+
+    Member(OpcUaClient client) {
+      this.client = client;
+
+      client.addSessionActivityListener(this);
+
+      // The session may have been activated before this listener was added.
+      CompletableFuture<OpcUaSession> session = client.getSessionAsync();
+      if (session.isDone() && !session.isCompletedExceptionally()) {
+        active = true;
+      }
+    }
+
+    @Override
+    public void onSessionActive(UaSession session) {
+      active = true;
+    }
+
+    @Override
+    public void onSessionInactive(UaSession session) {
+      active = false;
+    }
+  }
+}
@@ -0,0 +1,416 @@
+/*
+ * Copyright (c) 2025 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.client;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaException;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DiagnosticInfo;
+import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import org.eclipse.milo.opcua.stack.core.types.structured.CallMethodRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.CallMethodResult;
+import org.eclipse.milo.opcua.stack.core.types.structured.CallResponse;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadResponse;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
+import org.eclipse.milo.opcua.stack.core.types.structured.WriteResponse;
+import org.eclipse.milo.opcua.stack.core.types.structured.WriteValue;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Combines concurrent single-operation Read, Write, and Call requests from an {@link OpcUaClient}
+ * into one service request per batch.
+ *
+ * <p>The first operation queued starts a batch, which is sent once {@link
+ * OpcUaClientConfig#getOperationBatchingWindow()} has elapsed or it reaches its maximum size,
+ * whichever is first. The maximum size is {@link OpcUaClientConfig#getOperationBatchingMaxSize()},
+ * further capped by the server's {@link OperationLimits} once they are known. Each caller receives
+ * a response containing only its own result, with the ResponseHeader of the batched response.
+ *
+ * <p>Reads are only batched with other reads using the same {@code maxAge} and {@link
+ * TimestampsToReturn}.
+ *
+ * <p>If reading the server's OperationLimits fails, it's retried with an exponential backoff,
+ * starting at {@link #MIN_RETRY_DELAY_NANOS} and capped at {@link #MAX_RETRY_DELAY_NANOS}, rather
+ * than on every queued operation.
+ */
+public class OperationBatcher {
+
+  /** Delay before retrying after the first failure to read the server's OperationLimits. */
+  static final long MIN_RETRY_DELAY_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+  /** Maximum delay between retries to read the server's OperationLimits. */
+  static final long MAX_RETRY_DELAY_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+  private final Logger logger = LoggerFactory.getLogger(getClass());
+
+  private final LongAdder batchCount = new LongAdder();
+  private final LongAdder operationCount = new LongAdder();
+  private final LongAccumulator largestBatch = new LongAccumulator(Math::max, 0L);
+
+  private final Map<ReadKey, Batch<ReadValueId, ReadResponse>> readBatches =
+      new ConcurrentHashMap<>();
+
+  private final Batch<WriteValue, WriteResponse> writeBatch;
+  private final Batch<CallMethodRequest, CallResponse> callBatch;
+
+  private final AtomicBoolean operationLimitsRequested = new AtomicBoolean(false);
+  private volatile @Nullable OperationLimits operationLimits;
+
+  /** {@link System#nanoTime()} before which OperationLimits are not requested again. */
+  private volatile long operationLimitsRetryAt;
+
+  /** Backoff applied after the next failure; only accessed by the request in flight. */
+  private long operationLimitsRetryDelay = MIN_RETRY_DELAY_NANOS;
+
+  private final OpcUaClient client;
+  private final long windowMillis;
+  private final int maxSize;
+  private final LongSupplier nanoTime;
+
+  OperationBatcher(OpcUaClient client, long windowMillis, int maxSize) {
+    this(client, windowMillis, maxSize, System::nanoTime);
+  }
+
+  OperationBatcher(OpcUaClient client, long windowMillis, int maxSize, LongSupplier nanoTime) {
+    this.client = client;
+    this.windowMillis = windowMillis;
+    this.maxSize = maxSize;
+    this.nanoTime = nanoTime;
+
+    operationLimitsRetryAt = nanoTime.getAsLong();
+
+    writeBatch =
+        new Batch<>(
+            "Write",
+            OperationLimits::maxNodesPerWrite,
+            client::writeAsyncUnbatched,
+            OperationBatcher::sliceWriteResponse);
+
+    callBatch =
+        new Batch<>(
+            "Call",
+            OperationLimits::maxNodesPerMethodCall,
+            client::callAsyncUnbatched,
+            OperationBatcher::sliceCallResponse);
+  }
+
+  /**
+   * Queue a single-node Read.
+   *
+   * @return a {@link CompletableFuture} that completes with a {@link ReadResponse} containing only
+   *     the result for {@code readValueId}.
+   */
+  CompletableFuture<ReadResponse> read(
+      double maxAge, TimestampsToReturn timestampsToReturn, ReadValueId readValueId) {
+
+    Batch<ReadValueId, ReadResponse> batch =
+        readBatches.computeIfAbsent(
+            new ReadKey(maxAge, timestampsToReturn),
+            key ->
+                new Batch<>(
+                    "Read",
+                    OperationLimits::maxNodesPerRead,
+                    ids -> client.readAsyncUnbatched(key.maxAge(), key.timestampsToReturn(), ids),
+                    OperationBatcher::sliceReadResponse));
+
+    return batch.add(readValueId);
+  }
+
+  /**
+   * Queue a single-node Write.
+   *
+   * @return a {@link CompletableFuture} that completes with a {@link WriteResponse} containing only
+   *     the result for {@code writeValue}.
+   */
+  CompletableFuture<WriteResponse> write(WriteValue writeValue) {
+    return writeBatch.add(writeValue);
+  }
+
+  /**
+   * Queue a single method Call.
+   *
+   * @return a {@link CompletableFuture} that completes with a {@link CallResponse} containing only
+   *     the result for {@code request}.
+   */
+  CompletableFuture<CallResponse> call(CallMethodRequest request) {
+    return callBatch.add(request);
+  }
+
+  /**
+   * @return the number of batched requests sent.
+   */
+  public long getBatchCount() {
+    return batchCount.sum();
+  }
+
+  /**
+   * @return the number of operations sent in batched requests.
+   */
+  public long getOperationCount() {
+    return operationCount.sum();
+  }
+
+  /**
+   * @return the average number of operations per batched request, or 0 if none have been sent.
+   */
+  public double getAverageBatchSize() {
+    long batches = batchCount.sum();
+
+    return batches > 0 ? (double) operationCount.sum() / batches : 0.0;
+  }
+
+  /**
+   * @return the largest number of operations sent in a single batched request.
+   */
+  public long getLargestBatchSize() {
+    return largestBatch.get();
+  }
+
+  private int maxSize(Function<OperationLimits, Optional<UInteger>> limit) {
+    OperationLimits limits = operationLimits;
+
+    if (limits == null) {
+      requestOperationLimits();
+      return maxSize;
+    }
+
+    long serverLimit = limit.apply(limits).map(UInteger::longValue).orElse(0L);
+
+    // 0 means the server imposes no limit.
+    return serverLimit > 0 ? (int) Math.min(maxSize, serverLimit) : maxSize;
+  }
+
+  /**
+   * Get the server's OperationLimits without blocking a caller. Until they are known the configured
+   * maximum batch size applies.
+   */
+  private void requestOperationLimits() {
+    if (nanoTime.getAsLong() - operationLimitsRetryAt < 0) {
+      return;
+    }
+
+    if (operationLimitsRequested.compareAndSet(false, true)) {
+      client
+          .getTransport()
+          .getConfig()
+          .getExecutor()
+          .execute(
+              () -> {
+                try {
+                  operationLimits = client.getOperationLimits();
+                } catch (UaException e) {
+                  long delay = operationLimitsRetryDelay;
+                  operationLimitsRetryDelay = Math.min(delay * 2, MAX_RETRY_DELAY_NANOS);
+                  operationLimitsRetryAt = nanoTime.getAsLong() + delay;
+
+                  logger.debug(
+                      "Failed to read OperationLimits; retrying in {}ms.",
+                      TimeUnit.NANOSECONDS.toMillis(delay),
+                      e);
+
+                  operationLimitsRequested.set(false);
+                }
+              });
+    }
+  }
+
+  private static ReadResponse sliceReadResponse(ReadResponse response, int index)
+      throws UaException {
+
+    DataValue[] results = response.getResults();
+
+    return new ReadResponse(
+        response.getResponseHeader(),
+        new DataValue[] {result(results, index)},
+        diagnosticInfo(response.getDiagnosticInfos(), index));
+  }
+
+  private static WriteResponse sliceWriteResponse(WriteResponse response, int index)
+      throws UaException {
+
+    StatusCode[] results = response.getResults();
+
+    return new WriteResponse(
+        response.getResponseHeader(),
+        new StatusCode[] {result(results, index)},
+        diagnosticInfo(response.getDiagnosticInfos(), index));
+  }
+
+  private static CallResponse sliceCallResponse(CallResponse response, int index)
+      throws UaException {
+
+    CallMethodResult[] results = response.getResults();
+
+    return new CallResponse(
+        response.getResponseHeader(),
+        new CallMethodResult[] {result(results, index)},
+        diagnosticInfo(response.getDiagnosticInfos(), index));
+  }
+
+  private static <T> T result(T @Nullable [] results, int index) throws UaException {
+    if (results == null || index >= results.length) {
+      throw new UaException(
+          StatusCodes.Bad_UnexpectedError, "response has fewer results than operations");
+    }
+
+    return results[index];
+  }
+
+  private static DiagnosticInfo @Nullable [] diagnosticInfo(
+      DiagnosticInfo @Nullable [] diagnosticInfos, int index) {
+
+    if (diagnosticInfos != null && index < diagnosticInfos.length) {
+      return new DiagnosticInfo[] {diagnosticInfos[index]};
+    } else {
+      return null;
+    }
+  }
+
+  private record ReadKey(double maxAge, TimestampsToReturn timestampsToReturn) {}
+
+  private record Pending<T, R>(T operation, CompletableFuture<R> future) {}
+
+  private interface Slicer<R> {
+
+    /**
+     * Get the response for the operation at {@code index} of a batched response.
+     *
+     * @throws UaException if the batched response has no result at {@code index}.
+     */
+    R slice(R response, int index) throws UaException;
+  }
+
+  /**
+   * Operations of one kind waiting to be sent together.
+   *
+   * @param <T> the operation type, e.g. {@link ReadValueId}.
+   * @param <R> the response type, e.g. {@link ReadResponse}.
+   */
+  private class Batch<T, R> {
+
+    private List<Pending<T, R>> pending = new ArrayList<>();
+    private @Nullable ScheduledFuture<?> flushTimeout;
+
+    private final String service;
+    private final Function<OperationLimits, Optional<UInteger>> limit;
+    private final Function<List<T>, CompletableFuture<R>> send;
+    private final Slicer<R> slicer;
+
+    Batch(
+        String service,
+        Function<OperationLimits, Optional<UInteger>> limit,
+        Function<List<T>, CompletableFuture<R>> send,
+        Slicer<R> slicer) {
+
+      this.service = service;
+      this.limit = limit;
+      this.send = send;
+      this.slicer = slicer;
+    }
+
+    CompletableFuture<R> add(T operation) {
+      var future = new CompletableFuture<R>();
+      List<Pending<T, R>> full = null;
+
+      synchronized (this) {
+        pending.add(new Pending<>(operation, future));
+
+        if (pending.size() >= maxSize(limit)) {
+          full = takePending();
+        } else if (pending.size() == 1) {
+          flushTimeout =
+              client
+                  .getTransport()
+                  .getConfig()
+                  .getScheduledExecutor()
+                  .schedule(this::flush, windowMillis, TimeUnit.MILLISECONDS);
+        }
+      }
+
+      if (full != null) {
+        List<Pending<T, R>> batch = full;
+        client.getTransport().getConfig().getExecutor().execute(() -> send(batch));
+      }
+
+      return future;
+    }
+
+    private void flush() {
+      List<Pending<T, R>> batch;
+
+      synchronized (this) {
+        batch = takePending();
+      }
+
+      if (!batch.isEmpty()) {
+        send(batch);
+      }
+    }
+
+    private List<Pending<T, R>> takePending() {
+      List<Pending<T, R>> batch = pending;
+      pending = new ArrayList<>();
+
+      if (flushTimeout != null) {
+        flushTimeout.cancel(false);
+        flushTimeout = null;
+      }
+
+      return batch;
+    }
+
+    private void send(List<Pending<T, R>> batch) {
+      batchCount.increment();
+      operationCount.add(batch.size());
+      largestBatch.accumulate(batch.size());
+
+      logger.debug("Sending batched {} with {} operations", service, batch.size());
+
+      List<T> operations = new ArrayList<>(batch.size());
+      batch.forEach(p -> operations.add(p.operation()));
+
+      send.apply(operations)
+          .whenComplete(
+              (response, ex) -> {
+                for (int i = 0; i < batch.size(); i++) {
+                  CompletableFuture<R> future = batch.get(i).future();
+
+                  if (response != null) {
+                    try {
+                      future.complete(slicer.slice(response, i));
+                    } catch (UaException e) {
+                      future.completeExceptionally(e);
+                    }
+                  } else {
+                    future.completeExceptionally(ex);
+                  }
+                }
+              });
+    }
+  }
+}
@@ -0,0 +1,363 @@
+/*
+ * Copyright (c) 2025 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.client.subscriptions;
+
+import io.netty.buffer.ByteBuf;
+import java.util.Arrays;
+import org.eclipse.milo.opcua.sdk.client.subscriptions.OpcUaSubscription.DataChangeSink;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaSerializationException;
+import org.eclipse.milo.opcua.stack.core.encoding.binary.OpcUaBinaryDecoder;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UByte;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.ULong;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UShort;
+import org.eclipse.milo.opcua.stack.core.types.structured.MonitoredItemNotification;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The data change notifications from one NotificationMessage, or from one run of them between the
+ * event and status change notifications of a NotificationMessage, stored in columns of primitive
+ * values.
+ *
+ * <p>Row {@code i} of every column, for {@code 0 <= i < size()}, holds one notification. Columns
+ * may be longer than {@link #size()}; entries past it are meaningless.
+ *
+ * <p>The value of each notification is stored according to its entry in {@link #getValueTypes()},
+ * which holds the OPC UA built-in type id of a scalar value:
+ *
+ * <ul>
+ *   <li>{@link #TYPE_NULL}: there is no value.
+ *   <li>Boolean (1), SByte (2), Byte (3), Int16 (4), UInt16 (5), Int32 (6), UInt32 (7), Int64 (8),
+ *       DateTime (13), StatusCode (19): {@link #getLongValues()}. Boolean is 0 or 1 and DateTime is
+ *       the UtcTime in 100 ns intervals since 1601-01-01.
+ *   <li>UInt64 (9): {@link #getLongValues()}, as the same 64 bits.
+ *   <li>Float (10), Double (11): {@link #getDoubleValues()}.
+ *   <li>{@link #TYPE_OTHER}: any other value, including arrays, available as a {@link Variant} from
+ *       {@link #getVariant(int)}.
+ * </ul>
+ *
+ * <p>A batch is reused for each NotificationMessage its Subscription receives. It must not be used
+ * after {@link DataChangeSink#onDataChange(OpcUaSubscription, DataChangeBatch)} returns.
+ *
+ * <p>Notifications are decoded into the columns straight from the encoded body of the
+ * DataChangeNotification, without a {@link
+ * org.eclipse.milo.opcua.stack.core.types.structured.DataChangeNotification} or {@link DataValue}s.
+ * The body is read in place if it's a retained slice of the received message, see {@link
+ * org.eclipse.milo.opcua.stack.core.types.builtin.ExtensionObject.Binary#getRetainedBody()}.
+ * PublishResponses are decoded without retaining bodies, though, so in practice the body is the
+ * {@code byte[]} copied from the received message when the PublishResponse was decoded: one copy
+ * per DataChangeNotification remains.
+ */
+public final class DataChangeBatch {
+
+  /** The value type of a notification without a value. */
+  public static final byte TYPE_NULL = 0;
+
+  /** The value type of a notification whose value is only available from {@link #getVariant}. */
+  public static final byte TYPE_OTHER = -1;
+
+  private static final int INITIAL_CAPACITY = 256;
+
+  private int size = 0;
+
+  private int[] clientHandles = new int[INITIAL_CAPACITY];
+  private byte[] valueTypes = new byte[INITIAL_CAPACITY];
+  private long[] longValues = new long[INITIAL_CAPACITY];
+  private double[] doubleValues = new double[INITIAL_CAPACITY];
+  private int[] statusCodes = new int[INITIAL_CAPACITY];
+  private long[] sourceTimes = new long[INITIAL_CAPACITY];
+  private long[] serverTimes = new long[INITIAL_CAPACITY];
+  private @Nullable Variant[] variants = new Variant[INITIAL_CAPACITY];
+
+  DataChangeBatch() {}
+
+  /**
+   * @return the number of notifications in this batch.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * @return the client handle of the MonitoredItem each notification is for, as the 32 bits of its
+   *     UInt32 value.
+   */
+  public int[] getClientHandles() {
+    return clientHandles;
+  }
+
+  /**
+   * @return the type of each notification's value, which determines the column it is stored in.
+   */
+  public byte[] getValueTypes() {
+    return valueTypes;
+  }
+
+  /**
+   * @return the value of each notification whose value is an integer, Boolean, DateTime, or
+   *     StatusCode.
+   */
+  public long[] getLongValues() {
+    return longValues;
+  }
+
+  /**
+   * @return the value of each notification whose value is a Float or Double.
+   */
+  public double[] getDoubleValues() {
+    return doubleValues;
+  }
+
+  /**
+   * @return the StatusCode of each notification, as the 32 bits of its UInt32 value.
+   */
+  public int[] getStatusCodes() {
+    return statusCodes;
+  }
+
+  /**
+   * @return the source timestamp of each notification, as UtcTime in 100 ns intervals since
+   *     1601-01-01, or 0 if there is none.
+   */
+  public long[] getSourceTimes() {
+    return sourceTimes;
+  }
+
+  /**
+   * @return the server timestamp of each notification, as UtcTime in 100 ns intervals since
+   *     1601-01-01, or 0 if there is none.
+   */
+  public long[] getServerTimes() {
+    return serverTimes;
+  }
+
+  /**
+   * Get the value of the notification at {@code index} if its value type is {@link #TYPE_OTHER}.
+   *
+   * @param index the index of the notification.
+   * @return the value of the notification at {@code index}, or {@code null} if its value is stored
+   *     in a primitive column.
+   */
+  public @Nullable Variant getVariant(int index) {
+    if (index >= size) {
+      throw new IndexOutOfBoundsException(index);
+    }
+
+    return variants[index];
+  }
+
+  void clear() {
+    Arrays.fill(variants, 0, size, null);
+    size = 0;
+  }
+
+  /**
+   * Append the notifications from the binary encoded body of a DataChangeNotification.
+   *
+   * @param buffer the body, positioned at its start.
+   * @param decoder a decoder reading from {@code buffer}, used for non-primitive values.
+   * @throws UaSerializationException if the body is malformed.
+   */
+  void decode(ByteBuf buffer, OpcUaBinaryDecoder decoder) throws UaSerializationException {
+    int start = size;
+
+    try {
+      decodeMonitoredItems(buffer, decoder);
+    } catch (RuntimeException e) {
+      // Discard the rows appended from the malformed body.
+      Arrays.fill(variants, start, size, null);
+      size = start;
+
+      if (e instanceof UaSerializationException se) {
+        throw se;
+      } else {
+        throw new UaSerializationException(StatusCodes.Bad_DecodingError, e);
+      }
+    }
+  }
+
+  private void decodeMonitoredItems(ByteBuf buffer, OpcUaBinaryDecoder decoder) {
+    int length = buffer.readIntLE();
+
+    if (length > buffer.readableBytes()) {
+      // Each MonitoredItemNotification is at least 5 bytes.
+      throw new UaSerializationException(
+          StatusCodes.Bad_DecodingError, "invalid MonitoredItems length: " + length);
+    }
+
+    for (int i = 0; i < length; i++) {
+      int row = nextRow();
+
+      clientHandles[row] = buffer.readIntLE();
+
+      int mask = buffer.readUnsignedByte();
+
+      if ((mask & 0x01) != 0) {
+        decodeValue(row, buffer, decoder);
+      } else {
+        valueTypes[row] = TYPE_NULL;
+      }
+
+      statusCodes[row] = (mask & 0x02) != 0 ? buffer.readIntLE() : 0;
+      sourceTimes[row] = (mask & 0x04) != 0 ? buffer.readLongLE() : 0L;
+      if ((mask & 0x10) != 0) {
+        buffer.skipBytes(2);
+      }
+      serverTimes[row] = (mask & 0x08) != 0 ? buffer.readLongLE() : 0L;
+      if ((mask & 0x20) != 0) {
+        buffer.skipBytes(2);
+      }
+
+      size++;
+    }
+
+    // The DiagnosticInfos that follow are not used.
+  }
+
+  /**
+   * Append already decoded notifications, e.g. from a DataChangeNotification that was not binary
+   * encoded.
+   */
+  void add(MonitoredItemNotification[] notifications) {
+    for (MonitoredItemNotification notification : notifications) {
+      int row = nextRow();
+
+      DataValue value = notification.getValue();
+
+      clientHandles[row] = notification.getClientHandle().intValue();
+      setValue(row, value.value());
+      statusCodes[row] = (int) value.statusCode().value();
+      sourceTimes[row] = utcTime(value.sourceTime());
+      serverTimes[row] = utcTime(value.serverTime());
+
+      size++;
+    }
+  }
+
+  private void decodeValue(int row, ByteBuf buffer, OpcUaBinaryDecoder decoder) {
+    int start = buffer.readerIndex();
+    int encodingMask = buffer.readUnsignedByte();
+
+    if (encodingMask == 0) {
+      valueTypes[row] = TYPE_NULL;
+      return;
+    }
+
+    int typeId = encodingMask & 0x3F;
+    boolean scalar = (encodingMask & 0xC0) == 0;
+
+    if (scalar) {
+      switch (typeId) {
+        case 1 -> longValues[row] = buffer.readUnsignedByte() != 0 ? 1L : 0L;
+        case 2 -> longValues[row] = buffer.readByte();
+        case 3 -> longValues[row] = buffer.readUnsignedByte();
+        case 4 -> longValues[row] = buffer.readShortLE();
+        case 5 -> longValues[row] = buffer.readUnsignedShortLE();
+        case 6 -> longValues[row] = buffer.readIntLE();
+        case 7, 19 -> longValues[row] = buffer.readUnsignedIntLE();
+        case 8, 9, 13 -> longValues[row] = buffer.readLongLE();
+        case 10 -> doubleValues[row] = buffer.readFloatLE();
+        case 11 -> doubleValues[row] = buffer.readDoubleLE();
+        default -> typeId = TYPE_OTHER;
+      }
+    } else {
+      typeId = TYPE_OTHER;
+    }
+
+    if (typeId == TYPE_OTHER) {
+      buffer.readerIndex(start);
+      setOther(row, decoder.decodeVariant());
+    } else {
+      valueTypes[row] = (byte) typeId;
+    }
+  }
+
+  private void setValue(int row, Variant variant) {
+    Object value = variant.value();
+
+    if (value == null) {
+      valueTypes[row] = TYPE_NULL;
+    } else if (value instanceof Boolean v) {
+      setLong(row, 1, v ? 1L : 0L);
+    } else if (value instanceof Byte v) {
+      setLong(row, 2, v);
+    } else if (value instanceof UByte v) {
+      setLong(row, 3, v.longValue());
+    } else if (value instanceof Short v) {
+      setLong(row, 4, v);
+    } else if (value instanceof UShort v) {
+      setLong(row, 5, v.longValue());
+    } else if (value instanceof Integer v) {
+      setLong(row, 6, v);
+    } else if (value instanceof UInteger v) {
+      setLong(row, 7, v.longValue());
+    } else if (value instanceof Long v) {
+      setLong(row, 8, v);
+    } else if (value instanceof ULong v) {
+      setLong(row, 9, v.longValue());
+    } else if (value instanceof Float v) {
+      setDouble(row, 10, v);
+    } else if (value instanceof Double v) {
+      setDouble(row, 11, v);
+    } else if (value instanceof DateTime v) {
+      setLong(row, 13, v.getUtcTime());
+    } else if (value instanceof StatusCode v) {
+      setLong(row, 19, v.value());
+    } else {
+      setOther(row, variant);
+    }
+  }
+
+  private void setLong(int row, int typeId, long value) {
+    valueTypes[row] = (byte) typeId;
+    longValues[row] = value;
+  }
+
+  private void setDouble(int row, int typeId, double value) {
+    valueTypes[row] = (byte) typeId;
+    doubleValues[row] = value;
+  }
+
+  private void setOther(int row, Variant variant) {
+    valueTypes[row] = TYPE_OTHER;
+    variants[row] = variant;
+  }
+
+  /**
+   * Get the index of the next row, growing the columns if necessary. The row becomes part of the
+   * batch once {@link #size} is incremented.
+   */
+  private int nextRow() {
+    if (size == clientHandles.length) {
+      int capacity = size * 2;
+
+      clientHandles = Arrays.copyOf(clientHandles, capacity);
+      valueTypes = Arrays.copyOf(valueTypes, capacity);
+      longValues = Arrays.copyOf(longValues, capacity);
+      doubleValues = Arrays.copyOf(doubleValues, capacity);
+      statusCodes = Arrays.copyOf(statusCodes, capacity);
+      sourceTimes = Arrays.copyOf(sourceTimes, capacity);
+      serverTimes = Arrays.copyOf(serverTimes, capacity);
+      variants = Arrays.copyOf(variants, capacity);
+    }
+
+    return size;
+  }
+
+  private static long utcTime(@Nullable DateTime dateTime) {
+    return dateTime != null ? dateTime.getUtcTime() : 0L;
+  }
+}
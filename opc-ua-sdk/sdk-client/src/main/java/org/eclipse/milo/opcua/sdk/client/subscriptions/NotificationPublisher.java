@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2025 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.client.subscriptions;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import org.eclipse.milo.opcua.stack.core.util.Unit;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A unicast {@link Flow.Publisher} of {@link SubscriptionNotification}s with demand-driven
+ * delivery.
+ *
+ * <p>Notifications received while the subscriber has no outstanding demand are buffered, up to
+ * {@link #getMaxBuffered()} of them. When the buffer is full the oldest notification is dropped to
+ * make room for the newest, and {@link #offer(SubscriptionNotification)} reports the overflow.
+ *
+ * <p>{@link PublishingManager} waits on {@link #demandAvailable()} before it acknowledges and
+ * requests more notifications, which slows delivery to a subscriber without demand, but because
+ * PublishRequests are shared by all Subscriptions of a Session the Server may still answer others
+ * with notifications for this one; the bound is what keeps the buffer from growing.
+ *
+ * <p>Subscriber callbacks are never invoked while holding this publisher's lock.
+ */
+class NotificationPublisher implements Flow.Publisher<SubscriptionNotification> {
+
+  private static final CompletableFuture<Unit> DEMAND_AVAILABLE =
+      CompletableFuture.completedFuture(Unit.VALUE);
+
+  private final ArrayDeque<SubscriptionNotification> buffer = new ArrayDeque<>();
+
+  private Flow.@Nullable Subscriber<? super SubscriptionNotification> subscriber;
+  private @Nullable CompletableFuture<Unit> demandFuture;
+
+  private long demand = 0L;
+  private long dropped = 0L;
+  private boolean draining = false;
+
+  private volatile int maxBuffered;
+
+  /**
+   * Create a {@link NotificationPublisher}.
+   *
+   * @param maxBuffered the maximum number of notifications buffered while the subscriber has no
+   *     outstanding demand.
+   */
+  NotificationPublisher(int maxBuffered) {
+    setMaxBuffered(maxBuffered);
+  }
+
+  @Override
+  public void subscribe(Flow.Subscriber<? super SubscriptionNotification> subscriber) {
+    synchronized (this) {
+      if (this.subscriber != null) {
+        subscriber.onSubscribe(new NoopSubscription());
+        subscriber.onError(new IllegalStateException("publisher already has a subscriber"));
+        return;
+      }
+
+      this.subscriber = subscriber;
+      this.demand = 0L;
+    }
+
+    subscriber.onSubscribe(new NotificationSubscription(subscriber));
+  }
+
+  /**
+   * Offer a notification for delivery to the current subscriber, if any.
+   *
+   * @param notification the {@link SubscriptionNotification} to deliver.
+   * @return {@code true} if the buffer was full and the oldest buffered notification was dropped.
+   */
+  boolean offer(SubscriptionNotification notification) {
+    boolean overflow = false;
+
+    synchronized (this) {
+      if (subscriber == null) return false;
+
+      while (buffer.size() >= maxBuffered) {
+        buffer.poll();
+        dropped++;
+        overflow = true;
+      }
+
+      buffer.add(notification);
+    }
+
+    drain();
+
+    return overflow;
+  }
+
+  /**
+   * @return the maximum number of notifications buffered while the subscriber has no outstanding
+   *     demand.
+   */
+  int getMaxBuffered() {
+    return maxBuffered;
+  }
+
+  /**
+   * Set the maximum number of notifications buffered while the subscriber has no outstanding
+   * demand. Takes effect on the next {@link #offer(SubscriptionNotification)}.
+   *
+   * @param maxBuffered the maximum number of notifications to buffer; must be at least 1.
+   */
+  void setMaxBuffered(int maxBuffered) {
+    if (maxBuffered < 1) {
+      throw new IllegalArgumentException("maxBuffered must be >= 1: " + maxBuffered);
+    }
+
+    this.maxBuffered = maxBuffered;
+  }
+
+  /**
+   * @return the number of currently buffered notifications.
+   */
+  synchronized int getBufferedCount() {
+    return buffer.size();
+  }
+
+  /**
+   * @return the total number of notifications dropped because the buffer was full.
+   */
+  synchronized long getDroppedCount() {
+    return dropped;
+  }
+
+  /**
+   * Get a {@link CompletionStage} that completes when the subscriber has demand for more
+   * notifications than are currently buffered.
+   *
+   * <p>If there is no subscriber the returned stage is already complete.
+   *
+   * @return a {@link CompletionStage} that completes when there is demand for more notifications.
+   */
+  synchronized CompletionStage<Unit> demandAvailable() {
+    if (subscriber == null || demand > buffer.size()) {
+      return DEMAND_AVAILABLE;
+    }
+
+    if (demandFuture == null) {
+      demandFuture = new CompletableFuture<>();
+    }
+
+    return demandFuture;
+  }
+
+  private void drain() {
+    synchronized (this) {
+      if (draining) return;
+      draining = true;
+    }
+
+    while (true) {
+      Flow.Subscriber<? super SubscriptionNotification> s;
+      SubscriptionNotification next;
+
+      synchronized (this) {
+        s = subscriber;
+        next = (s != null && demand > 0L) ? buffer.poll() : null;
+
+        if (next == null) {
+          draining = false;
+        } else if (demand != Long.MAX_VALUE) {
+          demand--;
+        }
+      }
+
+      if (s == null || next == null) {
+        signal(takeDemandSignal());
+        return;
+      }
+
+      s.onNext(next);
+    }
+  }
+
+  /**
+   * Take the pending demand future if there is now demand for it, to be completed with {@link
+   * #signal(CompletableFuture)} once the lock is released.
+   */
+  private synchronized @Nullable CompletableFuture<Unit> takeDemandSignal() {
+    if (demandFuture != null && (subscriber == null || demand > buffer.size())) {
+      CompletableFuture<Unit> f = demandFuture;
+      demandFuture = null;
+      return f;
+    }
+
+    return null;
+  }
+
+  private static void signal(@Nullable CompletableFuture<Unit> demandSignal) {
+    if (demandSignal != null) {
+      demandSignal.complete(Unit.VALUE);
+    }
+  }
+
+  private synchronized @Nullable CompletableFuture<Unit> cancel() {
+    subscriber = null;
+    demand = 0L;
+    buffer.clear();
+    return takeDemandSignal();
+  }
+
+  private class NotificationSubscription implements Flow.Subscription {
+
+    private final Flow.Subscriber<? super SubscriptionNotification> owner;
+
+    NotificationSubscription(Flow.Subscriber<? super SubscriptionNotification> owner) {
+      this.owner = owner;
+    }
+
+    @Override
+    public void request(long n) {
+      CompletableFuture<Unit> demandSignal = null;
+
+      synchronized (NotificationPublisher.this) {
+        if (subscriber != owner) return;
+
+        if (n > 0) {
+          demand = (demand + n < 0) ? Long.MAX_VALUE : demand + n;
+        } else {
+          demandSignal = NotificationPublisher.this.cancel();
+        }
+      }
+
+      if (n > 0) {
+        drain();
+      } else {
+        signal(demandSignal);
+        owner.onError(new IllegalArgumentException("non-positive request: " + n));
+      }
+    }
+
+    @Override
+    public void cancel() {
+      CompletableFuture<Unit> demandSignal = null;
+
+      synchronized (NotificationPublisher.this) {
+        if (subscriber == owner) {
+          demandSignal = NotificationPublisher.this.cancel();
+        }
+      }
+
+      signal(demandSignal);
+    }
+  }
+
+  private static class NoopSubscription implements Flow.Subscription {
+    @Override
+    public void request(long n) {}
+
+    @Override
+    public void cancel() {}
+  }
+}
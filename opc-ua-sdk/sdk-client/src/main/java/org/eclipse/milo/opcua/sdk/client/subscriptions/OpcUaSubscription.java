@@ -26,6 +26,7 @@ import java.util.StringJoiner;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Flow;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
@@ -71,6 +72,7 @@ public class OpcUaSubscription {
   private static final UByte DEFAULT_PRIORITY = ubyte(0);
   private static final double DEFAULT_PUBLISHING_INTERVAL = 1000.0;
   private static final double DEFAULT_TARGET_KEEP_ALIVE_INTERVAL = 10000.0;
+  private static final int DEFAULT_MAX_BUFFERED_NOTIFICATIONS = 100;
 
   private final Logger logger = LoggerFactory.getLogger(getClass());
 
@@ -109,8 +111,14 @@ public class OpcUaSubscription {
 
   private volatile @Nullable SubscriptionListener listener;
 
+  private volatile @Nullable DataChangeSink dataChangeSink;
+  private final DataChangeBatch dataChangeBatch = new DataChangeBatch();
+
   private final TaskQueue deliveryQueue;
 
+  private final NotificationPublisher notificationPublisher =
+      new NotificationPublisher(DEFAULT_MAX_BUFFERED_NOTIFICATIONS);
+
   private final OpcUaClient client;
 
   public OpcUaSubscription(OpcUaClient client) {
@@ -1175,6 +1183,21 @@ public class OpcUaSubscription {
     this.listener = listener;
   }
 
+  /**
+   * Set a {@link DataChangeSink} to receive this Subscription's data change notifications in
+   * columnar batches.
+   *
+   * <p>While a sink is set, data change notifications are only delivered to it: they are not
+   * delivered to the {@link SubscriptionListener}, to the {@link #getNotificationPublisher()}
+   * subscribers, or to the MonitoredItems' {@link OpcUaMonitoredItem.DataValueListener}s.
+   *
+   * @param dataChangeSink the {@link DataChangeSink}, or {@code null} to deliver data change
+   *     notifications normally.
+   */
+  public void setDataChangeSink(@Nullable DataChangeSink dataChangeSink) {
+    this.dataChangeSink = dataChangeSink;
+  }
+
   /**
    * Associate an arbitrary user object with this Subscription.
    *
@@ -1191,6 +1214,58 @@ public class OpcUaSubscription {
     return Optional.ofNullable(userObject);
   }
 
+  /**
+   * Get a {@link Flow.Publisher} of the data change and event notifications received by this
+   * Subscription.
+   *
+   * <p>Delivery is demand-driven. While the subscriber has no outstanding demand, notifications are
+   * buffered, up to {@link #getMaxBufferedNotifications()} of them, and one PublishRequest is held
+   * back until there is demand again. PublishRequests are shared by all Subscriptions of a Session,
+   * so the Server may keep sending notifications for this Subscription in response to others; once
+   * the buffer is full the oldest buffered notification is dropped and {@link
+   * SubscriptionListener#onNotificationDataLost(OpcUaSubscription)} is called.
+   *
+   * <p>The publisher supports a single subscriber at a time. Notifications are delivered on this
+   * Subscription's delivery queue, after any {@link SubscriptionListener} has been notified.
+   *
+   * @return a {@link Flow.Publisher} of the notifications received by this Subscription.
+   */
+  public Flow.Publisher<SubscriptionNotification> getNotificationPublisher() {
+    return notificationPublisher;
+  }
+
+  /**
+   * Get the maximum number of notifications buffered by {@link #getNotificationPublisher()} while
+   * its subscriber has no outstanding demand.
+   *
+   * @return the maximum number of notifications buffered while the subscriber has no demand.
+   */
+  public int getMaxBufferedNotifications() {
+    return notificationPublisher.getMaxBuffered();
+  }
+
+  /**
+   * Set the maximum number of notifications buffered by {@link #getNotificationPublisher()} while
+   * its subscriber has no outstanding demand. When the buffer is full the oldest notification is
+   * dropped.
+   *
+   * @param maxBufferedNotifications the maximum number of notifications to buffer; must be at least
+   *     1.
+   */
+  public void setMaxBufferedNotifications(int maxBufferedNotifications) {
+    notificationPublisher.setMaxBuffered(maxBufferedNotifications);
+  }
+
+  /**
+   * Get a {@link CompletionStage} that completes when the subscriber of {@link
+   * #getNotificationPublisher()}, if any, has demand for more notifications.
+   *
+   * @return a {@link CompletionStage} that completes when there is demand for more notifications.
+   */
+  CompletionStage<Unit> notificationDemandAvailable() {
+    return notificationPublisher.demandAvailable();
+  }
+
   /**
    * Get the TaskQueue used to deliver notifications for this Subscription.
    *
@@ -1292,6 +1367,13 @@ public class OpcUaSubscription {
       listener.onDataReceived(this, items, values);
     }
 
+    if (!items.isEmpty()) {
+      if (notificationPublisher.offer(
+          new SubscriptionNotification.DataChange(this, items, values))) {
+        notifyNotificationDataLost();
+      }
+    }
+
     for (int i = 0; i < items.size(); i++) {
       OpcUaMonitoredItem item = items.get(i);
       DataValue value = values.get(i);
@@ -1299,6 +1381,30 @@ public class OpcUaSubscription {
     }
   }
 
+  /**
+   * Get the {@link DataChangeBatch} to collect the data change notifications of a
+   * NotificationMessage in, if a {@link DataChangeSink} is set.
+   *
+   * @return an empty {@link DataChangeBatch}, or {@code null} if no {@link DataChangeSink} is set.
+   */
+  @Nullable DataChangeBatch startDataChangeBatch() {
+    if (dataChangeSink != null) {
+      dataChangeBatch.clear();
+      return dataChangeBatch;
+    } else {
+      return null;
+    }
+  }
+
+  void notifyDataChangeBatch(DataChangeBatch batch) {
+    DataChangeSink sink = this.dataChangeSink;
+    if (sink != null) {
+      sink.onDataChange(this, batch);
+    }
+
+    batch.clear();
+  }
+
   void notifyEventsReceived(EventFieldList[] events) {
     var items = new ArrayList<OpcUaMonitoredItem>(events.length);
     var eventValuesList = new ArrayList<Variant[]>(events.length);
@@ -1323,6 +1429,13 @@ public class OpcUaSubscription {
       listener.onEventReceived(this, items, eventValuesList);
     }
 
+    if (!items.isEmpty()) {
+      if (notificationPublisher.offer(
+          new SubscriptionNotification.Event(this, items, eventValuesList))) {
+        notifyNotificationDataLost();
+      }
+    }
+
     for (int i = 0; i < items.size(); i++) {
       OpcUaMonitoredItem item = items.get(i);
       Variant[] eventValues = eventValuesList.get(i);
@@ -1546,6 +1659,33 @@ public class OpcUaSubscription {
     UNSYNCHRONIZED
   }
 
+  /**
+   * Receives a Subscription's data change notifications in columnar batches, decoded without
+   * creating an object per value where possible.
+   *
+   * @see #setDataChangeSink(DataChangeSink)
+   */
+  public interface DataChangeSink {
+
+    /**
+     * Called once for each NotificationMessage with data change notifications.
+     *
+     * <p>If the NotificationMessage also holds event or status change notifications, this is called
+     * once for each run of data changes between them, so everything is delivered in the order the
+     * server sent it.
+     *
+     * <p>{@code batch} is reused for the next call, so it must not be used after this method
+     * returns. As with {@link SubscriptionListener}, take care not to block unnecessarily.
+     *
+     * <p>Notifications for MonitoredItems deleted while the notification was in-flight are
+     * included; use the client handles to match notifications to MonitoredItems.
+     *
+     * @param subscription the Subscription that received the data change notifications.
+     * @param batch the {@link DataChangeBatch} holding the notifications.
+     */
+    void onDataChange(OpcUaSubscription subscription, DataChangeBatch batch);
+  }
+
   public interface SubscriptionListener {
 
     /**
@@ -1588,7 +1728,8 @@ public class OpcUaSubscription {
     /**
      * Called when attempts to recover missed data notifications have failed, i.e. the Republish
      * service was called for one or more missing sequence numbers but the Server was unable to
-     * fulfill the requests.
+     * fulfill the requests, or when a notification was dropped because the subscriber of {@link
+     * OpcUaSubscription#getNotificationPublisher()} had no demand and its buffer was full.
      *
      * @param subscription the Subscription that missed data notifications.
      */
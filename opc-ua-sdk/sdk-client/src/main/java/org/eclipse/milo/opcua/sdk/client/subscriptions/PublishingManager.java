@@ -12,22 +12,32 @@ package org.eclipse.milo.opcua.sdk.client.subscriptions;
 
 import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import org.eclipse.milo.opcua.sdk.client.OpcUaClient;
 import org.eclipse.milo.opcua.sdk.client.OpcUaSession;
 import org.eclipse.milo.opcua.sdk.client.SessionActivityListener;
 import org.eclipse.milo.opcua.sdk.client.UaSession;
+import org.eclipse.milo.opcua.stack.core.NodeIds;
 import org.eclipse.milo.opcua.stack.core.StatusCodes;
 import org.eclipse.milo.opcua.stack.core.UaException;
+import org.eclipse.milo.opcua.stack.core.UaSerializationException;
+import org.eclipse.milo.opcua.stack.core.encoding.binary.OpcUaBinaryDecoder;
 import org.eclipse.milo.opcua.stack.core.types.builtin.ExtensionObject;
 import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
 import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
@@ -39,23 +49,32 @@ import org.eclipse.milo.opcua.stack.core.types.structured.MonitoredItemNotificat
 import org.eclipse.milo.opcua.stack.core.types.structured.NotificationMessage;
 import org.eclipse.milo.opcua.stack.core.types.structured.PublishRequest;
 import org.eclipse.milo.opcua.stack.core.types.structured.PublishResponse;
-import org.eclipse.milo.opcua.stack.core.types.structured.RepublishResponse;
 import org.eclipse.milo.opcua.stack.core.types.structured.RequestHeader;
 import org.eclipse.milo.opcua.stack.core.types.structured.StatusChangeNotification;
 import org.eclipse.milo.opcua.stack.core.types.structured.SubscriptionAcknowledgement;
 import org.eclipse.milo.opcua.stack.core.util.TaskQueue;
 import org.eclipse.milo.opcua.stack.core.util.Unit;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class PublishingManager {
 
+  /**
+   * The maximum number of missing sequence numbers that will be recovered using Republish for a
+   * single gap. Anything older is declared lost.
+   */
+  static final int MAX_REORDER_WINDOW = 256;
+
   private final Logger logger = LoggerFactory.getLogger(getClass());
 
   private final ConcurrentMap<NodeId, AtomicLong> pendingCountMap = new ConcurrentHashMap<>();
 
   private final Map<UInteger, SubscriptionDetails> subscriptionDetails = new ConcurrentHashMap<>();
 
+  private final LongAdder recoveredSequenceNumbers = new LongAdder();
+  private final LongAdder lostSequenceNumbers = new LongAdder();
+
   private final TaskQueue processingQueue;
 
   private final OpcUaClient client;
@@ -73,6 +92,13 @@ public class PublishingManager {
           public void onSessionActive(UaSession session) {
             maybeSendPublishRequests();
           }
+
+          @Override
+          public void onSessionInactive(UaSession session) {
+            // PublishRequests held back waiting for demand belonged to the Session that just went
+            // away; stop waiting so they don't linger until a subscriber requests more.
+            subscriptionDetails.values().forEach(d -> d.releaseDemandWait(false));
+          }
         });
   }
 
@@ -85,7 +111,10 @@ public class PublishingManager {
   }
 
   void removeSubscription(OpcUaSubscription subscription) {
-    subscription.getSubscriptionId().ifPresent(subscriptionDetails::remove);
+    subscription
+        .getSubscriptionId()
+        .map(subscriptionDetails::remove)
+        .ifPresent(details -> details.releaseDemandWait(true));
 
     maybeSendPublishRequests();
   }
@@ -237,7 +266,7 @@ public class PublishingManager {
             || notificationMessage.getNotificationData().length == 0;
 
     long receivedSequenceNumber = notificationMessage.getSequenceNumber().longValue();
-    long expectedSequenceNumber = details.lastSequenceNumber + 1;
+    long expectedSequenceNumber = details.highestSequenceNumber + 1;
 
     logger.debug(
         "Processing PublishResponse, subscriptionId={}, isKeepAlive={}, "
@@ -248,76 +277,278 @@ public class PublishingManager {
         receivedSequenceNumber,
         expectedSequenceNumber);
 
+    // A keep-alive carries the next sequence number to be used, a NotificationMessage carries its
+    // own, so in both cases anything from expected up to received is missing.
     if (receivedSequenceNumber > expectedSequenceNumber) {
-      boolean republishSuccess = true;
+      recoverMissingSequenceNumbers(
+          subscriptionId, details, expectedSequenceNumber, receivedSequenceNumber);
+    }
 
-      for (long sequenceNumber = expectedSequenceNumber;
-          sequenceNumber < receivedSequenceNumber;
-          sequenceNumber++) {
+    if (isKeepAlive) {
+      details.highestSequenceNumber =
+          Math.max(details.highestSequenceNumber, receivedSequenceNumber - 1);
+    } else {
+      details.highestSequenceNumber =
+          Math.max(details.highestSequenceNumber, receivedSequenceNumber);
+    }
 
-        try {
-          RepublishResponse republishResponse =
-              client.republish(subscriptionId, uint(sequenceNumber));
+    UInteger[] availableSequenceNumbers = response.getAvailableSequenceNumbers();
+    if (availableSequenceNumbers != null && availableSequenceNumbers.length > 0) {
+      synchronized (details.availableAcknowledgements) {
+        details.availableAcknowledgements.clear();
 
-          NotificationMessage republishNotificationMessage =
-              republishResponse.getNotificationMessage();
+        for (UInteger sequenceNumber : availableSequenceNumbers) {
+          // Don't acknowledge anything still being republished; it's acknowledged on recovery.
+          if (!details.republishPending.contains(sequenceNumber.longValue())) {
+            details.availableAcknowledgements.add(sequenceNumber);
+          }
+        }
+      }
+    }
 
+    CompletionStage<Unit> callback;
+
+    if (isKeepAlive) {
+      callback =
           details
               .subscription
               .getDeliveryQueue()
-              .execute(() -> deliverNotificationMessage(details, republishNotificationMessage));
-        } catch (UaException e) {
-          logger.warn("Republish service failure, sequenceNumber={}", sequenceNumber, e);
+              .submit(() -> deliverNotificationMessage(details, notificationMessage));
+    } else if (receivedSequenceNumber > details.lastSequenceNumber) {
+      details.reorderBuffer.put(receivedSequenceNumber, notificationMessage);
 
-          republishSuccess = false;
-        }
-      }
+      callback = deliverInOrder(details);
+    } else {
+      // A duplicate of something already delivered or declared lost.
+      callback = null;
+    }
 
-      if (!republishSuccess) {
-        details
-            .subscription
-            .getDeliveryQueue()
-            .execute(details.subscription::notifyNotificationDataLost);
-      }
+    if (callback != null) {
+      // Once delivery of notifications is complete we can consider sending another
+      // PublishRequest. Waiting until the client has finished receiving notifications
+      // is the backpressure mechanism that prevents the server from flooding the client
+      // with data change notifications faster than it can process them. Likewise, if there's a
+      // Flow subscriber without outstanding demand, wait for demand before requesting more.
+      callback
+          .thenCompose(u -> details.awaitDemand())
+          .whenCompleteAsync(
+              (u, ex) -> {
+                if (ex != null) {
+                  logger.warn("Failed delivering NotificationMessage", ex);
+                }
+
+                pendingCount.getAndUpdate(p -> (p > 0) ? p - 1 : 0);
 
-      details.lastSequenceNumber = expectedSequenceNumber;
+                maybeSendPublishRequests();
+              },
+              client.getTransport().getConfig().getExecutor());
+    } else {
+      // Nothing was delivered, e.g. because this NotificationMessage is waiting in the reorder
+      // buffer for a Republish to fill a gap. Don't hold up other Subscriptions waiting on it.
+      pendingCount.getAndUpdate(p -> (p > 0) ? p - 1 : 0);
+
+      maybeSendPublishRequests();
     }
+  }
+
+  /**
+   * Issue concurrent Republish requests for each sequence number in {@code [from, to)}.
+   *
+   * <p>Sequence numbers beyond {@link #MAX_REORDER_WINDOW} are declared lost immediately rather
+   * than recovered: delivery skips ahead past them, so only the sequence numbers within the window
+   * are ever tracked individually. Must be called on the processing queue.
+   */
+  private void recoverMissingSequenceNumbers(
+      UInteger subscriptionId, SubscriptionDetails details, long from, long to) {
+
+    if (to - from > MAX_REORDER_WINDOW) {
+      long lostUntil = to - MAX_REORDER_WINDOW;
+
+      logger.warn(
+          "Sequence number gap exceeds reorder window, subscriptionId={}, lost=[{}, {})",
+          subscriptionId,
+          from,
+          lostUntil);
 
-    if (receivedSequenceNumber == 1 || !isKeepAlive) {
-      // Set last sequence number only if either:
-      // - this was the first PublishResponse received
-      // - this *is not* a keep-alive PublishResponse
-      details.lastSequenceNumber = receivedSequenceNumber;
+      lostSequenceNumbers.add(lostUntil - from);
+
+      handleDelivery(skipTo(details, lostUntil - 1));
+
+      details
+          .subscription
+          .getDeliveryQueue()
+          .execute(details.subscription::notifyNotificationDataLost);
+
+      from = lostUntil;
     }
 
-    UInteger[] availableSequenceNumbers = response.getAvailableSequenceNumbers();
-    if (availableSequenceNumbers != null && availableSequenceNumbers.length > 0) {
-      synchronized (details.availableAcknowledgements) {
-        details.availableAcknowledgements.clear();
+    for (long sequenceNumber = from; sequenceNumber < to; sequenceNumber++) {
+      final long missingSequenceNumber = sequenceNumber;
 
-        Collections.addAll(details.availableAcknowledgements, availableSequenceNumbers);
+      if (!details.republishPending.add(missingSequenceNumber)) {
+        continue;
       }
+
+      client
+          .republishAsync(subscriptionId, uint(missingSequenceNumber))
+          .whenComplete(
+              (response, ex) ->
+                  processingQueue.execute(
+                      () -> {
+                        details.republishPending.remove(missingSequenceNumber);
+
+                        if (response != null) {
+                          onSequenceNumberRecovered(
+                              details, missingSequenceNumber, response.getNotificationMessage());
+                        } else {
+                          logger.warn(
+                              "Republish service failure, sequenceNumber={}",
+                              missingSequenceNumber,
+                              ex);
+
+                          onSequenceNumberLost(details, missingSequenceNumber);
+                        }
+                      }));
     }
+  }
 
-    CompletionStage<Unit> callback =
-        details
-            .subscription
-            .getDeliveryQueue()
-            .submit(() -> deliverNotificationMessage(details, notificationMessage));
+  /**
+   * Deliver, in order, everything buffered up to and including {@code sequenceNumber}, then move
+   * delivery past it, abandoning any gaps below it. Must be called on the processing queue.
+   *
+   * @return the {@link CompletionStage} of the last delivery submitted, or {@code null} if nothing
+   *     was delivered.
+   */
+  private @Nullable CompletionStage<Unit> skipTo(SubscriptionDetails details, long sequenceNumber) {
+    CompletionStage<Unit> last = null;
 
-    if (callback != null) {
-      // Once delivery of notifications is complete we can consider sending another
-      // PublishRequest. Waiting until the client has finished receiving notifications
-      // is the backpressure mechanism that prevents the server from flooding the client
-      // with data change notifications faster than it can process them.
-      callback.thenRunAsync(
-          () -> {
-            pendingCount.getAndUpdate(p -> (p > 0) ? p - 1 : 0);
+    while (!details.reorderBuffer.isEmpty() && details.reorderBuffer.firstKey() <= sequenceNumber) {
 
-            maybeSendPublishRequests();
-          },
-          client.getTransport().getConfig().getExecutor());
+      Map.Entry<Long, NotificationMessage> entry = details.reorderBuffer.pollFirstEntry();
+      NotificationMessage notificationMessage = entry.getValue();
+
+      last =
+          details
+              .subscription
+              .getDeliveryQueue()
+              .submit(() -> deliverNotificationMessage(details, notificationMessage));
     }
+
+    details.lastSequenceNumber = Math.max(details.lastSequenceNumber, sequenceNumber);
+    details.lost.removeIf(n -> n <= sequenceNumber);
+
+    // Anything delivered after the skipped-over gaps continues from here.
+    CompletionStage<Unit> next = deliverInOrder(details);
+
+    return next != null ? next : last;
+  }
+
+  private void onSequenceNumberRecovered(
+      SubscriptionDetails details, long sequenceNumber, NotificationMessage notificationMessage) {
+
+    recoveredSequenceNumbers.increment();
+
+    details.availableAcknowledgements.add(uint(sequenceNumber));
+
+    if (sequenceNumber > details.lastSequenceNumber) {
+      details.reorderBuffer.put(sequenceNumber, notificationMessage);
+
+      handleDelivery(deliverInOrder(details));
+    }
+  }
+
+  private void onSequenceNumberLost(SubscriptionDetails details, long sequenceNumber) {
+    lostSequenceNumbers.increment();
+
+    if (sequenceNumber > details.lastSequenceNumber) {
+      details.lost.add(sequenceNumber);
+    }
+
+    details
+        .subscription
+        .getDeliveryQueue()
+        .execute(details.subscription::notifyNotificationDataLost);
+
+    handleDelivery(deliverInOrder(details));
+  }
+
+  /**
+   * Handle the outcome of delivering NotificationMessages outside a PublishResponse, i.e. once a
+   * gap is filled or given up on.
+   *
+   * <p>No PublishRequest needs to wait on these: they are on the Subscription's delivery queue
+   * ahead of anything delivered for later PublishResponses, which do wait.
+   */
+  private void handleDelivery(@Nullable CompletionStage<Unit> delivery) {
+    if (delivery != null) {
+      delivery.whenComplete(
+          (u, ex) -> {
+            if (ex != null) {
+              logger.warn("Failed delivering recovered NotificationMessages", ex);
+            }
+          });
+    }
+  }
+
+  /**
+   * Deliver buffered NotificationMessages in sequence number order, stopping at the first gap that
+   * is still being recovered. Must be called on the processing queue.
+   *
+   * @return the {@link CompletionStage} of the last delivery submitted, or {@code null} if nothing
+   *     was delivered.
+   */
+  private @Nullable CompletionStage<Unit> deliverInOrder(SubscriptionDetails details) {
+    CompletionStage<Unit> last = null;
+
+    // The first NotificationMessage received establishes where delivery starts.
+    if (details.lastSequenceNumber == 0L
+        && details.republishPending.isEmpty()
+        && details.lost.isEmpty()
+        && !details.reorderBuffer.isEmpty()) {
+
+      details.lastSequenceNumber = details.reorderBuffer.firstKey() - 1;
+    }
+
+    while (true) {
+      long next = details.lastSequenceNumber + 1;
+
+      NotificationMessage notificationMessage = details.reorderBuffer.remove(next);
+
+      if (notificationMessage != null) {
+        last =
+            details
+                .subscription
+                .getDeliveryQueue()
+                .submit(() -> deliverNotificationMessage(details, notificationMessage));
+
+        details.lastSequenceNumber = next;
+      } else if (details.lost.remove(next)) {
+        details.lastSequenceNumber = next;
+      } else {
+        break;
+      }
+    }
+
+    return last;
+  }
+
+  /**
+   * Get the number of missing sequence numbers successfully recovered using Republish.
+   *
+   * @return the number of missing sequence numbers successfully recovered.
+   */
+  public long getRecoveredSequenceNumberCount() {
+    return recoveredSequenceNumbers.sum();
+  }
+
+  /**
+   * Get the number of missing sequence numbers that could not be recovered, either because
+   * Republish failed or because the gap exceeded the reorder window.
+   *
+   * @return the number of missing sequence numbers that could not be recovered.
+   */
+  public long getLostSequenceNumberCount() {
+    return lostSequenceNumbers.sum();
   }
 
   private void deliverNotificationMessage(
@@ -327,7 +558,37 @@ public class PublishingManager {
     if (notificationData == null || notificationData.length == 0) {
       details.subscription.notifyKeepAliveReceived();
     } else {
+      DataChangeBatch dataChangeBatch = details.subscription.startDataChangeBatch();
+      OpcUaBinaryDecoder decoder = null;
+
       for (ExtensionObject xo : notificationData) {
+        if (dataChangeBatch != null
+            && xo instanceof ExtensionObject.Binary binary
+            && binary
+                .getEncodingOrTypeId()
+                .equals(NodeIds.DataChangeNotification_Encoding_DefaultBinary)) {
+
+          // Decode straight into the batch, without a DataChangeNotification. Read a retained body
+          // in place; otherwise wrap, rather than copy again, the body copied out of the response.
+          ByteBuf retainedBody = binary.getRetainedBody();
+          ByteBuf body =
+              retainedBody != null
+                  ? retainedBody.duplicate()
+                  : Unpooled.wrappedBuffer(binary.getBody().bytesOrEmpty());
+
+          if (decoder == null) {
+            decoder = new OpcUaBinaryDecoder(client.getStaticEncodingContext());
+          }
+
+          try {
+            dataChangeBatch.decode(body, decoder.setBuffer(body));
+          } catch (UaSerializationException e) {
+            logger.warn("Failed to decode DataChangeNotification", e);
+          }
+
+          continue;
+        }
+
         Object notification = xo.decode(client.getStaticEncodingContext());
 
         if (notification instanceof DataChangeNotification) {
@@ -335,17 +596,25 @@ public class PublishingManager {
               ((DataChangeNotification) notification).getMonitoredItems();
 
           if (monitoredItems != null && monitoredItems.length > 0) {
-            details.subscription.notifyDataReceived(monitoredItems);
+            if (dataChangeBatch != null) {
+              dataChangeBatch.add(monitoredItems);
+            } else {
+              details.subscription.notifyDataReceived(monitoredItems);
+            }
           }
         } else if (notification instanceof EventNotificationList) {
           EventFieldList[] events = ((EventNotificationList) notification).getEvents();
 
           if (events != null && events.length > 0) {
+            flushDataChangeBatch(details, dataChangeBatch);
+
             details.subscription.notifyEventsReceived(events);
           }
         } else if (notification instanceof StatusChangeNotification scn) {
           StatusCode status = scn.getStatus();
 
+          flushDataChangeBatch(details, dataChangeBatch);
+
           if (status.value() == StatusCodes.Bad_Timeout) {
             details.subscription.getSubscriptionId().ifPresent(subscriptionDetails::remove);
           }
@@ -355,6 +624,21 @@ public class PublishingManager {
           logger.warn("Unhandled notification type: {}", notification);
         }
       }
+
+      flushDataChangeBatch(details, dataChangeBatch);
+    }
+  }
+
+  /**
+   * Deliver the data changes collected so far, if any, so they're delivered before the
+   * notifications that follow them in the NotificationMessage.
+   */
+  private static void flushDataChangeBatch(
+      SubscriptionDetails details, @Nullable DataChangeBatch dataChangeBatch) {
+
+    if (dataChangeBatch != null && dataChangeBatch.size() > 0) {
+      details.subscription.notifyDataChangeBatch(dataChangeBatch);
+      dataChangeBatch.clear();
     }
   }
 
@@ -408,12 +692,72 @@ public class PublishingManager {
     private final List<UInteger> availableAcknowledgements =
         Collections.synchronizedList(new ArrayList<>());
 
+    /** The last sequence number delivered, or skipped because it was lost. */
     private volatile long lastSequenceNumber = 0L;
 
+    /** The highest sequence number received or being recovered. */
+    private long highestSequenceNumber = 0L;
+
+    /** NotificationMessages received out of order, waiting for a gap to be filled. */
+    private final TreeMap<Long, NotificationMessage> reorderBuffer = new TreeMap<>();
+
+    /** Sequence numbers with a Republish request in flight. */
+    private final Set<Long> republishPending = ConcurrentHashMap.newKeySet();
+
+    /** Sequence numbers declared lost that delivery should skip over. */
+    private final Set<Long> lost = new HashSet<>();
+
+    /** Completes when a PublishRequest held back waiting for demand can be sent. */
+    private @Nullable CompletableFuture<Unit> demandWait;
+
+    /** Set once the Subscription is removed; no more PublishRequests are held back for it. */
+    private boolean removed = false;
+
     private final OpcUaSubscription subscription;
 
     private SubscriptionDetails(OpcUaSubscription subscription) {
       this.subscription = subscription;
     }
+
+    /**
+     * Get a {@link CompletionStage} that completes when the Subscription's Flow subscriber, if any,
+     * has demand for more notifications, or when the wait is released.
+     *
+     * <p>At most one PublishRequest is held back per Subscription. While one is, the stage returned
+     * for the others is already complete, so a subscriber without demand can't hold back the
+     * PublishRequests that other Subscriptions on the same Session depend on.
+     */
+    synchronized CompletionStage<Unit> awaitDemand() {
+      if (removed || (demandWait != null && !demandWait.isDone())) {
+        return CompletableFuture.completedFuture(Unit.VALUE);
+      }
+
+      CompletableFuture<Unit> wait = new CompletableFuture<>();
+      demandWait = wait;
+
+      subscription.notificationDemandAvailable().whenComplete((u, ex) -> wait.complete(u));
+
+      return wait;
+    }
+
+    /**
+     * Stop holding back a PublishRequest waiting for demand, if one is.
+     *
+     * @param remove {@code true} if the Subscription has been removed and no more PublishRequests
+     *     should be held back for it.
+     */
+    void releaseDemandWait(boolean remove) {
+      CompletableFuture<Unit> wait;
+
+      synchronized (this) {
+        removed |= remove;
+        wait = demandWait;
+        demandWait = null;
+      }
+
+      if (wait != null) {
+        wait.complete(Unit.VALUE);
+      }
+    }
   }
 }
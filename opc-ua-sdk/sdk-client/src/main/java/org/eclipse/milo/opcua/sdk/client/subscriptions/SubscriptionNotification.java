@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2025 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.client.subscriptions;
+
+import java.util.List;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+
+/**
+ * A notification delivered by {@link OpcUaSubscription#getNotificationPublisher()}.
+ *
+ * <p>Each instance corresponds to one DataChangeNotification or EventNotificationList received in a
+ * NotificationMessage.
+ */
+public sealed interface SubscriptionNotification {
+
+  /**
+   * @return the {@link OpcUaSubscription} that received this notification.
+   */
+  OpcUaSubscription subscription();
+
+  /**
+   * A data change notification.
+   *
+   * @param subscription the {@link OpcUaSubscription} that received the notification.
+   * @param items the MonitoredItems targeted by the notification.
+   * @param values the corresponding DataValues for each MonitoredItem.
+   */
+  record DataChange(
+      OpcUaSubscription subscription, List<OpcUaMonitoredItem> items, List<DataValue> values)
+      implements SubscriptionNotification {}
+
+  /**
+   * An event notification.
+   *
+   * @param subscription the {@link OpcUaSubscription} that received the notification.
+   * @param items the MonitoredItems targeted by the notification.
+   * @param fields the corresponding event fields for each MonitoredItem.
+   */
+  record Event(
+      OpcUaSubscription subscription, List<OpcUaMonitoredItem> items, List<Variant[]> fields)
+      implements SubscriptionNotification {}
+}
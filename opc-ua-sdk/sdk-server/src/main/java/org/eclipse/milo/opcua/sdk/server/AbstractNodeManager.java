@@ -12,11 +12,14 @@ package org.eclipse.milo.opcua.sdk.server;
 
 import com.google.common.collect.LinkedHashMultiset;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Predicate;
 import org.eclipse.milo.opcua.sdk.core.Reference;
 import org.eclipse.milo.opcua.sdk.core.nodes.Node;
@@ -27,12 +30,15 @@ import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
 public class AbstractNodeManager<T extends Node> implements NodeManager<T> {
 
   private final ConcurrentMap<NodeId, T> nodeMap = new ConcurrentHashMap<>();
-  private final ConcurrentMap<NodeId, LinkedHashMultiset<Reference>> referenceMap =
-      new ConcurrentHashMap<>();
+  private final ConcurrentMap<NodeId, NodeReferences> referenceMap = new ConcurrentHashMap<>();
+
+  private final List<ChangeListener> changeListeners = new CopyOnWriteArrayList<>();
 
   /**
    * Get the backing {@link ConcurrentMap} holding this {@link NodeManager}'s Nodes.
    *
+   * <p>Changes made directly to this map are not reported to {@link ChangeListener}s.
+   *
    * @return the backing {@link ConcurrentMap} holding this {@link NodeManager}'s Nodes.
    */
   protected ConcurrentMap<NodeId, T> getNodeMap() {
@@ -40,12 +46,20 @@ public class AbstractNodeManager<T extends Node> implements NodeManager<T> {
   }
 
   /**
-   * Get the backing {@link ConcurrentMap} holding this {@link NodeManager}'s References.
+   * Get a copy of this {@link NodeManager}'s References, keyed by source {@link NodeId}.
    *
-   * @return the backing {@link ConcurrentMap} holding this {@link NodeManager}'s References.
+   * @return a copy of this {@link NodeManager}'s References, keyed by source {@link NodeId}.
+   * @deprecated References are no longer held in this form; changes to the returned map are not
+   *     reflected in this {@link NodeManager}. Use {@link #getReferences(NodeId)}.
    */
+  @Deprecated
   public ConcurrentMap<NodeId, LinkedHashMultiset<Reference>> getReferenceMap() {
-    return referenceMap;
+    var copy = new ConcurrentHashMap<NodeId, LinkedHashMultiset<Reference>>();
+
+    referenceMap.forEach(
+        (nodeId, references) -> copy.put(nodeId, LinkedHashMultiset.create(references.getAll())));
+
+    return copy;
   }
 
   /**
@@ -78,7 +92,11 @@ public class AbstractNodeManager<T extends Node> implements NodeManager<T> {
 
   @Override
   public Optional<T> addNode(T node) {
-    return Optional.ofNullable(nodeMap.put(node.getNodeId(), node));
+    T previous = nodeMap.put(node.getNodeId(), node);
+
+    fireNodeChanged(node.getNodeId());
+
+    return Optional.ofNullable(previous);
   }
 
   @Override
@@ -93,7 +111,13 @@ public class AbstractNodeManager<T extends Node> implements NodeManager<T> {
 
   @Override
   public Optional<T> removeNode(NodeId nodeId) {
-    return Optional.ofNullable(nodeMap.remove(nodeId));
+    T removed = nodeMap.remove(nodeId);
+
+    if (removed != null) {
+      fireNodeChanged(nodeId);
+    }
+
+    return Optional.ofNullable(removed);
   }
 
   @Override
@@ -102,58 +126,144 @@ public class AbstractNodeManager<T extends Node> implements NodeManager<T> {
   }
 
   @Override
-  public synchronized void addReference(Reference reference) {
-    LinkedHashMultiset<Reference> references =
-        referenceMap.computeIfAbsent(
-            reference.getSourceNodeId(), nodeId -> LinkedHashMultiset.create());
+  public void addReference(Reference reference) {
+    referenceMap.compute(
+        reference.getSourceNodeId(),
+        (nodeId, references) -> {
+          if (references == null) {
+            references = new NodeReferences();
+          }
+          references.add(reference);
+          return references;
+        });
 
-    references.add(reference);
+    fireReferencesChanged(reference.getSourceNodeId());
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The References of each source Node are updated atomically, but {@code reference} and its
+   * inverse have different source Nodes and are added one after the other, without a lock across
+   * both, so a concurrent browse may see {@code reference} before its inverse is added. Holding a
+   * lock across both would make every browse wait on it; address spaces are browsed far more often
+   * than References are added, and a browse is already only a snapshot of a changing address space.
+   */
   @Override
-  public synchronized void addReferences(Reference reference, NamespaceTable namespaceTable) {
+  public void addReferences(Reference reference, NamespaceTable namespaceTable) {
     addReference(reference);
 
     reference.invert(namespaceTable).ifPresent(this::addReference);
   }
 
   @Override
-  public synchronized void removeReference(Reference reference) {
-    LinkedHashMultiset<Reference> references = referenceMap.get(reference.getSourceNodeId());
-
-    if (references != null) {
-      references.remove(reference);
-
-      if (references.isEmpty()) {
-        referenceMap.remove(reference.getSourceNodeId());
-      }
-    }
+  public void removeReference(Reference reference) {
+    removeReferences(reference.getSourceNodeId(), List.of(reference));
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>As with {@link #addReferences(Reference, NamespaceTable)}, {@code reference} and its inverse
+   * are removed one after the other; a concurrent browse may see one without the other.
+   */
   @Override
-  public synchronized void removeReferences(Reference reference, NamespaceTable namespaceTable) {
+  public void removeReferences(Reference reference, NamespaceTable namespaceTable) {
     removeReference(reference);
 
     reference.invert(namespaceTable).ifPresent(this::removeReference);
   }
 
   @Override
-  public synchronized List<Reference> getReferences(NodeId nodeId) {
-    LinkedHashMultiset<Reference> references = referenceMap.get(nodeId);
+  public void removeReferences(Collection<Reference> references, NamespaceTable namespaceTable) {
+    var bySource = new LinkedHashMap<NodeId, List<Reference>>();
+
+    for (Reference reference : references) {
+      bySource.computeIfAbsent(reference.getSourceNodeId(), id -> new ArrayList<>()).add(reference);
 
-    if (references != null) {
-      return new ArrayList<>(references);
-    } else {
-      return Collections.emptyList();
+      reference
+          .invert(namespaceTable)
+          .ifPresent(
+              inverse ->
+                  bySource
+                      .computeIfAbsent(inverse.getSourceNodeId(), id -> new ArrayList<>())
+                      .add(inverse));
     }
+
+    bySource.forEach(this::removeReferences);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The List returned is an immutable snapshot; it is not copied, and later changes to this
+   * {@link NodeManager} don't affect it.
+   */
+  @Override
+  public List<Reference> getReferences(NodeId nodeId) {
+    NodeReferences references = referenceMap.get(nodeId);
+
+    return references != null ? references.getAll() : Collections.emptyList();
   }
 
   @Override
-  public synchronized List<Reference> getReferences(NodeId nodeId, Predicate<Reference> filter) {
-    LinkedHashMultiset<Reference> references = referenceMap.get(nodeId);
+  public List<Reference> getReferences(NodeId nodeId, Predicate<Reference> filter) {
+    NodeReferences references = referenceMap.get(nodeId);
 
     return references != null
-        ? references.stream().filter(filter).toList()
+        ? references.getAll().stream().filter(filter).toList()
         : Collections.emptyList();
   }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>References are indexed by reference type and direction, so this does not examine any other
+   * References. The List returned is an immutable snapshot; it is not copied, and later changes to
+   * this {@link NodeManager} don't affect it.
+   */
+  @Override
+  public List<Reference> getReferences(
+      NodeId nodeId, NodeId referenceTypeId, Reference.Direction direction) {
+
+    NodeReferences references = referenceMap.get(nodeId);
+
+    return references != null
+        ? references.get(referenceTypeId, direction)
+        : Collections.emptyList();
+  }
+
+  @Override
+  public boolean addChangeListener(ChangeListener listener) {
+    changeListeners.add(listener);
+    return true;
+  }
+
+  @Override
+  public void removeChangeListener(ChangeListener listener) {
+    changeListeners.remove(listener);
+  }
+
+  private void removeReferences(NodeId sourceNodeId, List<Reference> references) {
+    referenceMap.computeIfPresent(
+        sourceNodeId,
+        (nodeId, existing) -> {
+          existing.removeAll(references);
+          return existing.isEmpty() ? null : existing;
+        });
+
+    fireReferencesChanged(sourceNodeId);
+  }
+
+  private void fireNodeChanged(NodeId nodeId) {
+    for (ChangeListener listener : changeListeners) {
+      listener.onNodeChanged(nodeId);
+    }
+  }
+
+  private void fireReferencesChanged(NodeId sourceNodeId) {
+    for (ChangeListener listener : changeListeners) {
+      listener.onReferencesChanged(sourceNodeId);
+    }
+  }
 }
@@ -34,6 +34,7 @@ import org.eclipse.milo.opcua.stack.core.types.structured.AddReferencesRequest;
 import org.eclipse.milo.opcua.stack.core.types.structured.BrowseNextRequest;
 import org.eclipse.milo.opcua.stack.core.types.structured.BrowseRequest;
 import org.eclipse.milo.opcua.stack.core.types.structured.CallRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.CallResponse;
 import org.eclipse.milo.opcua.stack.core.types.structured.CancelRequest;
 import org.eclipse.milo.opcua.stack.core.types.structured.CloseSessionRequest;
 import org.eclipse.milo.opcua.stack.core.types.structured.CreateMonitoredItemsRequest;
@@ -120,7 +121,13 @@ public abstract class AbstractServiceHandler {
     addServiceHandler(
         path,
         Service.METHOD_CALL,
-        (context, request) -> serviceSet.onCall(context, (CallRequest) request));
+        (AsyncServiceHandler)
+            (context, requestMessage) -> {
+              CompletableFuture<CallResponse> future =
+                  serviceSet.onCallAsync(context, (CallRequest) requestMessage);
+
+              return future.thenApply(Function.identity());
+            });
   }
 
   public void addServiceSet(String path, MonitoredItemServiceSet serviceSet) {
@@ -12,9 +12,13 @@ package org.eclipse.milo.opcua.sdk.server;
 
 import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.eclipse.milo.opcua.sdk.core.Reference;
+import org.eclipse.milo.opcua.sdk.core.typetree.ReferenceType;
+import org.eclipse.milo.opcua.sdk.core.typetree.ReferenceTypeTree;
 import org.eclipse.milo.opcua.sdk.server.items.DataItem;
 import org.eclipse.milo.opcua.sdk.server.items.EventItem;
 import org.eclipse.milo.opcua.sdk.server.items.MonitoredItem;
@@ -26,11 +30,13 @@ import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
 import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
 import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
 import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.BrowseDirection;
 import org.eclipse.milo.opcua.stack.core.types.enumerated.MonitoringMode;
 import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
 import org.eclipse.milo.opcua.stack.core.types.structured.AddNodesItem;
 import org.eclipse.milo.opcua.stack.core.types.structured.AddNodesResult;
 import org.eclipse.milo.opcua.stack.core.types.structured.AddReferencesItem;
+import org.eclipse.milo.opcua.stack.core.types.structured.BrowseDescription;
 import org.eclipse.milo.opcua.stack.core.types.structured.CallMethodRequest;
 import org.eclipse.milo.opcua.stack.core.types.structured.CallMethodResult;
 import org.eclipse.milo.opcua.stack.core.types.structured.DeleteNodesItem;
@@ -43,6 +49,7 @@ import org.eclipse.milo.opcua.stack.core.types.structured.HistoryUpdateResult;
 import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
 import org.eclipse.milo.opcua.stack.core.types.structured.ViewDescription;
 import org.eclipse.milo.opcua.stack.core.types.structured.WriteValue;
+import org.eclipse.milo.opcua.stack.core.util.Tree;
 import org.jspecify.annotations.Nullable;
 
 public interface AddressSpace {
@@ -133,6 +140,23 @@ public interface AddressSpace {
     return Collections.nCopies(requests.size(), result);
   }
 
+  /**
+   * Invoke one or more methods belonging to this {@link AddressSpace} asynchronously.
+   *
+   * <p>The default implementation completes with the results of {@link #call(CallContext, List)},
+   * called on the calling thread.
+   *
+   * @param context the {@link CallContext}.
+   * @param requests The {@link CallMethodRequest}s for the methods to invoke.
+   * @return a {@link CompletableFuture} that completes with the {@link CallMethodResult}s for each
+   *     method invocation.
+   */
+  default CompletableFuture<List<CallMethodResult>> callAsync(
+      CallContext context, List<CallMethodRequest> requests) {
+
+    return CompletableFuture.completedFuture(call(context, requests));
+  }
+
   // endregion
 
   // region MonitoredItem Services
@@ -348,6 +372,104 @@ public interface AddressSpace {
     }
   }
 
+  /**
+   * Restricts the References returned by a browse or gather operation to those of a reference type
+   * and direction, the way a {@link BrowseDescription} does.
+   *
+   * @param referenceTypeId the {@link NodeId} of the reference type to return, or {@code null} or
+   *     {@link NodeId#NULL_VALUE} to return References of any type.
+   * @param includeSubtypes {@code true} if References of subtypes of {@code referenceTypeId} are
+   *     returned too.
+   * @param direction the {@link BrowseDirection} of the References to return.
+   */
+  record ReferenceFilter(
+      @Nullable NodeId referenceTypeId, boolean includeSubtypes, BrowseDirection direction) {
+
+    /** A {@link ReferenceFilter} that matches every Reference. */
+    public static final ReferenceFilter ALL = new ReferenceFilter(null, true, BrowseDirection.Both);
+
+    /**
+     * Create a {@link ReferenceFilter} from the filters of {@code browseDescription}.
+     *
+     * @param browseDescription the {@link BrowseDescription}.
+     * @return a {@link ReferenceFilter} with the filters of {@code browseDescription}.
+     */
+    public static ReferenceFilter of(BrowseDescription browseDescription) {
+      return new ReferenceFilter(
+          browseDescription.getReferenceTypeId(),
+          Boolean.TRUE.equals(browseDescription.getIncludeSubtypes()),
+          browseDescription.getBrowseDirection());
+    }
+
+    /**
+     * Check whether {@code reference} passes this filter.
+     *
+     * @param reference the {@link Reference} to check.
+     * @param referenceTypeTree the Server's {@link ReferenceTypeTree}.
+     * @return {@code true} if {@code reference} passes this filter.
+     */
+    public boolean matches(Reference reference, ReferenceTypeTree referenceTypeTree) {
+      boolean directionMatches =
+          switch (direction) {
+            case Forward -> reference.isForward();
+            case Inverse -> reference.isInverse();
+            default -> true;
+          };
+
+      return directionMatches
+          && (referenceTypeId == null
+              || referenceTypeId.isNull()
+              || reference.getReferenceTypeId().equals(referenceTypeId)
+              || (includeSubtypes
+                  && referenceTypeTree.isSubtypeOf(
+                      reference.getReferenceTypeId(), referenceTypeId)));
+    }
+
+    /**
+     * Get the References of {@code nodeId} in {@code nodeManager} that pass this filter.
+     *
+     * <p>References of a single reference type and direction are looked up with {@link
+     * NodeManager#getReferences(NodeId, NodeId, Reference.Direction)}, so a {@link NodeManager}
+     * that indexes them doesn't have to create the References that don't pass.
+     *
+     * @param nodeManager the {@link NodeManager} to get References from.
+     * @param nodeId the source {@link NodeId}.
+     * @param referenceTypeTree the Server's {@link ReferenceTypeTree}.
+     * @return the References of {@code nodeId} that pass this filter, in the order {@code
+     *     nodeManager} returns them.
+     */
+    public List<Reference> getReferences(
+        NodeManager<?> nodeManager, NodeId nodeId, ReferenceTypeTree referenceTypeTree) {
+
+      if (referenceTypeId == null || referenceTypeId.isNull()) {
+        return direction == BrowseDirection.Both
+            ? nodeManager.getReferences(nodeId)
+            : nodeManager.getReferences(nodeId, r -> matches(r, referenceTypeTree));
+      }
+
+      if (direction != BrowseDirection.Both && !hasSubtypes(referenceTypeTree)) {
+        return nodeManager.getReferences(
+            nodeId,
+            referenceTypeId,
+            direction == BrowseDirection.Forward
+                ? Reference.Direction.FORWARD
+                : Reference.Direction.INVERSE);
+      }
+
+      return nodeManager.getReferences(nodeId, r -> matches(r, referenceTypeTree));
+    }
+
+    private boolean hasSubtypes(ReferenceTypeTree referenceTypeTree) {
+      if (!includeSubtypes || referenceTypeId == null) {
+        return false;
+      }
+
+      Tree<ReferenceType> treeNode = referenceTypeTree.getTreeNode(referenceTypeId);
+
+      return treeNode == null || !treeNode.getChildren().isEmpty();
+    }
+  }
+
   /**
    * For each {@link NodeId} in {@code nodeIds} return the References for which that {@link NodeId}
    * is the source.
@@ -380,6 +502,76 @@ public interface AddressSpace {
    */
   ReferenceResult.ReferenceList gather(BrowseContext context, ViewDescription view, NodeId nodeId);
 
+  /**
+   * For each {@link NodeId} in {@code nodeIds} return the References for which that {@link NodeId}
+   * is the source and that pass the {@link ReferenceFilter} at the same index in {@code filters}.
+   *
+   * <p>The default implementation filters the References returned by {@link #browse(BrowseContext,
+   * ViewDescription, List)}. AddressSpaces that can look up References by type and direction should
+   * override it.
+   *
+   * @param context the {@link BrowseContext}.
+   * @param view the {@link ViewDescription}.
+   * @param nodeIds the {@link NodeId}s to browse.
+   * @param filters the {@link ReferenceFilter} for each {@link NodeId}.
+   * @return a List of {@link ReferenceResult}s for each {@link NodeId}.
+   */
+  default List<ReferenceResult> browse(
+      BrowseContext context,
+      ViewDescription view,
+      List<NodeId> nodeIds,
+      List<ReferenceFilter> filters) {
+
+    List<ReferenceResult> results = browse(context, view, nodeIds);
+
+    ReferenceTypeTree referenceTypeTree = context.getServer().getReferenceTypeTree();
+
+    var filteredResults = new ArrayList<ReferenceResult>(results.size());
+
+    for (int i = 0; i < results.size(); i++) {
+      ReferenceResult result = results.get(i);
+
+      if (result instanceof ReferenceResult.ReferenceList rl) {
+        ReferenceFilter filter = filters.get(i);
+
+        filteredResults.add(
+            ReferenceResult.of(
+                rl.references().stream()
+                    .filter(r -> filter.matches(r, referenceTypeTree))
+                    .toList()));
+      } else {
+        filteredResults.add(result);
+      }
+    }
+
+    return filteredResults;
+  }
+
+  /**
+   * Gather the References for which {@code nodeId} is the source and that pass {@code filter}.
+   *
+   * <p>The default implementation filters the References returned by {@link #gather(BrowseContext,
+   * ViewDescription, NodeId)}. AddressSpaces that can look up References by type and direction
+   * should override it.
+   *
+   * @param context the {@link BrowseContext}.
+   * @param view the {@link ViewDescription}.
+   * @param nodeId the {@link NodeId} to get references for.
+   * @param filter the {@link ReferenceFilter}.
+   * @return a {@link ReferenceResult.ReferenceList} containing the gathered {@link Reference}s.
+   * @see #gather(BrowseContext, ViewDescription, NodeId)
+   */
+  default ReferenceResult.ReferenceList gather(
+      BrowseContext context, ViewDescription view, NodeId nodeId, ReferenceFilter filter) {
+
+    ReferenceTypeTree referenceTypeTree = context.getServer().getReferenceTypeTree();
+
+    return ReferenceResult.of(
+        gather(context, view, nodeId).references().stream()
+            .filter(r -> filter.matches(r, referenceTypeTree))
+            .toList());
+  }
+
   /**
    * Register one or more {@link NodeId}s.
    *
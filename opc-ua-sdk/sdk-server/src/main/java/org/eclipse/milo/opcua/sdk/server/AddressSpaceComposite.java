@@ -19,11 +19,13 @@ import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 import org.eclipse.milo.opcua.sdk.core.Reference;
+import org.eclipse.milo.opcua.sdk.core.util.AsyncGroupMapCollate;
 import org.eclipse.milo.opcua.sdk.server.AddressSpace.ReferenceResult.ReferenceList;
 import org.eclipse.milo.opcua.sdk.server.items.DataItem;
 import org.eclipse.milo.opcua.sdk.server.items.EventItem;
@@ -88,6 +90,7 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
   public synchronized void register(AddressSpaceFragment addressSpace) {
     if (!addressSpaces.contains(addressSpace)) {
       addressSpaces.add(addressSpace);
+      server.getBrowsePathCache().invalidateAll();
 
       logger.debug("registered {}", addressSpace);
     } else {
@@ -105,6 +108,7 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
   public synchronized void registerFirst(AddressSpaceFragment addressSpace) {
     if (!addressSpaces.contains(addressSpace)) {
       addressSpaces.add(0, addressSpace);
+      server.getBrowsePathCache().invalidateAll();
 
       logger.debug("registered {} at index 0", addressSpace);
     } else {
@@ -120,6 +124,7 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
   public synchronized void unregister(AddressSpaceFragment addressSpace) {
     if (addressSpaces.contains(addressSpace)) {
       addressSpaces.remove(addressSpace);
+      server.getBrowsePathCache().invalidateAll();
 
       logger.debug("unregistered {}", addressSpace);
     } else {
@@ -157,21 +162,42 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
   @Override
   public List<ReferenceResult> browse(
       BrowseContext context, ViewDescription view, List<NodeId> nodeIds) {
+
+    return browse(context, view, nodeIds, Collections.nCopies(nodeIds.size(), ReferenceFilter.ALL));
+  }
+
+  @Override
+  public List<ReferenceResult> browse(
+      BrowseContext context,
+      ViewDescription view,
+      List<NodeId> nodeIds,
+      List<ReferenceFilter> filters) {
+
+    var targets = new ArrayList<BrowseTarget>(nodeIds.size());
+    for (int i = 0; i < nodeIds.size(); i++) {
+      targets.add(new BrowseTarget(nodeIds.get(i), filters.get(i)));
+    }
+
     List<ReferenceResult> initialResults =
         groupMapCollate(
-            nodeIds,
-            nodeId -> getAddressSpace(asx -> asx.getFilter().filterBrowse(server, nodeId)),
+            targets,
+            target -> getAddressSpace(asx -> asx.getFilter().filterBrowse(server, target.nodeId())),
             (AddressSpace asx) ->
                 group -> {
                   var ctx = new BrowseContext(server, context.getSession().orElse(null));
 
-                  return asx.browse(ctx, view, group);
+                  return asx.browse(
+                      ctx,
+                      view,
+                      group.stream().map(BrowseTarget::nodeId).toList(),
+                      group.stream().map(BrowseTarget::filter).toList());
                 });
 
     final var finalResults = new ArrayList<ReferenceResult>();
 
     for (int i = 0; i < initialResults.size(); i++) {
       NodeId nodeId = nodeIds.get(i);
+      ReferenceFilter filter = filters.get(i);
       ReferenceResult initialResult = initialResults.get(i);
 
       if (initialResult instanceof ReferenceList rl) {
@@ -187,7 +213,7 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
 
         for (AddressSpace asx : addressSpaces) {
           if (asx != first) {
-            ReferenceList gatherResult = asx.gather(browseContext, view, nodeId);
+            ReferenceList gatherResult = asx.gather(browseContext, view, nodeId, filter);
 
             references.addAll(gatherResult.references());
           }
@@ -204,12 +230,19 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
 
   @Override
   public ReferenceList gather(BrowseContext context, ViewDescription view, NodeId nodeId) {
+    return gather(context, view, nodeId, ReferenceFilter.ALL);
+  }
+
+  @Override
+  public ReferenceList gather(
+      BrowseContext context, ViewDescription view, NodeId nodeId, ReferenceFilter filter) {
+
     var referenceStreams = new ArrayList<Stream<Reference>>();
 
     for (AddressSpace asx : addressSpaces) {
       var browseContext = new BrowseContext(server, context.getSession().orElse(null));
 
-      ReferenceList result = asx.gather(browseContext, view, nodeId);
+      ReferenceList result = asx.gather(browseContext, view, nodeId, filter);
       referenceStreams.add(result.references().stream());
     }
 
@@ -394,6 +427,28 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
             });
   }
 
+  @Override
+  public CompletableFuture<List<CallMethodResult>> callAsync(
+      CallContext context, List<CallMethodRequest> requests) {
+
+    return AsyncGroupMapCollate.groupMapCollate(
+        requests,
+        request -> getAddressSpace(asx -> asx.getFilter().filterCall(server, request)),
+        (AddressSpace asx) ->
+            group -> {
+              var ctx =
+                  new CallContext(
+                      server,
+                      context.getSession().orElse(null),
+                      context.getDiagnosticsContext(),
+                      context.getAuditEntryId(),
+                      context.getTimeoutHint(),
+                      context.getAdditionalHeader());
+
+              return asx.callAsync(ctx, group);
+            });
+  }
+
   // endregion
 
   // region MonitoredItemServices
@@ -789,6 +844,8 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
   }
 
   /** EmptyAddressSpace is used ephemerally and should never be registered. */
+  private record BrowseTarget(NodeId nodeId, ReferenceFilter filter) {}
+
   private static class EmptyAddressSpaceFragment extends ManagedAddressSpace
       implements AddressSpaceFragment {
 
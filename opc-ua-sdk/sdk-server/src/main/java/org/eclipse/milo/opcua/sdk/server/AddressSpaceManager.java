@@ -12,6 +12,7 @@ package org.eclipse.milo.opcua.sdk.server;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Predicate;
@@ -41,6 +42,7 @@ public class AddressSpaceManager extends AddressSpaceComposite {
   public synchronized void register(NodeManager<UaNode> nodeManager) {
     if (!nodeManagers.contains(nodeManager)) {
       nodeManagers.add(nodeManager);
+      getBrowsePathCache().onNodeManagerRegistered(nodeManager);
     } else {
       logger.warn("NodeManager already registered: {}", nodeManager);
     }
@@ -54,11 +56,42 @@ public class AddressSpaceManager extends AddressSpaceComposite {
   public synchronized void unregister(NodeManager<UaNode> nodeManager) {
     if (nodeManagers.contains(nodeManager)) {
       nodeManagers.remove(nodeManager);
+      getBrowsePathCache().onNodeManagerUnregistered(nodeManager);
     } else {
       logger.warn("NodeManager not registered: {}", nodeManager);
     }
   }
 
+  /**
+   * Get the Server's {@link BrowsePathCache}.
+   *
+   * <p>{@link OpcUaServer} creates this {@link AddressSpaceManager} before its {@link
+   * BrowsePathCache}, and creates the {@link BrowsePathCache} before any Namespace that registers a
+   * {@link NodeManager}, so this is only {@code null} if a {@link NodeManager} is registered while
+   * the Server is still being constructed.
+   */
+  private BrowsePathCache getBrowsePathCache() {
+    return Objects.requireNonNull(
+        getServer().getBrowsePathCache(),
+        "NodeManager registered before the Server created its BrowsePathCache");
+  }
+
+  /**
+   * Check if any registered {@link NodeManager} has the {@link UaNode} identified by {@code
+   * nodeId}.
+   *
+   * @param nodeId the {@link NodeId} identifying the managed {@link UaNode}.
+   * @return {@code true} if any registered {@link NodeManager} has the {@link UaNode}.
+   */
+  public boolean containsManagedNode(NodeId nodeId) {
+    for (NodeManager<UaNode> nodeManager : nodeManagers) {
+      if (nodeManager.containsNode(nodeId)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   /**
    * Get the managed {@link UaNode} identified by {@code nodeId} from the first registered {@link
    * NodeManager} that has it, if there is one.
@@ -174,6 +174,10 @@ public class AttributeWriter {
       }
     }
 
+    // The node keeps the value beyond this request, so any ExtensionObject body still held as a
+    // retained slice of the request buffer must be copied before the request is released.
+    copyRetainedBodies(value.value().value());
+
     try {
       node.writeAttribute(context, attributeId, value);
       return StatusCode.GOOD;
@@ -182,6 +186,20 @@ public class AttributeWriter {
     }
   }
 
+  private static void copyRetainedBodies(@Nullable Object value) {
+    if (value instanceof ExtensionObject.Binary xo) {
+      xo.getBody();
+    } else if (value instanceof Variant variant) {
+      copyRetainedBodies(variant.value());
+    } else if (value instanceof ExtensionObject[] || value instanceof Variant[]) {
+      for (Object element : (Object[]) value) {
+        copyRetainedBodies(element);
+      }
+    } else if (value instanceof Matrix matrix) {
+      copyRetainedBodies(matrix.getElements());
+    }
+  }
+
   private static WriteMask writeMaskForAttribute(AttributeId attributeId) {
     return switch (attributeId) {
       case AccessLevel -> WriteMask.AccessLevel;
@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2025 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalListener;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.structured.BrowsePathResult;
+import org.eclipse.milo.opcua.stack.core.types.structured.RelativePathElement;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Caches the results of TranslateBrowsePathsToNodeIds, keyed by Session, starting Node and relative
+ * path.
+ *
+ * <p>Results are not shared between Sessions: access control and {@link AddressSpace}s may hide
+ * Nodes and References depending on a Session's identity and roles. Results cached for a Session
+ * that has closed are evicted as the cache fills up.
+ *
+ * <p>Each result records the Nodes it was derived from: the Nodes that were browsed and the Nodes
+ * whose BrowseNames were read. A result is discarded when any of those Nodes, or the References
+ * from them, are added or removed in a {@link NodeManager} registered with the {@link
+ * AddressSpaceManager}.
+ *
+ * <p>Results are only cached when every Node they were derived from belongs to a registered {@link
+ * NodeManager}, and while every registered {@link NodeManager} reports its changes. Changes that
+ * don't go through a {@link NodeManager}, like writing a BrowseName attribute or an {@link
+ * AddressSpace} that browses Nodes it doesn't keep in a {@link NodeManager}, are not detected; set
+ * {@link OpcUaServerConfigLimits#getMaxCachedBrowsePaths()} to 0 when they can affect browse paths.
+ */
+public class BrowsePathCache implements NodeManager.ChangeListener {
+
+  private final Map<NodeId, Set<Entry>> dependents = new ConcurrentHashMap<>();
+
+  private final Set<NodeManager<?>> untrackedNodeManagers = ConcurrentHashMap.newKeySet();
+
+  /** Incremented by every change, so results computed across a change are not cached. */
+  private final AtomicLong generation = new AtomicLong();
+
+  private final Object lock = new Object();
+
+  private final AddressSpaceManager addressSpaceManager;
+  private final long maximumSize;
+  private final Cache<Key, Entry> cache;
+
+  /**
+   * Create a {@link BrowsePathCache}.
+   *
+   * <p>It must be created before any {@link NodeManager} is registered with {@code
+   * addressSpaceManager}, which then notifies it of each registration.
+   *
+   * @param addressSpaceManager the {@link AddressSpaceManager} whose Nodes are being browsed.
+   * @param maximumSize the maximum number of results to cache; 0 disables the cache.
+   */
+  public BrowsePathCache(AddressSpaceManager addressSpaceManager, long maximumSize) {
+    this.addressSpaceManager = addressSpaceManager;
+    this.maximumSize = maximumSize;
+
+    cache =
+        CacheBuilder.newBuilder()
+            .maximumSize(maximumSize)
+            .recordStats()
+            .removalListener((RemovalListener<Key, Entry>) n -> onRemoval(n.getValue()))
+            .build();
+  }
+
+  /**
+   * @return {@code true} if results are currently being cached.
+   */
+  public boolean isEnabled() {
+    return maximumSize > 0 && untrackedNodeManagers.isEmpty();
+  }
+
+  /**
+   * Get the cached result of translating {@code elements} from {@code startingNode} for {@code
+   * session}, or compute and cache it.
+   *
+   * @param session the {@link Session} translating the browse path, or {@code null} if the
+   *     operation is internal.
+   * @param startingNode the starting Node of the browse path.
+   * @param elements the elements of the browse path's RelativePath.
+   * @param compute computes the result, adding the {@link NodeId}s of every Node it browsed or read
+   *     the BrowseName of to the Set it is given.
+   * @return the result of translating the browse path.
+   */
+  public BrowsePathResult getOrCompute(
+      @Nullable Session session,
+      NodeId startingNode,
+      List<RelativePathElement> elements,
+      Function<Set<NodeId>, BrowsePathResult> compute) {
+
+    if (!isEnabled()) {
+      return compute.apply(new HashSet<>());
+    }
+
+    var key =
+        new Key(
+            session != null ? session.getSessionId() : null, startingNode, List.copyOf(elements));
+
+    Entry entry = cache.getIfPresent(key);
+    if (entry != null) {
+      return entry.result;
+    }
+
+    long startGeneration = generation.get();
+
+    var dependencies = new HashSet<NodeId>();
+    BrowsePathResult result = compute.apply(dependencies);
+
+    if (dependencies.stream().allMatch(addressSpaceManager::containsManagedNode)) {
+      synchronized (lock) {
+        if (generation.get() == startGeneration && isEnabled()) {
+          var added = new Entry(key, result, Set.copyOf(dependencies));
+          for (NodeId nodeId : dependencies) {
+            dependents.computeIfAbsent(nodeId, id -> ConcurrentHashMap.newKeySet()).add(added);
+          }
+          cache.put(key, added);
+        }
+      }
+    }
+
+    return result;
+  }
+
+  /** Discard all cached results. */
+  public void invalidateAll() {
+    generation.incrementAndGet();
+
+    synchronized (lock) {
+      dependents.clear();
+    }
+
+    cache.invalidateAll();
+  }
+
+  /**
+   * @return the number of results currently cached.
+   */
+  public long size() {
+    return cache.size();
+  }
+
+  /**
+   * @return the number of lookups that found a cached result.
+   */
+  public long getHitCount() {
+    return cache.stats().hitCount();
+  }
+
+  /**
+   * @return the number of lookups that had to compute a result.
+   */
+  public long getMissCount() {
+    return cache.stats().missCount();
+  }
+
+  /**
+   * @return the fraction of lookups that found a cached result, or 1.0 if there have been none.
+   */
+  public double getHitRate() {
+    return cache.stats().hitRate();
+  }
+
+  @Override
+  public void onNodeChanged(NodeId nodeId) {
+    invalidate(nodeId);
+  }
+
+  @Override
+  public void onReferencesChanged(NodeId sourceNodeId) {
+    invalidate(sourceNodeId);
+  }
+
+  void onNodeManagerRegistered(NodeManager<?> nodeManager) {
+    if (!nodeManager.addChangeListener(this)) {
+      untrackedNodeManagers.add(nodeManager);
+    }
+
+    invalidateAll();
+  }
+
+  void onNodeManagerUnregistered(NodeManager<?> nodeManager) {
+    nodeManager.removeChangeListener(this);
+    untrackedNodeManagers.remove(nodeManager);
+
+    invalidateAll();
+  }
+
+  private void invalidate(NodeId nodeId) {
+    generation.incrementAndGet();
+
+    Set<Entry> entries;
+    synchronized (lock) {
+      entries = dependents.remove(nodeId);
+    }
+
+    if (entries != null) {
+      // Conditional, so an Entry that has already replaced one of these is not removed.
+      entries.forEach(entry -> cache.asMap().remove(entry.key, entry));
+    }
+  }
+
+  private void onRemoval(Entry entry) {
+    for (NodeId nodeId : entry.dependencies) {
+      dependents.computeIfPresent(
+          nodeId,
+          (id, entries) -> {
+            entries.remove(entry);
+            return entries.isEmpty() ? null : entries;
+          });
+    }
+  }
+
+  /**
+   * @param sessionId the id of the Session that translated the browse path, or {@code null} for
+   *     internal operations.
+   */
+  private record Key(
+      @Nullable NodeId sessionId, NodeId startingNode, List<RelativePathElement> elements) {}
+
+  /** Compared by identity, so the dependents of a replaced Entry can't be confused with its own. */
+  private static final class Entry {
+
+    final Key key;
+    final BrowsePathResult result;
+    final Set<NodeId> dependencies;
+
+    Entry(Key key, BrowsePathResult result, Set<NodeId> dependencies) {
+      this.key = key;
+      this.result = result;
+      this.dependencies = dependencies;
+    }
+  }
+}
@@ -0,0 +1,960 @@
+/*
+ * Copyright (c) 2025 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import org.eclipse.milo.opcua.sdk.core.Reference;
+import org.eclipse.milo.opcua.sdk.core.nodes.Node;
+import org.eclipse.milo.opcua.stack.core.NamespaceTable;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ExpandedNodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A {@link NodeManager} for very large, mostly static address spaces.
+ *
+ * <p>Every {@link NodeId} is interned once and referred to by an int handle. References are not
+ * kept as {@link Reference} objects: the References of each source Node are stored as a row of
+ * (reference type, direction, target) handles in primitive arrays, in compressed sparse row form.
+ * {@link Reference} objects are created when References are requested.
+ *
+ * <p>Nodes can be added eagerly with {@link #addNode(Node)}, or declared with {@link
+ * #declareNode(NodeId)} and created by a {@link NodeMaterializer} the first time they are
+ * requested. Once created, a Node is kept, and the same instance is returned on every request,
+ * until it is released with {@link #releaseNode(NodeId)} or removed.
+ *
+ * <p>Adding and removing References after the rows have been compacted is supported, but each
+ * changed row is held in a less compact form until the next {@link #compact()}, which happens
+ * automatically once enough rows have changed or enough Nodes and References have been removed.
+ * Compacting also reclaims the handles of NodeIds no longer used by any Node or Reference.
+ *
+ * <p>The Nodes and References returned, and the order of References, are the same as with {@link
+ * AbstractNodeManager}.
+ *
+ * @param <T> the type of Node being managed.
+ */
+public class CompactNodeManager<T extends Node> implements NodeManager<T> {
+
+  /**
+   * Rows changed since the last compaction are compacted once there are more than this many, or
+   * more than 1/8 of the compacted rows, whichever is larger.
+   */
+  private static final int MIN_DIRTY_ROWS_BEFORE_COMPACT = 1024;
+
+  /** The slot value of a Node that has been declared but not yet materialized. */
+  private static final Object DECLARED = new Object();
+
+  /** Only used to convert index-based ExpandedNodeIds; it is never looked up. */
+  private static final NamespaceTable INDEX_ONLY_NAMESPACE_TABLE = new NamespaceTable();
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  private NodeId[] nodeIds = new NodeId[1024];
+  private int[] nodeIdTable = new int[2048];
+  private int nodeIdCount = 0;
+
+  /** Node, {@link #DECLARED}, or {@code null}, indexed by NodeId handle. */
+  private Object[] nodes = new Object[1024];
+
+  private int nodeCount = 0;
+
+  /** Handles reclaimed from NodeIds that are no longer used, to be reused by {@link #intern}. */
+  private int[] freeHandles = new int[16];
+
+  private int freeHandleCount = 0;
+
+  /** Nodes and References removed since the last compaction, possibly leaving unused handles. */
+  private int removalsSinceCompact = 0;
+
+  /**
+   * Targets that can't be represented by a local NodeId handle, referred to by {@code -(index +
+   * 1)}.
+   */
+  private final List<ExpandedNodeId> expandedTargets = new ArrayList<>();
+
+  private final Map<ExpandedNodeId, Integer> expandedTargetIndices = new HashMap<>();
+
+  private int compactedRowCount = 0;
+  private int[] rowOffsets = new int[] {0};
+  private int[] edgeKeys = new int[0];
+  private int[] edgeTargets = new int[0];
+
+  /** Rows changed since the last compaction; they supersede the compacted rows. */
+  private final Map<Integer, EdgeRow> dirtyRows = new HashMap<>();
+
+  private final List<ChangeListener> changeListeners = new CopyOnWriteArrayList<>();
+
+  /** Changes made while locked for writing, reported to listeners once unlocked. */
+  private final List<Change> pendingChanges = new ArrayList<>();
+
+  private final NodeMaterializer<T> materializer;
+
+  /** Create a {@link CompactNodeManager} whose Nodes are all added with {@link #addNode(Node)}. */
+  public CompactNodeManager() {
+    this(nodeId -> null);
+  }
+
+  /**
+   * Create a {@link CompactNodeManager} that creates Nodes declared with {@link
+   * #declareNode(NodeId)} using {@code materializer}.
+   *
+   * @param materializer the {@link NodeMaterializer} that creates declared Nodes.
+   */
+  public CompactNodeManager(NodeMaterializer<T> materializer) {
+    this.materializer = materializer;
+  }
+
+  /**
+   * Declare that the Node identified by {@code nodeId} exists without creating it.
+   *
+   * <p>The Node is created by this manager's {@link NodeMaterializer} the first time it is
+   * requested. Declaring a Node that was already added or declared has no effect.
+   *
+   * @param nodeId the {@link NodeId} of the Node to declare.
+   */
+  public void declareNode(NodeId nodeId) {
+    declareNodes(List.of(nodeId));
+  }
+
+  /**
+   * Declare that the Nodes identified by {@code nodeIds} exist without creating them.
+   *
+   * @param nodeIds the {@link NodeId}s of the Nodes to declare.
+   * @see #declareNode(NodeId)
+   */
+  public void declareNodes(Collection<NodeId> nodeIds) {
+    lock.writeLock().lock();
+    try {
+      for (NodeId nodeId : nodeIds) {
+        int handle = intern(nodeId);
+
+        if (nodes[handle] == null) {
+          nodes[handle] = DECLARED;
+          nodeCount++;
+          nodeChanged(nodeId);
+        }
+      }
+    } finally {
+      unlockWrite();
+    }
+  }
+
+  /**
+   * Release the materialized Node identified by {@code nodeId}, so that it is created again by this
+   * manager's {@link NodeMaterializer} the next time it is requested.
+   *
+   * <p>Only release Nodes the {@link NodeMaterializer} can recreate in the same state.
+   *
+   * @param nodeId the {@link NodeId} of the Node to release.
+   * @return {@code true} if a materialized Node was released.
+   */
+  public boolean releaseNode(NodeId nodeId) {
+    lock.writeLock().lock();
+    try {
+      int handle = lookup(nodeId);
+
+      if (handle >= 0 && nodes[handle] != null && nodes[handle] != DECLARED) {
+        nodes[handle] = DECLARED;
+        return true;
+      } else {
+        return false;
+      }
+    } finally {
+      unlockWrite();
+    }
+  }
+
+  /**
+   * Get the number of Nodes being managed, whether they have been materialized or not.
+   *
+   * @return the number of Nodes being managed.
+   */
+  public int getNodeCount() {
+    lock.readLock().lock();
+    try {
+      return nodeCount;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Get a List of the {@link NodeId}s being managed, whether their Nodes have been materialized or
+   * not.
+   *
+   * @return a List of the {@link NodeId}s being managed.
+   */
+  public List<NodeId> getNodeIds() {
+    lock.readLock().lock();
+    try {
+      var ids = new ArrayList<NodeId>(nodeCount);
+
+      for (int handle = 0; handle < nodeIdCount; handle++) {
+        if (nodes[handle] != null) {
+          ids.add(nodeIds[handle]);
+        }
+      }
+
+      return ids;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * @return the number of NodeIds currently interned, i.e. holding a handle.
+   */
+  int getInternedCount() {
+    lock.readLock().lock();
+    try {
+      return nodeIdCount - freeHandleCount;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /** Rewrite all References into compressed rows. */
+  public void compact() {
+    lock.writeLock().lock();
+    try {
+      compactRows();
+    } finally {
+      unlockWrite();
+    }
+  }
+
+  @Override
+  public boolean containsNode(NodeId nodeId) {
+    lock.readLock().lock();
+    try {
+      int handle = lookup(nodeId);
+
+      return handle >= 0 && nodes[handle] != null;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public boolean containsNode(ExpandedNodeId nodeId, NamespaceTable namespaceTable) {
+    return nodeId.toNodeId(namespaceTable).map(this::containsNode).orElse(false);
+  }
+
+  @Override
+  public Optional<T> addNode(T node) {
+    lock.writeLock().lock();
+    try {
+      return Optional.ofNullable(putNode(node));
+    } finally {
+      unlockWrite();
+    }
+  }
+
+  @Override
+  public void addNodes(Collection<? extends T> nodes) {
+    lock.writeLock().lock();
+    try {
+      for (T node : nodes) {
+        putNode(node);
+      }
+    } finally {
+      unlockWrite();
+    }
+  }
+
+  @Override
+  public Optional<T> getNode(NodeId nodeId) {
+    int handle;
+
+    lock.readLock().lock();
+    try {
+      handle = lookup(nodeId);
+
+      if (handle < 0 || nodes[handle] == null) {
+        return Optional.empty();
+      } else if (nodes[handle] != DECLARED) {
+        return Optional.of(node(handle));
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+
+    return Optional.ofNullable(materialize(nodeId));
+  }
+
+  @Override
+  public Optional<T> getNode(ExpandedNodeId nodeId, NamespaceTable namespaceTable) {
+    return nodeId.toNodeId(namespaceTable).flatMap(this::getNode);
+  }
+
+  @Override
+  public Optional<T> removeNode(NodeId nodeId) {
+    Optional<T> node = getNode(nodeId);
+
+    lock.writeLock().lock();
+    try {
+      int handle = lookup(nodeId);
+
+      if (handle >= 0 && nodes[handle] != null) {
+        Object removed = nodes[handle];
+        nodes[handle] = null;
+        nodeCount--;
+        removalsSinceCompact++;
+        nodeChanged(nodeId);
+        compactIfNeeded();
+
+        return removed != DECLARED ? Optional.of(node(removed)) : node;
+      } else {
+        return Optional.empty();
+      }
+    } finally {
+      unlockWrite();
+    }
+  }
+
+  @Override
+  public Optional<T> removeNode(ExpandedNodeId nodeId, NamespaceTable namespaceTable) {
+    return nodeId.toNodeId(namespaceTable).flatMap(this::removeNode);
+  }
+
+  @Override
+  public void addReference(Reference reference) {
+    lock.writeLock().lock();
+    try {
+      putReference(reference);
+      compactIfNeeded();
+    } finally {
+      unlockWrite();
+    }
+  }
+
+  @Override
+  public void addReferences(Reference reference, NamespaceTable namespaceTable) {
+    lock.writeLock().lock();
+    try {
+      putReference(reference);
+      reference.invert(namespaceTable).ifPresent(this::putReference);
+      compactIfNeeded();
+    } finally {
+      unlockWrite();
+    }
+  }
+
+  @Override
+  public void addReferences(Collection<Reference> references, NamespaceTable namespaceTable) {
+    lock.writeLock().lock();
+    try {
+      for (Reference reference : references) {
+        putReference(reference);
+        reference.invert(namespaceTable).ifPresent(this::putReference);
+      }
+      compactIfNeeded();
+    } finally {
+      unlockWrite();
+    }
+  }
+
+  @Override
+  public void removeReference(Reference reference) {
+    lock.writeLock().lock();
+    try {
+      deleteReference(reference);
+      compactIfNeeded();
+    } finally {
+      unlockWrite();
+    }
+  }
+
+  @Override
+  public void removeReferences(Reference reference, NamespaceTable namespaceTable) {
+    lock.writeLock().lock();
+    try {
+      deleteReference(reference);
+      reference.invert(namespaceTable).ifPresent(this::deleteReference);
+      compactIfNeeded();
+    } finally {
+      unlockWrite();
+    }
+  }
+
+  @Override
+  public List<Reference> getReferences(NodeId nodeId) {
+    return getReferences(nodeId, reference -> true);
+  }
+
+  @Override
+  public List<Reference> getReferences(NodeId nodeId, Predicate<Reference> filter) {
+    lock.readLock().lock();
+    try {
+      int source = lookup(nodeId);
+
+      if (source < 0) {
+        return Collections.emptyList();
+      }
+
+      var references = new ArrayList<Reference>();
+
+      forEachEdge(
+          source,
+          (key, target) -> {
+            Reference reference = reference(source, key, target);
+
+            if (filter.test(reference)) {
+              references.add(reference);
+            }
+          });
+
+      return references;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Only matching References are created.
+   */
+  @Override
+  public List<Reference> getReferences(
+      NodeId nodeId, NodeId referenceTypeId, Reference.Direction direction) {
+
+    lock.readLock().lock();
+    try {
+      int source = lookup(nodeId);
+      int referenceType = lookup(referenceTypeId);
+
+      if (source < 0 || referenceType < 0) {
+        return Collections.emptyList();
+      }
+
+      int wanted = edgeKey(referenceType, direction);
+
+      var references = new ArrayList<Reference>();
+
+      forEachEdge(
+          source,
+          (key, target) -> {
+            if (key == wanted) {
+              references.add(reference(source, key, target));
+            }
+          });
+
+      return references;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Listeners are notified on the thread that made the change, after this manager has been
+   * unlocked, so they may call back into it. Materializing or releasing a declared Node is not a
+   * change.
+   */
+  @Override
+  public boolean addChangeListener(ChangeListener listener) {
+    changeListeners.add(listener);
+    return true;
+  }
+
+  @Override
+  public void removeChangeListener(ChangeListener listener) {
+    changeListeners.remove(listener);
+  }
+
+  /** Release the write lock, then notify listeners of the changes made while it was held. */
+  private void unlockWrite() {
+    List<Change> changes = List.of();
+
+    if (!pendingChanges.isEmpty()) {
+      changes = List.copyOf(pendingChanges);
+      pendingChanges.clear();
+    }
+
+    lock.writeLock().unlock();
+
+    for (Change change : changes) {
+      for (ChangeListener listener : changeListeners) {
+        if (change.references()) {
+          listener.onReferencesChanged(change.nodeId());
+        } else {
+          listener.onNodeChanged(change.nodeId());
+        }
+      }
+    }
+  }
+
+  private void nodeChanged(NodeId nodeId) {
+    if (!changeListeners.isEmpty()) {
+      pendingChanges.add(new Change(nodeId, false));
+    }
+  }
+
+  private void referencesChanged(NodeId sourceNodeId) {
+    if (!changeListeners.isEmpty()) {
+      pendingChanges.add(new Change(sourceNodeId, true));
+    }
+  }
+
+  private @Nullable T materialize(NodeId nodeId) {
+    T node = materializer.materialize(nodeId);
+
+    lock.writeLock().lock();
+    try {
+      // The handle may have been reclaimed and reused if the Node was removed in the meantime.
+      int handle = lookup(nodeId);
+      Object current = handle >= 0 ? nodes[handle] : null;
+
+      if (current == DECLARED) {
+        if (node != null) {
+          nodes[handle] = node;
+        } else {
+          nodes[handle] = null;
+          nodeCount--;
+          removalsSinceCompact++;
+          nodeChanged(nodeId);
+        }
+        return node;
+      } else {
+        // Added, removed, or materialized by another thread in the meantime.
+        return current != null ? node(current) : null;
+      }
+    } finally {
+      unlockWrite();
+    }
+  }
+
+  private @Nullable T putNode(T node) {
+    int handle = intern(node.getNodeId());
+
+    Object previous = nodes[handle];
+    nodes[handle] = node;
+
+    nodeChanged(node.getNodeId());
+
+    if (previous == null) {
+      nodeCount++;
+      return null;
+    } else {
+      return previous != DECLARED ? node(previous) : null;
+    }
+  }
+
+  private void putReference(Reference reference) {
+    int source = intern(reference.getSourceNodeId());
+    int key = edgeKey(intern(reference.getReferenceTypeId()), reference.getDirection());
+    int target = internTarget(reference.getTargetNodeId());
+
+    mutableRow(source).add(key, target);
+
+    referencesChanged(reference.getSourceNodeId());
+  }
+
+  private void deleteReference(Reference reference) {
+    int source = lookup(reference.getSourceNodeId());
+    int referenceType = lookup(reference.getReferenceTypeId());
+    int target = lookupTarget(reference.getTargetNodeId());
+
+    if (source < 0 || referenceType < 0 || target == Integer.MIN_VALUE) {
+      return;
+    }
+
+    int key = edgeKey(referenceType, reference.getDirection());
+
+    if (rowContains(source, key, target)) {
+      mutableRow(source).remove(key, target);
+      removalsSinceCompact++;
+
+      referencesChanged(reference.getSourceNodeId());
+    }
+  }
+
+  private boolean rowContains(int source, int key, int target) {
+    EdgeRow row = dirtyRows.get(source);
+
+    if (row != null) {
+      return row.lastIndexOf(key, target) >= 0;
+    } else if (source < compactedRowCount) {
+      for (int i = rowOffsets[source]; i < rowOffsets[source + 1]; i++) {
+        if (edgeKeys[i] == key && edgeTargets[i] == target) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  private EdgeRow mutableRow(int source) {
+    EdgeRow row = dirtyRows.get(source);
+
+    if (row == null) {
+      row = new EdgeRow();
+
+      if (source < compactedRowCount) {
+        int from = rowOffsets[source];
+        int to = rowOffsets[source + 1];
+
+        row.keys = Arrays.copyOfRange(edgeKeys, from, Math.max(to, from + 4));
+        row.targets = Arrays.copyOfRange(edgeTargets, from, Math.max(to, from + 4));
+        row.size = to - from;
+      }
+
+      dirtyRows.put(source, row);
+    }
+
+    return row;
+  }
+
+  private void forEachEdge(int source, EdgeConsumer consumer) {
+    EdgeRow row = dirtyRows.get(source);
+
+    if (row != null) {
+      for (int i = 0; i < row.size; i++) {
+        consumer.accept(row.keys[i], row.targets[i]);
+      }
+    } else if (source < compactedRowCount) {
+      for (int i = rowOffsets[source]; i < rowOffsets[source + 1]; i++) {
+        consumer.accept(edgeKeys[i], edgeTargets[i]);
+      }
+    }
+  }
+
+  private Reference reference(int source, int key, int target) {
+    return new Reference(
+        nodeIds[source],
+        nodeIds[key >>> 1],
+        target >= 0 ? nodeIds[target].expanded() : expandedTargets.get(-(target + 1)),
+        (key & 1) == 0 ? Reference.Direction.FORWARD : Reference.Direction.INVERSE);
+  }
+
+  private void compactIfNeeded() {
+    int changes = dirtyRows.size() + removalsSinceCompact;
+
+    if (changes > Math.max(MIN_DIRTY_ROWS_BEFORE_COMPACT, compactedRowCount / 8)) {
+      compactRows();
+    }
+  }
+
+  private void compactRows() {
+    int rowCount = nodeIdCount;
+    var offsets = new int[rowCount + 1];
+
+    for (int source = 0; source < rowCount; source++) {
+      EdgeRow row = dirtyRows.get(source);
+
+      int length;
+      if (row != null) {
+        length = row.size;
+      } else if (source < compactedRowCount) {
+        length = rowOffsets[source + 1] - rowOffsets[source];
+      } else {
+        length = 0;
+      }
+
+      offsets[source + 1] = offsets[source] + length;
+    }
+
+    var keys = new int[offsets[rowCount]];
+    var targets = new int[offsets[rowCount]];
+
+    for (int source = 0; source < rowCount; source++) {
+      EdgeRow row = dirtyRows.get(source);
+
+      if (row != null) {
+        System.arraycopy(row.keys, 0, keys, offsets[source], row.size);
+        System.arraycopy(row.targets, 0, targets, offsets[source], row.size);
+      } else if (source < compactedRowCount) {
+        int from = rowOffsets[source];
+        int length = rowOffsets[source + 1] - from;
+
+        System.arraycopy(edgeKeys, from, keys, offsets[source], length);
+        System.arraycopy(edgeTargets, from, targets, offsets[source], length);
+      }
+    }
+
+    compactedRowCount = rowCount;
+    rowOffsets = offsets;
+    edgeKeys = keys;
+    edgeTargets = targets;
+    dirtyRows.clear();
+
+    if (removalsSinceCompact > 0) {
+      reclaimHandles();
+      removalsSinceCompact = 0;
+    }
+  }
+
+  /**
+   * Reclaim the handles of NodeIds that are not a Node, and not the source, reference type, or
+   * target of any Reference. Only called right after compaction, when there are no dirty rows.
+   */
+  private void reclaimHandles() {
+    var used = new boolean[nodeIdCount];
+
+    for (int handle = 0; handle < nodeIdCount; handle++) {
+      used[handle] = nodes[handle] != null || rowOffsets[handle + 1] > rowOffsets[handle];
+    }
+
+    for (int i = 0; i < edgeKeys.length; i++) {
+      used[edgeKeys[i] >>> 1] = true;
+
+      if (edgeTargets[i] >= 0) {
+        used[edgeTargets[i]] = true;
+      }
+    }
+
+    int reclaimed = 0;
+
+    for (int handle = 0; handle < nodeIdCount; handle++) {
+      if (!used[handle] && nodeIds[handle] != null) {
+        nodeIds[handle] = null;
+
+        if (freeHandleCount == freeHandles.length) {
+          freeHandles = Arrays.copyOf(freeHandles, freeHandleCount * 2);
+        }
+        freeHandles[freeHandleCount++] = handle;
+        reclaimed++;
+      }
+    }
+
+    if (reclaimed > 0) {
+      rehash(nodeIdTable.length);
+    }
+  }
+
+  /**
+   * @return the handle of {@code nodeId}, or -1 if it has not been interned.
+   */
+  private int lookup(NodeId nodeId) {
+    int mask = nodeIdTable.length - 1;
+
+    for (int i = spread(nodeId.hashCode()) & mask; ; i = (i + 1) & mask) {
+      int entry = nodeIdTable[i];
+
+      if (entry == 0) {
+        return -1;
+      } else if (nodeIds[entry - 1].equals(nodeId)) {
+        return entry - 1;
+      }
+    }
+  }
+
+  /**
+   * @return the handle of {@code nodeId}, interning it if necessary.
+   */
+  private int intern(NodeId nodeId) {
+    int handle = lookup(nodeId);
+
+    if (handle >= 0) {
+      return handle;
+    }
+
+    if (freeHandleCount > 0) {
+      handle = freeHandles[--freeHandleCount];
+      nodeIds[handle] = nodeId;
+      insert(nodeIdTable, handle);
+
+      return handle;
+    }
+
+    if (nodeIdCount == nodeIds.length) {
+      nodeIds = Arrays.copyOf(nodeIds, nodeIds.length * 2);
+      nodes = Arrays.copyOf(nodes, nodes.length * 2);
+    }
+
+    handle = nodeIdCount++;
+    nodeIds[handle] = nodeId;
+
+    if (nodeIdCount * 2 > nodeIdTable.length) {
+      rehash(nodeIdTable.length * 2);
+    } else {
+      insert(nodeIdTable, handle);
+    }
+
+    return handle;
+  }
+
+  private void rehash(int capacity) {
+    var table = new int[capacity];
+
+    for (int handle = 0; handle < nodeIdCount; handle++) {
+      if (nodeIds[handle] != null) {
+        insert(table, handle);
+      }
+    }
+
+    nodeIdTable = table;
+  }
+
+  private void insert(int[] table, int handle) {
+    int mask = table.length - 1;
+    int i = spread(nodeIds[handle].hashCode()) & mask;
+
+    while (table[i] != 0) {
+      i = (i + 1) & mask;
+    }
+
+    table[i] = handle + 1;
+  }
+
+  /**
+   * @return a NodeId handle for local targets, {@code -(index + 1)} into {@link #expandedTargets}
+   *     otherwise.
+   */
+  private int internTarget(ExpandedNodeId targetNodeId) {
+    NodeId nodeId = localNodeId(targetNodeId);
+
+    if (nodeId != null) {
+      return intern(nodeId);
+    }
+
+    Integer index = expandedTargetIndices.get(targetNodeId);
+
+    if (index == null) {
+      index = expandedTargets.size();
+      expandedTargets.add(targetNodeId);
+      expandedTargetIndices.put(targetNodeId, index);
+    }
+
+    return -(index + 1);
+  }
+
+  /**
+   * @return the target handle of {@code targetNodeId}, or {@link Integer#MIN_VALUE} if it has not
+   *     been interned.
+   */
+  private int lookupTarget(ExpandedNodeId targetNodeId) {
+    NodeId nodeId = localNodeId(targetNodeId);
+
+    if (nodeId != null) {
+      int handle = lookup(nodeId);
+
+      return handle >= 0 ? handle : Integer.MIN_VALUE;
+    }
+
+    Integer index = expandedTargetIndices.get(targetNodeId);
+
+    return index != null ? -(index + 1) : Integer.MIN_VALUE;
+  }
+
+  /**
+   * @return the {@link NodeId} that expands back to exactly {@code targetNodeId}, or {@code null}
+   *     if there is none, e.g. because it is in another server or has a namespace URI.
+   */
+  private static @Nullable NodeId localNodeId(ExpandedNodeId targetNodeId) {
+    if (targetNodeId.isLocal() && targetNodeId.getNamespaceIndex() != null) {
+      NodeId nodeId = targetNodeId.toNodeId(INDEX_ONLY_NAMESPACE_TABLE).orElse(null);
+
+      if (nodeId != null && nodeId.expanded().equals(targetNodeId)) {
+        return nodeId;
+      }
+    }
+    return null;
+  }
+
+  @SuppressWarnings("unchecked")
+  private T node(int handle) {
+    return (T) nodes[handle];
+  }
+
+  @SuppressWarnings("unchecked")
+  private T node(Object slot) {
+    return (T) slot;
+  }
+
+  private static int edgeKey(int referenceType, Reference.Direction direction) {
+    return referenceType << 1 | (direction == Reference.Direction.FORWARD ? 0 : 1);
+  }
+
+  private static int spread(int h) {
+    h *= 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+
+  /** Creates the Nodes declared with {@link #declareNode(NodeId)}. */
+  @FunctionalInterface
+  public interface NodeMaterializer<T extends Node> {
+
+    /**
+     * Create the Node identified by {@code nodeId}.
+     *
+     * <p>May be called concurrently, and more than once for the same Node if it is requested
+     * concurrently; only one of the Nodes created is kept.
+     *
+     * @param nodeId the {@link NodeId} of a declared Node.
+     * @return the Node, or {@code null} if it does not exist after all.
+     */
+    @Nullable T materialize(NodeId nodeId);
+  }
+
+  private record Change(NodeId nodeId, boolean references) {}
+
+  private interface EdgeConsumer {
+    void accept(int key, int target);
+  }
+
+  /** A row changed since the last compaction. */
+  private static class EdgeRow {
+
+    int[] keys = new int[4];
+    int[] targets = new int[4];
+    int size = 0;
+
+    /** Add an edge, placing duplicates next to each other like {@code LinkedHashMultiset} does. */
+    void add(int key, int target) {
+      if (size == keys.length) {
+        keys = Arrays.copyOf(keys, size * 2);
+        targets = Arrays.copyOf(targets, size * 2);
+      }
+
+      int last = lastIndexOf(key, target);
+      int index = last >= 0 ? last + 1 : size;
+
+      System.arraycopy(keys, index, keys, index + 1, size - index);
+      System.arraycopy(targets, index, targets, index + 1, size - index);
+      keys[index] = key;
+      targets[index] = target;
+      size++;
+    }
+
+    void remove(int key, int target) {
+      int index = lastIndexOf(key, target);
+
+      if (index >= 0) {
+        System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+        System.arraycopy(targets, index + 1, targets, index, size - index - 1);
+        size--;
+      }
+    }
+
+    int lastIndexOf(int key, int target) {
+      for (int i = size - 1; i >= 0; i--) {
+        if (keys[i] == key && targets[i] == target) {
+          return i;
+        }
+      }
+      return -1;
+    }
+  }
+}
@@ -92,4 +92,10 @@ public class EmptyNodeManager<T extends Node> implements NodeManager<T> {
   public List<Reference> getReferences(NodeId nodeId, Predicate<Reference> filter) {
     return Collections.emptyList();
   }
+
+  @Override
+  public boolean addChangeListener(ChangeListener listener) {
+    // Nothing ever changes.
+    return true;
+  }
 }
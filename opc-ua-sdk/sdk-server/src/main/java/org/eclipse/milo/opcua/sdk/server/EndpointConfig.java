@@ -257,9 +257,6 @@ public class EndpointConfig {
 
       switch (transportProfile) {
         case HTTPS_UAXML:
-        case HTTPS_UAJSON:
-        case WSS_UASC_UABINARY:
-        case WSS_UAJSON:
           throw new IllegalArgumentException("unsupported transport: " + transportProfile);
 
         default:
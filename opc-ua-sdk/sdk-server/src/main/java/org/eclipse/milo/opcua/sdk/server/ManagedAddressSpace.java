@@ -12,9 +12,16 @@ package org.eclipse.milo.opcua.sdk.server;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.Semaphore;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 import org.eclipse.milo.opcua.sdk.core.Reference;
+import org.eclipse.milo.opcua.sdk.core.typetree.ReferenceTypeTree;
 import org.eclipse.milo.opcua.sdk.server.methods.MethodInvocationHandler;
+import org.eclipse.milo.opcua.sdk.server.methods.MethodInvocationLimiter;
 import org.eclipse.milo.opcua.sdk.server.nodes.UaMethodNode;
 import org.eclipse.milo.opcua.sdk.server.nodes.UaNode;
 import org.eclipse.milo.opcua.sdk.server.nodes.UaNodeContext;
@@ -47,13 +54,13 @@ public abstract class ManagedAddressSpace implements AddressSpace {
   private final NodeFactory nodeFactory;
 
   private final OpcUaServer server;
-  private final UaNodeManager nodeManager;
+  private final NodeManager<UaNode> nodeManager;
 
   public ManagedAddressSpace(OpcUaServer server) {
     this(server, new UaNodeManager());
   }
 
-  public ManagedAddressSpace(OpcUaServer server, UaNodeManager nodeManager) {
+  public ManagedAddressSpace(OpcUaServer server, NodeManager<UaNode> nodeManager) {
     this.server = server;
 
     this.nodeManager = nodeManager;
@@ -90,7 +97,7 @@ public abstract class ManagedAddressSpace implements AddressSpace {
     return nodeFactory;
   }
 
-  public UaNodeManager getNodeManager() {
+  public NodeManager<UaNode> getNodeManager() {
     return nodeManager;
   }
 
@@ -124,6 +131,50 @@ public abstract class ManagedAddressSpace implements AddressSpace {
     return ReferenceResult.of(references);
   }
 
+  @Override
+  public List<ReferenceResult> browse(
+      BrowseContext context,
+      ViewDescription view,
+      List<NodeId> nodeIds,
+      List<ReferenceFilter> filters) {
+
+    ReferenceTypeTree referenceTypeTree = context.getServer().getReferenceTypeTree();
+
+    var results = new ArrayList<ReferenceResult>(nodeIds.size());
+
+    for (int i = 0; i < nodeIds.size(); i++) {
+      NodeId nodeId = nodeIds.get(i);
+
+      if (nodeManager.containsNode(nodeId)) {
+        List<Reference> references =
+            filters.get(i).getReferences(nodeManager, nodeId, referenceTypeTree);
+
+        logger.debug("Browsed {} references for {}", references.size(), nodeId);
+
+        results.add(ReferenceResult.of(references));
+      } else {
+        results.add(ReferenceResult.unknown());
+      }
+    }
+
+    return results;
+  }
+
+  @Override
+  public ReferenceResult.ReferenceList gather(
+      BrowseContext context,
+      ViewDescription viewDescription,
+      NodeId nodeId,
+      ReferenceFilter filter) {
+
+    List<Reference> references =
+        filter.getReferences(nodeManager, nodeId, context.getServer().getReferenceTypeTree());
+
+    logger.debug("Gathered {} references for {}", references.size(), nodeId);
+
+    return ReferenceResult.of(references);
+  }
+
   @Override
   public List<DataValue> read(
       ReadContext context,
@@ -197,55 +248,97 @@ public abstract class ManagedAddressSpace implements AddressSpace {
   /**
    * Invoke one or more methods belonging to this {@link AddressSpace}.
    *
+   * <p>The methods are invoked one after another on the calling thread, and this blocks until every
+   * invocation has completed, including any waiting for a turn under the Session's {@link
+   * Session#getCallLimiter()}. Those turns are handed out on the server's executor, so don't call
+   * this from an executor thread; use {@link #callAsync(CallContext, List)} there instead.
+   *
    * @param context the {@link CallContext}.
    * @param requests The {@link CallMethodRequest}s for the methods to invoke.
    */
   @Override
   public List<CallMethodResult> call(CallContext context, List<CallMethodRequest> requests) {
-    var results = new ArrayList<CallMethodResult>(requests.size());
-
-    Semaphore semaphore = context.getSession().map(Session::getCallSemaphore).orElse(null);
-
-    for (CallMethodRequest request : requests) {
-      if (semaphore == null || semaphore.tryAcquire()) {
-        try {
-          MethodInvocationHandler handler =
-              getInvocationHandler(request.getObjectId(), request.getMethodId());
-
-          results.add(handler.invoke(context, request));
-        } catch (UaException e) {
-          results.add(
-              new CallMethodResult(
-                  e.getStatusCode(), new StatusCode[0], new DiagnosticInfo[0], new Variant[0]));
-        } catch (Throwable t) {
-          LoggerFactory.getLogger(getClass())
-              .error(
-                  "Uncaught Throwable invoking method handler for methodId={}.",
-                  request.getMethodId(),
-                  t);
-
-          results.add(
-              new CallMethodResult(
-                  new StatusCode(StatusCodes.Bad_InternalError),
-                  new StatusCode[0],
-                  new DiagnosticInfo[0],
-                  new Variant[0]));
-        } finally {
-          if (semaphore != null) {
-            semaphore.release();
-          }
-        }
-      } else {
-        results.add(
-            new CallMethodResult(
-                new StatusCode(StatusCodes.Bad_ResourceUnavailable),
-                new StatusCode[0],
-                new DiagnosticInfo[0],
-                new Variant[0]));
-      }
+    return callAsync(context, requests, Runnable::run).join();
+  }
+
+  /**
+   * Invoke one or more methods belonging to this {@link AddressSpace}.
+   *
+   * <p>When more than one method is requested, each is invoked concurrently on the server's
+   * executor. The number running at once for a Session is limited by its {@link
+   * Session#getCallLimiter()}; invocations beyond the limit wait for their turn rather than being
+   * rejected.
+   *
+   * @param context the {@link CallContext}.
+   * @param requests The {@link CallMethodRequest}s for the methods to invoke.
+   */
+  @Override
+  public CompletableFuture<List<CallMethodResult>> callAsync(
+      CallContext context, List<CallMethodRequest> requests) {
+
+    Executor executor = requests.size() > 1 ? server.getExecutorService() : Runnable::run;
+
+    return callAsync(context, requests, executor);
+  }
+
+  private CompletableFuture<List<CallMethodResult>> callAsync(
+      CallContext context, List<CallMethodRequest> requests, Executor executor) {
+
+    MethodInvocationLimiter limiter =
+        context.getSession().map(Session::getCallLimiter).orElse(null);
+
+    @SuppressWarnings("unchecked")
+    CompletableFuture<CallMethodResult>[] futures = new CompletableFuture[requests.size()];
+
+    for (int i = 0; i < requests.size(); i++) {
+      CallMethodRequest request = requests.get(i);
+
+      Supplier<CompletableFuture<CallMethodResult>> invocation =
+          () ->
+              CompletableFuture.supplyAsync(() -> invoke(context, request), executor)
+                  .thenCompose(Function.identity());
+
+      CompletableFuture<CallMethodResult> future =
+          limiter != null ? limiter.submit(invocation) : invocation.get();
+
+      futures[i] =
+          future.exceptionally(
+              ex -> {
+                Throwable cause = ex instanceof CompletionException ? ex.getCause() : ex;
+
+                if (cause instanceof UaException e) {
+                  return new CallMethodResult(
+                      e.getStatusCode(), new StatusCode[0], new DiagnosticInfo[0], new Variant[0]);
+                } else {
+                  logger.error(
+                      "Uncaught Throwable invoking method handler for methodId={}.",
+                      request.getMethodId(),
+                      cause);
+
+                  return new CallMethodResult(
+                      new StatusCode(StatusCodes.Bad_InternalError),
+                      new StatusCode[0],
+                      new DiagnosticInfo[0],
+                      new Variant[0]);
+                }
+              });
     }
 
-    return results;
+    return CompletableFuture.allOf(futures)
+        .thenApply(v -> Stream.of(futures).map(CompletableFuture::join).toList());
+  }
+
+  private CompletableFuture<CallMethodResult> invoke(
+      CallContext context, CallMethodRequest request) {
+
+    try {
+      MethodInvocationHandler handler =
+          getInvocationHandler(request.getObjectId(), request.getMethodId());
+
+      return handler.invokeAsync(context, request).toCompletableFuture();
+    } catch (Throwable t) {
+      return CompletableFuture.failedFuture(t);
+    }
   }
 
   /**
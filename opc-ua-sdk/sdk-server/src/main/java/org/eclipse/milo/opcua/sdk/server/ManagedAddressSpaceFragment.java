@@ -10,6 +10,8 @@
 
 package org.eclipse.milo.opcua.sdk.server;
 
+import org.eclipse.milo.opcua.sdk.server.nodes.UaNode;
+
 public abstract class ManagedAddressSpaceFragment extends ManagedAddressSpace
     implements AddressSpaceFragment {
 
@@ -17,7 +19,7 @@ public abstract class ManagedAddressSpaceFragment extends ManagedAddressSpace
     super(server);
   }
 
-  public ManagedAddressSpaceFragment(OpcUaServer server, UaNodeManager nodeManager) {
+  public ManagedAddressSpaceFragment(OpcUaServer server, NodeManager<UaNode> nodeManager) {
     super(server, nodeManager);
   }
 }
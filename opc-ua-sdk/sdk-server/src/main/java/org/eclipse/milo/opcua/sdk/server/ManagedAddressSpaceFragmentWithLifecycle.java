@@ -10,11 +10,13 @@
 
 package org.eclipse.milo.opcua.sdk.server;
 
+import org.eclipse.milo.opcua.sdk.server.nodes.UaNode;
+
 /**
  * A {@link ManagedAddressSpace} fragment that has a {@link Lifecycle} associated with it.
  *
- * <p>This fragment will be registered with the provided composite and its {@link UaNodeManager}
- * will be registered with the server on startup and unregistered on shutdown.
+ * <p>This fragment will be registered with the provided composite and its {@link NodeManager} will
+ * be registered with the server on startup and unregistered on shutdown.
  *
  * <p>Subclasses can register additional startup/shutdown tasks with the {@link LifecycleManager}
  * obtained from {@link #getLifecycleManager()}.
@@ -68,9 +70,10 @@ public abstract class ManagedAddressSpaceFragmentWithLifecycle extends ManagedAd
    * Create a managed fragment using the server's {@link AddressSpaceManager} as the composite.
    *
    * @param server the {@link OpcUaServer} instance.
-   * @param nodeManager the {@link UaNodeManager} to manage nodes with.
+   * @param nodeManager the {@link NodeManager} to manage nodes with.
    */
-  public ManagedAddressSpaceFragmentWithLifecycle(OpcUaServer server, UaNodeManager nodeManager) {
+  public ManagedAddressSpaceFragmentWithLifecycle(
+      OpcUaServer server, NodeManager<UaNode> nodeManager) {
     this(server, nodeManager, server.getAddressSpaceManager());
   }
 
@@ -78,11 +81,11 @@ public abstract class ManagedAddressSpaceFragmentWithLifecycle extends ManagedAd
    * Create a managed fragment using {@code composite}.
    *
    * @param server the {@link OpcUaServer} instance.
-   * @param nodeManager the {@link UaNodeManager} to manage nodes with.
+   * @param nodeManager the {@link NodeManager} to manage nodes with.
    * @param composite the {@link AddressSpaceComposite} this fragment is part of.
    */
   public ManagedAddressSpaceFragmentWithLifecycle(
-      OpcUaServer server, UaNodeManager nodeManager, AddressSpaceComposite composite) {
+      OpcUaServer server, NodeManager<UaNode> nodeManager, AddressSpaceComposite composite) {
 
     super(server, nodeManager);
 
@@ -147,24 +150,24 @@ public abstract class ManagedAddressSpaceFragmentWithLifecycle extends ManagedAd
   }
 
   /**
-   * Register this AddressSpace's {@link UaNodeManager} with its managing entity.
+   * Register this AddressSpace's {@link NodeManager} with its managing entity.
    *
    * <p>The default implementation registers it with the server's {@link AddressSpaceManager}.
    *
-   * @param nodeManager the {@link UaNodeManager} to register.
+   * @param nodeManager the {@link NodeManager} to register.
    */
-  protected void registerNodeManager(UaNodeManager nodeManager) {
+  protected void registerNodeManager(NodeManager<UaNode> nodeManager) {
     getServer().getAddressSpaceManager().register(nodeManager);
   }
 
   /**
-   * Unregister this AddressSpace's {@link UaNodeManager} with its managing entity.
+   * Unregister this AddressSpace's {@link NodeManager} with its managing entity.
    *
    * <p>The default implementation unregisters it with the server's {@link AddressSpaceManager}.
    *
-   * @param nodeManager the {@link UaNodeManager} to unregister.
+   * @param nodeManager the {@link NodeManager} to unregister.
    */
-  protected void unregisterNodeManager(UaNodeManager nodeManager) {
+  protected void unregisterNodeManager(NodeManager<UaNode> nodeManager) {
     getServer().getAddressSpaceManager().unregister(nodeManager);
   }
 }
@@ -10,6 +10,8 @@
 
 package org.eclipse.milo.opcua.sdk.server;
 
+import org.eclipse.milo.opcua.sdk.server.nodes.UaNode;
+
 public abstract class ManagedAddressSpaceWithLifecycle extends ManagedAddressSpace
     implements Lifecycle {
 
@@ -33,7 +35,7 @@ public abstract class ManagedAddressSpaceWithLifecycle extends ManagedAddressSpa
             });
   }
 
-  public ManagedAddressSpaceWithLifecycle(OpcUaServer server, UaNodeManager nodeManager) {
+  public ManagedAddressSpaceWithLifecycle(OpcUaServer server, NodeManager<UaNode> nodeManager) {
     super(server, nodeManager);
 
     getLifecycleManager()
@@ -71,24 +73,24 @@ public abstract class ManagedAddressSpaceWithLifecycle extends ManagedAddressSpa
   }
 
   /**
-   * Register this AddressSpace's {@link UaNodeManager} with its managing entity.
+   * Register this AddressSpace's {@link NodeManager} with its managing entity.
    *
    * <p>The default implementation registers it with the server's {@link AddressSpaceManager}.
    *
-   * @param nodeManager the {@link UaNodeManager} to register.
+   * @param nodeManager the {@link NodeManager} to register.
    */
-  protected void registerNodeManager(UaNodeManager nodeManager) {
+  protected void registerNodeManager(NodeManager<UaNode> nodeManager) {
     getServer().getAddressSpaceManager().register(nodeManager);
   }
 
   /**
-   * Unregister this AddressSpace's {@link UaNodeManager} with its managing entity.
+   * Unregister this AddressSpace's {@link NodeManager} with its managing entity.
    *
    * <p>The default implementation unregisters it with the server's {@link AddressSpaceManager}.
    *
-   * @param nodeManager the {@link UaNodeManager} to unregister.
+   * @param nodeManager the {@link NodeManager} to unregister.
    */
-  protected void unregisterNodeManager(UaNodeManager nodeManager) {
+  protected void unregisterNodeManager(NodeManager<UaNode> nodeManager) {
     getServer().getAddressSpaceManager().unregister(nodeManager);
   }
 }
@@ -13,6 +13,7 @@ package org.eclipse.milo.opcua.sdk.server;
 import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
 
 import java.util.UUID;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaNode;
 import org.eclipse.milo.opcua.stack.core.NamespaceTable;
 import org.eclipse.milo.opcua.stack.core.types.builtin.ByteString;
 import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
@@ -38,7 +39,23 @@ public abstract class ManagedNamespace extends ManagedAddressSpaceFragment imple
    * @param namespaceUri the URI assigned to this namespace.
    */
   public ManagedNamespace(OpcUaServer server, String namespaceUri) {
-    super(server);
+    this(server, namespaceUri, new UaNodeManager());
+  }
+
+  /**
+   * Create a {@link ManagedNamespace} at {@code namespaceUri} whose Nodes are managed by {@code
+   * nodeManager}.
+   *
+   * @param server the {@link OpcUaServer}.
+   * @param namespaceUri the URI assigned to this namespace.
+   * @param nodeManager the {@link NodeManager} to manage Nodes with, e.g. a {@link
+   *     CompactNodeManager}.
+   * @see #ManagedNamespace(OpcUaServer, String)
+   */
+  public ManagedNamespace(
+      OpcUaServer server, String namespaceUri, NodeManager<UaNode> nodeManager) {
+
+    super(server, nodeManager);
 
     this.namespaceUri = namespaceUri;
     this.namespaceIndex = server.getNamespaceTable().add(namespaceUri);
@@ -10,12 +10,20 @@
 
 package org.eclipse.milo.opcua.sdk.server;
 
+import org.eclipse.milo.opcua.sdk.server.nodes.UaNode;
+
 public abstract class ManagedNamespaceWithLifecycle extends ManagedNamespace implements Lifecycle {
 
   private final LifecycleManager lifecycleManager = new LifecycleManager();
 
   public ManagedNamespaceWithLifecycle(OpcUaServer server, String namespaceUri) {
-    super(server, namespaceUri);
+    this(server, namespaceUri, new UaNodeManager());
+  }
+
+  public ManagedNamespaceWithLifecycle(
+      OpcUaServer server, String namespaceUri, NodeManager<UaNode> nodeManager) {
+
+    super(server, namespaceUri, nodeManager);
 
     getLifecycleManager()
         .addLifecycle(
@@ -82,24 +90,24 @@ public abstract class ManagedNamespaceWithLifecycle extends ManagedNamespace imp
   }
 
   /**
-   * Register this AddressSpace's {@link UaNodeManager} with its managing entity.
+   * Register this AddressSpace's {@link NodeManager} with its managing entity.
    *
    * <p>The default implementation registers it with the server's {@link AddressSpaceManager}.
    *
-   * @param nodeManager the {@link UaNodeManager} to register.
+   * @param nodeManager the {@link NodeManager} to register.
    */
-  protected void registerNodeManager(UaNodeManager nodeManager) {
+  protected void registerNodeManager(NodeManager<UaNode> nodeManager) {
     getServer().getAddressSpaceManager().register(nodeManager);
   }
 
   /**
-   * Unregister this AddressSpace's {@link UaNodeManager} with its managing entity.
+   * Unregister this AddressSpace's {@link NodeManager} with its managing entity.
    *
    * <p>The default implementation unregisters it with the server's {@link AddressSpaceManager}.
    *
-   * @param nodeManager the {@link UaNodeManager} to unregister.
+   * @param nodeManager the {@link NodeManager} to unregister.
    */
-  protected void unregisterNodeManager(UaNodeManager nodeManager) {
+  protected void unregisterNodeManager(NodeManager<UaNode> nodeManager) {
     getServer().getAddressSpaceManager().unregister(nodeManager);
   }
 }
@@ -10,6 +10,7 @@
 
 package org.eclipse.milo.opcua.sdk.server;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
@@ -51,6 +52,16 @@ public interface NodeManager<T extends Node> {
    */
   Optional<T> addNode(T node);
 
+  /**
+   * Add each of {@code nodes} to this {@link NodeManager}, replacing any previous Node identified
+   * by the same {@link NodeId}.
+   *
+   * @param nodes the {@link Node}s to add.
+   */
+  default void addNodes(Collection<? extends T> nodes) {
+    nodes.forEach(this::addNode);
+  }
+
   /**
    * Get the Node identified by {@code nodeId} from this {@link NodeManager}, if it exists.
    *
@@ -107,6 +118,16 @@ public interface NodeManager<T extends Node> {
    */
   void addReferences(Reference reference, NamespaceTable namespaceTable);
 
+  /**
+   * Add each of {@code references} and its inverse to this {@link NodeManager}.
+   *
+   * @param references the {@link Reference}s to add.
+   * @param namespaceTable the {@link NamespaceTable}.
+   */
+  default void addReferences(Collection<Reference> references, NamespaceTable namespaceTable) {
+    references.forEach(reference -> addReferences(reference, namespaceTable));
+  }
+
   /**
    * Remove {@code reference} from this {@link NodeManager}.
    *
@@ -122,6 +143,16 @@ public interface NodeManager<T extends Node> {
    */
   void removeReferences(Reference reference, NamespaceTable namespaceTable);
 
+  /**
+   * Remove each of {@code references} and its inverse from this {@link NodeManager}.
+   *
+   * @param references the {@link Reference}s to remove.
+   * @param namespaceTable the {@link NamespaceTable}.
+   */
+  default void removeReferences(Collection<Reference> references, NamespaceTable namespaceTable) {
+    references.forEach(reference -> removeReferences(reference, namespaceTable));
+  }
+
   /**
    * Get all {@link Reference}s that have {@code nodeId} as their source {@link NodeId}.
    *
@@ -141,6 +172,48 @@ public interface NodeManager<T extends Node> {
    */
   List<Reference> getReferences(NodeId nodeId, Predicate<Reference> filter);
 
+  /**
+   * Get all {@link Reference}s that have {@code nodeId} as their source {@link NodeId}, {@code
+   * referenceTypeId} as their reference type, and {@code direction} as their direction.
+   *
+   * <p>Subtypes of {@code referenceTypeId} are not included.
+   *
+   * @param nodeId the source {@link NodeId}.
+   * @param referenceTypeId the {@link NodeId} of the reference type.
+   * @param direction the {@link Reference.Direction}.
+   * @return all matching {@link Reference}s.
+   */
+  default List<Reference> getReferences(
+      NodeId nodeId, NodeId referenceTypeId, Reference.Direction direction) {
+
+    return getReferences(
+        nodeId,
+        reference ->
+            reference.getDirection() == direction
+                && reference.getReferenceTypeId().equals(referenceTypeId));
+  }
+
+  /**
+   * Add a {@link ChangeListener} to be notified of changes to this {@link NodeManager}'s Nodes and
+   * References.
+   *
+   * <p>Implementations that can't notify listeners return {@code false}; consumers that depend on
+   * notifications, like the {@link BrowsePathCache}, must then assume anything may have changed.
+   *
+   * @param listener the {@link ChangeListener} to add.
+   * @return {@code true} if {@code listener} will be notified of every change.
+   */
+  default boolean addChangeListener(ChangeListener listener) {
+    return false;
+  }
+
+  /**
+   * Remove a {@link ChangeListener} added with {@link #addChangeListener(ChangeListener)}.
+   *
+   * @param listener the {@link ChangeListener} to remove.
+   */
+  default void removeChangeListener(ChangeListener listener) {}
+
   /**
    * Return {@code true} if this {@link NodeManager} contains {@code node}.
    *
@@ -187,4 +260,22 @@ public interface NodeManager<T extends Node> {
   default Optional<T> removeNode(T node) {
     return removeNode(node.getNodeId());
   }
+
+  /** Notified after Nodes or References are added to or removed from a {@link NodeManager}. */
+  interface ChangeListener {
+
+    /**
+     * The Node identified by {@code nodeId} was added, replaced, or removed.
+     *
+     * @param nodeId the {@link NodeId} of the Node that changed.
+     */
+    void onNodeChanged(NodeId nodeId);
+
+    /**
+     * A Reference with {@code sourceNodeId} as its source was added or removed.
+     *
+     * @param sourceNodeId the source {@link NodeId} of the Reference that changed.
+     */
+    void onReferencesChanged(NodeId sourceNodeId);
+  }
 }
@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2025 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import org.eclipse.milo.opcua.sdk.core.Reference;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The References of one source Node in an {@link AbstractNodeManager}, in the order and with the
+ * duplicate handling of a {@code LinkedHashMultiset}, and also grouped by reference type and
+ * direction.
+ *
+ * <p>Writers must be serialized, which {@link AbstractNodeManager} does by only mutating inside
+ * {@code ConcurrentHashMap.compute} for the source Node. Readers don't lock: every List returned is
+ * an immutable snapshot that later writes don't affect.
+ */
+final class NodeReferences {
+
+  /** Rows larger than this keep a count of each Reference so adding doesn't scan the row. */
+  private static final int COUNTS_THRESHOLD = 16;
+
+  private volatile Snapshot all = Snapshot.EMPTY;
+  private volatile TypeGroup[] groups = new TypeGroup[0];
+
+  /** Only accessed by writers. */
+  private @Nullable Map<Reference, Integer> counts;
+
+  /**
+   * @return a snapshot of all the References.
+   */
+  List<Reference> getAll() {
+    return all;
+  }
+
+  /**
+   * @return a snapshot of the References with {@code referenceTypeId} and {@code direction}.
+   */
+  List<Reference> get(NodeId referenceTypeId, Reference.Direction direction) {
+    for (TypeGroup group : groups) {
+      if (group.direction == direction && group.referenceTypeId.equals(referenceTypeId)) {
+        return group.references;
+      }
+    }
+    return List.of();
+  }
+
+  boolean isEmpty() {
+    return all.isEmpty();
+  }
+
+  void add(Reference reference) {
+    boolean present = contains(reference);
+
+    all = present ? all.insertAfterLast(reference) : all.append(reference);
+
+    TypeGroup group = group(reference);
+    if (group == null) {
+      TypeGroup[] current = groups;
+      TypeGroup[] updated = Arrays.copyOf(current, current.length + 1);
+      updated[current.length] =
+          new TypeGroup(reference.getReferenceTypeId(), reference.getDirection());
+      groups = updated;
+      group = updated[current.length];
+    }
+    group.references =
+        present ? group.references.insertAfterLast(reference) : group.references.append(reference);
+
+    if (counts != null) {
+      counts.merge(reference, 1, Integer::sum);
+    } else if (all.size() > COUNTS_THRESHOLD) {
+      counts = new HashMap<>();
+      for (Reference r : all) {
+        counts.merge(r, 1, Integer::sum);
+      }
+    }
+  }
+
+  /**
+   * Remove one occurrence of each of {@code references}, if present.
+   *
+   * @param references the References to remove; all must have this row's source Node.
+   */
+  void removeAll(Collection<Reference> references) {
+    var toRemove = new HashMap<Reference, Integer>();
+    for (Reference reference : references) {
+      if (contains(reference)) {
+        toRemove.merge(reference, 1, Integer::sum);
+      }
+    }
+
+    if (toRemove.isEmpty()) {
+      return;
+    }
+
+    all = all.removeLast(new HashMap<>(toRemove));
+
+    TypeGroup[] current = groups;
+    int remaining = 0;
+    for (TypeGroup group : current) {
+      group.references = group.references.removeLast(new HashMap<>(toRemove));
+      if (!group.references.isEmpty()) {
+        remaining++;
+      }
+    }
+    if (remaining < current.length) {
+      groups =
+          Arrays.stream(current).filter(g -> !g.references.isEmpty()).toArray(TypeGroup[]::new);
+    }
+
+    if (counts != null) {
+      toRemove.forEach((r, n) -> counts.computeIfPresent(r, (k, c) -> c > n ? c - n : null));
+    }
+  }
+
+  private boolean contains(Reference reference) {
+    if (counts != null) {
+      return counts.containsKey(reference);
+    } else {
+      return all.lastIndexOf(reference) >= 0;
+    }
+  }
+
+  private @Nullable TypeGroup group(Reference reference) {
+    for (TypeGroup group : groups) {
+      if (group.direction == reference.getDirection()
+          && group.referenceTypeId.equals(reference.getReferenceTypeId())) {
+        return group;
+      }
+    }
+    return null;
+  }
+
+  private static final class TypeGroup {
+
+    final NodeId referenceTypeId;
+    final Reference.Direction direction;
+
+    volatile Snapshot references = Snapshot.EMPTY;
+
+    TypeGroup(NodeId referenceTypeId, Reference.Direction direction) {
+      this.referenceTypeId = referenceTypeId;
+      this.direction = direction;
+    }
+  }
+
+  /**
+   * An immutable List of References.
+   *
+   * <p>{@link #append(Reference)} may store into the unused tail of the backing array it shares
+   * with the Snapshot it was called on, which is safe because Snapshots never read beyond their
+   * size and only the latest Snapshot of a row is ever appended to.
+   */
+  static final class Snapshot extends AbstractList<Reference> implements RandomAccess {
+
+    static final Snapshot EMPTY = new Snapshot(new Reference[0], 0);
+
+    private final Reference[] array;
+    private final int size;
+
+    private Snapshot(Reference[] array, int size) {
+      this.array = array;
+      this.size = size;
+    }
+
+    @Override
+    public Reference get(int index) {
+      Objects.checkIndex(index, size);
+      return array[index];
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+      for (int i = size - 1; i >= 0; i--) {
+        if (array[i].equals(o)) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    Snapshot append(Reference reference) {
+      Reference[] a = array;
+      if (size == a.length) {
+        a = Arrays.copyOf(a, Math.max(4, size * 2));
+      }
+      a[size] = reference;
+      return new Snapshot(a, size + 1);
+    }
+
+    /** Insert {@code reference} after its last occurrence, keeping duplicates together. */
+    Snapshot insertAfterLast(Reference reference) {
+      int index = lastIndexOf(reference) + 1;
+
+      var a = new Reference[Math.max(4, size + 1 + (size >> 1))];
+      System.arraycopy(array, 0, a, 0, index);
+      a[index] = reference;
+      System.arraycopy(array, index, a, index + 1, size - index);
+
+      return new Snapshot(a, size + 1);
+    }
+
+    /**
+     * Remove the last {@code n} occurrences of each Reference in {@code toRemove}, where {@code n}
+     * is its value. {@code toRemove} is consumed.
+     */
+    Snapshot removeLast(Map<Reference, Integer> toRemove) {
+      var a = new Reference[size];
+      int start = size;
+
+      for (int i = size - 1; i >= 0; i--) {
+        Reference reference = array[i];
+        Integer n = toRemove.get(reference);
+
+        if (n != null) {
+          if (n == 1) {
+            toRemove.remove(reference);
+          } else {
+            toRemove.put(reference, n - 1);
+          }
+        } else {
+          a[--start] = reference;
+        }
+      }
+
+      if (start == 0) {
+        return this;
+      } else if (start == size) {
+        return EMPTY;
+      } else {
+        return new Snapshot(Arrays.copyOfRange(a, start, size), size - start);
+      }
+    }
+  }
+}
@@ -51,6 +51,7 @@ import org.eclipse.milo.opcua.sdk.server.servicesets.impl.DefaultNodeManagementS
 import org.eclipse.milo.opcua.sdk.server.servicesets.impl.DefaultSessionServiceSet;
 import org.eclipse.milo.opcua.sdk.server.servicesets.impl.DefaultSubscriptionServiceSet;
 import org.eclipse.milo.opcua.sdk.server.servicesets.impl.DefaultViewServiceSet;
+import org.eclipse.milo.opcua.sdk.server.subscriptions.RetransmissionBudget;
 import org.eclipse.milo.opcua.sdk.server.subscriptions.Subscription;
 import org.eclipse.milo.opcua.sdk.server.typetree.DataTypeTreeBuilder;
 import org.eclipse.milo.opcua.sdk.server.typetree.ReferenceTypeTreeBuilder;
@@ -76,7 +77,9 @@ import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
 import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
 import org.eclipse.milo.opcua.stack.core.types.enumerated.ApplicationType;
 import org.eclipse.milo.opcua.stack.core.types.enumerated.MessageSecurityMode;
+import org.eclipse.milo.opcua.stack.core.types.structured.ActivateSessionRequest;
 import org.eclipse.milo.opcua.stack.core.types.structured.ApplicationDescription;
+import org.eclipse.milo.opcua.stack.core.types.structured.CreateSessionRequest;
 import org.eclipse.milo.opcua.stack.core.types.structured.EndpointDescription;
 import org.eclipse.milo.opcua.stack.core.types.structured.UserTokenPolicy;
 import org.eclipse.milo.opcua.stack.core.util.EndpointUtil;
@@ -109,6 +112,8 @@ public class OpcUaServer extends AbstractServiceHandler {
 
   private final Map<UInteger, Subscription> subscriptions = new ConcurrentHashMap<>();
   private final AtomicLong monitoredItemCount = new AtomicLong(0L);
+  private final RetransmissionBudget retransmissionBudget;
+  private final BrowsePathCache browsePathCache;
 
   private final NamespaceTable namespaceTable = new NamespaceTable();
   private final ServerTable serverTable = new ServerTable();
@@ -167,6 +172,15 @@ public class OpcUaServer extends AbstractServiceHandler {
     this.config = config;
     this.transportFactory = transportFactory;
 
+    retransmissionBudget =
+        new RetransmissionBudget(config.getLimits().getMaxRetransmissionQueueBytes().longValue());
+
+    // Must be created before any Namespace below; AddressSpaceManager.register() notifies it of
+    // each NodeManager registered.
+    browsePathCache =
+        new BrowsePathCache(
+            addressSpaceManager, config.getLimits().getMaxCachedBrowsePaths().longValue());
+
     applicationContext = new ServerApplicationContextImpl();
 
     staticEncodingContext =
@@ -351,6 +365,15 @@ public class OpcUaServer extends AbstractServiceHandler {
     return addressSpaceManager;
   }
 
+  /**
+   * Get the {@link BrowsePathCache} used by TranslateBrowsePathsToNodeIds.
+   *
+   * @return the {@link BrowsePathCache} used by TranslateBrowsePathsToNodeIds.
+   */
+  public BrowsePathCache getBrowsePathCache() {
+    return browsePathCache;
+  }
+
   public SessionManager getSessionManager() {
     return sessionManager;
   }
@@ -486,6 +509,13 @@ public class OpcUaServer extends AbstractServiceHandler {
     return monitoredItemCount;
   }
 
+  /**
+   * @return the server-wide {@link RetransmissionBudget} shared by all Subscriptions.
+   */
+  public RetransmissionBudget getRetransmissionBudget() {
+    return retransmissionBudget;
+  }
+
   public Optional<KeyPair> getKeyPair(ByteString thumbprint) {
     return config.getCertificateManager().getKeyPair(thumbprint);
   }
@@ -536,6 +566,15 @@ public class OpcUaServer extends AbstractServiceHandler {
       return config.getCertificateManager();
     }
 
+    @Override
+    public boolean isAcceptingConnections() {
+      OpcUaServerConfigLimits limits = config.getLimits();
+
+      return !limits.getRejectConnectionsAtMaxSessions()
+          || sessionManager.getCurrentSessionCount().longValue()
+              < limits.getMaxSessions().longValue();
+    }
+
     @Override
     public Long getNextSecureChannelId() {
       return secureChannelIds.getAndIncrement();
@@ -552,7 +591,27 @@ public class OpcUaServer extends AbstractServiceHandler {
 
       var future = new CompletableFuture<UaResponseMessageType>();
 
-      getExecutorService().execute(() -> handleServiceRequest(context, requestMessage, future));
+      Runnable task = () -> handleServiceRequest(context, requestMessage, future);
+
+      ServiceRequestScheduler scheduler = config.getServiceRequestScheduler().orElse(null);
+
+      if (isSessionHandshake(requestMessage)) {
+        if (!config.getCryptoExecutor().tryExecute(task)) {
+          future.completeExceptionally(
+              new UaException(
+                  StatusCodes.Bad_ResourceUnavailable, "too many Session handshakes in progress"));
+        }
+      } else if (scheduler != null) {
+        try {
+          Session session = sessionManager.findSession(context, requestMessage.getRequestHeader());
+
+          scheduler.schedule(context, session, requestMessage, task, future::completeExceptionally);
+        } catch (UaException e) {
+          future.completeExceptionally(e);
+        }
+      } else {
+        getExecutorService().execute(task);
+      }
 
       return future;
     }
@@ -678,6 +737,11 @@ public class OpcUaServer extends AbstractServiceHandler {
      * @param requestMessage the {@link UaRequestMessageType} to check.
      * @return {@code true} if {@code requestMessage} is one of the Discovery service requests.
      */
+    private boolean isSessionHandshake(UaRequestMessageType requestMessage) {
+      return requestMessage instanceof CreateSessionRequest
+          || requestMessage instanceof ActivateSessionRequest;
+    }
+
     private boolean isDiscoveryService(UaRequestMessageType requestMessage) {
       Service service = Service.from(requestMessage.getTypeId());
 
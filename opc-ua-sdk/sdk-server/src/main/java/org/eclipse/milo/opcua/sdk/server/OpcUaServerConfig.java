@@ -20,6 +20,7 @@ import org.eclipse.milo.opcua.sdk.server.identity.CompositeValidator;
 import org.eclipse.milo.opcua.sdk.server.identity.IdentityValidator;
 import org.eclipse.milo.opcua.sdk.server.identity.UsernameIdentityValidator;
 import org.eclipse.milo.opcua.sdk.server.identity.X509IdentityValidator;
+import org.eclipse.milo.opcua.stack.core.Stack;
 import org.eclipse.milo.opcua.stack.core.channel.EncodingLimits;
 import org.eclipse.milo.opcua.stack.core.security.CertificateManager;
 import org.eclipse.milo.opcua.stack.core.security.SecurityPolicy;
@@ -28,6 +29,7 @@ import org.eclipse.milo.opcua.stack.core.types.enumerated.UserTokenType;
 import org.eclipse.milo.opcua.stack.core.types.structured.ApplicationDescription;
 import org.eclipse.milo.opcua.stack.core.types.structured.BuildInfo;
 import org.eclipse.milo.opcua.stack.core.types.structured.UserTokenPolicy;
+import org.eclipse.milo.opcua.stack.core.util.CryptoExecutor;
 
 public interface OpcUaServerConfig {
 
@@ -116,6 +118,18 @@ public interface OpcUaServerConfig {
 
   Optional<RoleMapper> getRoleMapper();
 
+  /**
+   * Get the {@link ServiceRequestScheduler} that decides when inbound service requests are handled.
+   *
+   * <p>If not present, requests are handled in the order they arrive on {@link #getExecutor()}.
+   *
+   * @return the {@link ServiceRequestScheduler}, if configured.
+   * @see PriorityServiceRequestScheduler
+   */
+  default Optional<ServiceRequestScheduler> getServiceRequestScheduler() {
+    return Optional.empty();
+  }
+
   /**
    * @return the {@link ExecutorService} for this server.
    */
@@ -126,6 +140,48 @@ public interface OpcUaServerConfig {
    */
   ScheduledExecutorService getScheduledExecutorService();
 
+  /**
+   * Get the {@link CryptoExecutor} that CreateSession and ActivateSession requests, which sign,
+   * verify, and decrypt with the server's and client's private and public keys, are handled on.
+   *
+   * <p>These requests are handled on it instead of {@link #getExecutor()} or the {@link
+   * #getServiceRequestScheduler()}; requests it doesn't admit fail with {@code
+   * Bad_ResourceUnavailable}.
+   *
+   * @return the {@link CryptoExecutor} Session handshakes are handled on.
+   */
+  default CryptoExecutor getCryptoExecutor() {
+    return Stack.sharedCryptoExecutor();
+  }
+
+  /**
+   * Get whether the built-in namespaces report Value changes of their Nodes by exception.
+   *
+   * <p>When enabled, MonitoredItems for Nodes that can be observed are sampled when the Node's
+   * value changes instead of on a timer, rate-limited to their sampling interval. Other items are
+   * still sampled on a timer.
+   *
+   * @return {@code true} if the built-in namespaces report by exception.
+   * @see org.eclipse.milo.opcua.sdk.server.util.ExceptionSubscriptionModel
+   */
+  default boolean isReportByExceptionEnabled() {
+    return false;
+  }
+
+  /**
+   * Get whether the built-in namespaces share samples across Sessions.
+   *
+   * <p>When enabled, polled MonitoredItems with the same sampling interval that monitor the same
+   * attribute are sampled with one read per interval for all Sessions that would read the same
+   * value, i.e. Sessions with the same identity, roles, and locale IDs.
+   *
+   * @return {@code true} if the built-in namespaces share samples across Sessions.
+   * @see org.eclipse.milo.opcua.sdk.server.util.SubscriptionModel
+   */
+  default boolean isSharedSamplingEnabled() {
+    return false;
+  }
+
   /**
    * @return a {@link OpcUaServerConfigBuilder}.
    */
@@ -155,6 +211,10 @@ public interface OpcUaServerConfig {
     builder.setCertificateManager(config.getCertificateManager());
     builder.setExecutor(config.getExecutor());
     builder.setScheduledExecutor(config.getScheduledExecutorService());
+    builder.setCryptoExecutor(config.getCryptoExecutor());
+    config.getServiceRequestScheduler().ifPresent(builder::setServiceRequestScheduler);
+    builder.setReportByExceptionEnabled(config.isReportByExceptionEnabled());
+    builder.setSharedSamplingEnabled(config.isSharedSamplingEnabled());
 
     return builder;
   }
@@ -23,6 +23,7 @@ import org.eclipse.milo.opcua.stack.core.security.CertificateManager;
 import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
 import org.eclipse.milo.opcua.stack.core.types.builtin.LocalizedText;
 import org.eclipse.milo.opcua.stack.core.types.structured.BuildInfo;
+import org.eclipse.milo.opcua.stack.core.util.CryptoExecutor;
 
 public class OpcUaServerConfigBuilder {
 
@@ -49,6 +50,12 @@ public class OpcUaServerConfigBuilder {
 
   private ExecutorService executor;
   private ScheduledExecutorService scheduledExecutor;
+  private CryptoExecutor cryptoExecutor;
+
+  private ServiceRequestScheduler serviceRequestScheduler;
+
+  private boolean reportByExceptionEnabled = false;
+  private boolean sharedSamplingEnabled = false;
 
   public OpcUaServerConfigBuilder setEndpoints(Set<EndpointConfig> endpointConfigs) {
     this.endpoints = endpointConfigs;
@@ -110,6 +117,58 @@ public class OpcUaServerConfigBuilder {
     return this;
   }
 
+  /**
+   * Set the {@link CryptoExecutor} that Session handshakes are handled on.
+   *
+   * <p>If not set, {@link Stack#sharedCryptoExecutor()} is used.
+   *
+   * @param cryptoExecutor the {@link CryptoExecutor}.
+   * @return this {@link OpcUaServerConfigBuilder}.
+   * @see OpcUaServerConfig#getCryptoExecutor()
+   */
+  public OpcUaServerConfigBuilder setCryptoExecutor(CryptoExecutor cryptoExecutor) {
+    this.cryptoExecutor = cryptoExecutor;
+    return this;
+  }
+
+  /**
+   * Set the {@link ServiceRequestScheduler} that decides when inbound service requests are handled.
+   *
+   * @param serviceRequestScheduler the {@link ServiceRequestScheduler}.
+   * @return this {@link OpcUaServerConfigBuilder}.
+   * @see OpcUaServerConfig#getServiceRequestScheduler()
+   */
+  public OpcUaServerConfigBuilder setServiceRequestScheduler(
+      ServiceRequestScheduler serviceRequestScheduler) {
+
+    this.serviceRequestScheduler = serviceRequestScheduler;
+    return this;
+  }
+
+  /**
+   * Set whether the built-in namespaces report Value changes of their Nodes by exception.
+   *
+   * @param reportByExceptionEnabled {@code true} to report by exception.
+   * @return this {@link OpcUaServerConfigBuilder}.
+   * @see OpcUaServerConfig#isReportByExceptionEnabled()
+   */
+  public OpcUaServerConfigBuilder setReportByExceptionEnabled(boolean reportByExceptionEnabled) {
+    this.reportByExceptionEnabled = reportByExceptionEnabled;
+    return this;
+  }
+
+  /**
+   * Set whether the built-in namespaces share samples across Sessions.
+   *
+   * @param sharedSamplingEnabled {@code true} to share samples across Sessions.
+   * @return this {@link OpcUaServerConfigBuilder}.
+   * @see OpcUaServerConfig#isSharedSamplingEnabled()
+   */
+  public OpcUaServerConfigBuilder setSharedSamplingEnabled(boolean sharedSamplingEnabled) {
+    this.sharedSamplingEnabled = sharedSamplingEnabled;
+    return this;
+  }
+
   public OpcUaServerConfig build() {
     if (executor == null) {
       executor = Stack.sharedExecutor();
@@ -117,6 +176,9 @@ public class OpcUaServerConfigBuilder {
     if (scheduledExecutor == null) {
       scheduledExecutor = Stack.sharedScheduledExecutor();
     }
+    if (cryptoExecutor == null) {
+      cryptoExecutor = Stack.sharedCryptoExecutor();
+    }
 
     return new OpcUaServerConfigImpl(
         endpoints,
@@ -130,7 +192,11 @@ public class OpcUaServerConfigBuilder {
         certificateManager,
         roleMapper,
         executor,
-        scheduledExecutor);
+        scheduledExecutor,
+        cryptoExecutor,
+        serviceRequestScheduler,
+        reportByExceptionEnabled,
+        sharedSamplingEnabled);
   }
 
   public static final class OpcUaServerConfigImpl implements OpcUaServerConfig {
@@ -147,6 +213,10 @@ public class OpcUaServerConfigBuilder {
     private final RoleMapper roleMapper;
     private final ExecutorService executor;
     private final ScheduledExecutorService scheduledExecutorService;
+    private final CryptoExecutor cryptoExecutor;
+    private final ServiceRequestScheduler serviceRequestScheduler;
+    private final boolean reportByExceptionEnabled;
+    private final boolean sharedSamplingEnabled;
 
     public OpcUaServerConfigImpl(
         Set<EndpointConfig> endpoints,
@@ -160,7 +230,11 @@ public class OpcUaServerConfigBuilder {
         CertificateManager certificateManager,
         RoleMapper roleMapper,
         ExecutorService executor,
-        ScheduledExecutorService scheduledExecutorService) {
+        ScheduledExecutorService scheduledExecutorService,
+        CryptoExecutor cryptoExecutor,
+        ServiceRequestScheduler serviceRequestScheduler,
+        boolean reportByExceptionEnabled,
+        boolean sharedSamplingEnabled) {
 
       this.endpoints = endpoints;
       this.applicationName = applicationName;
@@ -174,6 +248,10 @@ public class OpcUaServerConfigBuilder {
       this.roleMapper = roleMapper;
       this.executor = executor;
       this.scheduledExecutorService = scheduledExecutorService;
+      this.cryptoExecutor = cryptoExecutor;
+      this.serviceRequestScheduler = serviceRequestScheduler;
+      this.reportByExceptionEnabled = reportByExceptionEnabled;
+      this.sharedSamplingEnabled = sharedSamplingEnabled;
     }
 
     @Override
@@ -235,5 +313,25 @@ public class OpcUaServerConfigBuilder {
     public ScheduledExecutorService getScheduledExecutorService() {
       return scheduledExecutorService;
     }
+
+    @Override
+    public CryptoExecutor getCryptoExecutor() {
+      return cryptoExecutor;
+    }
+
+    @Override
+    public Optional<ServiceRequestScheduler> getServiceRequestScheduler() {
+      return Optional.ofNullable(serviceRequestScheduler);
+    }
+
+    @Override
+    public boolean isReportByExceptionEnabled() {
+      return reportByExceptionEnabled;
+    }
+
+    @Override
+    public boolean isSharedSamplingEnabled() {
+      return sharedSamplingEnabled;
+    }
   }
 }
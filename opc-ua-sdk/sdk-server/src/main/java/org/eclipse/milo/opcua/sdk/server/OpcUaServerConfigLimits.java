@@ -29,6 +29,20 @@ public interface OpcUaServerConfigLimits {
     return uint(100);
   }
 
+  /**
+   * Get whether new connections are rejected, at the Hello message, while {@link #getMaxSessions()}
+   * Sessions are open.
+   *
+   * <p>This sheds load before the SecureChannel is opened, but also prevents clients from opening a
+   * new SecureChannel to re-activate one of the open Sessions.
+   *
+   * @return {@code true} if new connections are rejected while the maximum number of Sessions are
+   *     open.
+   */
+  default Boolean getRejectConnectionsAtMaxSessions() {
+    return false;
+  }
+
   /**
    * Get the maximum session timeout, in milliseconds, allowed by the server.
    *
@@ -139,6 +153,42 @@ public interface OpcUaServerConfigLimits {
     return uint(Integer.MAX_VALUE);
   }
 
+  /**
+   * Get the maximum number of bytes of sent but unacknowledged NotificationMessages retained for
+   * Republish, across all Sessions and Subscriptions.
+   *
+   * <p>Once exceeded, the oldest messages of the Session retaining the most bytes are discarded
+   * first.
+   *
+   * @return the maximum number of bytes of NotificationMessages retained for Republish.
+   */
+  default UInteger getMaxRetransmissionQueueBytes() {
+    return uint(64 * 1024 * 1024);
+  }
+
+  /**
+   * Get the maximum number of sent but unacknowledged NotificationMessages retained for Republish,
+   * per Subscription.
+   *
+   * @return the maximum number of NotificationMessages retained for Republish, per Subscription.
+   */
+  default UInteger getMaxRetransmissionQueueMessages() {
+    return uint(1024);
+  }
+
+  /**
+   * Get the maximum number of TranslateBrowsePathsToNodeIds results kept in the {@link
+   * BrowsePathCache}.
+   *
+   * <p>Return 0 to disable the cache, e.g. when browse paths can change without the change going
+   * through a {@link NodeManager}.
+   *
+   * @return the maximum number of TranslateBrowsePathsToNodeIds results cached.
+   */
+  default UInteger getMaxCachedBrowsePaths() {
+    return uint(8192);
+  }
+
   // region ServerCapabilities
 
   default Double getMinSupportedSampleRate() {
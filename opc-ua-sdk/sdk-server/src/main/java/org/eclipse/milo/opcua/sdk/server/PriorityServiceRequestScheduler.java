@@ -0,0 +1,421 @@
+/*
+ * Copyright (c) 2025 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import org.eclipse.milo.opcua.sdk.server.servicesets.Service;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaException;
+import org.eclipse.milo.opcua.stack.core.types.UaRequestMessageType;
+import org.eclipse.milo.opcua.stack.transport.server.ServiceRequestContext;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link ServiceRequestScheduler} that limits the number of requests handled at once and queues
+ * the rest by {@link ServiceClass}, so a burst of expensive requests can't starve Publish, Read, or
+ * Session requests.
+ *
+ * <p>When a request finishes, the next request is taken from a non-empty queue chosen in proportion
+ * to the queues' weights. Within a queue, sessions take turns, so a session with many queued
+ * requests doesn't delay requests from other sessions. Requests whose authentication token doesn't
+ * identify an activated session are grouped by SecureChannel, so a client can't claim extra turns
+ * by sending made-up tokens.
+ *
+ * <p>Each queue is bounded. A request is rejected with {@code Bad_ServerTooBusy} if its queue is
+ * full, or with {@code Bad_TooManyOperations} if its session already has the maximum number of
+ * requests waiting in that queue. A request is also rejected with {@code Bad_ServerTooBusy} if the
+ * executor rejects it when it's dispatched.
+ *
+ * <p>The concurrency limit applies to the time spent in the service handler before it returns.
+ * Handlers that complete asynchronously release their slot as soon as they return.
+ */
+public class PriorityServiceRequestScheduler implements ServiceRequestScheduler {
+
+  private static final long STRIDE_BASE = 1L << 20;
+
+  private final Logger logger = LoggerFactory.getLogger(getClass());
+
+  private final Map<ServiceClass, ClassQueue> queues = new EnumMap<>(ServiceClass.class);
+
+  private int running = 0;
+  private int queued = 0;
+  private long virtualTime = 0L;
+
+  private final ExecutorService executor;
+  private final int maxConcurrentRequests;
+
+  /**
+   * Create a scheduler using the {@link #defaultQueueConfigs()}.
+   *
+   * @param executor the {@link ExecutorService} requests are handled on.
+   * @param maxConcurrentRequests the maximum number of requests handled at once.
+   */
+  public PriorityServiceRequestScheduler(ExecutorService executor, int maxConcurrentRequests) {
+    this(executor, maxConcurrentRequests, defaultQueueConfigs());
+  }
+
+  /**
+   * @param executor the {@link ExecutorService} requests are handled on.
+   * @param maxConcurrentRequests the maximum number of requests handled at once.
+   * @param queueConfigs the {@link QueueConfig} for each {@link ServiceClass}. Classes not present
+   *     use their default config.
+   */
+  public PriorityServiceRequestScheduler(
+      ExecutorService executor,
+      int maxConcurrentRequests,
+      Map<ServiceClass, QueueConfig> queueConfigs) {
+
+    if (maxConcurrentRequests < 1) {
+      throw new IllegalArgumentException("maxConcurrentRequests must be at least 1");
+    }
+
+    this.executor = executor;
+    this.maxConcurrentRequests = maxConcurrentRequests;
+
+    Map<ServiceClass, QueueConfig> defaults = defaultQueueConfigs();
+
+    for (ServiceClass serviceClass : ServiceClass.values()) {
+      QueueConfig config = queueConfigs.getOrDefault(serviceClass, defaults.get(serviceClass));
+
+      queues.put(serviceClass, new ClassQueue(config));
+    }
+  }
+
+  @Override
+  public void schedule(
+      ServiceRequestContext context,
+      @Nullable Session session,
+      UaRequestMessageType requestMessage,
+      Runnable task,
+      Consumer<UaException> reject)
+      throws UaException {
+
+    ServiceClass serviceClass = ServiceClass.of(Service.from(requestMessage.getTypeId()));
+    ClassQueue queue = queues.get(serviceClass);
+    Object sessionKey = session != null ? session : context.getSecureChannel().getChannelId();
+
+    List<Pending> dispatch;
+
+    synchronized (this) {
+      ArrayDeque<Pending> sessionQueue = queue.sessions.get(sessionKey);
+
+      if (queue.size >= queue.config.capacity()) {
+        queue.rejected++;
+
+        logger.debug("{} queue full; rejecting request from {}", serviceClass, sessionKey);
+
+        throw new UaException(StatusCodes.Bad_ServerTooBusy);
+      }
+
+      if (sessionQueue != null && sessionQueue.size() >= queue.config.maxPerSession()) {
+        queue.rejected++;
+
+        logger.debug("{} queue limit reached for {}; rejecting request", serviceClass, sessionKey);
+
+        throw new UaException(StatusCodes.Bad_TooManyOperations);
+      }
+
+      if (queue.size == 0) {
+        // An idle queue doesn't accumulate credit while it's empty.
+        queue.pass = Math.max(queue.pass, virtualTime);
+      }
+
+      if (sessionQueue == null) {
+        sessionQueue = new ArrayDeque<>();
+        queue.sessions.put(sessionKey, sessionQueue);
+      }
+
+      sessionQueue.add(new Pending(task, reject, queue, sessionKey, System.nanoTime()));
+      queue.size++;
+      queued++;
+
+      dispatch = drain();
+    }
+
+    dispatch(dispatch);
+  }
+
+  /**
+   * Get a snapshot of the metrics for the queue of {@code serviceClass}.
+   *
+   * @param serviceClass the {@link ServiceClass} to get metrics for.
+   * @return a {@link QueueMetrics} snapshot.
+   */
+  public synchronized QueueMetrics getQueueMetrics(ServiceClass serviceClass) {
+    ClassQueue queue = queues.get(serviceClass);
+
+    double averageWaitMillis =
+        queue.dispatched > 0 ? (double) queue.totalWaitNanos / queue.dispatched / 1_000_000.0 : 0.0;
+
+    return new QueueMetrics(
+        queue.size,
+        queue.dispatched,
+        queue.rejected,
+        averageWaitMillis,
+        queue.maxWaitNanos / 1_000_000.0);
+  }
+
+  /**
+   * @return the number of requests currently being handled.
+   */
+  public synchronized int getRunningCount() {
+    return running;
+  }
+
+  /**
+   * Take as many queued requests as there are free slots, choosing between queues by weight.
+   *
+   * <p>Must be called while holding this scheduler's lock.
+   */
+  private List<Pending> drain() {
+    List<Pending> dispatch = new ArrayList<>();
+
+    while (running < maxConcurrentRequests && queued > 0) {
+      ClassQueue next = null;
+
+      for (ClassQueue queue : queues.values()) {
+        if (queue.size > 0 && (next == null || queue.pass < next.pass)) {
+          next = queue;
+        }
+      }
+
+      assert next != null;
+
+      virtualTime = next.pass;
+      next.pass += next.stride;
+
+      Pending pending = next.poll();
+      queued--;
+      running++;
+
+      long waitNanos = System.nanoTime() - pending.queuedAtNanos();
+      next.dispatched++;
+      next.totalWaitNanos += waitNanos;
+      next.maxWaitNanos = Math.max(next.maxWaitNanos, waitNanos);
+
+      dispatch.add(pending);
+    }
+
+    return dispatch;
+  }
+
+  /**
+   * Hand {@code pending} requests to the executor. Requests the executor rejects are answered with
+   * {@code Bad_ServerTooBusy} and their slot is given to the next queued request.
+   */
+  private void dispatch(List<Pending> pending) {
+    var dispatch = new ArrayDeque<>(pending);
+
+    Pending next;
+    while ((next = dispatch.poll()) != null) {
+      try {
+        execute(next);
+      } catch (RejectedExecutionException e) {
+        logger.debug("Executor rejected request from {}", next.sessionKey(), e);
+
+        synchronized (this) {
+          running--;
+          next.queue().rejected++;
+          dispatch.addAll(drain());
+        }
+
+        next.reject().accept(new UaException(StatusCodes.Bad_ServerTooBusy, e));
+      }
+    }
+  }
+
+  private void execute(Pending pending) throws RejectedExecutionException {
+    executor.execute(
+        () -> {
+          try {
+            pending.task().run();
+          } finally {
+            List<Pending> dispatch;
+
+            synchronized (this) {
+              running--;
+              dispatch = drain();
+            }
+
+            dispatch(dispatch);
+          }
+        });
+  }
+
+  /**
+   * @return the default {@link QueueConfig} for each {@link ServiceClass}.
+   */
+  public static Map<ServiceClass, QueueConfig> defaultQueueConfigs() {
+    Map<ServiceClass, QueueConfig> configs = new EnumMap<>(ServiceClass.class);
+    configs.put(ServiceClass.SESSION, new QueueConfig(8, 1_000, 16));
+    configs.put(ServiceClass.PUBLISH, new QueueConfig(8, 10_000, 100));
+    configs.put(ServiceClass.READ_WRITE, new QueueConfig(4, 10_000, 1_000));
+    configs.put(ServiceClass.BROWSE, new QueueConfig(2, 5_000, 500));
+    configs.put(ServiceClass.CALL, new QueueConfig(2, 5_000, 500));
+    configs.put(ServiceClass.HISTORY, new QueueConfig(1, 1_000, 100));
+    configs.put(ServiceClass.OTHER, new QueueConfig(2, 5_000, 500));
+    return configs;
+  }
+
+  /** The queue a request is scheduled in, determined by its {@link Service}. */
+  public enum ServiceClass {
+
+    /** Discovery, SecureChannel, and Session services. */
+    SESSION,
+
+    /** Publish and Republish. */
+    PUBLISH,
+
+    /** Read and Write. */
+    READ_WRITE,
+
+    /** View and Query services. */
+    BROWSE,
+
+    /** Call. */
+    CALL,
+
+    /** HistoryRead and HistoryUpdate. */
+    HISTORY,
+
+    /** All other services, e.g. Subscription, MonitoredItem, and NodeManagement services. */
+    OTHER;
+
+    /**
+     * Get the {@link ServiceClass} of {@code service}.
+     *
+     * @param service the {@link Service}, or {@code null} if unknown.
+     * @return the {@link ServiceClass} of {@code service}.
+     */
+    public static ServiceClass of(@Nullable Service service) {
+      if (service == null) return OTHER;
+
+      return switch (service) {
+        case DISCOVERY_FIND_SERVERS,
+            DISCOVERY_FIND_SERVERS_ON_NETWORK,
+            DISCOVERY_GET_ENDPOINTS,
+            DISCOVERY_REGISTER_SERVER,
+            DISCOVERY_REGISTER_SERVER_2,
+            SECURE_CHANNEL_OPEN_SECURE_CHANNEL,
+            SECURE_CHANNEL_CLOSE_SECURE_CHANNEL,
+            SESSION_CREATE_SESSION,
+            SESSION_ACTIVATE_SESSION,
+            SESSION_CLOSE_SESSION,
+            SESSION_CANCEL ->
+            SESSION;
+        case SUBSCRIPTION_PUBLISH, SUBSCRIPTION_REPUBLISH -> PUBLISH;
+        case ATTRIBUTE_READ, ATTRIBUTE_WRITE -> READ_WRITE;
+        case VIEW_BROWSE,
+            VIEW_BROWSE_NEXT,
+            VIEW_TRANSLATE_BROWSE_PATHS,
+            VIEW_REGISTER_NODES,
+            VIEW_UNREGISTER_NODES,
+            QUERY_QUERY_FIRST,
+            QUERY_QUERY_NEXT ->
+            BROWSE;
+        case METHOD_CALL -> CALL;
+        case ATTRIBUTE_HISTORY_READ, ATTRIBUTE_HISTORY_UPDATE -> HISTORY;
+        default -> OTHER;
+      };
+    }
+  }
+
+  /**
+   * Configuration for the queue of one {@link ServiceClass}.
+   *
+   * @param weight the share of free slots given to this queue, relative to the weights of the other
+   *     queues with requests waiting.
+   * @param capacity the maximum number of requests waiting in this queue.
+   * @param maxPerSession the maximum number of requests from one session waiting in this queue.
+   */
+  public record QueueConfig(int weight, int capacity, int maxPerSession) {
+
+    public QueueConfig {
+      if (weight < 1) throw new IllegalArgumentException("weight must be at least 1");
+      if (capacity < 1) throw new IllegalArgumentException("capacity must be at least 1");
+      if (maxPerSession < 1) throw new IllegalArgumentException("maxPerSession must be at least 1");
+    }
+  }
+
+  /**
+   * A snapshot of the metrics for the queue of one {@link ServiceClass}.
+   *
+   * @param queued the number of requests currently waiting.
+   * @param dispatched the number of requests taken from the queue to be handled.
+   * @param rejected the number of requests rejected because the queue, or the session's share of
+   *     it, was full, or because the executor rejected them when they were dispatched.
+   * @param averageWaitMillis the average time dispatched requests spent waiting, in milliseconds.
+   * @param maxWaitMillis the longest time a dispatched request spent waiting, in milliseconds.
+   */
+  public record QueueMetrics(
+      int queued, long dispatched, long rejected, double averageWaitMillis, double maxWaitMillis) {}
+
+  private record Pending(
+      Runnable task,
+      Consumer<UaException> reject,
+      ClassQueue queue,
+      Object sessionKey,
+      long queuedAtNanos) {}
+
+  private static final class ClassQueue {
+
+    private final LinkedHashMap<Object, ArrayDeque<Pending>> sessions = new LinkedHashMap<>();
+
+    private int size = 0;
+    private long pass = 0L;
+
+    private long dispatched = 0L;
+    private long rejected = 0L;
+    private long totalWaitNanos = 0L;
+    private long maxWaitNanos = 0L;
+
+    private final QueueConfig config;
+    private final long stride;
+
+    ClassQueue(QueueConfig config) {
+      this.config = config;
+      this.stride = STRIDE_BASE / config.weight();
+    }
+
+    /** Take the next request from the session at the head of the rotation. */
+    Pending poll() {
+      Iterator<Map.Entry<Object, ArrayDeque<Pending>>> iterator = sessions.entrySet().iterator();
+      Map.Entry<Object, ArrayDeque<Pending>> head = iterator.next();
+      iterator.remove();
+
+      Object sessionKey = head.getKey();
+      ArrayDeque<Pending> sessionQueue = head.getValue();
+      Pending pending = sessionQueue.poll();
+
+      if (!sessionQueue.isEmpty()) {
+        // Move this session to the back of the rotation.
+        sessions.put(sessionKey, sessionQueue);
+      }
+
+      size--;
+
+      assert pending != null;
+
+      return pending;
+    }
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2025 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server;
+
+import java.util.function.Consumer;
+import org.eclipse.milo.opcua.stack.core.UaException;
+import org.eclipse.milo.opcua.stack.core.types.UaRequestMessageType;
+import org.eclipse.milo.opcua.stack.transport.server.ServiceRequestContext;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Decides when, and whether, each inbound service request is handled.
+ *
+ * <p>If no scheduler is configured, requests are handled in the order they arrive on the server's
+ * {@link OpcUaServerConfig#getExecutor()}.
+ *
+ * <p>CreateSession and ActivateSession requests bypass the scheduler. They are handled on {@link
+ * OpcUaServerConfig#getCryptoExecutor()}, which bounds how many of them are queued on its own, so a
+ * scheduler never sees them and can't delay or reject them.
+ *
+ * @see PriorityServiceRequestScheduler
+ */
+public interface ServiceRequestScheduler {
+
+  /**
+   * Schedule {@code task}, which handles {@code requestMessage}, to run.
+   *
+   * @param context the {@link ServiceRequestContext} of the request.
+   * @param session the activated {@link Session} the request belongs to, or {@code null} if its
+   *     authentication token doesn't identify an activated Session on the request's SecureChannel.
+   *     The request hasn't been validated yet; it may still be rejected when it's handled.
+   * @param requestMessage the request to be handled.
+   * @param task the task that handles {@code requestMessage}.
+   * @param reject called instead of running {@code task} if the request is rejected after this
+   *     method has returned, e.g. because the executor it was dispatched to rejected it. The
+   *     request is answered with a ServiceFault carrying the exception's status code.
+   * @throws UaException if the request is rejected, e.g. with {@code Bad_ServerTooBusy}. The
+   *     request is answered with a ServiceFault carrying the exception's status code.
+   */
+  void schedule(
+      ServiceRequestContext context,
+      @Nullable Session session,
+      UaRequestMessageType requestMessage,
+      Runnable task,
+      Consumer<UaException> reject)
+      throws UaException;
+}
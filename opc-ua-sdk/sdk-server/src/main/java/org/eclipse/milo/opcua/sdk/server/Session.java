@@ -26,6 +26,7 @@ import java.util.concurrent.TimeUnit;
 import org.eclipse.milo.opcua.sdk.server.diagnostics.SessionDiagnostics;
 import org.eclipse.milo.opcua.sdk.server.diagnostics.SessionSecurityDiagnostics;
 import org.eclipse.milo.opcua.sdk.server.identity.Identity;
+import org.eclipse.milo.opcua.sdk.server.methods.MethodInvocationLimiter;
 import org.eclipse.milo.opcua.sdk.server.subscriptions.SubscriptionManager;
 import org.eclipse.milo.opcua.stack.core.types.builtin.ByteString;
 import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
@@ -51,6 +52,9 @@ public class Session {
   private static final int CONCURRENT_CALL_LIMIT =
       Integer.getInteger("milo.session.concurrentCallLimit", 64);
 
+  private static final int QUEUED_CALL_LIMIT =
+      Integer.getInteger("milo.session.queuedCallLimit", 1024);
+
   private final Logger logger = LoggerFactory.getLogger(getClass());
 
   private final List<LifecycleListener> listeners = new CopyOnWriteArrayList<>();
@@ -64,6 +68,8 @@ public class Session {
 
   private final Semaphore callSemaphore = new Semaphore(CONCURRENT_CALL_LIMIT, true);
 
+  private final MethodInvocationLimiter callLimiter;
+
   private volatile UserIdentityToken identityToken;
   private volatile Identity identity;
 
@@ -119,6 +125,10 @@ public class Session {
 
     subscriptionManager = new SubscriptionManager(this, server);
 
+    callLimiter =
+        new MethodInvocationLimiter(
+            CONCURRENT_CALL_LIMIT, QUEUED_CALL_LIMIT, server.getConfig().getExecutor());
+
     checkTimeoutFuture =
         server
             .getScheduledExecutorService()
@@ -341,6 +351,22 @@ public class Session {
     return subscriptionManager;
   }
 
+  /**
+   * Get the {@link MethodInvocationLimiter} that limits the number of methods this Session has
+   * running at once.
+   *
+   * @return the {@link MethodInvocationLimiter} for this Session's method invocations.
+   */
+  public MethodInvocationLimiter getCallLimiter() {
+    return callLimiter;
+  }
+
+  /**
+   * @return a {@link Semaphore} with {@code milo.session.concurrentCallLimit} permits.
+   * @deprecated method invocations are no longer limited by this Semaphore; use {@link
+   *     #getCallLimiter()}.
+   */
+  @Deprecated
   public Semaphore getCallSemaphore() {
     return callSemaphore;
   }
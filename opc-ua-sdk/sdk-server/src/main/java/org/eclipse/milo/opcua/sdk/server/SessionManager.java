@@ -151,6 +151,32 @@ public class SessionManager {
     return uint(createdSessions.size() + activeSessions.size());
   }
 
+  /**
+   * Find the activated {@link Session} a request belongs to, without validating the request or
+   * updating the Session's last activity.
+   *
+   * @param context the {@link ServiceRequestContext} of the request.
+   * @param requestHeader the {@link RequestHeader} of the request.
+   * @return the activated {@link Session} identified by the request's authentication token, or
+   *     {@code null} if there isn't one on the request's SecureChannel.
+   */
+  @Nullable Session findSession(ServiceRequestContext context, RequestHeader requestHeader) {
+    NodeId authToken = requestHeader.getAuthenticationToken();
+
+    if (authToken == null || authToken.isNull()) {
+      return null;
+    }
+
+    Session session = activeSessions.get(authToken);
+
+    if (session != null
+        && session.getSecureChannelId() == context.getSecureChannel().getChannelId()) {
+      return session;
+    } else {
+      return null;
+    }
+  }
+
   public Session getSession(ServiceRequestContext context, RequestHeader requestHeader)
       throws UaException {
     long secureChannelId = context.getSecureChannel().getChannelId();
@@ -14,6 +14,8 @@ import com.google.common.primitives.Ints;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
 import org.eclipse.milo.opcua.sdk.server.Session;
 import org.eclipse.milo.opcua.sdk.server.util.RingBuffer;
@@ -25,6 +27,7 @@ import org.eclipse.milo.opcua.stack.core.types.enumerated.MonitoringMode;
 import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
 import org.eclipse.milo.opcua.stack.core.types.structured.MonitoringFilter;
 import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
+import org.jspecify.annotations.Nullable;
 
 public abstract class BaseMonitoredItem<T> implements MonitoredItem {
 
@@ -35,6 +38,9 @@ public abstract class BaseMonitoredItem<T> implements MonitoredItem {
 
   protected volatile RingBuffer<T> queue;
 
+  private final AtomicBoolean ready = new AtomicBoolean(false);
+  private volatile @Nullable Consumer<BaseMonitoredItem<?>> readyListener;
+
   protected volatile long clientHandle;
   protected volatile int queueSize;
   protected volatile double samplingInterval;
@@ -140,9 +146,59 @@ public abstract class BaseMonitoredItem<T> implements MonitoredItem {
 
     if (monitoringMode == MonitoringMode.Disabled) {
       queue.clear();
+    } else if (monitoringMode == MonitoringMode.Reporting && !queue.isEmpty()) {
+      markReady();
+    }
+  }
+
+  /**
+   * Set the listener notified when this item may have notifications to report.
+   *
+   * <p>The listener is notified at most once until {@link #clearReady()} is called, when the queue
+   * goes from empty to non-empty, when reporting is enabled on a non-empty queue, or when this item
+   * is triggered. If this item already has notifications the listener is notified immediately.
+   *
+   * @param readyListener the listener to notify, or {@code null} to remove the current listener.
+   */
+  public void setReadyListener(@Nullable Consumer<BaseMonitoredItem<?>> readyListener) {
+    this.readyListener = readyListener;
+
+    if (readyListener != null && (hasNotifications() || isTriggered())) {
+      markReady();
+    }
+  }
+
+  /**
+   * Notify the ready listener, if any, that this item may have notifications to report.
+   *
+   * <p>Does nothing if the listener has already been notified and {@link #clearReady()} has not
+   * been called since.
+   */
+  public void markReady() {
+    Consumer<BaseMonitoredItem<?>> listener = readyListener;
+
+    if (listener != null && ready.compareAndSet(false, true)) {
+      listener.accept(this);
     }
   }
 
+  /**
+   * Re-arm the ready listener after the owner has removed this item from its ready set.
+   *
+   * <p>Must be called before checking {@link #hasNotifications()} so that a concurrent enqueue is
+   * not missed.
+   */
+  public void clearReady() {
+    ready.set(false);
+  }
+
+  /** Mark this item as triggered by a linked triggering item. */
+  protected void setTriggered() {
+    triggered = true;
+
+    markReady();
+  }
+
   public void setSession(Session session) {
     this.session = session;
   }
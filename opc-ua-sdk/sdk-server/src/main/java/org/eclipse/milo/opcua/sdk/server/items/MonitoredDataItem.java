@@ -81,7 +81,7 @@ public class MonitoredDataItem extends BaseMonitoredItem<DataValue> implements D
       enqueue(value);
 
       if (triggeredItems != null) {
-        triggeredItems.values().forEach(item -> item.triggered = true);
+        triggeredItems.values().forEach(BaseMonitoredItem::setTriggered);
       }
     }
   }
@@ -90,6 +90,10 @@ public class MonitoredDataItem extends BaseMonitoredItem<DataValue> implements D
   protected synchronized void enqueue(@NonNull DataValue value) {
     if (queue.size() < queue.maxSize()) {
       queue.add(value);
+
+      if (queue.size() == 1) {
+        markReady();
+      }
     } else {
       StatusCode statusCode = value.statusCode();
 
@@ -137,6 +137,10 @@ public class MonitoredEventItem extends BaseMonitoredItem<Variant[]> implements
   protected synchronized void enqueue(Variant[] value) {
     if (queue.size() < queue.maxSize()) {
       queue.add(value);
+
+      if (queue.size() == 1) {
+        markReady();
+      }
     } else {
       if (getQueueSize() > 1) {
         eventOverflow.set(true);
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2025 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.methods;
+
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaMethodNode;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaException;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.types.structured.Argument;
+
+/**
+ * A partial implementation of {@link AbstractMethodInvocationHandler} for long-running methods,
+ * e.g. methods that wait on I/O, that complete asynchronously instead of occupying a server thread
+ * while they run.
+ */
+public abstract class AbstractAsyncMethodInvocationHandler extends AbstractMethodInvocationHandler {
+
+  /**
+   * @param node the {@link UaMethodNode} this handler will be installed on.
+   */
+  public AbstractAsyncMethodInvocationHandler(UaMethodNode node) {
+    super(node);
+  }
+
+  /**
+   * Invoke this method and wait for the values for its output arguments, if any.
+   *
+   * <p>This is only used when the method is invoked synchronously.
+   */
+  @Override
+  protected final Variant[] invoke(InvocationContext invocationContext, Variant[] inputValues)
+      throws UaException {
+
+    try {
+      return invokeAsync(invocationContext, inputValues).toCompletableFuture().get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new UaException(StatusCodes.Bad_UnexpectedError, e);
+    } catch (ExecutionException e) {
+      throw UaException.extract(e).orElse(new UaException(e));
+    }
+  }
+
+  /**
+   * Invoke this method and complete with the values for its output arguments, if any.
+   *
+   * <p>The Executable and UserExecutable attributes have already been checked to ensure this method
+   * is allowed to execute.
+   *
+   * @param invocationContext the {@link InvocationContext}.
+   * @param inputValues the user-supplied values for the input arguments. Each value has been
+   *     verified to be of the type specified by its {@link Argument}.
+   * @return a {@link CompletionStage} that completes with the output values matching this Method's
+   *     output arguments, if any, or completes exceptionally with a {@link UaException} if
+   *     invocation has failed for some reason.
+   */
+  @Override
+  protected abstract CompletionStage<Variant[]> invokeAsync(
+      InvocationContext invocationContext, Variant[] inputValues);
+}
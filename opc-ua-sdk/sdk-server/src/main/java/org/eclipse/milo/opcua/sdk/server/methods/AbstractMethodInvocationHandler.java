@@ -15,6 +15,9 @@ import static java.util.Objects.requireNonNullElse;
 import java.util.Arrays;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import org.eclipse.milo.opcua.sdk.core.typetree.DataType;
 import org.eclipse.milo.opcua.sdk.core.typetree.DataTypeTree;
 import org.eclipse.milo.opcua.sdk.server.AccessContext;
@@ -57,134 +60,184 @@ public abstract class AbstractMethodInvocationHandler implements MethodInvocatio
   @Override
   public final CallMethodResult invoke(AccessContext accessContext, CallMethodRequest request) {
     try {
-      Variant[] inputArgumentValues =
-          requireNonNullElse(request.getInputArguments(), new Variant[0]);
+      Variant[] inputArgumentValues = checkInputArguments(request);
 
-      if (inputArgumentValues.length < getInputArguments().length) {
-        throw new UaException(StatusCodes.Bad_ArgumentsMissing);
-      }
-      if (inputArgumentValues.length > getInputArguments().length) {
-        throw new UaException(StatusCodes.Bad_TooManyArguments);
-      }
+      Variant[] outputValues =
+          invoke(invocationContext(accessContext, request), inputArgumentValues);
+
+      return new CallMethodResult(
+          StatusCode.GOOD, new StatusCode[0], new DiagnosticInfo[0], outputValues);
+    } catch (UaException e) {
+      return failedResult(e);
+    }
+  }
+
+  @Override
+  public final CompletionStage<CallMethodResult> invokeAsync(
+      AccessContext accessContext, CallMethodRequest request) {
+
+    Variant[] inputArgumentValues;
+    try {
+      inputArgumentValues = checkInputArguments(request);
+    } catch (UaException e) {
+      return CompletableFuture.completedFuture(failedResult(e));
+    }
+
+    return invokeAsync(invocationContext(accessContext, request), inputArgumentValues)
+        .handle(
+            (outputValues, ex) -> {
+              if (ex == null) {
+                return new CallMethodResult(
+                    StatusCode.GOOD, new StatusCode[0], new DiagnosticInfo[0], outputValues);
+              }
+
+              Throwable cause = ex instanceof CompletionException ? ex.getCause() : ex;
 
-      StatusCode[] inputDataTypeCheckResults = new StatusCode[inputArgumentValues.length];
+              if (cause instanceof UaException e) {
+                return failedResult(e);
+              } else {
+                throw new CompletionException(cause);
+              }
+            });
+  }
 
-      for (int i = 0; i < inputArgumentValues.length; i++) {
-        Argument argument = getInputArguments()[i];
+  /**
+   * Check the number, DataType, and ValueRank of the input argument values in {@code request} and
+   * then validate them using {@link #validateInputArgumentValues(Variant[])}.
+   *
+   * @return the input argument values.
+   */
+  private Variant[] checkInputArguments(CallMethodRequest request) throws UaException {
+    Variant[] inputArgumentValues = requireNonNullElse(request.getInputArguments(), new Variant[0]);
 
-        Variant variant = inputArgumentValues[i];
-        Object value = variant.value();
+    if (inputArgumentValues.length < getInputArguments().length) {
+      throw new UaException(StatusCodes.Bad_ArgumentsMissing);
+    }
+    if (inputArgumentValues.length > getInputArguments().length) {
+      throw new UaException(StatusCodes.Bad_TooManyArguments);
+    }
 
-        boolean dataTypeMatch = true;
+    StatusCode[] inputDataTypeCheckResults = new StatusCode[inputArgumentValues.length];
 
-        if (value != null) {
-          NodeId argDataTypeId = argument.getDataType();
+    for (int i = 0; i < inputArgumentValues.length; i++) {
+      Argument argument = getInputArguments()[i];
 
-          NodeId valueDataTypeId =
-              variant
-                  .getDataTypeId()
-                  .flatMap(xni -> xni.toNodeId(node.getNodeContext().getNamespaceTable()))
-                  .orElse(NodeId.NULL_VALUE);
+      Variant variant = inputArgumentValues[i];
+      Object value = variant.value();
 
-          if (!argDataTypeId.equals(valueDataTypeId)) {
-            DataTypeTree dataTypeTree = node.getNodeContext().getServer().getDataTypeTree();
+      boolean dataTypeMatch = true;
 
-            if (dataTypeTree.isStructType(argDataTypeId)) {
-              ExtensionObject xo = (ExtensionObject) value;
-              UaStructuredType decoded =
-                  xo.decode(node.getNodeContext().getServer().getStaticEncodingContext());
+      if (value != null) {
+        NodeId argDataTypeId = argument.getDataType();
 
-              valueDataTypeId =
-                  decoded
-                      .getTypeId()
-                      .toNodeId(node.getNodeContext().getNamespaceTable())
-                      .orElse(NodeId.NULL_VALUE);
+        NodeId valueDataTypeId =
+            variant
+                .getDataTypeId()
+                .flatMap(xni -> xni.toNodeId(node.getNodeContext().getNamespaceTable()))
+                .orElse(NodeId.NULL_VALUE);
 
-              DataType argType = dataTypeTree.getType(argDataTypeId);
-              boolean isAbstract = argType != null && argType.isAbstract();
+        if (!argDataTypeId.equals(valueDataTypeId)) {
+          DataTypeTree dataTypeTree = node.getNodeContext().getServer().getDataTypeTree();
 
-              if (isAbstract) {
-                dataTypeMatch = dataTypeTree.isSubtypeOf(valueDataTypeId, argDataTypeId);
-              } else {
-                dataTypeMatch = Objects.equals(valueDataTypeId, argDataTypeId);
-              }
+          if (dataTypeTree.isStructType(argDataTypeId)) {
+            ExtensionObject xo = (ExtensionObject) value;
+            UaStructuredType decoded =
+                xo.decode(node.getNodeContext().getServer().getStaticEncodingContext());
+
+            valueDataTypeId =
+                decoded
+                    .getTypeId()
+                    .toNodeId(node.getNodeContext().getNamespaceTable())
+                    .orElse(NodeId.NULL_VALUE);
+
+            DataType argType = dataTypeTree.getType(argDataTypeId);
+            boolean isAbstract = argType != null && argType.isAbstract();
+
+            if (isAbstract) {
+              dataTypeMatch = dataTypeTree.isSubtypeOf(valueDataTypeId, argDataTypeId);
             } else {
-              dataTypeMatch = dataTypeTree.isAssignable(argDataTypeId, value.getClass());
+              dataTypeMatch = Objects.equals(valueDataTypeId, argDataTypeId);
             }
+          } else {
+            dataTypeMatch = dataTypeTree.isAssignable(argDataTypeId, value.getClass());
           }
         }
+      }
 
-        int valueRank = argument.getValueRank();
+      int valueRank = argument.getValueRank();
 
-        if (valueRank == -1) {
-          // scalar
-          if (value != null && (value.getClass().isArray() || value instanceof Matrix)) {
-            dataTypeMatch = false;
-          }
-        } else if (valueRank == 1) {
-          // one dimension
-          if (value != null && !value.getClass().isArray()) {
-            dataTypeMatch = false;
-          }
-        } else if (valueRank == 0) {
-          // one or more dimension
-          if (value != null && !(value.getClass().isArray() || value instanceof Matrix)) {
-            dataTypeMatch = false;
-          }
-        } else if (valueRank > 1) {
-          // matrix (2+ dimensions)
-          if (value != null && !(value instanceof Matrix)) {
-            dataTypeMatch = false;
-          }
+      if (valueRank == -1) {
+        // scalar
+        if (value != null && (value.getClass().isArray() || value instanceof Matrix)) {
+          dataTypeMatch = false;
         }
-
-        if (dataTypeMatch) {
-          inputDataTypeCheckResults[i] = StatusCode.GOOD;
-        } else {
-          inputDataTypeCheckResults[i] = new StatusCode(StatusCodes.Bad_TypeMismatch);
+      } else if (valueRank == 1) {
+        // one dimension
+        if (value != null && !value.getClass().isArray()) {
+          dataTypeMatch = false;
+        }
+      } else if (valueRank == 0) {
+        // one or more dimension
+        if (value != null && !(value.getClass().isArray() || value instanceof Matrix)) {
+          dataTypeMatch = false;
+        }
+      } else if (valueRank > 1) {
+        // matrix (2+ dimensions)
+        if (value != null && !(value instanceof Matrix)) {
+          dataTypeMatch = false;
         }
       }
 
-      if (Arrays.stream(inputDataTypeCheckResults).anyMatch(StatusCode::isBad)) {
-        throw new InvalidArgumentException(inputDataTypeCheckResults);
+      if (dataTypeMatch) {
+        inputDataTypeCheckResults[i] = StatusCode.GOOD;
+      } else {
+        inputDataTypeCheckResults[i] = new StatusCode(StatusCodes.Bad_TypeMismatch);
       }
+    }
 
-      validateInputArgumentValues(inputArgumentValues);
+    if (Arrays.stream(inputDataTypeCheckResults).anyMatch(StatusCode::isBad)) {
+      throw new InvalidArgumentException(inputDataTypeCheckResults);
+    }
 
-      InvocationContext invocationContext =
-          new InvocationContext() {
-            @Override
-            public OpcUaServer getServer() {
-              return node.getNodeContext().getServer();
-            }
+    validateInputArgumentValues(inputArgumentValues);
 
-            @Override
-            public NodeId getObjectId() {
-              return request.getObjectId();
-            }
+    return inputArgumentValues;
+  }
 
-            @Override
-            public UaMethodNode getMethodNode() {
-              return node;
-            }
+  private InvocationContext invocationContext(
+      AccessContext accessContext, CallMethodRequest request) {
 
-            @Override
-            public Optional<Session> getSession() {
-              return accessContext.getSession();
-            }
-          };
+    return new InvocationContext() {
+      @Override
+      public OpcUaServer getServer() {
+        return node.getNodeContext().getServer();
+      }
+
+      @Override
+      public NodeId getObjectId() {
+        return request.getObjectId();
+      }
 
-      Variant[] outputValues = invoke(invocationContext, inputArgumentValues);
+      @Override
+      public UaMethodNode getMethodNode() {
+        return node;
+      }
 
+      @Override
+      public Optional<Session> getSession() {
+        return accessContext.getSession();
+      }
+    };
+  }
+
+  private static CallMethodResult failedResult(UaException e) {
+    if (e instanceof InvalidArgumentException iae) {
       return new CallMethodResult(
-          StatusCode.GOOD, new StatusCode[0], new DiagnosticInfo[0], outputValues);
-    } catch (InvalidArgumentException e) {
-      return new CallMethodResult(
-          e.getStatusCode(),
-          e.getInputArgumentResults(),
-          e.getInputArgumentDiagnosticInfos(),
+          iae.getStatusCode(),
+          iae.getInputArgumentResults(),
+          iae.getInputArgumentDiagnosticInfos(),
           new Variant[0]);
-    } catch (UaException e) {
+    } else {
       return new CallMethodResult(
           e.getStatusCode(), new StatusCode[0], new DiagnosticInfo[0], new Variant[0]);
     }
@@ -219,6 +272,30 @@ public abstract class AbstractMethodInvocationHandler implements MethodInvocatio
   protected abstract Variant[] invoke(InvocationContext invocationContext, Variant[] inputValues)
       throws UaException;
 
+  /**
+   * Invoke this method asynchronously and complete with the values for its output arguments, if
+   * any.
+   *
+   * <p>The default implementation calls {@link #invoke(InvocationContext, Variant[])} on the
+   * calling thread. See {@link AbstractAsyncMethodInvocationHandler} for methods that should not
+   * occupy a server thread while they run.
+   *
+   * @param invocationContext the {@link InvocationContext}.
+   * @param inputValues the user-supplied values for the input arguments. Each value has been
+   *     verified to be of the type specified by its {@link Argument}.
+   * @return a {@link CompletionStage} that completes with the output values, or completes
+   *     exceptionally with a {@link UaException} if invocation has failed for some reason.
+   */
+  protected CompletionStage<Variant[]> invokeAsync(
+      InvocationContext invocationContext, Variant[] inputValues) {
+
+    try {
+      return CompletableFuture.completedFuture(invoke(invocationContext, inputValues));
+    } catch (UaException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
   /**
    * Validate the input values against the expected input arguments.
    *
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2025 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.methods;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import org.eclipse.milo.opcua.sdk.server.AccessContext;
+import org.eclipse.milo.opcua.sdk.server.OpcUaServerConfig;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaException;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DiagnosticInfo;
+import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.types.structured.CallMethodRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.CallMethodResult;
+
+/**
+ * A {@link MethodInvocationHandler} that limits how many invocations of the method it's installed
+ * on run at once, across all sessions.
+ *
+ * <p>Invocations beyond the limit wait in a bounded queue; once the queue is full, invocations
+ * complete with {@link StatusCodes#Bad_ResourceUnavailable}.
+ *
+ * @see MethodInvocationLimiter
+ */
+public class ConcurrencyLimitedMethodInvocationHandler implements MethodInvocationHandler {
+
+  private final MethodInvocationLimiter limiter;
+
+  private final MethodInvocationHandler delegate;
+
+  /**
+   * @param delegate the {@link MethodInvocationHandler} that invokes the method.
+   * @param maxConcurrent the maximum number of invocations running at once.
+   * @param maxQueued the maximum number of invocations waiting to run.
+   * @param executor the {@link Executor} queued invocations are started on, e.g. the server's
+   *     {@link OpcUaServerConfig#getExecutor()}.
+   */
+  public ConcurrencyLimitedMethodInvocationHandler(
+      MethodInvocationHandler delegate, int maxConcurrent, int maxQueued, Executor executor) {
+
+    this.delegate = delegate;
+
+    limiter = new MethodInvocationLimiter(maxConcurrent, maxQueued, executor);
+  }
+
+  public MethodInvocationLimiter getLimiter() {
+    return limiter;
+  }
+
+  @Override
+  public CallMethodResult invoke(AccessContext accessContext, CallMethodRequest request) {
+    return invokeAsync(accessContext, request).toCompletableFuture().join();
+  }
+
+  @Override
+  public CompletionStage<CallMethodResult> invokeAsync(
+      AccessContext accessContext, CallMethodRequest request) {
+
+    return limiter
+        .submit(() -> delegate.invokeAsync(accessContext, request))
+        .handle(
+            (result, ex) -> {
+              if (ex == null) {
+                return result;
+              }
+
+              Throwable cause = ex instanceof CompletionException ? ex.getCause() : ex;
+
+              if (cause instanceof UaException e) {
+                return new CallMethodResult(
+                    e.getStatusCode(), new StatusCode[0], new DiagnosticInfo[0], new Variant[0]);
+              } else {
+                throw new CompletionException(cause);
+              }
+            });
+  }
+}
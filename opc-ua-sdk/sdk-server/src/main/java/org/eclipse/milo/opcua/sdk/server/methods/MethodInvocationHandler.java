@@ -10,6 +10,8 @@
 
 package org.eclipse.milo.opcua.sdk.server.methods;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import org.eclipse.milo.opcua.sdk.server.AccessContext;
 import org.eclipse.milo.opcua.stack.core.StatusCodes;
 import org.eclipse.milo.opcua.stack.core.types.builtin.DiagnosticInfo;
@@ -37,6 +39,25 @@ public interface MethodInvocationHandler {
    */
   CallMethodResult invoke(AccessContext accessContext, CallMethodRequest request);
 
+  /**
+   * Invoke the given {@link CallMethodRequest} asynchronously.
+   *
+   * <p>Handlers for long-running methods should override this so they don't occupy a server thread
+   * while they wait. The default implementation calls {@link #invoke(AccessContext,
+   * CallMethodRequest)} on the calling thread.
+   *
+   * <p>Under no circumstances should the returned stage be completed exceptionally.
+   *
+   * @param accessContext the {@link AccessContext}.
+   * @param request the {@link CallMethodRequest}.
+   * @return a {@link CompletionStage} that completes with the {@link CallMethodResult}.
+   */
+  default CompletionStage<CallMethodResult> invokeAsync(
+      AccessContext accessContext, CallMethodRequest request) {
+
+    return CompletableFuture.completedFuture(invoke(accessContext, request));
+  }
+
   /**
    * A {@link MethodInvocationHandler} that always completes with {@link
    * StatusCodes#Bad_NodeIdUnknown}.
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2025 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.methods;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+import org.eclipse.milo.opcua.sdk.server.OpcUaServerConfig;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaException;
+
+/**
+ * Limits the number of method invocations running at once.
+ *
+ * <p>Invocations submitted while the limit is reached wait in a bounded FIFO queue and are started,
+ * without blocking any thread, as running invocations complete. Invocations submitted while the
+ * queue is full are rejected with {@link StatusCodes#Bad_ResourceUnavailable}.
+ *
+ * <p>Queued invocations are started on the {@link Executor} the limiter was created with, never on
+ * the thread that completed the previous invocation, so a long chain of invocations that complete
+ * immediately can't overflow the stack.
+ */
+public final class MethodInvocationLimiter {
+
+  private final ArrayDeque<Runnable> queue = new ArrayDeque<>();
+  private int running = 0;
+
+  private final int maxConcurrent;
+  private final int maxQueued;
+  private final Executor executor;
+
+  /**
+   * @param maxConcurrent the maximum number of invocations running at once.
+   * @param maxQueued the maximum number of invocations waiting to run.
+   * @param executor the {@link Executor} queued invocations are started on, e.g. the server's
+   *     {@link OpcUaServerConfig#getExecutor()}.
+   */
+  public MethodInvocationLimiter(int maxConcurrent, int maxQueued, Executor executor) {
+    if (maxConcurrent < 1) {
+      throw new IllegalArgumentException("maxConcurrent must be at least 1: " + maxConcurrent);
+    }
+    if (maxQueued < 0) {
+      throw new IllegalArgumentException("maxQueued must not be negative: " + maxQueued);
+    }
+
+    this.maxConcurrent = maxConcurrent;
+    this.maxQueued = maxQueued;
+    this.executor = executor;
+  }
+
+  /**
+   * Start {@code invocation} now if the limit allows, otherwise once an earlier invocation has
+   * completed.
+   *
+   * @param invocation starts the invocation and returns a {@link CompletionStage} that completes
+   *     when it has finished.
+   * @param <T> the result type.
+   * @return a {@link CompletableFuture} that completes with the result of {@code invocation}, or
+   *     completes exceptionally with a {@link UaException} if the queue was full.
+   */
+  public <T> CompletableFuture<T> submit(Supplier<? extends CompletionStage<T>> invocation) {
+    var future = new CompletableFuture<T>();
+    Runnable start = () -> start(invocation, future);
+
+    synchronized (queue) {
+      if (running < maxConcurrent) {
+        running++;
+      } else if (queue.size() < maxQueued) {
+        queue.add(start);
+        return future;
+      } else {
+        future.completeExceptionally(new UaException(StatusCodes.Bad_ResourceUnavailable));
+        return future;
+      }
+    }
+
+    start.run();
+
+    return future;
+  }
+
+  /**
+   * @return the number of invocations currently running.
+   */
+  public int getRunningCount() {
+    synchronized (queue) {
+      return running;
+    }
+  }
+
+  /**
+   * @return the number of invocations waiting to run.
+   */
+  public int getQueuedCount() {
+    synchronized (queue) {
+      return queue.size();
+    }
+  }
+
+  private <T> void start(
+      Supplier<? extends CompletionStage<T>> invocation, CompletableFuture<T> future) {
+
+    CompletionStage<T> stage;
+    try {
+      stage = invocation.get();
+    } catch (Throwable t) {
+      stage = CompletableFuture.failedFuture(t);
+    }
+
+    stage.whenComplete(
+        (r, ex) -> {
+          release();
+
+          if (ex != null) {
+            future.completeExceptionally(ex);
+          } else {
+            future.complete(r);
+          }
+        });
+  }
+
+  private void release() {
+    Runnable next;
+
+    synchronized (queue) {
+      next = queue.poll();
+
+      if (next == null) {
+        running--;
+      }
+    }
+
+    // The permit passes directly to the next queued invocation.
+    if (next != null) {
+      try {
+        executor.execute(next);
+      } catch (RejectedExecutionException e) {
+        next.run();
+      }
+    }
+  }
+}
@@ -24,6 +24,7 @@ import org.eclipse.milo.opcua.sdk.server.ManagedNamespaceWithLifecycle;
 import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
 import org.eclipse.milo.opcua.sdk.server.OpcUaServerConfigLimits;
 import org.eclipse.milo.opcua.sdk.server.Session;
+import org.eclipse.milo.opcua.sdk.server.UaNodeManager;
 import org.eclipse.milo.opcua.sdk.server.items.BaseMonitoredItem;
 import org.eclipse.milo.opcua.sdk.server.items.DataItem;
 import org.eclipse.milo.opcua.sdk.server.items.EventItem;
@@ -44,6 +45,7 @@ import org.eclipse.milo.opcua.sdk.server.nodes.UaNode;
 import org.eclipse.milo.opcua.sdk.server.nodes.UaVariableNode;
 import org.eclipse.milo.opcua.sdk.server.nodes.filters.AttributeFilters;
 import org.eclipse.milo.opcua.sdk.server.subscriptions.Subscription;
+import org.eclipse.milo.opcua.sdk.server.util.ExceptionSubscriptionModel;
 import org.eclipse.milo.opcua.sdk.server.util.SubscriptionModel;
 import org.eclipse.milo.opcua.stack.core.NodeIds;
 import org.eclipse.milo.opcua.stack.core.StatusCodes;
@@ -81,7 +83,11 @@ public class OpcUaNamespace extends ManagedNamespaceWithLifecycle {
 
     this.server = server;
 
-    subscriptionModel = new SubscriptionModel(server, this);
+    subscriptionModel =
+        server.getConfig().isReportByExceptionEnabled()
+            ? new ExceptionSubscriptionModel(
+                server, this, getNodeManager(), server.getConfig().isSharedSamplingEnabled())
+            : new SubscriptionModel(server, this, server.getConfig().isSharedSamplingEnabled());
 
     getLifecycleManager()
         .addStartupTask(
@@ -101,6 +107,16 @@ public class OpcUaNamespace extends ManagedNamespaceWithLifecycle {
     getLifecycleManager().addLifecycle(subscriptionModel);
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The OPC UA namespace is always managed by a {@link UaNodeManager}.
+   */
+  @Override
+  public UaNodeManager getNodeManager() {
+    return (UaNodeManager) super.getNodeManager();
+  }
+
   @Override
   public void onDataItemsCreated(List<DataItem> dataItems) {
     subscriptionModel.onDataItemsCreated(dataItems);
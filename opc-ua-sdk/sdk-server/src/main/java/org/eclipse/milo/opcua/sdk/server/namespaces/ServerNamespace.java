@@ -25,6 +25,7 @@ import org.eclipse.milo.opcua.sdk.server.diagnostics.objects.ServerDiagnosticsOb
 import org.eclipse.milo.opcua.sdk.server.items.DataItem;
 import org.eclipse.milo.opcua.sdk.server.items.MonitoredItem;
 import org.eclipse.milo.opcua.sdk.server.model.objects.ServerDiagnosticsTypeNode;
+import org.eclipse.milo.opcua.sdk.server.util.ExceptionSubscriptionModel;
 import org.eclipse.milo.opcua.sdk.server.util.SubscriptionModel;
 import org.eclipse.milo.opcua.stack.core.NodeIds;
 import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UShort;
@@ -89,7 +90,11 @@ public class ServerNamespace extends AddressSpaceComposite implements Lifecycle,
     public DiagnosticsFragment(OpcUaServer server) {
       super(server, ServerNamespace.this);
 
-      subscriptionModel = new SubscriptionModel(server, this);
+      subscriptionModel =
+          server.getConfig().isReportByExceptionEnabled()
+              ? new ExceptionSubscriptionModel(
+                  server, this, getNodeManager(), server.getConfig().isSharedSamplingEnabled())
+              : new SubscriptionModel(server, this, server.getConfig().isSharedSamplingEnabled());
 
       ServerDiagnosticsTypeNode serverDiagnosticsNode =
           (ServerDiagnosticsTypeNode)
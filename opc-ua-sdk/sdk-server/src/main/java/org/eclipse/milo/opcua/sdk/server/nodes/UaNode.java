@@ -311,7 +311,9 @@ public abstract class UaNode implements UaServerNode {
 
     nodeManager.removeNode(getNodeId());
 
-    for (Reference reference : nodeManager.getReferences(getNodeId())) {
+    List<Reference> references = nodeManager.getReferences(getNodeId());
+
+    for (Reference reference : references) {
       if (reference.isForward()
           && referenceTypeTree.isSubtypeOf(reference.getReferenceTypeId(), NodeIds.HasChild)) {
 
@@ -321,9 +323,9 @@ public abstract class UaNode implements UaServerNode {
 
         targetNode.ifPresent(UaNode::delete);
       }
-
-      nodeManager.removeReferences(reference, context.getNamespaceTable());
     }
+
+    nodeManager.removeReferences(references, context.getNamespaceTable());
   }
 
   @Override
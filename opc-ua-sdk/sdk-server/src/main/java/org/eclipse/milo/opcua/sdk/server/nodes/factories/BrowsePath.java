@@ -12,6 +12,7 @@ package org.eclipse.milo.opcua.sdk.server.nodes.factories;
 
 import java.util.Objects;
 import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.jspecify.annotations.Nullable;
 
 public class BrowsePath {
 
@@ -20,6 +21,8 @@ public class BrowsePath {
   final BrowsePath parent;
   final QualifiedName browseName;
 
+  private @Nullable String joined;
+
   BrowsePath(BrowsePath parent, QualifiedName browseName) {
     this.parent = parent;
     this.browseName = browseName;
@@ -31,7 +34,12 @@ public class BrowsePath {
    * @return a String with the components of this browse path joined with "/" as the separator.
    */
   public String join() {
-    return join("/", true);
+    String s = joined;
+    if (s == null) {
+      // Benign race: every thread computes the same value.
+      joined = s = join("/", true);
+    }
+    return s;
   }
 
   /**
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2025 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.nodes.factories;
+
+import java.util.List;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaNode;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ExpandedNodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.util.Tree;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Everything {@link NodeFactory} needs to instantiate a type definition, resolved once from its
+ * {@link InstanceDeclarationHierarchy} so that each instance only has to create its Nodes and
+ * References.
+ *
+ * <p>Steps and references identify the Nodes of an instance by their index in {@link #steps}.
+ */
+class InstantiationPlan {
+
+  /** The hierarchy this plan was compiled from. */
+  final InstanceDeclarationHierarchy idh;
+
+  /** One step per Node of an instance, in the order of the hierarchy's NodeTable. */
+  final List<Step> steps;
+
+  /** The References between the Nodes of an instance, grouped by source in step order. */
+  final List<ReferenceTemplate> references;
+
+  /** The hierarchy of step indices, rooted at the type definition's step. */
+  final Tree<Integer> tree;
+
+  InstantiationPlan(
+      InstanceDeclarationHierarchy idh,
+      List<Step> steps,
+      List<ReferenceTemplate> references,
+      Tree<Integer> tree) {
+
+    this.idh = idh;
+    this.steps = steps;
+    this.references = references;
+    this.tree = tree;
+  }
+
+  enum Kind {
+    /** The root of an instance of an ObjectType. */
+    OBJECT_TYPE,
+    /** The root of an instance of a VariableType. */
+    VARIABLE_TYPE,
+    METHOD,
+    OBJECT,
+    VARIABLE
+  }
+
+  /**
+   * @param browsePath the path of the Node relative to the root of the instance.
+   * @param kind what kind of Node to create.
+   * @param declaration the type definition, for the root step, or the instance declaration.
+   * @param typeDefinition the type definition of an Object or Variable instance declaration.
+   * @param optional whether the instance declaration has the Optional ModellingRule.
+   */
+  record Step(
+      BrowsePath browsePath,
+      Kind kind,
+      UaNode declaration,
+      @Nullable UaNode typeDefinition,
+      boolean optional) {}
+
+  /**
+   * A Reference from the Node at step {@code source} to either the Node at step {@code target} or,
+   * if {@code target} is -1, to {@code targetNodeId}.
+   */
+  record ReferenceTemplate(
+      int source, NodeId referenceTypeId, @Nullable ExpandedNodeId targetNodeId, int target) {}
+}
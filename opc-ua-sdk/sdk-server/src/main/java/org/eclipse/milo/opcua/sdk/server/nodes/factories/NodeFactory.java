@@ -10,18 +10,26 @@
 
 package org.eclipse.milo.opcua.sdk.server.nodes.factories;
 
+import static java.util.Objects.requireNonNull;
+
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import org.eclipse.milo.opcua.sdk.core.Reference;
 import org.eclipse.milo.opcua.sdk.core.nodes.ObjectTypeNode;
 import org.eclipse.milo.opcua.sdk.core.nodes.VariableTypeNode;
 import org.eclipse.milo.opcua.sdk.server.AddressSpaceManager;
+import org.eclipse.milo.opcua.sdk.server.NodeManager;
 import org.eclipse.milo.opcua.sdk.server.ObjectTypeManager;
+import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
 import org.eclipse.milo.opcua.sdk.server.VariableTypeManager;
 import org.eclipse.milo.opcua.sdk.server.nodes.UaMethodNode;
 import org.eclipse.milo.opcua.sdk.server.nodes.UaNode;
@@ -47,7 +55,8 @@ public class NodeFactory {
       CacheBuilder.newBuilder().maximumSize(1024).expireAfterAccess(1, TimeUnit.HOURS).build();
 
   /**
-   * Invalidate the cached {@link InstanceDeclarationHierarchy} for {@code typeDefinitionId}.
+   * Invalidate the cached {@link InstanceDeclarationHierarchy} for {@code typeDefinitionId}, and
+   * with it the instantiation plans compiled from it.
    *
    * @param typeDefinitionId the {@link NodeId} type definition to invalidate.
    */
@@ -55,6 +64,9 @@ public class NodeFactory {
     IDH_CACHE.invalidate(typeDefinitionId);
   }
 
+  private final Cache<NodeId, InstantiationPlan> plans =
+      CacheBuilder.newBuilder().maximumSize(1024).expireAfterAccess(1, TimeUnit.HOURS).build();
+
   private final UaNodeContext context;
   private final ObjectTypeManager objectTypeManager;
   private final VariableTypeManager variableTypeManager;
@@ -117,6 +129,147 @@ public class NodeFactory {
       NodeId rootNodeId, NodeId typeDefinitionId, InstantiationCallback instantiationCallback)
       throws UaException {
 
+    return createNodeTrees(List.of(rootNodeId), typeDefinitionId, instantiationCallback).get(0);
+  }
+
+  /**
+   * Create an instance of {@code typeDefinitionId} rooted at each of {@code rootNodeIds}.
+   *
+   * @see #createNodeTrees(List, NodeId, InstantiationCallback, boolean)
+   */
+  public List<Tree<UaNode>> createNodeTrees(
+      List<NodeId> rootNodeIds,
+      NodeId typeDefinitionId,
+      InstantiationCallback instantiationCallback)
+      throws UaException {
+
+    return createNodeTrees(rootNodeIds, typeDefinitionId, instantiationCallback, false);
+  }
+
+  /**
+   * Create an instance of {@code typeDefinitionId} rooted at each of {@code rootNodeIds}.
+   *
+   * <p>The type definition's instance declarations are resolved into an instantiation plan once,
+   * and cached until {@link #invalidateCachedIdh(NodeId)} is called for it. All the Nodes and
+   * References of all the instances are added to the NodeManager together, after every instance has
+   * been created.
+   *
+   * <p>{@link InstantiationCallback#includeOptionalNode(NodeId, QualifiedName)} is called once per
+   * optional instance declaration and the answer applies to every instance. The other callbacks are
+   * called for each instance, in order, on the calling thread.
+   *
+   * @param rootNodeIds the {@link NodeId}s of the root Node of each instance.
+   * @param typeDefinitionId the {@link NodeId} of the ObjectType or VariableType to instantiate.
+   * @param instantiationCallback the {@link InstantiationCallback}.
+   * @param parallel if {@code true}, create the instances' Nodes in parallel on the server's {@link
+   *     OpcUaServer#getExecutorService() ExecutorService}, which must not be saturated by the
+   *     caller. Node constructors registered with the {@link ObjectTypeManager} or {@link
+   *     VariableTypeManager} must then be safe to call concurrently.
+   * @return the Node hierarchy of each instance, in the order of {@code rootNodeIds}.
+   * @throws UaException if {@code typeDefinitionId} can't be instantiated.
+   */
+  public List<Tree<UaNode>> createNodeTrees(
+      List<NodeId> rootNodeIds,
+      NodeId typeDefinitionId,
+      InstantiationCallback instantiationCallback,
+      boolean parallel)
+      throws UaException {
+
+    InstantiationPlan plan = getInstantiationPlan(typeDefinitionId);
+
+    boolean[] included = new boolean[plan.steps.size()];
+
+    for (int i = 0; i < included.length; i++) {
+      InstantiationPlan.Step step = plan.steps.get(i);
+
+      included[i] =
+          !step.optional()
+              || instantiationCallback.includeOptionalNode(
+                  requireNonNull(step.typeDefinition()).getNodeId(),
+                  step.declaration().getBrowseName());
+    }
+
+    var instances = new UaNode[rootNodeIds.size()][];
+
+    if (parallel && instances.length > 1) {
+      ExecutorService executor = context.getServer().getExecutorService();
+
+      var futures = new ArrayList<CompletableFuture<Void>>(instances.length);
+
+      for (int i = 0; i < instances.length; i++) {
+        int index = i;
+
+        futures.add(
+            CompletableFuture.runAsync(
+                () -> instances[index] = instantiate(plan, rootNodeIds.get(index), included),
+                executor));
+      }
+
+      try {
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+      } catch (CompletionException e) {
+        throw new UaException(StatusCodes.Bad_InternalError, e.getCause());
+      }
+    } else {
+      for (int i = 0; i < instances.length; i++) {
+        instances[i] = instantiate(plan, rootNodeIds.get(i), included);
+      }
+    }
+
+    var nodes = new ArrayList<UaNode>();
+    var references = new ArrayList<Reference>();
+
+    for (UaNode[] instance : instances) {
+      for (UaNode node : instance) {
+        if (node != null) {
+          nodes.add(node);
+        }
+      }
+
+      for (InstantiationPlan.ReferenceTemplate template : plan.references) {
+        UaNode source = instance[template.source()];
+
+        if (source == null) {
+          continue;
+        }
+
+        if (template.targetNodeId() != null) {
+          references.add(
+              new Reference(
+                  source.getNodeId(), template.referenceTypeId(), template.targetNodeId(), true));
+        } else {
+          UaNode target = instance[template.target()];
+
+          if (target != null) {
+            references.add(
+                new Reference(
+                    source.getNodeId(),
+                    template.referenceTypeId(),
+                    target.getNodeId().expanded(),
+                    true));
+          }
+        }
+      }
+    }
+
+    NodeManager<UaNode> nodeManager = context.getNodeManager();
+    nodeManager.addReferences(references, context.getNamespaceTable());
+    nodeManager.addNodes(nodes);
+
+    var nodeTrees = new ArrayList<Tree<UaNode>>(instances.length);
+
+    for (UaNode[] instance : instances) {
+      Tree<UaNode> nodeTree = plan.tree.map(i -> instance[i]);
+
+      notifyInstantiationCallback(nodeTree, instantiationCallback);
+
+      nodeTrees.add(nodeTree);
+    }
+
+    return nodeTrees;
+  }
+
+  private InstantiationPlan getInstantiationPlan(NodeId typeDefinitionId) throws UaException {
     AddressSpaceManager addressSpaceManager = context.getServer().getAddressSpaceManager();
 
     if (!addressSpaceManager.getManagedNode(typeDefinitionId).isPresent()) {
@@ -145,10 +298,28 @@ public class NodeFactory {
       throw new UaException(StatusCodes.Bad_InternalError, e);
     }
 
+    // A plan is only valid for the hierarchy it was compiled from, which is replaced when the
+    // cached hierarchy is invalidated.
+    InstantiationPlan plan = plans.getIfPresent(typeDefinitionId);
+
+    if (plan == null || plan.idh != idh) {
+      plan = compileInstantiationPlan(addressSpaceManager, idh);
+
+      plans.put(typeDefinitionId, plan);
+    }
+
+    return plan;
+  }
+
+  private InstantiationPlan compileInstantiationPlan(
+      AddressSpaceManager addressSpaceManager, InstanceDeclarationHierarchy idh)
+      throws UaException {
+
     NodeTable nodeTable = idh.getNodeTable();
     ReferenceTable referenceTable = idh.getReferenceTable();
 
-    Map<BrowsePath, UaNode> nodes = new HashMap<>();
+    var steps = new ArrayList<InstantiationPlan.Step>(nodeTable.nodes.size());
+    var indices = new HashMap<BrowsePath, Integer>();
 
     for (Map.Entry<BrowsePath, NodeId> entry : nodeTable.nodes.entrySet()) {
       BrowsePath browsePath = entry.getKey();
@@ -156,148 +327,181 @@ public class NodeFactory {
 
       UaNode node = addressSpaceManager.getManagedNode(nodeId).orElse(null);
 
+      InstantiationPlan.Step step;
+
       if (browsePath.parent == null) {
         // Root Node of hierarchy will be the ObjectType or VariableType to be instantiated
 
         if (node instanceof UaObjectTypeNode) {
-          UaNode instance = instanceFromTypeDefinition(rootNodeId, (UaObjectTypeNode) node);
-
-          nodes.put(browsePath, instance);
+          step =
+              new InstantiationPlan.Step(
+                  browsePath, InstantiationPlan.Kind.OBJECT_TYPE, node, null, false);
         } else if (node instanceof UaVariableTypeNode) {
-          UaNode instance = instanceFromTypeDefinition(rootNodeId, (UaVariableTypeNode) node);
-
-          nodes.put(browsePath, instance);
+          step =
+              new InstantiationPlan.Step(
+                  browsePath, InstantiationPlan.Kind.VARIABLE_TYPE, node, null, false);
         } else {
           throw new UaException(StatusCodes.Bad_InternalError);
         }
       } else {
         // Non-root Nodes are all instance declarations
-        NodeId instanceNodeId = instanceNodeId(rootNodeId, browsePath);
 
-        if (node instanceof UaMethodNode declaration) {
-          UaMethodNode instance =
-              new UaMethodNode(
-                  context,
-                  instanceNodeId,
-                  declaration.getBrowseName(),
-                  declaration.getDisplayName(),
-                  declaration.getDescription(),
-                  declaration.getWriteMask(),
-                  declaration.getUserWriteMask(),
-                  declaration.isExecutable(),
-                  declaration.isUserExecutable());
-
-          nodes.put(browsePath, instance);
-        } else if (node instanceof UaObjectNode declaration) {
+        if (node instanceof UaMethodNode) {
+          step =
+              new InstantiationPlan.Step(
+                  browsePath, InstantiationPlan.Kind.METHOD, node, null, false);
+        } else if (node instanceof UaObjectNode || node instanceof UaVariableNode) {
           ExpandedNodeId instanceTypeDefinitionId = getTypeDefinition(referenceTable, browsePath);
 
           UaNode typeDefinitionNode =
               addressSpaceManager.getManagedNode(instanceTypeDefinitionId).orElse(null);
 
-          if (typeDefinitionNode instanceof ObjectTypeNode) {
-            boolean optional = isOptionalDeclaration(declaration);
-
-            if (!optional
-                || instantiationCallback.includeOptionalNode(
-                    typeDefinitionNode.getNodeId(), declaration.getBrowseName())) {
-
-              UaObjectNode instance =
-                  instanceFromTypeDefinition(instanceNodeId, (ObjectTypeNode) typeDefinitionNode);
-
-              instance.setBrowseName(declaration.getBrowseName());
-              instance.setDisplayName(declaration.getDisplayName());
-              instance.setDescription(declaration.getDescription());
-              instance.setWriteMask(declaration.getWriteMask());
-              instance.setUserWriteMask(declaration.getUserWriteMask());
-              instance.setEventNotifier(declaration.getEventNotifier());
-
-              nodes.put(browsePath, instance);
-            }
+          if (node instanceof UaObjectNode && typeDefinitionNode instanceof ObjectTypeNode) {
+            step =
+                new InstantiationPlan.Step(
+                    browsePath,
+                    InstantiationPlan.Kind.OBJECT,
+                    node,
+                    typeDefinitionNode,
+                    isOptionalDeclaration(node));
+          } else if (node instanceof UaVariableNode
+              && typeDefinitionNode instanceof VariableTypeNode) {
+            step =
+                new InstantiationPlan.Step(
+                    browsePath,
+                    InstantiationPlan.Kind.VARIABLE,
+                    node,
+                    typeDefinitionNode,
+                    isOptionalDeclaration(node));
           } else {
             throw new UaException(
                 StatusCodes.Bad_InternalError,
                 "expected type definition for " + instanceTypeDefinitionId);
           }
-        } else if (node instanceof UaVariableNode declaration) {
-          ExpandedNodeId instanceTypeDefinitionId = getTypeDefinition(referenceTable, browsePath);
+        } else {
+          throw new UaException(
+              StatusCodes.Bad_InternalError, "not an instance declaration: " + node);
+        }
+      }
 
-          UaNode typeDefinitionNode =
-              addressSpaceManager.getManagedNode(instanceTypeDefinitionId).orElse(null);
+      indices.put(browsePath, steps.size());
+      steps.add(step);
+    }
 
-          if (typeDefinitionNode instanceof VariableTypeNode) {
-            boolean optional = isOptionalDeclaration(declaration);
-
-            if (!optional
-                || instantiationCallback.includeOptionalNode(
-                    typeDefinitionNode.getNodeId(), declaration.getBrowseName())) {
-              UaVariableNode instance =
-                  instanceFromTypeDefinition(instanceNodeId, (VariableTypeNode) typeDefinitionNode);
-
-              instance.setBrowseName(declaration.getBrowseName());
-              instance.setDisplayName(declaration.getDisplayName());
-              instance.setDescription(declaration.getDescription());
-              instance.setWriteMask(declaration.getWriteMask());
-              instance.setUserWriteMask(declaration.getUserWriteMask());
-              instance.setValue(declaration.getValue());
-              instance.setDataType(declaration.getDataType());
-              instance.setValueRank(declaration.getValueRank());
-              instance.setArrayDimensions(declaration.getArrayDimensions());
-              instance.setAccessLevel(declaration.getAccessLevel());
-              instance.setUserAccessLevel(declaration.getUserAccessLevel());
-
-              nodes.put(browsePath, instance);
-            }
+    var references = new ArrayList<InstantiationPlan.ReferenceTemplate>();
+
+    for (int i = 0; i < steps.size(); i++) {
+      for (ReferenceTable.RefRow row : referenceTable.getReferences(steps.get(i).browsePath())) {
+        NodeId referenceTypeId = row.nodeId;
+        ReferenceTable.RefTarget target = row.target;
+
+        if (!NodeIds.HasModellingRule.equals(referenceTypeId)) {
+          if (target.targetNodeId != null) {
+            references.add(
+                new InstantiationPlan.ReferenceTemplate(
+                    i, referenceTypeId, target.targetNodeId, -1));
           } else {
-            throw new UaException(
-                StatusCodes.Bad_InternalError,
-                "expected type definition for " + instanceTypeDefinitionId);
+            Integer targetIndex = indices.get(target.targetPath);
+
+            if (targetIndex != null) {
+              references.add(
+                  new InstantiationPlan.ReferenceTemplate(i, referenceTypeId, null, targetIndex));
+            }
           }
-        } else {
-          throw new UaException(
-              StatusCodes.Bad_InternalError, "not an instance declaration: " + node);
         }
       }
     }
 
-    nodes.forEach(
-        (browsePath, node) -> {
-          List<ReferenceTable.RefRow> references = referenceTable.getReferences(browsePath);
-
-          references.forEach(
-              t -> {
-                NodeId referenceTypeId = t.nodeId;
-                ReferenceTable.RefTarget target = t.target;
-
-                if (!NodeIds.HasModellingRule.equals(referenceTypeId)) {
-                  if (target.targetNodeId != null) {
-                    node.addReference(
-                        new Reference(
-                            node.getNodeId(), referenceTypeId, target.targetNodeId, true));
-                  } else {
-                    BrowsePath targetPath = target.targetPath;
-
-                    UaNode targetNode = nodes.get(targetPath);
-
-                    if (targetNode != null) {
-                      node.addReference(
-                          new Reference(
-                              node.getNodeId(),
-                              referenceTypeId,
-                              targetNode.getNodeId().expanded(),
-                              true));
-                    }
-                  }
-                }
-              });
+    Tree<Integer> tree = nodeTable.getBrowsePathTree().map(indices::get);
 
-          context.getNodeManager().addNode(node);
-        });
+    return new InstantiationPlan(idh, List.copyOf(steps), List.copyOf(references), tree);
+  }
 
-    Tree<UaNode> nodeTree = nodeTable.getBrowsePathTree().map(nodes::get);
+  /**
+   * Create the Nodes of one instance of {@code plan}.
+   *
+   * @return the Node created for each step of {@code plan}, or {@code null} for an optional
+   *     instance declaration that was not included.
+   */
+  private UaNode[] instantiate(InstantiationPlan plan, NodeId rootNodeId, boolean[] included) {
+    var nodes = new UaNode[plan.steps.size()];
 
-    notifyInstantiationCallback(nodeTree, instantiationCallback);
+    for (int i = 0; i < nodes.length; i++) {
+      if (!included[i]) {
+        continue;
+      }
+
+      InstantiationPlan.Step step = plan.steps.get(i);
+
+      switch (step.kind()) {
+        case OBJECT_TYPE ->
+            nodes[i] =
+                instanceFromTypeDefinition(rootNodeId, (UaObjectTypeNode) step.declaration());
+
+        case VARIABLE_TYPE ->
+            nodes[i] =
+                instanceFromTypeDefinition(rootNodeId, (UaVariableTypeNode) step.declaration());
+
+        case METHOD -> {
+          var declaration = (UaMethodNode) step.declaration();
+
+          nodes[i] =
+              new UaMethodNode(
+                  context,
+                  instanceNodeId(rootNodeId, step.browsePath()),
+                  declaration.getBrowseName(),
+                  declaration.getDisplayName(),
+                  declaration.getDescription(),
+                  declaration.getWriteMask(),
+                  declaration.getUserWriteMask(),
+                  declaration.isExecutable(),
+                  declaration.isUserExecutable());
+        }
+
+        case OBJECT -> {
+          var declaration = (UaObjectNode) step.declaration();
+
+          UaObjectNode instance =
+              instanceFromTypeDefinition(
+                  instanceNodeId(rootNodeId, step.browsePath()),
+                  (ObjectTypeNode) requireNonNull(step.typeDefinition()));
+
+          instance.setBrowseName(declaration.getBrowseName());
+          instance.setDisplayName(declaration.getDisplayName());
+          instance.setDescription(declaration.getDescription());
+          instance.setWriteMask(declaration.getWriteMask());
+          instance.setUserWriteMask(declaration.getUserWriteMask());
+          instance.setEventNotifier(declaration.getEventNotifier());
+
+          nodes[i] = instance;
+        }
+
+        case VARIABLE -> {
+          var declaration = (UaVariableNode) step.declaration();
+
+          UaVariableNode instance =
+              instanceFromTypeDefinition(
+                  instanceNodeId(rootNodeId, step.browsePath()),
+                  (VariableTypeNode) requireNonNull(step.typeDefinition()));
+
+          instance.setBrowseName(declaration.getBrowseName());
+          instance.setDisplayName(declaration.getDisplayName());
+          instance.setDescription(declaration.getDescription());
+          instance.setWriteMask(declaration.getWriteMask());
+          instance.setUserWriteMask(declaration.getUserWriteMask());
+          instance.setValue(declaration.getValue());
+          instance.setDataType(declaration.getDataType());
+          instance.setValueRank(declaration.getValueRank());
+          instance.setArrayDimensions(declaration.getArrayDimensions());
+          instance.setAccessLevel(declaration.getAccessLevel());
+          instance.setUserAccessLevel(declaration.getUserAccessLevel());
+
+          nodes[i] = instance;
+        }
+      }
+    }
 
-    return nodeTree;
+    return nodes;
   }
 
   protected void notifyInstantiationCallback(
@@ -329,7 +533,7 @@ public class NodeFactory {
   protected NodeId instanceNodeId(NodeId rootNodeId, BrowsePath browsePath) {
     Object rootIdentifier = rootNodeId.getIdentifier();
 
-    String instanceIdentifier = String.format("%s%s", rootIdentifier, browsePath.join());
+    String instanceIdentifier = rootIdentifier + browsePath.join();
 
     return new NodeId(rootNodeId.getNamespaceIndex(), instanceIdentifier);
   }
@@ -10,6 +10,7 @@
 
 package org.eclipse.milo.opcua.sdk.server.servicesets;
 
+import java.util.concurrent.CompletableFuture;
 import org.eclipse.milo.opcua.stack.core.UaException;
 import org.eclipse.milo.opcua.stack.core.types.structured.CallRequest;
 import org.eclipse.milo.opcua.stack.core.types.structured.CallResponse;
@@ -18,4 +19,24 @@ import org.eclipse.milo.opcua.stack.transport.server.ServiceRequestContext;
 public interface MethodServiceSet {
 
   CallResponse onCall(ServiceRequestContext context, CallRequest request) throws UaException;
+
+  /**
+   * Handle a Call request without blocking the calling thread while the methods run.
+   *
+   * <p>The default implementation completes with the result of {@link
+   * #onCall(ServiceRequestContext, CallRequest)}, called on the calling thread.
+   *
+   * @param context the {@link ServiceRequestContext}.
+   * @param request the {@link CallRequest}.
+   * @return a {@link CompletableFuture} that completes with the {@link CallResponse}.
+   */
+  default CompletableFuture<CallResponse> onCallAsync(
+      ServiceRequestContext context, CallRequest request) {
+
+    try {
+      return CompletableFuture.completedFuture(onCall(context, request));
+    } catch (UaException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
 }
@@ -10,12 +10,14 @@
 
 package org.eclipse.milo.opcua.sdk.server.servicesets.impl;
 
-import static org.eclipse.milo.opcua.sdk.core.util.GroupMapCollate.groupMapCollate;
+import static org.eclipse.milo.opcua.sdk.core.util.AsyncGroupMapCollate.groupMapCollate;
 import static org.eclipse.milo.opcua.sdk.server.servicesets.AbstractServiceSet.createResponseHeader;
 
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import org.eclipse.milo.opcua.sdk.server.AddressSpace.CallContext;
 import org.eclipse.milo.opcua.sdk.server.DiagnosticsContext;
 import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
@@ -44,22 +46,50 @@ public class DefaultMethodServiceSet implements MethodServiceSet {
   @Override
   public CallResponse onCall(ServiceRequestContext context, CallRequest request)
       throws UaException {
-    Session session = server.getSessionManager().getSession(context, request.getRequestHeader());
 
     try {
-      return call(request, session);
+      return onCallAsync(context, request).get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new UaException(StatusCodes.Bad_UnexpectedError, e);
+    } catch (ExecutionException e) {
+      throw UaException.extract(e).orElse(new UaException(e));
+    }
+  }
+
+  @Override
+  public CompletableFuture<CallResponse> onCallAsync(
+      ServiceRequestContext context, CallRequest request) {
+
+    Session session;
+    try {
+      session = server.getSessionManager().getSession(context, request.getRequestHeader());
     } catch (UaException e) {
-      session.getSessionDiagnostics().getCallCount().incrementErrorCount();
-      session.getSessionDiagnostics().getTotalRequestCount().incrementErrorCount();
+      return CompletableFuture.failedFuture(e);
+    }
 
-      throw e;
-    } finally {
-      session.getSessionDiagnostics().getCallCount().incrementTotalCount();
-      session.getSessionDiagnostics().getTotalRequestCount().incrementTotalCount();
+    CompletableFuture<CallResponse> response;
+    try {
+      response = call(request, session);
+    } catch (UaException e) {
+      response = CompletableFuture.failedFuture(e);
     }
+
+    return response.whenComplete(
+        (r, ex) -> {
+          if (ex != null) {
+            session.getSessionDiagnostics().getCallCount().incrementErrorCount();
+            session.getSessionDiagnostics().getTotalRequestCount().incrementErrorCount();
+          }
+
+          session.getSessionDiagnostics().getCallCount().incrementTotalCount();
+          session.getSessionDiagnostics().getTotalRequestCount().incrementTotalCount();
+        });
   }
 
-  private CallResponse call(CallRequest request, Session session) throws UaException {
+  private CompletableFuture<CallResponse> call(CallRequest request, Session session)
+      throws UaException {
+
     List<CallMethodRequest> methodsToCall = Lists.ofNullable(request.getMethodsToCall());
 
     if (methodsToCall.isEmpty()) {
@@ -74,7 +104,7 @@ public class DefaultMethodServiceSet implements MethodServiceSet {
     Map<CallMethodRequest, AccessResult> accessResults =
         server.getAccessController().checkCallAccess(session, methodsToCall);
 
-    List<CallMethodResult> results =
+    CompletableFuture<List<CallMethodResult>> results =
         groupMapCollate(
             methodsToCall,
             accessResults::get,
@@ -82,7 +112,8 @@ public class DefaultMethodServiceSet implements MethodServiceSet {
                 group -> {
                   if (accessResult instanceof AccessResult.Denied denied) {
                     var result = new CallMethodResult(denied.statusCode(), null, null, null);
-                    return Collections.nCopies(group.size(), result);
+                    return CompletableFuture.completedFuture(
+                        Collections.nCopies(group.size(), result));
                   } else {
                     var diagnosticsContext = new DiagnosticsContext<CallMethodRequest>();
 
@@ -95,13 +126,16 @@ public class DefaultMethodServiceSet implements MethodServiceSet {
                             request.getRequestHeader().getTimeoutHint(),
                             request.getRequestHeader().getAdditionalHeader());
 
-                    return server.getAddressSpaceManager().call(callContext, methodsToCall);
+                    return server.getAddressSpaceManager().callAsync(callContext, group);
                   }
                 });
 
-    ResponseHeader header = createResponseHeader(request);
+    return results.thenApply(
+        r -> {
+          ResponseHeader header = createResponseHeader(request);
 
-    return new CallResponse(
-        header, results.toArray(CallMethodResult[]::new), new DiagnosticInfo[0]);
+          return new CallResponse(
+              header, r.toArray(CallMethodResult[]::new), new DiagnosticInfo[0]);
+        });
   }
 }
@@ -21,7 +21,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import org.eclipse.milo.opcua.sdk.core.Reference;
-import org.eclipse.milo.opcua.sdk.core.typetree.ReferenceTypeTree;
 import org.eclipse.milo.opcua.sdk.server.AccessContext;
 import org.eclipse.milo.opcua.sdk.server.AddressSpace;
 import org.eclipse.milo.opcua.sdk.server.AddressSpace.BrowseContext;
@@ -108,6 +107,9 @@ public class BrowseHelper {
                 browseRequest.getView(),
                 nodesToBrowse.stream()
                     .map(BrowseDescription::getNodeId)
+                    .collect(Collectors.toList()),
+                nodesToBrowse.stream()
+                    .map(AddressSpace.ReferenceFilter::of)
                     .collect(Collectors.toList()));
 
     List<ReferenceDescriptionResult> referenceDescriptionLists =
@@ -190,6 +192,7 @@ public class BrowseHelper {
       BrowseDescription browseDescription = nodesToBrowse.get(i);
       AddressSpace.ReferenceResult result = referenceResults.get(i);
 
+      // References were already filtered by direction and reference type when browsed.
       List<Reference> references;
       if (result instanceof AddressSpace.ReferenceResult.ReferenceList r) {
         references = r.references();
@@ -198,17 +201,11 @@ public class BrowseHelper {
         continue;
       }
 
-      List<Reference> stage1Refs =
-          references.stream()
-              .filter(reference -> filterDirection(browseDescription, reference))
-              .filter(reference -> filterReferenceType(server, browseDescription, reference))
-              .toList();
-
       // The target of each of these references is going to need "BrowseAttributes" read
       // and possibly the TypeDefinition browsed for. How can we batch these up?
 
       List<ExpandedNodeId> targetNodeIds =
-          stage1Refs.stream().map(Reference::getTargetNodeId).collect(Collectors.toList());
+          references.stream().map(Reference::getTargetNodeId).collect(Collectors.toList());
 
       List<BrowseAttributes> browseAttributes = readBrowseAttributes(server, targetNodeIds);
 
@@ -218,8 +215,8 @@ public class BrowseHelper {
 
       var referenceDescriptions = new ArrayList<ReferenceDescription>();
 
-      for (int j = 0; j < stage1Refs.size(); j++) {
-        Reference reference = stage1Refs.get(j);
+      for (int j = 0; j < references.size(); j++) {
+        Reference reference = references.get(j);
         BrowseAttributes attributes = browseAttributes.get(j);
         ExpandedNodeId typeDefinitionId = typeDefinitionIds.get(j);
 
@@ -408,15 +405,20 @@ public class BrowseHelper {
 
       var view = new ViewDescription(NodeId.NULL_VALUE, DateTime.NULL_VALUE, UInteger.valueOf(0));
 
+      var filter =
+          new AddressSpace.ReferenceFilter(
+              NodeIds.HasTypeDefinition, false, BrowseDirection.Forward);
+
       AddressSpace.ReferenceResult result =
-          server.getAddressSpaceManager().browse(browseContext, view, List.of(nodeId)).get(0);
+          server
+              .getAddressSpaceManager()
+              .browse(browseContext, view, List.of(nodeId), List.of(filter))
+              .get(0);
 
       if (result instanceof AddressSpace.ReferenceResult.ReferenceList rl) {
         List<Reference> references = rl.references();
 
         return references.stream()
-            .filter(r -> NodeIds.HasTypeDefinition.equals(r.getReferenceTypeId()))
-            .filter(Reference::isForward)
             .findFirst()
             .map(Reference::getTargetNodeId)
             .orElse(ExpandedNodeId.NULL_VALUE);
@@ -426,30 +428,6 @@ public class BrowseHelper {
     }
   }
 
-  private static boolean filterDirection(BrowseDescription browseDescription, Reference reference) {
-
-    return switch (browseDescription.getBrowseDirection()) {
-      case Forward -> reference.isForward();
-      case Inverse -> reference.isInverse();
-      default -> true;
-    };
-  }
-
-  private static boolean filterReferenceType(
-      OpcUaServer server, BrowseDescription browseDescription, Reference reference) {
-
-    ReferenceTypeTree referenceTypeTree = server.getReferenceTypeTree();
-    NodeId referenceTypeId = browseDescription.getReferenceTypeId();
-
-    boolean includeAny = referenceTypeId == null || referenceTypeId.isNull();
-    boolean includeSubtypes = browseDescription.getIncludeSubtypes();
-
-    return includeAny
-        || reference.getReferenceTypeId().equals(referenceTypeId)
-        || (includeSubtypes
-            && referenceTypeTree.isSubtypeOf(reference.getReferenceTypeId(), referenceTypeId));
-  }
-
   private static boolean filterNodeClass(BrowseDescription browseDescription, NodeClass nodeClass) {
 
     long mask = browseDescription.getNodeClassMask().longValue();
@@ -18,8 +18,8 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.eclipse.milo.opcua.sdk.core.Reference;
-import org.eclipse.milo.opcua.sdk.core.typetree.ReferenceTypeTree;
 import org.eclipse.milo.opcua.sdk.server.AccessContext;
 import org.eclipse.milo.opcua.sdk.server.AddressSpace;
 import org.eclipse.milo.opcua.sdk.server.AddressSpace.BrowseContext;
@@ -37,6 +37,7 @@ import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
 import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
 import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
 import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.BrowseDirection;
 import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
 import org.eclipse.milo.opcua.stack.core.types.structured.BrowsePath;
 import org.eclipse.milo.opcua.stack.core.types.structured.BrowsePathResult;
@@ -103,8 +104,26 @@ public class BrowsePathsHelper {
           new StatusCode(StatusCodes.Bad_NothingToDo), new BrowsePathTarget[0]);
     }
 
+    return server
+        .getBrowsePathCache()
+        .getOrCompute(
+            context.getSession().orElse(null),
+            startingNode,
+            relativePathElements,
+            dependencies -> translate(startingNode, relativePathElements, dependencies));
+  }
+
+  /**
+   * Translate a browse path, adding the {@link NodeId} of every Node browsed or read the BrowseName
+   * of to {@code dependencies}.
+   */
+  private BrowsePathResult translate(
+      NodeId startingNode,
+      List<RelativePathElement> relativePathElements,
+      Set<NodeId> dependencies) {
+
     try {
-      List<BrowsePathTarget> targets = follow(startingNode, relativePathElements);
+      List<BrowsePathTarget> targets = follow(startingNode, relativePathElements, dependencies);
 
       if (!targets.isEmpty()) {
         return new BrowsePathResult(StatusCode.GOOD, targets.toArray(new BrowsePathTarget[0]));
@@ -117,13 +136,14 @@ public class BrowsePathsHelper {
     }
   }
 
-  private List<BrowsePathTarget> follow(NodeId nodeId, List<RelativePathElement> elements)
+  private List<BrowsePathTarget> follow(
+      NodeId nodeId, List<RelativePathElement> elements, Set<NodeId> dependencies)
       throws UaException {
 
     if (elements.isEmpty()) {
       return Collections.emptyList();
     } else if (elements.size() == 1) {
-      List<ExpandedNodeId> targets = target(nodeId, elements.get(0));
+      List<ExpandedNodeId> targets = target(nodeId, elements.get(0), dependencies);
 
       return targets.stream()
           .map(
@@ -135,7 +155,7 @@ public class BrowsePathsHelper {
     } else {
       RelativePathElement e = elements.get(0);
 
-      ExpandedNodeId nextXni = next(nodeId, e);
+      ExpandedNodeId nextXni = next(nodeId, e, dependencies);
       if (nextXni.isNull()) {
         // There was no match for the target name
         throw new UaException(StatusCodes.Bad_NoMatch);
@@ -146,7 +166,7 @@ public class BrowsePathsHelper {
       Optional<NodeId> nextId = nextXni.toNodeId(server.getNamespaceTable());
 
       if (nextId.isPresent()) {
-        return follow(nextId.get(), nextElements);
+        return follow(nextId.get(), nextElements, dependencies);
       } else {
         UInteger remaining = nextElements.isEmpty() ? UInteger.MAX : uint(nextElements.size());
 
@@ -156,7 +176,8 @@ public class BrowsePathsHelper {
     }
   }
 
-  private ExpandedNodeId next(NodeId nodeId, RelativePathElement element) throws UaException {
+  private ExpandedNodeId next(NodeId nodeId, RelativePathElement element, Set<NodeId> dependencies)
+      throws UaException {
     NodeId referenceTypeId = element.getReferenceTypeId();
     boolean includeSubtypes = element.getIncludeSubtypes();
     QualifiedName targetName = element.getTargetName();
@@ -169,28 +190,26 @@ public class BrowsePathsHelper {
 
     var view = new ViewDescription(NodeId.NULL_VALUE, DateTime.NULL_VALUE, UInteger.valueOf(0));
 
+    dependencies.add(nodeId);
+
+    /* Browse for references of the requested type or its subtype, if allowed, and direction... */
+    var filter =
+        new AddressSpace.ReferenceFilter(
+            referenceTypeId,
+            includeSubtypes,
+            element.getIsInverse() ? BrowseDirection.Inverse : BrowseDirection.Forward);
+
     AddressSpace.ReferenceResult result =
-        server.getAddressSpaceManager().browse(browseContext, view, List.of(nodeId)).get(0);
+        server
+            .getAddressSpaceManager()
+            .browse(browseContext, view, List.of(nodeId), List.of(filter))
+            .get(0);
 
     if (result instanceof ReferenceList rl) {
       List<Reference> references = rl.references();
 
-      ReferenceTypeTree referenceTypeTree = server.getReferenceTypeTree();
-
       List<ExpandedNodeId> targetNodeIds =
           references.stream()
-              /* Filter for references of the requested type or its subtype, if allowed... */
-              .filter(
-                  r ->
-                      referenceTypeId.isNull()
-                          || r.getReferenceTypeId().equals(referenceTypeId)
-                          || (includeSubtypes
-                              && referenceTypeTree.isSubtypeOf(
-                                  r.getReferenceTypeId(), referenceTypeId)))
-
-              /* Filter for reference direction... */
-              .filter(r -> r.isInverse() == element.getIsInverse())
-
               /* Map to target ExpandedNodeId... */
               .map(Reference::getTargetNodeId)
               .collect(toList());
@@ -198,7 +217,7 @@ public class BrowsePathsHelper {
       if (targetNodeIds.isEmpty()) {
         throw new UaException(StatusCodes.Bad_NoMatch);
       } else {
-        List<QualifiedName> browseNames = readTargetBrowseNames(targetNodeIds);
+        List<QualifiedName> browseNames = readTargetBrowseNames(targetNodeIds, dependencies);
 
         for (int i = 0; i < targetNodeIds.size(); i++) {
           ExpandedNodeId targetNodeId = targetNodeIds.get(i);
@@ -215,8 +234,8 @@ public class BrowsePathsHelper {
     }
   }
 
-  private List<ExpandedNodeId> target(NodeId nodeId, RelativePathElement element)
-      throws UaException {
+  private List<ExpandedNodeId> target(
+      NodeId nodeId, RelativePathElement element, Set<NodeId> dependencies) throws UaException {
     NodeId referenceTypeId = element.getReferenceTypeId();
     boolean includeSubtypes = element.getIncludeSubtypes();
     QualifiedName targetName = element.getTargetName();
@@ -229,28 +248,26 @@ public class BrowsePathsHelper {
 
     var view = new ViewDescription(NodeId.NULL_VALUE, DateTime.NULL_VALUE, UInteger.valueOf(0));
 
+    dependencies.add(nodeId);
+
+    /* Browse for references of the requested type or its subtype, if allowed, and direction... */
+    var filter =
+        new AddressSpace.ReferenceFilter(
+            referenceTypeId,
+            includeSubtypes,
+            element.getIsInverse() ? BrowseDirection.Inverse : BrowseDirection.Forward);
+
     AddressSpace.ReferenceResult result =
-        server.getAddressSpaceManager().browse(browseContext, view, List.of(nodeId)).get(0);
+        server
+            .getAddressSpaceManager()
+            .browse(browseContext, view, List.of(nodeId), List.of(filter))
+            .get(0);
 
     if (result instanceof ReferenceList rl) {
       List<Reference> references = rl.references();
 
-      ReferenceTypeTree referenceTypeTree = server.getReferenceTypeTree();
-
       List<ExpandedNodeId> targetNodeIds =
           references.stream()
-              /* Filter for references of the requested type or its subtype, if allowed... */
-              .filter(
-                  r ->
-                      referenceTypeId.isNull()
-                          || r.getReferenceTypeId().equals(referenceTypeId)
-                          || (includeSubtypes
-                              && referenceTypeTree.isSubtypeOf(
-                                  r.getReferenceTypeId(), referenceTypeId)))
-
-              /* Filter for reference direction... */
-              .filter(r -> r.isInverse() == element.getIsInverse())
-
               /* Map to target ExpandedNodeId... */
               .map(Reference::getTargetNodeId)
               .collect(toList());
@@ -258,7 +275,7 @@ public class BrowsePathsHelper {
       if (targetNodeIds.isEmpty()) {
         throw new UaException(StatusCodes.Bad_NoMatch);
       } else {
-        List<QualifiedName> browseNames = readTargetBrowseNames(targetNodeIds);
+        List<QualifiedName> browseNames = readTargetBrowseNames(targetNodeIds, dependencies);
         var targets = new ArrayList<ExpandedNodeId>();
 
         for (int i = 0; i < targetNodeIds.size(); i++) {
@@ -276,12 +293,14 @@ public class BrowsePathsHelper {
     }
   }
 
-  private List<QualifiedName> readTargetBrowseNames(List<ExpandedNodeId> targetNodeIds) {
+  private List<QualifiedName> readTargetBrowseNames(
+      List<ExpandedNodeId> targetNodeIds, Set<NodeId> dependencies) {
     var browseNames = new ArrayList<QualifiedName>();
 
     for (ExpandedNodeId xni : targetNodeIds) {
       try {
         NodeId nodeId = xni.toNodeIdOrThrow(server.getNamespaceTable());
+        dependencies.add(nodeId);
 
         ReadValueId readValueId =
             new ReadValueId(nodeId, AttributeId.BrowseName.uid(), null, QualifiedName.NULL_VALUE);
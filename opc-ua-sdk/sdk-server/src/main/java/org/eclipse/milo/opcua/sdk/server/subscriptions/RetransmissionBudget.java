@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2025 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.subscriptions;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A server-wide byte budget shared by the retransmission queues of every {@link Subscription}.
+ *
+ * <p>Queues may use any free budget. Once the budget is exhausted, the owner (Session) using the
+ * most bytes beyond its fair share, {@code maxBytes / owners}, has its oldest messages evicted
+ * first, so a single Session with large or unacknowledged notifications can't starve the rest.
+ */
+public class RetransmissionBudget {
+
+  private final AtomicLong usedBytes = new AtomicLong(0L);
+
+  private final Map<Object, Owner> owners = new ConcurrentHashMap<>();
+
+  private final long maxBytes;
+
+  /**
+   * Create a {@link RetransmissionBudget}.
+   *
+   * @param maxBytes the maximum number of bytes retained across all retransmission queues.
+   */
+  public RetransmissionBudget(long maxBytes) {
+    this.maxBytes = maxBytes;
+  }
+
+  /**
+   * @return the maximum number of bytes retained across all retransmission queues.
+   */
+  public long getMaxBytes() {
+    return maxBytes;
+  }
+
+  /**
+   * @return the number of bytes currently retained across all retransmission queues.
+   */
+  public long getUsedBytes() {
+    return usedBytes.get();
+  }
+
+  void register(Object owner, RetransmissionQueue queue) {
+    owners.computeIfAbsent(owner, o -> new Owner()).queues.add(queue);
+  }
+
+  void unregister(Object owner, RetransmissionQueue queue) {
+    owners.computeIfPresent(
+        owner,
+        (o, current) -> {
+          current.queues.remove(queue);
+          return current.queues.isEmpty() ? null : current;
+        });
+  }
+
+  void allocate(Object owner, long bytes) {
+    usedBytes.addAndGet(bytes);
+
+    Owner o = owners.get(owner);
+    if (o != null) o.bytes.addAndGet(bytes);
+  }
+
+  void release(Object owner, long bytes) {
+    usedBytes.addAndGet(-bytes);
+
+    Owner o = owners.get(owner);
+    if (o != null) o.bytes.addAndGet(-bytes);
+  }
+
+  /**
+   * Evict messages until the budget is no longer exceeded or nothing more can be evicted.
+   *
+   * <p>The owner furthest over its fair share is chosen first, and within that owner the queue
+   * retaining the most bytes. A queue's most recent message is never evicted.
+   */
+  void enforce() {
+    while (usedBytes.get() > maxBytes) {
+      Owner victim = largestOwner();
+      if (victim == null) return;
+
+      RetransmissionQueue queue = victim.largestQueue();
+      if (queue == null || !queue.evictOldest()) return;
+    }
+  }
+
+  private @Nullable Owner largestOwner() {
+    Owner largest = null;
+    long largestBytes = 0L;
+
+    for (Owner owner : owners.values()) {
+      long bytes = owner.bytes.get();
+
+      if (bytes > largestBytes && owner.hasEvictable()) {
+        largest = owner;
+        largestBytes = bytes;
+      }
+    }
+
+    return largest;
+  }
+
+  /**
+   * Get the number of bytes currently retained on behalf of {@code owner}.
+   *
+   * @param owner the owner, typically a Session's {@link SubscriptionManager}.
+   * @return the number of bytes currently retained on behalf of {@code owner}.
+   */
+  long getUsedBytes(Object owner) {
+    Owner o = owners.get(owner);
+
+    return o != null ? o.bytes.get() : 0L;
+  }
+
+  private static class Owner {
+    final AtomicLong bytes = new AtomicLong(0L);
+    final Set<RetransmissionQueue> queues = ConcurrentHashMap.newKeySet();
+
+    boolean hasEvictable() {
+      for (RetransmissionQueue queue : queues) {
+        if (queue.size() > 1) return true;
+      }
+      return false;
+    }
+
+    @Nullable RetransmissionQueue largestQueue() {
+      RetransmissionQueue largest = null;
+      long largestBytes = 0L;
+
+      for (RetransmissionQueue queue : queues) {
+        long bytes = queue.getBytes();
+
+        if (bytes > largestBytes && queue.size() > 1) {
+          largest = queue;
+          largestBytes = bytes;
+        }
+      }
+
+      return largest;
+    }
+  }
+}
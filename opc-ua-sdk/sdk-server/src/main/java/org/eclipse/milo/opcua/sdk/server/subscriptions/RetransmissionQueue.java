@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2025 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.subscriptions;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ByteString;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ExtensionObject;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
+import org.eclipse.milo.opcua.stack.core.types.structured.NotificationMessage;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The retransmission queue of a {@link Subscription}: NotificationMessages that have been sent but
+ * not yet acknowledged, kept so they can be served by Republish.
+ *
+ * <p>Messages are retained as {@link NotificationMessage} objects rather than as their encoded
+ * bytes. The notification data in a NotificationMessage is already encoded as ExtensionObjects, so
+ * retaining the object keeps those encoded bodies and only adds the small message envelope.
+ * Retaining the encoded bytes instead would mean encoding every message once more, in addition to
+ * the encoding of the PublishResponse it was sent in, and decoding it again to serve Republish.
+ *
+ * <p>The size of a message is therefore an estimate, computed from the lengths of the encoded
+ * bodies plus a fixed overhead per message and per ExtensionObject; see {@link
+ * #sizeOf(NotificationMessage)}. The estimated bytes retained count against a server-wide {@link
+ * RetransmissionBudget}, and the queue is also bounded by a maximum number of messages.
+ */
+class RetransmissionQueue {
+
+  /** SequenceNumber, PublishTime, and the length of the NotificationData array. */
+  private static final long MESSAGE_OVERHEAD = 4L + 8L + 4L;
+
+  /**
+   * Encoding id, encoding mask, and body length of each ExtensionObject. Encoding ids of standard
+   * notification types use the 4-byte NodeId encoding.
+   */
+  private static final long NOTIFICATION_DATA_OVERHEAD = 4L + 1L + 4L;
+
+  private final ConcurrentSkipListMap<UInteger, Retained> messages = new ConcurrentSkipListMap<>();
+
+  private long bytes = 0L;
+  private Object owner;
+
+  private final RetransmissionBudget budget;
+  private final int maxMessages;
+  private final Runnable onDiscarded;
+
+  /**
+   * @param budget the server-wide {@link RetransmissionBudget}.
+   * @param owner the owner this queue's bytes are attributed to, e.g. a {@link
+   *     SubscriptionManager}.
+   * @param maxMessages the maximum number of messages to retain.
+   * @param onDiscarded called each time a message is discarded before it was acknowledged.
+   */
+  RetransmissionQueue(
+      RetransmissionBudget budget, Object owner, int maxMessages, Runnable onDiscarded) {
+
+    this.budget = budget;
+    this.owner = owner;
+    this.maxMessages = maxMessages;
+    this.onDiscarded = onDiscarded;
+
+    budget.register(owner, this);
+  }
+
+  /**
+   * Retain {@code notificationMessage}, then evict messages from this or other queues as needed to
+   * stay within the message limit and the {@link RetransmissionBudget}.
+   *
+   * @param notificationMessage the {@link NotificationMessage} to retain.
+   */
+  void add(NotificationMessage notificationMessage) {
+    var retained = new Retained(notificationMessage, sizeOf(notificationMessage));
+
+    synchronized (this) {
+      Retained previous = messages.put(notificationMessage.getSequenceNumber(), retained);
+
+      long delta = retained.size() - (previous != null ? previous.size() : 0L);
+      bytes += delta;
+      budget.allocate(owner, delta);
+
+      while (messages.size() > maxMessages) {
+        evictOldest();
+      }
+    }
+
+    budget.enforce();
+  }
+
+  /**
+   * Get the message with {@code sequenceNumber}, if it's still retained.
+   *
+   * @param sequenceNumber the sequence number of the message.
+   * @return the {@link NotificationMessage}, or {@code null} if not retained.
+   */
+  @Nullable NotificationMessage get(UInteger sequenceNumber) {
+    Retained retained = messages.get(sequenceNumber);
+
+    return retained != null ? retained.message() : null;
+  }
+
+  /**
+   * Remove the message with {@code sequenceNumber}, e.g. because it was acknowledged.
+   *
+   * @param sequenceNumber the sequence number of the message.
+   * @return {@code true} if the message was retained and has been removed.
+   */
+  synchronized boolean remove(UInteger sequenceNumber) {
+    Retained removed = messages.remove(sequenceNumber);
+
+    if (removed != null) {
+      release(removed);
+      return true;
+    } else {
+      return false;
+    }
+  }
+
+  /**
+   * Discard the oldest message, unless it's the only message retained.
+   *
+   * @return {@code true} if a message was discarded.
+   */
+  synchronized boolean evictOldest() {
+    if (messages.size() <= 1) return false;
+
+    Map.Entry<UInteger, Retained> entry = messages.pollFirstEntry();
+
+    if (entry != null) {
+      release(entry.getValue());
+      onDiscarded.run();
+      return true;
+    } else {
+      return false;
+    }
+  }
+
+  /**
+   * Re-attribute the bytes retained by this queue to {@code owner}, e.g. after a Subscription is
+   * transferred to another Session.
+   *
+   * @param owner the new owner.
+   */
+  synchronized void setOwner(Object owner) {
+    if (owner == this.owner) return;
+
+    budget.release(this.owner, bytes);
+    budget.unregister(this.owner, this);
+
+    this.owner = owner;
+
+    budget.register(owner, this);
+    budget.allocate(owner, bytes);
+  }
+
+  /** Discard all messages and stop counting against the {@link RetransmissionBudget}. */
+  synchronized void clear() {
+    budget.release(owner, bytes);
+    budget.unregister(owner, this);
+
+    messages.clear();
+    bytes = 0L;
+  }
+
+  /**
+   * @return the sequence numbers of all retained messages, in ascending order.
+   */
+  UInteger[] getSequenceNumbers() {
+    return messages.keySet().toArray(new UInteger[0]);
+  }
+
+  int size() {
+    return messages.size();
+  }
+
+  synchronized long getBytes() {
+    return bytes;
+  }
+
+  private void release(Retained retained) {
+    bytes -= retained.size();
+    budget.release(owner, retained.size());
+  }
+
+  /**
+   * Estimate the binary-encoded size of {@code notificationMessage} from the lengths of its already
+   * encoded notification data.
+   *
+   * <p>The estimate is exact for binary-encoded notification data whose encoding ids use the 4-byte
+   * NodeId encoding, as the standard notification types do. It doesn't include the overhead of the
+   * Java objects themselves, and XML and JSON bodies are counted by their length in characters.
+   */
+  static long sizeOf(NotificationMessage notificationMessage) {
+    long size = MESSAGE_OVERHEAD;
+
+    ExtensionObject[] notificationData = notificationMessage.getNotificationData();
+
+    if (notificationData != null) {
+      for (ExtensionObject xo : notificationData) {
+        size += NOTIFICATION_DATA_OVERHEAD + bodyLength(xo);
+      }
+    }
+
+    return size;
+  }
+
+  private static long bodyLength(ExtensionObject xo) {
+    if (xo instanceof ExtensionObject.Binary binary) {
+      ByteString body = binary.getBody();
+      return body.isNull() ? 0L : body.length();
+    } else if (xo instanceof ExtensionObject.Xml xml) {
+      return xml.getBody().getFragmentOrEmpty().length();
+    } else if (xo instanceof ExtensionObject.Json json) {
+      return json.getBody() != null ? json.getBody().length() : 0L;
+    } else {
+      return 0L;
+    }
+  }
+
+  private record Retained(NotificationMessage message, long size) {}
+}
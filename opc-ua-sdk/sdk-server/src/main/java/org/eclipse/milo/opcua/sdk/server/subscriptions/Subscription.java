@@ -19,15 +19,14 @@ import com.google.common.math.DoubleMath;
 import com.google.common.primitives.Ints;
 import java.math.RoundingMode;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
@@ -62,9 +61,6 @@ import org.slf4j.LoggerFactory;
 
 public class Subscription {
 
-  /** Maximum number of NotificationMessages to store for republishing. */
-  private static final int MAX_AVAILABLE_MESSAGES = 1024;
-
   /** Maximum number of notifications that can be returned in a single PublishResponse. */
   private static final int MAX_NOTIFICATIONS_PER_PUBLISH = 65535;
 
@@ -75,14 +71,17 @@ public class Subscription {
   private final AtomicLong itemIds = new AtomicLong(1L);
   private final Map<UInteger, BaseMonitoredItem<?>> itemsById = new ConcurrentHashMap<>();
 
+  /**
+   * Items that may have notifications to report, in the order they became ready. Items add
+   * themselves via their ready listener, so publishing only needs to visit items that changed.
+   */
+  private final Queue<BaseMonitoredItem<?>> readyItems = new ConcurrentLinkedQueue<>();
+
   private final AtomicReference<State> state = new AtomicReference<>(State.Normal);
   private final AtomicReference<StateListener> stateListener = new AtomicReference<>();
 
   private final AtomicLong sequenceNumber = new AtomicLong(1L);
 
-  private final ConcurrentSkipListMap<UInteger, NotificationMessage> availableMessages =
-      new ConcurrentSkipListMap<>(UInteger::compareTo);
-
   private final PublishHandler publishHandler = new PublishHandler();
   private final TimerHandler timerHandler = new TimerHandler();
 
@@ -105,6 +104,7 @@ public class Subscription {
   private final SubscriptionDiagnostics subscriptionDiagnostics;
 
   private final EncodingContext encodingContext;
+  private final RetransmissionQueue retransmissionQueue;
   private final UInteger subscriptionId;
 
   public Subscription(
@@ -124,6 +124,19 @@ public class Subscription {
 
     encodingContext = subscriptionManager.getServer().getStaticEncodingContext();
 
+    retransmissionQueue =
+        new RetransmissionQueue(
+            subscriptionManager.getServer().getRetransmissionBudget(),
+            subscriptionManager,
+            Ints.saturatedCast(
+                subscriptionManager
+                    .getServer()
+                    .getConfig()
+                    .getLimits()
+                    .getMaxRetransmissionQueueMessages()
+                    .longValue()),
+            () -> subscriptionDiagnostics.getDiscardedMessageCount().increment());
+
     setPublishingInterval(publishingInterval);
     setMaxKeepAliveCount(maxKeepAliveCount);
     setLifetimeCount(lifetimeCount);
@@ -198,6 +211,7 @@ public class Subscription {
   public synchronized void addMonitoredItems(List<BaseMonitoredItem<?>> createdItems) {
     for (BaseMonitoredItem<?> item : createdItems) {
       itemsById.put(item.getId(), item);
+      item.setReadyListener(readyItems::add);
     }
 
     resetLifetimeCounter();
@@ -208,6 +222,7 @@ public class Subscription {
   public synchronized void removeMonitoredItems(List<BaseMonitoredItem<?>> deletedItems) {
     for (BaseMonitoredItem<?> item : deletedItems) {
       itemsById.remove(item.getId());
+      item.setReadyListener(null);
     }
 
     resetLifetimeCounter();
@@ -428,9 +443,14 @@ public class Subscription {
 
     lastIterator.forEachRemaining(items::add);
 
-    itemsById.values().stream()
-        .filter(item -> item.hasNotifications() || item.isTriggered())
-        .forEach(items::add);
+    BaseMonitoredItem<?> item;
+    while ((item = readyItems.poll()) != null) {
+      item.clearReady();
+
+      if (isReportable(item)) {
+        items.add(item);
+      }
+    }
 
     PeekingIterator<BaseMonitoredItem<?>> iterator = Iterators.peekingIterator(items.iterator());
 
@@ -528,15 +548,7 @@ public class Subscription {
         new NotificationMessage(
             sequenceNumber, DateTime.now(), notificationData.toArray(new ExtensionObject[0]));
 
-    availableMessages.put(notificationMessage.getSequenceNumber(), notificationMessage);
-
-    while (availableMessages.size() > MAX_AVAILABLE_MESSAGES) {
-      Map.Entry<UInteger, NotificationMessage> entry = availableMessages.pollFirstEntry();
-      if (entry != null) {
-        subscriptionDiagnostics.getDiscardedMessageCount().increment();
-        logger.debug("Discarded cached NotificationMessage with sequenceNumber={}", entry.getKey());
-      }
-    }
+    retransmissionQueue.add(notificationMessage);
 
     UInteger[] available = getAvailableSequenceNumbers();
     StatusCode[] acknowledgeResults = pending.acknowledgeResults;
@@ -566,8 +578,28 @@ public class Subscription {
   }
 
   private boolean notificationsAvailable() {
-    return itemsById.values().stream()
-        .anyMatch(item -> item.hasNotifications() || item.isTriggered());
+    BaseMonitoredItem<?> item;
+    while ((item = readyItems.peek()) != null) {
+      if (isReportable(item)) {
+        return true;
+      }
+
+      // Discard items that were removed or no longer have anything to report.
+      readyItems.poll();
+      item.clearReady();
+
+      if (isReportable(item)) {
+        // Raced with an enqueue before clearReady(); put it back.
+        item.markReady();
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  private boolean isReportable(BaseMonitoredItem<?> item) {
+    return itemsById.get(item.getId()) == item && (item.hasNotifications() || item.isTriggered());
   }
 
   private void setState(State state) {
@@ -583,6 +615,8 @@ public class Subscription {
 
     if (state == State.Late) {
       subscriptionDiagnostics.getLatePublishRequestCount().increment();
+    } else if (state == State.Closed) {
+      retransmissionQueue.clear();
     }
   }
 
@@ -653,14 +687,11 @@ public class Subscription {
   }
 
   public synchronized UInteger[] getAvailableSequenceNumbers() {
-    Set<UInteger> uIntegers = availableMessages.keySet();
-    UInteger[] available = uIntegers.toArray(new UInteger[0]);
-    Arrays.sort(available);
-    return available;
+    return retransmissionQueue.getSequenceNumbers();
   }
 
   public synchronized UInteger getUnacknowledgeMessageCount() {
-    return uint(availableMessages.size());
+    return uint(retransmissionQueue.size());
   }
 
   public synchronized SubscriptionManager getSubscriptionManager() {
@@ -669,6 +700,8 @@ public class Subscription {
 
   public synchronized void setSubscriptionManager(SubscriptionManager subscriptionManager) {
     this.subscriptionManager = subscriptionManager;
+
+    retransmissionQueue.setOwner(subscriptionManager);
   }
 
   public Session getSession() {
@@ -785,7 +818,7 @@ public class Subscription {
   }
 
   public synchronized StatusCode acknowledge(UInteger sequenceNumber) {
-    if (availableMessages.remove(sequenceNumber) != null) {
+    if (retransmissionQueue.remove(sequenceNumber)) {
       logger.debug("[id={}] sequence number acknowledged: {}", subscriptionId, sequenceNumber);
 
       return StatusCode.GOOD;
@@ -802,7 +835,7 @@ public class Subscription {
     subscriptionDiagnostics.getRepublishRequestCount().increment();
     subscriptionDiagnostics.getRepublishMessageRequestCount().increment();
 
-    NotificationMessage notificationMessage = availableMessages.get(sequenceNumber);
+    NotificationMessage notificationMessage = retransmissionQueue.get(sequenceNumber);
 
     if (notificationMessage != null) {
       subscriptionDiagnostics.getRepublishMessageCount().increment();
@@ -0,0 +1,492 @@
+/*
+ * Copyright (c) 2025 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.util;
+
+import static org.eclipse.milo.opcua.sdk.core.util.GroupMapCollate.groupMapCollate;
+
+import com.google.common.math.DoubleMath;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.milo.opcua.sdk.server.AddressSpace;
+import org.eclipse.milo.opcua.sdk.server.AddressSpace.ReadContext;
+import org.eclipse.milo.opcua.sdk.server.NodeManager;
+import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
+import org.eclipse.milo.opcua.sdk.server.items.DataItem;
+import org.eclipse.milo.opcua.sdk.server.items.MonitoredItem;
+import org.eclipse.milo.opcua.sdk.server.nodes.AttributeObserver;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaNode;
+import org.eclipse.milo.opcua.sdk.server.servicesets.impl.AccessController.AccessResult;
+import org.eclipse.milo.opcua.stack.core.AttributeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
+import org.eclipse.milo.opcua.stack.core.util.ExecutionQueue;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A report-by-exception alternative to {@link SubscriptionModel}.
+ *
+ * <p>Rather than polling every {@link DataItem} on a timer, this model registers an {@link
+ * AttributeObserver} on each monitored {@link UaNode} and pushes changes into the item as they
+ * happen, e.g. when application code calls {@code UaVariableNode.setValue}. Idle items cost
+ * nothing.
+ *
+ * <p>The sampling interval of each item is respected as a minimum spacing between delivered values;
+ * changes arriving faster than that are coalesced and only the latest value is delivered when the
+ * interval elapses.
+ *
+ * <p>Read access is checked through the {@link
+ * org.eclipse.milo.opcua.sdk.server.servicesets.impl.AccessController} each time a value is
+ * delivered; items that are denied receive the denial status instead of the value.
+ *
+ * <p>Items for Nodes that cannot be observed, i.e. Nodes not found in the {@link NodeManager} or
+ * Nodes with an {@link org.eclipse.milo.opcua.sdk.server.nodes.filters.AttributeFilter} installed
+ * that may compute values on read, are sampled by the polling {@link SubscriptionModel} this class
+ * extends.
+ *
+ * @see org.eclipse.milo.opcua.sdk.server.OpcUaServerConfig#isReportByExceptionEnabled()
+ */
+public class ExceptionSubscriptionModel extends SubscriptionModel {
+
+  private final Map<DataItem, ItemState> itemStates = new ConcurrentHashMap<>();
+  private final Map<NodeId, NodeObserver> nodeObservers = new ConcurrentHashMap<>();
+  private final Set<DataItem> polledItems = ConcurrentHashMap.newKeySet();
+
+  private final ExecutorService executor;
+  private final ScheduledExecutorService scheduler;
+  private final ExecutionQueue executionQueue;
+
+  private final OpcUaServer server;
+  private final AddressSpace addressSpace;
+  private final NodeManager<UaNode> nodeManager;
+
+  public ExceptionSubscriptionModel(
+      OpcUaServer server, AddressSpace addressSpace, NodeManager<UaNode> nodeManager) {
+
+    this(server, addressSpace, nodeManager, false);
+  }
+
+  /**
+   * Create an {@link ExceptionSubscriptionModel}, optionally sharing samples across Sessions for
+   * the items that are polled.
+   *
+   * @param server the {@link OpcUaServer}.
+   * @param addressSpace the {@link AddressSpace} to read sampled values from.
+   * @param nodeManager the {@link NodeManager} used to find Nodes that can be observed.
+   * @param sharedSampling {@code true} to share samples of polled items across Sessions.
+   * @see SubscriptionModel#SubscriptionModel(OpcUaServer, AddressSpace, boolean)
+   */
+  public ExceptionSubscriptionModel(
+      OpcUaServer server,
+      AddressSpace addressSpace,
+      NodeManager<UaNode> nodeManager,
+      boolean sharedSampling) {
+
+    super(server, addressSpace, sharedSampling);
+
+    this.server = server;
+    this.addressSpace = addressSpace;
+    this.nodeManager = nodeManager;
+
+    executor = server.getExecutorService();
+    scheduler = server.getScheduledExecutorService();
+
+    executionQueue = new ExecutionQueue(executor);
+  }
+
+  @Override
+  protected void onShutdown() {
+    super.onShutdown();
+
+    executionQueue.submit(
+        () -> {
+          nodeObservers.values().forEach(NodeObserver::detach);
+          nodeObservers.clear();
+          itemStates.values().forEach(ItemState::cancel);
+          itemStates.clear();
+          polledItems.clear();
+        });
+  }
+
+  @Override
+  public void onDataItemsCreated(List<DataItem> items) {
+    if (isNotRunning()) {
+      throw new IllegalArgumentException("not running");
+    }
+
+    executionQueue.submit(
+        () -> {
+          var observed = new ArrayList<DataItem>();
+          var polled = new ArrayList<DataItem>();
+
+          for (DataItem item : items) {
+            UaNode node = nodeManager.get(item.getReadValueId().getNodeId());
+
+            if (node != null && node.getFilterChain().getFilters().isEmpty()) {
+              var state = new ItemState(item);
+              itemStates.put(item, state);
+
+              nodeObservers
+                  .computeIfAbsent(node.getNodeId(), id -> new NodeObserver(node))
+                  .add(state);
+
+              if (item.isSamplingEnabled()) {
+                observed.add(item);
+              }
+            } else {
+              polledItems.add(item);
+              polled.add(item);
+            }
+          }
+
+          if (!polled.isEmpty()) {
+            super.onDataItemsCreated(polled);
+          }
+
+          // Deliver the initial value, after which only changes are reported.
+          readAndSetValues(observed);
+        });
+  }
+
+  @Override
+  public void onDataItemsModified(List<DataItem> items) {
+    if (isNotRunning()) {
+      throw new IllegalArgumentException("not running");
+    }
+
+    executionQueue.submit(
+        () -> {
+          var polled = new ArrayList<DataItem>();
+
+          for (DataItem item : items) {
+            if (polledItems.contains(item)) {
+              polled.add(item);
+            } else {
+              ItemState state = itemStates.get(item);
+
+              if (state != null) {
+                // The sampling interval may have changed; apply it to any value being held back.
+                state.samplingIntervalChanged();
+              }
+            }
+          }
+
+          if (!polled.isEmpty()) {
+            super.onDataItemsModified(polled);
+          }
+        });
+  }
+
+  @Override
+  public void onDataItemsDeleted(List<DataItem> items) {
+    if (isNotRunning()) {
+      throw new IllegalArgumentException("not running");
+    }
+
+    executionQueue.submit(
+        () -> {
+          var polled = new ArrayList<DataItem>();
+
+          for (DataItem item : items) {
+            if (polledItems.remove(item)) {
+              polled.add(item);
+            }
+
+            ItemState state = itemStates.remove(item);
+
+            if (state != null) {
+              state.cancel();
+
+              NodeId nodeId = item.getReadValueId().getNodeId();
+              NodeObserver observer = nodeObservers.get(nodeId);
+
+              if (observer != null && observer.remove(state)) {
+                nodeObservers.remove(nodeId);
+                observer.detach();
+              }
+            }
+          }
+
+          if (!polled.isEmpty()) {
+            super.onDataItemsDeleted(polled);
+          }
+        });
+  }
+
+  @Override
+  public void onMonitoringModeChanged(List<MonitoredItem> items) {
+    if (isNotRunning()) {
+      throw new IllegalArgumentException("not running");
+    }
+
+    executionQueue.submit(
+        () -> {
+          var polled = new ArrayList<MonitoredItem>();
+          var enabled = new ArrayList<DataItem>();
+
+          for (MonitoredItem item : items) {
+            if (item instanceof DataItem dataItem) {
+              if (polledItems.contains(dataItem)) {
+                polled.add(dataItem);
+              } else if (itemStates.containsKey(dataItem) && dataItem.isSamplingEnabled()) {
+                enabled.add(dataItem);
+              }
+            }
+          }
+
+          if (!polled.isEmpty()) {
+            super.onMonitoringModeChanged(polled);
+          }
+
+          // Items that were just enabled need the current value, not the next change.
+          readAndSetValues(enabled);
+        });
+  }
+
+  /**
+   * Get a copy of the {@link DataItem}s in this {@link ExceptionSubscriptionModel}, both observed
+   * and polled.
+   *
+   * @return a copy of the {@link DataItem}s in this {@link ExceptionSubscriptionModel}.
+   */
+  @Override
+  public List<DataItem> getDataItems() {
+    var items = new ArrayList<DataItem>(itemStates.keySet());
+    items.addAll(super.getDataItems());
+    return items;
+  }
+
+  private void readAndSetValues(List<DataItem> items) {
+    if (items.isEmpty()) return;
+
+    List<DataValue> values =
+        groupMapCollate(
+            items,
+            MonitoredItem::getSession,
+            session ->
+                sessionItems -> {
+                  List<ReadValueId> ids =
+                      sessionItems.stream().map(DataItem::getReadValueId).toList();
+
+                  var context = new ReadContext(server, session);
+
+                  return addressSpace.read(context, 0d, TimestampsToReturn.Both, ids);
+                });
+
+    Iterator<DataItem> ii = items.iterator();
+    Iterator<DataValue> vi = values.iterator();
+
+    while (ii.hasNext() && vi.hasNext()) {
+      DataItem item = ii.next();
+      DataValue value = vi.next();
+
+      ItemState state = itemStates.get(item);
+
+      if (state != null) {
+        state.offer(value);
+      }
+    }
+  }
+
+  /**
+   * Deliver {@code value} to {@code item}, or the denial status if the item's Session isn't allowed
+   * to read it.
+   */
+  private void deliver(DataItem item, DataValue value) {
+    ReadValueId readValueId = item.getReadValueId();
+
+    AccessResult accessResult =
+        server
+            .getAccessController()
+            .checkReadAccess(item.getSession(), List.of(readValueId))
+            .getOrDefault(readValueId, AccessResult.ALLOWED);
+
+    if (accessResult instanceof AccessResult.Denied denied) {
+      item.setValue(new DataValue(denied.statusCode()));
+    } else {
+      item.setValue(deriveValue(item, value));
+    }
+  }
+
+  private static DataValue deriveValue(DataItem item, DataValue value) {
+    TimestampsToReturn timestamps = item.getTimestampsToReturn();
+
+    if (timestamps != null) {
+      return AttributeId.Value.isEqual(item.getReadValueId().getAttributeId())
+          ? DataValue.derivedValue(value, timestamps)
+          : DataValue.derivedNonValue(value, timestamps);
+    } else {
+      return value;
+    }
+  }
+
+  /**
+   * @return {@code true} if a change to {@code item}'s attribute can be delivered as-is, without
+   *     going back through the {@link AddressSpace} to apply an IndexRange or DataEncoding.
+   */
+  private static boolean isDirectlyDeliverable(DataItem item) {
+    ReadValueId readValueId = item.getReadValueId();
+    String indexRange = readValueId.getIndexRange();
+    QualifiedName dataEncoding = readValueId.getDataEncoding();
+
+    return (indexRange == null || indexRange.isEmpty())
+        && (dataEncoding == null || dataEncoding.isNull());
+  }
+
+  /** An {@link AttributeObserver} shared by all items monitoring the same {@link UaNode}. */
+  private class NodeObserver implements AttributeObserver {
+
+    private final Set<ItemState> states = ConcurrentHashMap.newKeySet();
+
+    private final UaNode node;
+
+    NodeObserver(UaNode node) {
+      this.node = node;
+
+      node.addAttributeObserver(this);
+    }
+
+    void add(ItemState state) {
+      states.add(state);
+    }
+
+    /**
+     * @return {@code true} if there are no more items observing this node.
+     */
+    boolean remove(ItemState state) {
+      states.remove(state);
+
+      return states.isEmpty();
+    }
+
+    void detach() {
+      node.removeAttributeObserver(this);
+    }
+
+    @Override
+    public void attributeChanged(UaNode node, AttributeId attributeId, Object value) {
+      for (ItemState state : states) {
+        DataItem item = state.item;
+
+        if (!attributeId.isEqual(item.getReadValueId().getAttributeId())
+            || !item.isSamplingEnabled()) {
+          continue;
+        }
+
+        if (attributeId == AttributeId.Value
+            && value instanceof DataValue dataValue
+            && isDirectlyDeliverable(item)) {
+
+          state.offer(dataValue);
+        } else {
+          // Non-Value attributes, IndexRange, and DataEncoding go through a regular read.
+          executionQueue.submit(() -> readAndSetValues(List.of(item)));
+        }
+      }
+    }
+  }
+
+  /** Rate limits delivery of values to a {@link DataItem} according to its sampling interval. */
+  private class ItemState {
+
+    private long lastDeliveryNanos = 0L;
+    private boolean flushScheduled = false;
+    private boolean cancelled = false;
+
+    /** Incremented to make a scheduled flush obsolete. */
+    private long flushGeneration = 0L;
+
+    private @Nullable DataValue pending;
+
+    private final DataItem item;
+
+    ItemState(DataItem item) {
+      this.item = item;
+    }
+
+    synchronized void cancel() {
+      cancelled = true;
+      pending = null;
+    }
+
+    /**
+     * Re-apply rate limiting to a value being held back, using the item's current sampling interval
+     * rather than the one in effect when its delivery was scheduled.
+     */
+    synchronized void samplingIntervalChanged() {
+      flushGeneration++;
+      flushScheduled = false;
+
+      DataValue value = pending;
+      pending = null;
+
+      if (value != null) {
+        offer(value);
+      }
+    }
+
+    synchronized void offer(DataValue value) {
+      if (cancelled) return;
+
+      long intervalNanos =
+          TimeUnit.MILLISECONDS.toNanos(
+              DoubleMath.roundToLong(item.getSamplingInterval(), RoundingMode.UP));
+
+      long now = System.nanoTime();
+      long elapsed = now - lastDeliveryNanos;
+
+      if (lastDeliveryNanos == 0L || elapsed >= intervalNanos) {
+        pending = null;
+        lastDeliveryNanos = now;
+        deliver(item, value);
+      } else {
+        pending = value;
+
+        if (!flushScheduled) {
+          flushScheduled = true;
+
+          long generation = flushGeneration;
+
+          scheduler.schedule(
+              () -> executor.execute(() -> flush(generation)),
+              intervalNanos - elapsed,
+              TimeUnit.NANOSECONDS);
+        }
+      }
+    }
+
+    private synchronized void flush(long generation) {
+      if (generation != flushGeneration) return;
+
+      flushScheduled = false;
+
+      if (cancelled || pending == null) return;
+
+      DataValue value = pending;
+      pending = null;
+      lastDeliveryNanos = System.nanoTime();
+
+      if (item.isSamplingEnabled()) {
+        deliver(item, value);
+      }
+    }
+  }
+}
@@ -14,9 +14,13 @@ import static org.eclipse.milo.opcua.sdk.core.util.GroupMapCollate.groupMapColla
 
 import com.google.common.math.DoubleMath;
 import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -28,10 +32,14 @@ import org.eclipse.milo.opcua.sdk.server.AbstractLifecycle;
 import org.eclipse.milo.opcua.sdk.server.AddressSpace;
 import org.eclipse.milo.opcua.sdk.server.AddressSpace.ReadContext;
 import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
+import org.eclipse.milo.opcua.sdk.server.Session;
+import org.eclipse.milo.opcua.sdk.server.identity.Identity;
 import org.eclipse.milo.opcua.sdk.server.items.DataItem;
 import org.eclipse.milo.opcua.sdk.server.items.MonitoredItem;
+import org.eclipse.milo.opcua.sdk.server.servicesets.impl.AccessController.AccessResult;
 import org.eclipse.milo.opcua.stack.core.AttributeId;
 import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
 import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
 import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
 import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
@@ -49,11 +57,33 @@ public class SubscriptionModel extends AbstractLifecycle {
 
   private final OpcUaServer server;
   private final AddressSpace addressSpace;
+  private final boolean sharedSampling;
 
   public SubscriptionModel(OpcUaServer server, AddressSpace addressSpace) {
+    this(server, addressSpace, false);
+  }
+
+  /**
+   * Create a {@link SubscriptionModel}, optionally sharing samples across Sessions.
+   *
+   * <p>When {@code sharedSampling} is enabled, items with the same sampling interval that monitor
+   * the same {@link ReadValueId} (NodeId, AttributeId, IndexRange, DataEncoding) are sampled with a
+   * single read per interval, regardless of which Session they belong to, and the value is fanned
+   * out to each of them. Values are only shared between Sessions with the same identity, roles, and
+   * locale IDs, and each shared read is made with the {@link ReadContext} of one of those Sessions,
+   * so AttributeFilters that produce Session-specific values still see a Session equivalent to the
+   * one each item belongs to. Read access is checked per Session on every sample.
+   *
+   * @param server the {@link OpcUaServer}.
+   * @param addressSpace the {@link AddressSpace} to read sampled values from.
+   * @param sharedSampling {@code true} to sample each unique {@link ReadValueId} once per interval
+   *     across all Sessions.
+   */
+  public SubscriptionModel(OpcUaServer server, AddressSpace addressSpace, boolean sharedSampling) {
     this.server = server;
 
     this.addressSpace = addressSpace;
+    this.sharedSampling = sharedSampling;
 
     executor = server.getExecutorService();
     scheduler = server.getScheduledExecutorService();
@@ -135,7 +165,9 @@ public class SubscriptionModel extends AbstractLifecycle {
                 samplingInterval -> {
                   List<DataItem> items = bySamplingInterval.get(samplingInterval);
 
-                  return new ScheduledUpdate(samplingInterval, items);
+                  return sharedSampling
+                      ? new SharedScheduledUpdate(samplingInterval, items)
+                      : new ScheduledUpdate(samplingInterval, items);
                 })
             .toList();
 
@@ -165,24 +197,7 @@ public class SubscriptionModel extends AbstractLifecycle {
     public void run() {
       if (cancelled) return;
 
-      List<DataValue> values =
-          groupMapCollate(
-              items,
-              MonitoredItem::getSession,
-              session ->
-                  sessionItems -> {
-                    List<PendingRead> pending =
-                        sessionItems.stream()
-                            .map(item -> new PendingRead(item.getReadValueId()))
-                            .toList();
-
-                    List<ReadValueId> ids =
-                        pending.stream().map(PendingRead::getInput).collect(Collectors.toList());
-
-                    var context = new ReadContext(server, session);
-
-                    return addressSpace.read(context, 0d, TimestampsToReturn.Both, ids);
-                  });
+      List<DataValue> values = sample();
 
       Iterator<DataItem> ii = items.iterator();
       Iterator<DataValue> vi = values.iterator();
@@ -209,5 +224,173 @@ public class SubscriptionModel extends AbstractLifecycle {
         scheduler.schedule(() -> executor.execute(this), samplingInterval, TimeUnit.MILLISECONDS);
       }
     }
+
+    /**
+     * Sample the current value of each item.
+     *
+     * @return the sampled values, in the same order as {@code items}.
+     */
+    protected List<DataValue> sample() {
+      return groupMapCollate(
+          items,
+          MonitoredItem::getSession,
+          session ->
+              sessionItems -> {
+                List<PendingRead> pending =
+                    sessionItems.stream()
+                        .map(item -> new PendingRead(item.getReadValueId()))
+                        .toList();
+
+                List<ReadValueId> ids =
+                    pending.stream().map(PendingRead::getInput).collect(Collectors.toList());
+
+                var context = new ReadContext(server, session);
+
+                return addressSpace.read(context, 0d, TimestampsToReturn.Both, ids);
+              });
+    }
+  }
+
+  /**
+   * A {@link ScheduledUpdate} that reads each unique {@link ReadValueId} once per group of
+   * equivalent Sessions and fans the value out to every item monitoring it.
+   *
+   * <p>Sessions are equivalent if they have the same identity, roles, and locale IDs, i.e. a read
+   * on behalf of one of them produces the same value as a read on behalf of any other. Each group
+   * is read with the {@link ReadContext} of one of its Sessions.
+   */
+  private class SharedScheduledUpdate extends ScheduledUpdate {
+
+    /** The {@link ReadValueId}s monitored by each Session, checked for read access per sample. */
+    private final Map<Session, List<ReadValueId>> idsBySession = new HashMap<>();
+
+    private final List<DataItem> items;
+
+    private SharedScheduledUpdate(double samplingInterval, List<DataItem> items) {
+      super(samplingInterval, items);
+
+      this.items = items;
+
+      for (DataItem item : items) {
+        idsBySession
+            .computeIfAbsent(item.getSession(), s -> new ArrayList<>())
+            .add(item.getReadValueId());
+      }
+    }
+
+    /**
+     * Check read access for each Session, then read each unique {@link ReadValueId} at least one
+     * Session in each group of equivalent Sessions is allowed to read.
+     *
+     * <p>Access and Session equivalence are checked every sample rather than once, so changes to a
+     * Session's identity, roles, or locale IDs, or to the permissions of a Node, take effect on the
+     * next sample.
+     */
+    @Override
+    protected List<DataValue> sample() {
+      Map<Session, Map<ReadValueId, AccessResult>> accessResults = new HashMap<>();
+      idsBySession.forEach(
+          (session, ids) ->
+              accessResults.put(
+                  session, server.getAccessController().checkReadAccess(session, ids)));
+
+      Map<Session, Session> representatives = groupEquivalentSessions(idsBySession.keySet());
+
+      Map<Session, List<ReadValueId>> readValueIds = new HashMap<>();
+      Map<Session, Map<ReadValueId, Integer>> indices = new HashMap<>();
+
+      // For each item, the index of its value in its group's read, or -1 if access was denied.
+      int[] valueIndices = new int[items.size()];
+      StatusCode[] deniedStatus = new StatusCode[items.size()];
+
+      for (int i = 0; i < items.size(); i++) {
+        DataItem item = items.get(i);
+        ReadValueId readValueId = item.getReadValueId();
+
+        AccessResult accessResult =
+            accessResults.get(item.getSession()).getOrDefault(readValueId, AccessResult.ALLOWED);
+
+        if (accessResult instanceof AccessResult.Denied denied) {
+          valueIndices[i] = -1;
+          deniedStatus[i] = denied.statusCode();
+        } else {
+          Session representative = representatives.get(item.getSession());
+          List<ReadValueId> ids =
+              readValueIds.computeIfAbsent(representative, s -> new ArrayList<>());
+
+          valueIndices[i] =
+              indices
+                  .computeIfAbsent(representative, s -> new HashMap<>())
+                  .computeIfAbsent(
+                      readValueId,
+                      id -> {
+                        ids.add(id);
+                        return ids.size() - 1;
+                      });
+        }
+      }
+
+      Map<Session, List<DataValue>> values = new HashMap<>();
+      readValueIds.forEach(
+          (session, ids) ->
+              values.put(
+                  session,
+                  addressSpace.read(
+                      new ReadContext(server, session), 0d, TimestampsToReturn.Both, ids)));
+
+      var sampled = new ArrayList<DataValue>(valueIndices.length);
+
+      for (int i = 0; i < valueIndices.length; i++) {
+        int index = valueIndices[i];
+
+        if (index >= 0) {
+          Session representative = representatives.get(items.get(i).getSession());
+
+          sampled.add(values.get(representative).get(index));
+        } else {
+          sampled.add(new DataValue(deniedStatus[i]));
+        }
+      }
+
+      return sampled;
+    }
+  }
+
+  /**
+   * Group {@code sessions} into sets of Sessions that read the same values.
+   *
+   * @param sessions the Sessions to group.
+   * @return a Map from each Session to the first Session found in its group.
+   */
+  private static Map<Session, Session> groupEquivalentSessions(Set<Session> sessions) {
+    var representatives = new ArrayList<Session>();
+    var groups = new HashMap<Session, Session>();
+
+    for (Session session : sessions) {
+      Session representative =
+          representatives.stream()
+              .filter(r -> isEquivalent(r, session))
+              .findFirst()
+              .orElseGet(
+                  () -> {
+                    representatives.add(session);
+                    return session;
+                  });
+
+      groups.put(session, representative);
+    }
+
+    return groups;
+  }
+
+  private static boolean isEquivalent(Session a, Session b) {
+    Identity ia = a.getIdentity();
+    Identity ib = b.getIdentity();
+
+    boolean sameIdentity = ia == null ? ib == null : ib != null && ia.equalTo(ib);
+
+    return sameIdentity
+        && Objects.equals(a.getRoleIds(), b.getRoleIds())
+        && Arrays.equals(a.getLocaleIds(), b.getLocaleIds());
   }
 }
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2025 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.milo.opcua.sdk.core.Reference;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaFolderNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaNodeContext;
+import org.eclipse.milo.opcua.stack.core.NamespaceTable;
+import org.eclipse.milo.opcua.stack.core.NodeIds;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.types.builtin.LocalizedText;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
+import org.eclipse.milo.opcua.stack.core.types.structured.BrowsePathResult;
+import org.eclipse.milo.opcua.stack.core.types.structured.BrowsePathTarget;
+import org.eclipse.milo.opcua.stack.core.types.structured.RelativePathElement;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class BrowsePathCacheTest {
+
+  private final NodeId a = new NodeId(1, "a");
+  private final NodeId b = new NodeId(1, "b");
+
+  private final List<RelativePathElement> path =
+      List.of(new RelativePathElement(NodeIds.Organizes, false, true, new QualifiedName(1, "b")));
+
+  private final AtomicInteger computed = new AtomicInteger();
+
+  private UaNodeManager nodeManager;
+  private AddressSpaceManager addressSpaceManager;
+  private BrowsePathCache cache;
+
+  @BeforeEach
+  public void setUp() {
+    OpcUaServer server = mock(OpcUaServer.class);
+    addressSpaceManager = new AddressSpaceManager(server);
+    cache = new BrowsePathCache(addressSpaceManager, 100);
+    when(server.getBrowsePathCache()).thenReturn(cache);
+
+    nodeManager = new UaNodeManager();
+    addressSpaceManager.register(nodeManager);
+
+    UaNodeContext context = mock(UaNodeContext.class);
+    when(context.getNamespaceTable()).thenReturn(new NamespaceTable());
+    when(context.getNodeManager()).thenReturn(nodeManager);
+    nodeManager.addNode(folder(context, a));
+    nodeManager.addNode(folder(context, b));
+  }
+
+  @Test
+  public void resultsAreCachedUntilDependenciesChange() {
+    BrowsePathResult first = translate();
+    assertSame(first, translate());
+    assertEquals(1, computed.get());
+    assertEquals(1, cache.getHitCount());
+    assertEquals(1, cache.getMissCount());
+    assertEquals(0.5, cache.getHitRate());
+
+    // Changes to unrelated Nodes don't invalidate.
+    nodeManager.addReference(
+        new Reference(new NodeId(1, "c"), NodeIds.Organizes, a.expanded(), true));
+    assertSame(first, translate());
+    assertEquals(1, computed.get());
+
+    nodeManager.addReference(new Reference(a, NodeIds.Organizes, b.expanded(), true));
+    translate();
+    assertEquals(2, computed.get());
+
+    nodeManager.removeNode(b);
+    translate();
+    assertEquals(3, computed.get());
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void resultsAreNotSharedBetweenSessions() {
+    Session session1 = mock(Session.class);
+    when(session1.getSessionId()).thenReturn(new NodeId(0, "session1"));
+    Session session2 = mock(Session.class);
+    when(session2.getSessionId()).thenReturn(new NodeId(0, "session2"));
+
+    BrowsePathResult first = translate(session1);
+    assertSame(first, translate(session1));
+    assertEquals(1, computed.get());
+
+    translate(session2);
+    translate(null);
+    assertEquals(3, computed.get());
+    assertEquals(3, cache.size());
+  }
+
+  @Test
+  public void resultsDependingOnUnmanagedNodesAreNotCached() {
+    cache.getOrCompute(
+        null,
+        a,
+        path,
+        dependencies -> {
+          computed.incrementAndGet();
+          dependencies.add(a);
+          dependencies.add(new NodeId(2, "unmanaged"));
+          return noMatch();
+        });
+
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void untrackedNodeManagerDisablesCache() {
+    // A mocked NodeManager doesn't accept ChangeListeners.
+    @SuppressWarnings("unchecked")
+    NodeManager<UaNode> untracked = mock(NodeManager.class);
+
+    translate();
+    assertEquals(1, cache.size());
+
+    addressSpaceManager.register(untracked);
+    assertFalse(cache.isEnabled());
+    assertEquals(0, cache.size());
+
+    translate();
+    translate();
+    assertEquals(3, computed.get());
+
+    addressSpaceManager.unregister(untracked);
+    translate();
+    translate();
+    assertEquals(4, computed.get());
+  }
+
+  private BrowsePathResult translate() {
+    return translate(null);
+  }
+
+  private BrowsePathResult translate(@Nullable Session session) {
+    return cache.getOrCompute(
+        session,
+        a,
+        path,
+        dependencies -> {
+          computed.incrementAndGet();
+          dependencies.add(a);
+          dependencies.add(b);
+          return new BrowsePathResult(
+              StatusCode.GOOD, new BrowsePathTarget[] {new BrowsePathTarget(b.expanded(), null)});
+        });
+  }
+
+  private static BrowsePathResult noMatch() {
+    return new BrowsePathResult(new StatusCode(StatusCodes.Bad_NoMatch), new BrowsePathTarget[0]);
+  }
+
+  private static UaFolderNode folder(UaNodeContext context, NodeId nodeId) {
+    String name = nodeId.getIdentifier().toString();
+
+    return new UaFolderNode(
+        context, nodeId, new QualifiedName(1, name), LocalizedText.english(name));
+  }
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2025 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.eclipse.milo.opcua.sdk.core.Reference;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaFolderNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaNodeContext;
+import org.eclipse.milo.opcua.stack.core.NamespaceTable;
+import org.eclipse.milo.opcua.stack.core.NodeIds;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ExpandedNodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.LocalizedText;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.junit.jupiter.api.Test;
+
+public class CompactNodeManagerTest {
+
+  private final NamespaceTable namespaceTable = new NamespaceTable();
+
+  @Test
+  public void referencesMatchUaNodeManager() {
+    var compact = new CompactNodeManager<UaNode>();
+    var expected = new UaNodeManager();
+
+    NodeId a = new NodeId(1, "a");
+    NodeId b = new NodeId(1, "b");
+    NodeId c = new NodeId(1, "c");
+    ExpandedNodeId remote = ExpandedNodeId.parse("svr=1;nsu=urn:remote;s=x");
+
+    List<Reference> references =
+        List.of(
+            new Reference(a, NodeIds.Organizes, b.expanded(), true),
+            new Reference(a, NodeIds.HasComponent, c.expanded(), true),
+            new Reference(a, NodeIds.Organizes, remote, true),
+            new Reference(a, NodeIds.Organizes, b.expanded(), true),
+            new Reference(b, NodeIds.HasProperty, c.expanded(), true));
+
+    for (NodeManager<UaNode> nodeManager : List.of(compact, expected)) {
+      nodeManager.addReferences(references, namespaceTable);
+    }
+
+    assertSameReferences(expected, compact, a, b, c);
+
+    compact.compact();
+
+    assertSameReferences(expected, compact, a, b, c);
+
+    for (NodeManager<UaNode> nodeManager : List.of(compact, expected)) {
+      nodeManager.removeReferences(references.get(0), namespaceTable);
+      nodeManager.removeReference(references.get(2));
+      nodeManager.addReference(new Reference(c, NodeIds.Organizes, a.expanded(), false));
+    }
+
+    assertSameReferences(expected, compact, a, b, c);
+
+    assertEquals(
+        expected.getReferences(a, Reference.ORGANIZES_PREDICATE),
+        compact.getReferences(a, NodeIds.Organizes, Reference.Direction.FORWARD));
+  }
+
+  @Test
+  public void rowsSurviveAutomaticCompaction() {
+    var compact = new CompactNodeManager<UaNode>();
+    var expected = new UaNodeManager();
+
+    NodeId root = new NodeId(1, "root");
+
+    for (int i = 0; i < 5000; i++) {
+      var reference = new Reference(root, NodeIds.Organizes, new NodeId(1, i).expanded(), true);
+
+      compact.addReferences(reference, namespaceTable);
+      expected.addReferences(reference, namespaceTable);
+
+      if (i % 3 == 0) {
+        compact.removeReferences(reference, namespaceTable);
+        expected.removeReferences(reference, namespaceTable);
+      }
+    }
+
+    assertSameReferences(expected, compact, root, new NodeId(1, 1), new NodeId(1, 3));
+    assertSameReferences(expected, compact, new NodeId(1, 4999));
+  }
+
+  @Test
+  public void declaredNodesAreMaterializedOnce() {
+    var materialized = new AtomicInteger();
+    var compact = new AtomicReference<CompactNodeManager<UaNode>>();
+
+    UaNodeContext context =
+        new UaNodeContext() {
+          @Override
+          public OpcUaServer getServer() {
+            return null;
+          }
+
+          @Override
+          public NodeManager<UaNode> getNodeManager() {
+            return compact.get();
+          }
+
+          @Override
+          public NamespaceTable getNamespaceTable() {
+            return namespaceTable;
+          }
+        };
+
+    compact.set(
+        new CompactNodeManager<>(
+            nodeId -> {
+              materialized.incrementAndGet();
+
+              return new UaFolderNode(
+                  context,
+                  nodeId,
+                  new QualifiedName(1, nodeId.getIdentifier().toString()),
+                  LocalizedText.english(nodeId.getIdentifier().toString()));
+            }));
+
+    CompactNodeManager<UaNode> nodeManager = compact.get();
+
+    NodeId folder = new NodeId(1, "folder");
+    nodeManager.declareNode(folder);
+
+    assertTrue(nodeManager.containsNode(folder));
+    assertEquals(1, nodeManager.getNodeCount());
+    assertEquals(0, materialized.get());
+
+    UaNode node = nodeManager.getNode(folder).orElseThrow();
+
+    assertSame(node, nodeManager.getNode(folder).orElseThrow());
+    assertEquals(1, materialized.get());
+
+    assertTrue(nodeManager.releaseNode(folder));
+    assertTrue(nodeManager.containsNode(folder));
+    nodeManager.getNode(folder).orElseThrow();
+    assertEquals(2, materialized.get());
+
+    assertTrue(nodeManager.removeNode(folder).isPresent());
+    assertFalse(nodeManager.containsNode(folder));
+    assertFalse(nodeManager.getNode(folder).isPresent());
+    assertEquals(0, nodeManager.getNodeCount());
+  }
+
+  @Test
+  public void handlesOfRemovedNodesAreReclaimed() {
+    var nodeManager = new CompactNodeManager<UaNode>();
+
+    NodeId root = new NodeId(1, "root");
+    NodeId target = new NodeId(1, "target");
+
+    nodeManager.declareNodes(List.of(root, target));
+    nodeManager.addReference(new Reference(root, NodeIds.Organizes, target.expanded(), true));
+
+    var nodeIds = new ArrayList<NodeId>();
+    for (int i = 0; i < 5000; i++) {
+      nodeIds.add(new NodeId(1, i));
+    }
+
+    nodeManager.declareNodes(nodeIds);
+    assertEquals(5003, nodeManager.getInternedCount());
+
+    nodeIds.forEach(nodeManager::removeNode);
+    nodeManager.removeNode(target);
+    nodeManager.compact();
+
+    // Only root, the reference type, and the target that is still referenced keep their handles.
+    assertEquals(3, nodeManager.getInternedCount());
+    assertEquals(List.of(root), nodeManager.getNodeIds());
+    assertEquals(
+        List.of(new Reference(root, NodeIds.Organizes, target.expanded(), true)),
+        nodeManager.getReferences(root));
+
+    nodeManager.declareNodes(nodeIds.subList(0, 10));
+    nodeManager.addReference(
+        new Reference(nodeIds.get(0), NodeIds.HasComponent, root.expanded(), true));
+
+    assertEquals(14, nodeManager.getInternedCount());
+    assertTrue(nodeManager.containsNode(nodeIds.get(9)));
+    assertFalse(nodeManager.containsNode(nodeIds.get(10)));
+    assertEquals(
+        List.of(new Reference(nodeIds.get(0), NodeIds.HasComponent, root.expanded(), true)),
+        nodeManager.getReferences(nodeIds.get(0)));
+  }
+
+  @Test
+  public void listenersAreNotifiedAfterUnlocking() {
+    var nodeManager = new CompactNodeManager<UaNode>();
+
+    NodeId a = new NodeId(1, "a");
+    NodeId b = new NodeId(1, "b");
+
+    var changes = new ArrayList<String>();
+
+    nodeManager.addChangeListener(
+        new NodeManager.ChangeListener() {
+          @Override
+          public void onNodeChanged(NodeId nodeId) {
+            // Another thread can read, which it couldn't while the write lock was held.
+            boolean contains =
+                CompletableFuture.supplyAsync(() -> nodeManager.containsNode(nodeId))
+                    .orTimeout(5, TimeUnit.SECONDS)
+                    .join();
+
+            changes.add("node " + nodeId.getIdentifier() + " " + contains);
+          }
+
+          @Override
+          public void onReferencesChanged(NodeId sourceNodeId) {
+            int references =
+                CompletableFuture.supplyAsync(() -> nodeManager.getReferences(sourceNodeId).size())
+                    .orTimeout(5, TimeUnit.SECONDS)
+                    .join();
+
+            changes.add("references " + sourceNodeId.getIdentifier() + " " + references);
+          }
+        });
+
+    nodeManager.declareNode(a);
+    nodeManager.addReferences(
+        new Reference(a, NodeIds.Organizes, b.expanded(), true), namespaceTable);
+    nodeManager.removeNode(a);
+
+    assertEquals(
+        List.of("node a true", "references a 1", "references b 1", "node a false"), changes);
+  }
+
+  private static void assertSameReferences(
+      NodeManager<UaNode> expected, NodeManager<UaNode> actual, NodeId... nodeIds) {
+
+    for (NodeId nodeId : nodeIds) {
+      assertEquals(expected.getReferences(nodeId), actual.getReferences(nodeId));
+    }
+  }
+}
@@ -61,22 +61,23 @@ public class EndpointConfigTest {
         IllegalArgumentException.class,
         () ->
             EndpointConfig.newBuilder().setTransportProfile(TransportProfile.HTTPS_UAXML).build());
+  }
 
-    assertThrows(
-        IllegalArgumentException.class,
-        () ->
-            EndpointConfig.newBuilder().setTransportProfile(TransportProfile.HTTPS_UAJSON).build());
+  @Test
+  public void supportedTransportsBuild() {
+    for (TransportProfile transportProfile :
+        List.of(
+            TransportProfile.TCP_UASC_UABINARY,
+            TransportProfile.HTTPS_UABINARY,
+            TransportProfile.HTTPS_UAJSON,
+            TransportProfile.WSS_UASC_UABINARY,
+            TransportProfile.WSS_UAJSON)) {
 
-    assertThrows(
-        IllegalArgumentException.class,
-        () -> EndpointConfig.newBuilder().setTransportProfile(TransportProfile.WSS_UAJSON).build());
+      EndpointConfig endpointConfig =
+          EndpointConfig.newBuilder().setTransportProfile(transportProfile).build();
 
-    assertThrows(
-        IllegalArgumentException.class,
-        () ->
-            EndpointConfig.newBuilder()
-                .setTransportProfile(TransportProfile.WSS_UASC_UABINARY)
-                .build());
+      assertEquals(transportProfile, endpointConfig.getTransportProfile());
+    }
   }
 
   @Test
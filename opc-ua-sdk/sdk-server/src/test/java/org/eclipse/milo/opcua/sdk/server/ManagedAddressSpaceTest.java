@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2025 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.milo.opcua.sdk.core.Reference;
+import org.eclipse.milo.opcua.sdk.core.typetree.ReferenceTypeTree;
+import org.eclipse.milo.opcua.sdk.server.AddressSpace.BrowseContext;
+import org.eclipse.milo.opcua.sdk.server.AddressSpace.CallContext;
+import org.eclipse.milo.opcua.sdk.server.AddressSpace.ReferenceFilter;
+import org.eclipse.milo.opcua.sdk.server.AddressSpace.ReferenceResult;
+import org.eclipse.milo.opcua.sdk.server.methods.MethodInvocationHandler;
+import org.eclipse.milo.opcua.sdk.server.methods.MethodInvocationLimiter;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaNode;
+import org.eclipse.milo.opcua.stack.core.NodeIds;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DiagnosticInfo;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.BrowseDirection;
+import org.eclipse.milo.opcua.stack.core.types.structured.CallMethodRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.CallMethodResult;
+import org.eclipse.milo.opcua.stack.core.types.structured.ViewDescription;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class ManagedAddressSpaceTest {
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+  private final OpcUaServer server = mock(OpcUaServer.class);
+  private final Session session = mock(Session.class);
+
+  @AfterEach
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void compactNodeManagerBacksAddressSpace() {
+    var nodeManager = new CompactNodeManager<UaNode>();
+
+    NodeId folder = new NodeId(1, "folder");
+    NodeId child = new NodeId(1, "child");
+    nodeManager.declareNode(folder);
+    nodeManager.addReference(new Reference(folder, NodeIds.Organizes, child.expanded(), true));
+
+    ManagedAddressSpace addressSpace =
+        mock(
+            ManagedAddressSpace.class,
+            withSettings().useConstructor(server, nodeManager).defaultAnswer(CALLS_REAL_METHODS));
+
+    assertSame(nodeManager, addressSpace.getNodeManager());
+    assertSame(nodeManager, addressSpace.getNodeContext().getNodeManager());
+
+    List<ReferenceResult> results =
+        addressSpace.browse(
+            new BrowseContext(server, session),
+            new ViewDescription(NodeId.NULL_VALUE, DateTime.MIN_VALUE, uint(0)),
+            List.of(folder));
+
+    assertEquals(
+        List.of(
+            ReferenceResult.of(
+                List.of(new Reference(folder, NodeIds.Organizes, child.expanded(), true)))),
+        results);
+  }
+
+  @Test
+  public void filteredBrowseLooksUpReferencesByTypeAndDirection() {
+    @SuppressWarnings("unchecked")
+    NodeManager<UaNode> nodeManager = mock(NodeManager.class);
+
+    NodeId folder = new NodeId(1, "folder");
+    var organizes =
+        new Reference(folder, NodeIds.Organizes, new NodeId(1, "child").expanded(), true);
+
+    when(nodeManager.containsNode(folder)).thenReturn(true);
+    when(nodeManager.getReferences(folder, NodeIds.Organizes, Reference.Direction.FORWARD))
+        .thenReturn(List.of(organizes));
+    when(server.getReferenceTypeTree()).thenReturn(mock(ReferenceTypeTree.class));
+
+    ManagedAddressSpace addressSpace =
+        mock(
+            ManagedAddressSpace.class,
+            withSettings().useConstructor(server, nodeManager).defaultAnswer(CALLS_REAL_METHODS));
+
+    List<ReferenceResult> results =
+        addressSpace.browse(
+            new BrowseContext(server, session),
+            new ViewDescription(NodeId.NULL_VALUE, DateTime.MIN_VALUE, uint(0)),
+            List.of(folder),
+            List.of(new ReferenceFilter(NodeIds.Organizes, false, BrowseDirection.Forward)));
+
+    assertEquals(List.of(ReferenceResult.of(List.of(organizes))), results);
+    verify(nodeManager, never()).getReferences(folder);
+  }
+
+  @Test
+  public void filteredBrowseIncludesSubtypes() {
+    var nodeManager = new CompactNodeManager<UaNode>();
+
+    NodeId folder = new NodeId(1, "folder");
+    var organizes = new Reference(folder, NodeIds.Organizes, new NodeId(1, "a").expanded(), true);
+    var hasComponent =
+        new Reference(folder, NodeIds.HasComponent, new NodeId(1, "b").expanded(), true);
+    var hasTypeDefinition =
+        new Reference(folder, NodeIds.HasTypeDefinition, NodeIds.FolderType.expanded(), true);
+    var inverse = new Reference(folder, NodeIds.Organizes, NodeIds.ObjectsFolder.expanded(), false);
+
+    nodeManager.declareNode(folder);
+    nodeManager.addReference(organizes);
+    nodeManager.addReference(hasComponent);
+    nodeManager.addReference(hasTypeDefinition);
+    nodeManager.addReference(inverse);
+
+    ReferenceTypeTree referenceTypeTree = mock(ReferenceTypeTree.class);
+    when(referenceTypeTree.isSubtypeOf(any(NodeId.class), eq(NodeIds.HierarchicalReferences)))
+        .thenAnswer(
+            invocation ->
+                !NodeIds.HasTypeDefinition.equals(invocation.getArgument(0, NodeId.class)));
+    when(server.getReferenceTypeTree()).thenReturn(referenceTypeTree);
+
+    ManagedAddressSpace addressSpace =
+        mock(
+            ManagedAddressSpace.class,
+            withSettings().useConstructor(server, nodeManager).defaultAnswer(CALLS_REAL_METHODS));
+
+    List<ReferenceResult> results =
+        addressSpace.browse(
+            new BrowseContext(server, session),
+            new ViewDescription(NodeId.NULL_VALUE, DateTime.MIN_VALUE, uint(0)),
+            List.of(folder, folder),
+            List.of(
+                new ReferenceFilter(NodeIds.HierarchicalReferences, true, BrowseDirection.Forward),
+                new ReferenceFilter(null, true, BrowseDirection.Inverse)));
+
+    assertEquals(
+        List.of(
+            ReferenceResult.of(List.of(organizes, hasComponent)),
+            ReferenceResult.of(List.of(inverse))),
+        results);
+  }
+
+  @Test
+  public void batchIsInvokedInParallel() throws Exception {
+    when(server.getExecutorService()).thenReturn(executor);
+    when(session.getCallLimiter()).thenReturn(new MethodInvocationLimiter(4, 16, executor));
+
+    // Each invocation only succeeds if all of them are running at the same time.
+    var latch = new CountDownLatch(4);
+
+    MethodInvocationHandler handler =
+        (accessContext, request) -> {
+          latch.countDown();
+
+          try {
+            StatusCode statusCode =
+                latch.await(5, TimeUnit.SECONDS)
+                    ? StatusCode.GOOD
+                    : new StatusCode(StatusCodes.Bad_Timeout);
+
+            return new CallMethodResult(
+                statusCode, new StatusCode[0], new DiagnosticInfo[0], new Variant[0]);
+          } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+          }
+        };
+
+    ManagedAddressSpace addressSpace =
+        mock(
+            ManagedAddressSpace.class,
+            withSettings().useConstructor(server).defaultAnswer(CALLS_REAL_METHODS));
+    doReturn(handler).when(addressSpace).getInvocationHandler(any(), any());
+
+    var requests = new ArrayList<CallMethodRequest>();
+    for (int i = 0; i < 4; i++) {
+      requests.add(new CallMethodRequest(new NodeId(1, "o"), new NodeId(1, "m" + i), null));
+    }
+
+    List<CallMethodResult> results =
+        addressSpace
+            .callAsync(new CallContext(server, session), requests)
+            .get(10, TimeUnit.SECONDS);
+
+    assertEquals(4, results.size());
+    results.forEach(result -> assertEquals(StatusCode.GOOD, result.getStatusCode()));
+  }
+}
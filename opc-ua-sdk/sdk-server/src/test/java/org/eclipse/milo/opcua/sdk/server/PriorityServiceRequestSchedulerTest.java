@@ -0,0 +1,307 @@
+/*
+ * Copyright (c) 2025 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.netty.channel.Channel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.milo.opcua.sdk.server.PriorityServiceRequestScheduler.QueueConfig;
+import org.eclipse.milo.opcua.sdk.server.PriorityServiceRequestScheduler.QueueMetrics;
+import org.eclipse.milo.opcua.sdk.server.PriorityServiceRequestScheduler.ServiceClass;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaException;
+import org.eclipse.milo.opcua.stack.core.channel.SecureChannel;
+import org.eclipse.milo.opcua.stack.core.transport.TransportProfile;
+import org.eclipse.milo.opcua.stack.core.types.UaRequestMessageType;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ExtensionObject;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import org.eclipse.milo.opcua.stack.core.types.structured.HistoryReadRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.RequestHeader;
+import org.eclipse.milo.opcua.stack.transport.server.ServiceRequestContext;
+import org.junit.jupiter.api.Test;
+
+public class PriorityServiceRequestSchedulerTest {
+
+  private final ManualExecutor executor = new ManualExecutor();
+  private final List<String> handled = new ArrayList<>();
+  private final Map<String, StatusCode> rejected = new HashMap<>();
+  private final Map<NodeId, Session> sessions = new HashMap<>();
+
+  @Test
+  public void weightedQueueIsServedFirst() throws Exception {
+    var scheduler = new PriorityServiceRequestScheduler(executor, 1);
+
+    schedule(scheduler, historyRead("a"), "h1");
+    schedule(scheduler, historyRead("a"), "h2");
+    schedule(scheduler, historyRead("a"), "h3");
+    schedule(scheduler, read("b"), "r1");
+
+    executor.runAll();
+
+    assertEquals(List.of("h1", "r1", "h2", "h3"), handled);
+  }
+
+  @Test
+  public void sessionsTakeTurns() throws Exception {
+    var scheduler = new PriorityServiceRequestScheduler(executor, 1);
+
+    schedule(scheduler, read("x"), "x1");
+    schedule(scheduler, read("a"), "a1");
+    schedule(scheduler, read("a"), "a2");
+    schedule(scheduler, read("a"), "a3");
+    schedule(scheduler, read("b"), "b1");
+
+    executor.runAll();
+
+    assertEquals(List.of("x1", "a1", "b1", "a2", "a3"), handled);
+  }
+
+  @Test
+  public void fullQueuesReject() throws Exception {
+    var scheduler =
+        new PriorityServiceRequestScheduler(
+            executor, 1, Map.of(ServiceClass.READ_WRITE, new QueueConfig(1, 2, 1)));
+
+    schedule(scheduler, read("x"), "x1");
+    schedule(scheduler, read("a"), "a1");
+
+    UaException tooManyOperations =
+        assertThrows(UaException.class, () -> schedule(scheduler, read("a"), "a2"));
+    assertEquals(StatusCodes.Bad_TooManyOperations, tooManyOperations.getStatusCode().value());
+
+    schedule(scheduler, read("b"), "b1");
+
+    UaException tooBusy =
+        assertThrows(UaException.class, () -> schedule(scheduler, read("c"), "c1"));
+    assertEquals(StatusCodes.Bad_ServerTooBusy, tooBusy.getStatusCode().value());
+
+    QueueMetrics metrics = scheduler.getQueueMetrics(ServiceClass.READ_WRITE);
+    assertEquals(2, metrics.queued());
+    assertEquals(1, metrics.dispatched());
+    assertEquals(2, metrics.rejected());
+
+    executor.runAll();
+
+    assertEquals(List.of("x1", "a1", "b1"), handled);
+    assertEquals(0, scheduler.getRunningCount());
+    assertEquals(3, scheduler.getQueueMetrics(ServiceClass.READ_WRITE).dispatched());
+  }
+
+  @Test
+  public void requestsWithoutSessionAreGroupedBySecureChannel() throws Exception {
+    var scheduler = new PriorityServiceRequestScheduler(executor, 1);
+
+    schedule(scheduler, read("x"), "x1");
+
+    // Tokens that don't identify a session don't earn their own turns.
+    scheduleWithoutSession(scheduler, 1L, read("forged1"), "c1-1");
+    scheduleWithoutSession(scheduler, 1L, read("forged2"), "c1-2");
+    scheduleWithoutSession(scheduler, 1L, read("forged3"), "c1-3");
+    scheduleWithoutSession(scheduler, 2L, read("forged4"), "c2-1");
+
+    executor.runAll();
+
+    assertEquals(List.of("x1", "c1-1", "c2-1", "c1-2", "c1-3"), handled);
+  }
+
+  @Test
+  public void rejectedExecutionFailsRequest() throws Exception {
+    var scheduler = new PriorityServiceRequestScheduler(executor, 1);
+
+    executor.rejectNext = 1;
+    schedule(scheduler, read("a"), "a1");
+
+    assertEquals(Map.of("a1", new StatusCode(StatusCodes.Bad_ServerTooBusy)), rejected);
+    assertEquals(0, scheduler.getRunningCount());
+    assertEquals(0, scheduler.getQueueMetrics(ServiceClass.READ_WRITE).queued());
+    assertEquals(1, scheduler.getQueueMetrics(ServiceClass.READ_WRITE).rejected());
+
+    schedule(scheduler, read("b"), "b1");
+    assertEquals(1, scheduler.getRunningCount());
+
+    executor.runAll();
+
+    assertEquals(List.of("b1"), handled);
+    assertEquals(0, scheduler.getRunningCount());
+  }
+
+  @Test
+  public void rejectedExecutionDispatchesNextQueuedRequest() throws Exception {
+    var scheduler = new PriorityServiceRequestScheduler(executor, 1);
+
+    schedule(scheduler, read("a"), "a1");
+    schedule(scheduler, read("b"), "b1");
+    schedule(scheduler, read("c"), "c1");
+
+    // b1 is dispatched when a1 finishes and rejected; c1 takes its slot instead of waiting for
+    // another request to arrive or finish.
+    executor.rejectNext = 1;
+    executor.runAll();
+
+    assertEquals(List.of("a1", "c1"), handled);
+    assertEquals(Map.of("b1", new StatusCode(StatusCodes.Bad_ServerTooBusy)), rejected);
+    assertEquals(0, scheduler.getRunningCount());
+    assertEquals(0, scheduler.getQueueMetrics(ServiceClass.READ_WRITE).queued());
+  }
+
+  private void schedule(
+      PriorityServiceRequestScheduler scheduler, UaRequestMessageType request, String name)
+      throws UaException {
+
+    Session session =
+        sessions.computeIfAbsent(
+            request.getRequestHeader().getAuthenticationToken(), token -> mock(Session.class));
+
+    scheduler.schedule(
+        new TestContext(0L),
+        session,
+        request,
+        () -> handled.add(name),
+        e -> rejected.put(name, e.getStatusCode()));
+  }
+
+  private void scheduleWithoutSession(
+      PriorityServiceRequestScheduler scheduler,
+      long secureChannelId,
+      UaRequestMessageType request,
+      String name)
+      throws UaException {
+
+    scheduler.schedule(
+        new TestContext(secureChannelId),
+        null,
+        request,
+        () -> handled.add(name),
+        e -> rejected.put(name, e.getStatusCode()));
+  }
+
+  private static ReadRequest read(String session) {
+    return new ReadRequest(header(session), 0.0, TimestampsToReturn.Both, null);
+  }
+
+  private static HistoryReadRequest historyRead(String session) {
+    return new HistoryReadRequest(
+        header(session),
+        ExtensionObject.of("{}", NodeId.NULL_VALUE),
+        TimestampsToReturn.Both,
+        false,
+        null);
+  }
+
+  private static RequestHeader header(String session) {
+    return new RequestHeader(
+        new NodeId(1, session),
+        DateTime.now(),
+        uint(0),
+        uint(0),
+        null,
+        uint(0),
+        ExtensionObject.of("{}", NodeId.NULL_VALUE));
+  }
+
+  /** Runs submitted tasks one at a time, in order, only when asked to. */
+  private static class ManualExecutor extends AbstractExecutorService {
+
+    private final ArrayDeque<Runnable> tasks = new ArrayDeque<>();
+
+    int rejectNext = 0;
+
+    void runAll() {
+      Runnable task;
+      while ((task = tasks.poll()) != null) {
+        task.run();
+      }
+    }
+
+    @Override
+    public void execute(Runnable command) {
+      if (rejectNext > 0) {
+        rejectNext--;
+        throw new RejectedExecutionException();
+      }
+
+      tasks.add(command);
+    }
+
+    @Override
+    public void shutdown() {}
+
+    @Override
+    public List<Runnable> shutdownNow() {
+      return List.of();
+    }
+
+    @Override
+    public boolean isShutdown() {
+      return false;
+    }
+
+    @Override
+    public boolean isTerminated() {
+      return false;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) {
+      return true;
+    }
+  }
+
+  private static class TestContext implements ServiceRequestContext {
+
+    private final SecureChannel secureChannel = mock(SecureChannel.class);
+
+    TestContext(long secureChannelId) {
+      when(secureChannel.getChannelId()).thenReturn(secureChannelId);
+    }
+
+    @Override
+    public String getEndpointUrl() {
+      return "opc.tcp://localhost:12685";
+    }
+
+    @Override
+    public TransportProfile getTransportProfile() {
+      return TransportProfile.TCP_UASC_UABINARY;
+    }
+
+    @Override
+    public Channel getChannel() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public SecureChannel getSecureChannel() {
+      return secureChannel;
+    }
+
+    @Override
+    public Long receivedAtNanos() {
+      return System.nanoTime();
+    }
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2025 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.eclipse.milo.opcua.sdk.core.Reference;
+import org.eclipse.milo.opcua.stack.core.NamespaceTable;
+import org.eclipse.milo.opcua.stack.core.NodeIds;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.junit.jupiter.api.Test;
+
+public class UaNodeManagerTest {
+
+  private final NamespaceTable namespaceTable = new NamespaceTable();
+
+  private final NodeId a = new NodeId(1, "a");
+  private final NodeId b = new NodeId(1, "b");
+  private final NodeId c = new NodeId(1, "c");
+
+  private final Reference organizesB = new Reference(a, NodeIds.Organizes, b.expanded(), true);
+  private final Reference organizesC = new Reference(a, NodeIds.Organizes, c.expanded(), true);
+  private final Reference hasComponentC =
+      new Reference(a, NodeIds.HasComponent, c.expanded(), true);
+
+  @Test
+  public void duplicatesAreKeptTogether() {
+    var nodeManager = new UaNodeManager();
+
+    nodeManager.addReference(organizesB);
+    nodeManager.addReference(hasComponentC);
+    nodeManager.addReference(organizesB);
+
+    assertEquals(List.of(organizesB, organizesB, hasComponentC), nodeManager.getReferences(a));
+
+    nodeManager.removeReference(organizesB);
+
+    assertEquals(List.of(organizesB, hasComponentC), nodeManager.getReferences(a));
+  }
+
+  @Test
+  public void referencesAreSnapshots() {
+    var nodeManager = new UaNodeManager();
+
+    nodeManager.addReference(organizesB);
+
+    List<Reference> snapshot = nodeManager.getReferences(a);
+
+    nodeManager.addReference(hasComponentC);
+    nodeManager.removeReference(organizesB);
+
+    assertEquals(List.of(organizesB), snapshot);
+    assertEquals(List.of(hasComponentC), nodeManager.getReferences(a));
+  }
+
+  @Test
+  public void referencesAreIndexedByTypeAndDirection() {
+    var nodeManager = new UaNodeManager();
+
+    nodeManager.addReferences(List.of(organizesB, hasComponentC, organizesC), namespaceTable);
+
+    assertEquals(
+        List.of(organizesB, organizesC),
+        nodeManager.getReferences(a, NodeIds.Organizes, Reference.Direction.FORWARD));
+    assertEquals(
+        List.of(organizesC.invert(namespaceTable).orElseThrow()),
+        nodeManager.getReferences(c, NodeIds.Organizes, Reference.Direction.INVERSE));
+    assertTrue(
+        nodeManager.getReferences(a, NodeIds.Organizes, Reference.Direction.INVERSE).isEmpty());
+
+    nodeManager.removeReferences(List.of(organizesB, organizesC), namespaceTable);
+
+    assertTrue(
+        nodeManager.getReferences(a, NodeIds.Organizes, Reference.Direction.FORWARD).isEmpty());
+    assertTrue(nodeManager.getReferences(b).isEmpty());
+    assertEquals(List.of(hasComponentC), nodeManager.getReferences(a));
+  }
+
+  @Test
+  public void concurrentWritersAndReaders() throws Exception {
+    var nodeManager = new UaNodeManager();
+
+    var threads = new ArrayList<Thread>();
+    for (int t = 0; t < 4; t++) {
+      int offset = t * 1000;
+      threads.add(
+          new Thread(
+              () -> {
+                for (int i = 0; i < 1000; i++) {
+                  nodeManager.addReferences(
+                      new Reference(
+                          a, NodeIds.Organizes, new NodeId(1, offset + i).expanded(), true),
+                      namespaceTable);
+
+                  nodeManager.getReferences(a).forEach(r -> {});
+                }
+              }));
+    }
+
+    threads.forEach(Thread::start);
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    assertEquals(4000, nodeManager.getReferences(a).size());
+    assertEquals(
+        4000, nodeManager.getReferences(a, NodeIds.Organizes, Reference.Direction.FORWARD).size());
+  }
+}
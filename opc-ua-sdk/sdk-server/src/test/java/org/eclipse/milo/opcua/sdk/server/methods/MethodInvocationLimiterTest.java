@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2025 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.methods;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaException;
+import org.junit.jupiter.api.Test;
+
+public class MethodInvocationLimiterTest {
+
+  @Test
+  public void invocationsBeyondLimitWaitTheirTurn() throws Exception {
+    var limiter = new MethodInvocationLimiter(2, 8, Runnable::run);
+
+    var started = new ArrayList<Integer>();
+    var pending = new ArrayList<CompletableFuture<Integer>>();
+    var results = new ArrayList<CompletableFuture<Integer>>();
+
+    for (int i = 0; i < 4; i++) {
+      int n = i;
+      var invocation = new CompletableFuture<Integer>();
+      pending.add(invocation);
+
+      results.add(
+          limiter.submit(
+              () -> {
+                started.add(n);
+                return invocation;
+              }));
+    }
+
+    assertEquals(List.of(0, 1), started);
+    assertEquals(2, limiter.getRunningCount());
+    assertEquals(2, limiter.getQueuedCount());
+
+    pending.get(1).complete(1);
+
+    assertEquals(List.of(0, 1, 2), started);
+    assertEquals(1, results.get(1).get());
+    assertFalse(results.get(0).isDone());
+
+    pending.get(0).completeExceptionally(new UaException(StatusCodes.Bad_InternalError));
+    pending.get(2).complete(2);
+    pending.get(3).complete(3);
+
+    assertEquals(List.of(0, 1, 2, 3), started);
+    assertTrue(results.get(0).isCompletedExceptionally());
+    assertEquals(3, results.get(3).get());
+    assertEquals(0, limiter.getRunningCount());
+    assertEquals(0, limiter.getQueuedCount());
+  }
+
+  @Test
+  public void fullQueueRejects() {
+    var limiter = new MethodInvocationLimiter(1, 1, Runnable::run);
+
+    var running = new CompletableFuture<String>();
+    limiter.submit(() -> running);
+    CompletableFuture<String> queued = limiter.submit(() -> CompletableFuture.completedFuture("q"));
+    CompletableFuture<String> rejected =
+        limiter.submit(() -> CompletableFuture.completedFuture("r"));
+
+    ExecutionException e = assertThrows(ExecutionException.class, rejected::get);
+    assertEquals(
+        StatusCodes.Bad_ResourceUnavailable, ((UaException) e.getCause()).getStatusCode().value());
+
+    running.complete("done");
+
+    assertEquals("q", queued.join());
+  }
+
+  @Test
+  public void queuedInvocationsStartOnExecutor() {
+    var tasks = new ArrayDeque<Runnable>();
+    var limiter = new MethodInvocationLimiter(1, 100_000, tasks::add);
+
+    var running = new CompletableFuture<Integer>();
+    limiter.submit(() -> running);
+
+    var results = new ArrayList<CompletableFuture<Integer>>();
+    for (int i = 0; i < 100_000; i++) {
+      int n = i;
+      results.add(limiter.submit(() -> CompletableFuture.completedFuture(n)));
+    }
+
+    // Completing the running invocation doesn't start the next one on this thread.
+    running.complete(-1);
+    assertFalse(results.get(0).isDone());
+    assertEquals(1, tasks.size());
+
+    // Each queued invocation completes immediately; without the executor they would all start
+    // recursively on this thread.
+    Runnable task;
+    while ((task = tasks.poll()) != null) {
+      task.run();
+    }
+
+    assertEquals(99_999, results.get(99_999).join());
+    assertEquals(0, limiter.getRunningCount());
+    assertEquals(0, limiter.getQueuedCount());
+  }
+}
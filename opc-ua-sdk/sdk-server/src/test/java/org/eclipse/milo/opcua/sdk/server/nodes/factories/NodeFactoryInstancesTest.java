@@ -0,0 +1,309 @@
+/*
+ * Copyright (c) 2025 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.nodes.factories;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.milo.opcua.sdk.core.Reference;
+import org.eclipse.milo.opcua.sdk.core.typetree.ReferenceTypeTree;
+import org.eclipse.milo.opcua.sdk.server.AddressSpaceManager;
+import org.eclipse.milo.opcua.sdk.server.NodeManager;
+import org.eclipse.milo.opcua.sdk.server.ObjectTypeManager;
+import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
+import org.eclipse.milo.opcua.sdk.server.UaNodeManager;
+import org.eclipse.milo.opcua.sdk.server.VariableTypeManager;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaNodeContext;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaObjectNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaObjectTypeNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaVariableNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaVariableTypeNode;
+import org.eclipse.milo.opcua.stack.core.NamespaceTable;
+import org.eclipse.milo.opcua.stack.core.NodeIds;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ExpandedNodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.LocalizedText;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.util.Tree;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link NodeFactory#createNodeTrees(List, NodeId, NodeFactory.InstantiationCallback,
+ * boolean)} against a small ObjectType with one mandatory and one optional Variable.
+ */
+public class NodeFactoryInstancesTest {
+
+  private static final NodeId TYPE_ID = new NodeId(1, "TestType");
+
+  private final ExecutorService executor =
+      Executors.newFixedThreadPool(4, r -> new Thread(r, "server-executor"));
+
+  private final NamespaceTable namespaceTable = new NamespaceTable();
+  private final UaNodeManager nodeManager = new UaNodeManager();
+  private final ObjectTypeManager objectTypeManager = new ObjectTypeManager();
+
+  private UaNodeContext context;
+  private NodeFactory nodeFactory;
+
+  @BeforeEach
+  public void setup() {
+    OpcUaServer server = mock(OpcUaServer.class);
+    when(server.getNamespaceTable()).thenReturn(namespaceTable);
+    when(server.getExecutorService()).thenReturn(executor);
+
+    ReferenceTypeTree referenceTypeTree = mock(ReferenceTypeTree.class);
+    when(referenceTypeTree.isSubtypeOf(any(NodeId.class), eq(NodeIds.NonHierarchicalReferences)))
+        .then(
+            invocation -> {
+              NodeId referenceTypeId = invocation.getArgument(0);
+
+              return NodeIds.HasTypeDefinition.equals(referenceTypeId)
+                  || NodeIds.HasModellingRule.equals(referenceTypeId);
+            });
+    when(server.getReferenceTypeTree()).thenReturn(referenceTypeTree);
+
+    AddressSpaceManager addressSpaceManager = mock(AddressSpaceManager.class);
+    when(addressSpaceManager.getManagedNode(any(NodeId.class)))
+        .then(invocation -> nodeManager.getNode(invocation.<NodeId>getArgument(0)));
+    when(addressSpaceManager.getManagedNode(any(ExpandedNodeId.class)))
+        .then(
+            invocation ->
+                nodeManager.getNode(invocation.<ExpandedNodeId>getArgument(0), namespaceTable));
+    when(addressSpaceManager.getManagedReferences(any(NodeId.class)))
+        .then(invocation -> nodeManager.getReferences(invocation.<NodeId>getArgument(0)));
+    when(server.getAddressSpaceManager()).thenReturn(addressSpaceManager);
+
+    context =
+        new UaNodeContext() {
+          @Override
+          public OpcUaServer getServer() {
+            return server;
+          }
+
+          @Override
+          public NodeManager<UaNode> getNodeManager() {
+            return nodeManager;
+          }
+        };
+
+    nodeManager.addNode(
+        new UaVariableTypeNode(
+            context,
+            NodeIds.BaseDataVariableType,
+            new QualifiedName(0, "BaseDataVariableType"),
+            LocalizedText.english("BaseDataVariableType"),
+            LocalizedText.NULL_VALUE,
+            uint(0),
+            uint(0),
+            new DataValue(Variant.NULL_VALUE),
+            NodeIds.BaseDataType,
+            -2,
+            null,
+            false));
+
+    nodeManager.addNode(
+        new UaObjectTypeNode(
+            context,
+            TYPE_ID,
+            new QualifiedName(1, "TestType"),
+            LocalizedText.english("TestType"),
+            LocalizedText.NULL_VALUE,
+            uint(0),
+            uint(0),
+            false));
+
+    addDeclaration("Mandatory", NodeIds.ModellingRule_Mandatory);
+    addDeclaration("Optional", NodeIds.ModellingRule_Optional);
+
+    NodeFactory.invalidateCachedIdh(TYPE_ID);
+
+    nodeFactory = new NodeFactory(context, objectTypeManager, new VariableTypeManager());
+  }
+
+  @AfterEach
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void instanceIsCreatedForEachRoot() throws Exception {
+    var optionalQueries = new AtomicInteger();
+    var objectsAdded = new ArrayList<NodeId>();
+    var variablesAdded = new ArrayList<NodeId>();
+
+    List<NodeId> rootNodeIds = rootNodeIds(3);
+
+    List<Tree<UaNode>> trees =
+        nodeFactory.createNodeTrees(
+            rootNodeIds,
+            TYPE_ID,
+            new NodeFactory.InstantiationCallback() {
+              @Override
+              public boolean includeOptionalNode(
+                  NodeId typeDefinitionId, QualifiedName browseName) {
+                optionalQueries.incrementAndGet();
+                return false;
+              }
+
+              @Override
+              public void onObjectAdded(
+                  @Nullable UaNode parent, UaObjectNode instance, NodeId typeDefinitionId) {
+                objectsAdded.add(instance.getNodeId());
+              }
+
+              @Override
+              public void onVariableAdded(
+                  @Nullable UaNode parent, UaVariableNode instance, NodeId typeDefinitionId) {
+                variablesAdded.add(instance.getNodeId());
+              }
+            });
+
+    // The optional declaration is asked about once, for all the instances.
+    assertEquals(1, optionalQueries.get());
+
+    assertEquals(rootNodeIds.size(), trees.size());
+    assertEquals(rootNodeIds, objectsAdded);
+
+    for (int i = 0; i < trees.size(); i++) {
+      assertInstances(rootNodeIds.get(i), trees.get(i));
+      assertEquals(instanceNodeId(rootNodeIds.get(i), "Mandatory"), variablesAdded.get(i));
+    }
+  }
+
+  @Test
+  public void parallelInstancesAreCreatedOnServerExecutor() throws Exception {
+    Set<String> threadNames = ConcurrentHashMap.newKeySet();
+
+    objectTypeManager.registerObjectType(
+        TYPE_ID,
+        UaObjectNode.class,
+        (context, nodeId, browseName, displayName, description, writeMask, userWriteMask) -> {
+          threadNames.add(Thread.currentThread().getName());
+
+          return new UaObjectNode(
+              context, nodeId, browseName, displayName, description, writeMask, userWriteMask);
+        });
+
+    List<NodeId> rootNodeIds = rootNodeIds(32);
+
+    List<Tree<UaNode>> trees =
+        nodeFactory.createNodeTrees(
+            rootNodeIds, TYPE_ID, new NodeFactory.InstantiationCallback() {}, true);
+
+    assertEquals(Set.of("server-executor"), threadNames);
+
+    // Trees are returned in the order of the root NodeIds.
+    assertEquals(rootNodeIds.size(), trees.size());
+    for (int i = 0; i < trees.size(); i++) {
+      assertInstances(rootNodeIds.get(i), trees.get(i));
+    }
+  }
+
+  @Test
+  public void planIsRecompiledAfterInvalidation() throws Exception {
+    nodeFactory.createNodeTrees(
+        List.of(new NodeId(2, "Before")), TYPE_ID, new NodeFactory.InstantiationCallback() {});
+
+    addDeclaration("Added", NodeIds.ModellingRule_Mandatory);
+    NodeFactory.invalidateCachedIdh(TYPE_ID);
+
+    nodeFactory.createNodeTrees(
+        List.of(new NodeId(2, "After")), TYPE_ID, new NodeFactory.InstantiationCallback() {});
+
+    assertFalse(nodeManager.containsNode(instanceNodeId(new NodeId(2, "Before"), "Added")));
+    assertTrue(nodeManager.containsNode(instanceNodeId(new NodeId(2, "After"), "Added")));
+  }
+
+  private void assertInstances(NodeId rootNodeId, Tree<UaNode> tree) {
+    assertEquals(rootNodeId, tree.getValue().getNodeId());
+
+    // Optional declarations that weren't included are left as null in the tree.
+    List<UaNode> children =
+        tree.getChildren().stream().map(Tree::getValue).filter(Objects::nonNull).toList();
+    assertEquals(1, children.size());
+
+    UaNode child = children.get(0);
+    assertEquals(instanceNodeId(rootNodeId, "Mandatory"), child.getNodeId());
+
+    assertTrue(nodeManager.containsNode(rootNodeId));
+    assertTrue(nodeManager.containsNode(child.getNodeId()));
+    assertFalse(nodeManager.containsNode(instanceNodeId(rootNodeId, "Optional")));
+
+    assertTrue(
+        nodeManager.getReferences(rootNodeId).stream()
+            .anyMatch(
+                r ->
+                    r.isForward()
+                        && NodeIds.HasComponent.equals(r.getReferenceTypeId())
+                        && r.getTargetNodeId().equals(child.getNodeId().expanded())));
+  }
+
+  private void addDeclaration(String name, NodeId modellingRule) {
+    var declaration =
+        new UaVariableNode(
+            context,
+            new NodeId(1, "TestType." + name),
+            new QualifiedName(1, name),
+            LocalizedText.english(name),
+            LocalizedText.NULL_VALUE,
+            uint(0),
+            uint(0));
+
+    nodeManager.addNode(declaration);
+
+    nodeManager.addReferences(
+        List.of(
+            new Reference(TYPE_ID, NodeIds.HasComponent, declaration.getNodeId().expanded(), true),
+            new Reference(
+                declaration.getNodeId(), NodeIds.HasModellingRule, modellingRule.expanded(), true),
+            new Reference(
+                declaration.getNodeId(),
+                NodeIds.HasTypeDefinition,
+                NodeIds.BaseDataVariableType.expanded(),
+                true)),
+        namespaceTable);
+  }
+
+  private static List<NodeId> rootNodeIds(int count) {
+    var rootNodeIds = new ArrayList<NodeId>();
+    for (int i = 0; i < count; i++) {
+      rootNodeIds.add(new NodeId(2, "Instance" + i));
+    }
+    return rootNodeIds;
+  }
+
+  private static NodeId instanceNodeId(NodeId rootNodeId, String name) {
+    return new NodeId(
+        2,
+        rootNodeId.getIdentifier()
+            + new BrowsePath(BrowsePath.ROOT, new QualifiedName(1, name)).join());
+  }
+}
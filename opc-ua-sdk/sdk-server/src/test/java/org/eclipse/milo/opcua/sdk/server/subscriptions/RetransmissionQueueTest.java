@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2025 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.subscriptions;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.milo.opcua.stack.core.encoding.DefaultEncodingContext;
+import org.eclipse.milo.opcua.stack.core.encoding.binary.OpcUaDefaultBinaryEncoding;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ByteString;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DiagnosticInfo;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ExtensionObject;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.types.structured.DataChangeNotification;
+import org.eclipse.milo.opcua.stack.core.types.structured.EventFieldList;
+import org.eclipse.milo.opcua.stack.core.types.structured.EventNotificationList;
+import org.eclipse.milo.opcua.stack.core.types.structured.MonitoredItemNotification;
+import org.eclipse.milo.opcua.stack.core.types.structured.NotificationMessage;
+import org.junit.jupiter.api.Test;
+
+public class RetransmissionQueueTest {
+
+  @Test
+  public void republishReturnsRetainedMessage() {
+    var budget = new RetransmissionBudget(Long.MAX_VALUE);
+    var queue = newQueue(budget, "session", 16, new AtomicInteger());
+
+    queue.add(message(1, 100));
+    queue.add(message(2, 100));
+
+    NotificationMessage republished = queue.get(uint(2));
+    assertNotNull(republished);
+    assertEquals(uint(2), republished.getSequenceNumber());
+    assertEquals(1, republished.getNotificationData().length);
+
+    assertArrayEquals(new Object[] {uint(1), uint(2)}, queue.getSequenceNumbers());
+    assertEquals(queue.getBytes(), budget.getUsedBytes());
+
+    assertTrue(queue.remove(uint(1)));
+    assertFalse(queue.remove(uint(1)));
+    assertNull(queue.get(uint(1)));
+    assertEquals(queue.getBytes(), budget.getUsedBytes());
+  }
+
+  @Test
+  public void maxMessagesDiscardsOldest() {
+    var discarded = new AtomicInteger();
+    var budget = new RetransmissionBudget(Long.MAX_VALUE);
+    var queue = newQueue(budget, "session", 2, discarded);
+
+    queue.add(message(1, 10));
+    queue.add(message(2, 10));
+    queue.add(message(3, 10));
+
+    assertArrayEquals(new Object[] {uint(2), uint(3)}, queue.getSequenceNumbers());
+    assertEquals(1, discarded.get());
+  }
+
+  @Test
+  public void budgetEvictsFromLargestOwnerFirst() {
+    var budget = new RetransmissionBudget(10_000);
+
+    var discardedA = new AtomicInteger();
+    var discardedB = new AtomicInteger();
+    var queueA = newQueue(budget, "sessionA", 1024, discardedA);
+    var queueB = newQueue(budget, "sessionB", 1024, discardedB);
+
+    queueB.add(message(1, 1000));
+    queueB.add(message(2, 1000));
+
+    for (int i = 1; i <= 20; i++) {
+      queueA.add(message(i, 1000));
+    }
+
+    assertTrue(budget.getUsedBytes() <= budget.getMaxBytes());
+    assertEquals(0, discardedB.get());
+    assertTrue(discardedA.get() > 0);
+    assertEquals(queueA.getBytes(), budget.getUsedBytes("sessionA"));
+    assertEquals(queueB.getBytes(), budget.getUsedBytes("sessionB"));
+  }
+
+  @Test
+  public void setOwnerMovesBytes() {
+    var budget = new RetransmissionBudget(Long.MAX_VALUE);
+    var queue = newQueue(budget, "sessionA", 16, new AtomicInteger());
+
+    queue.add(message(1, 100));
+    long bytes = queue.getBytes();
+
+    queue.setOwner("sessionB");
+
+    assertEquals(0L, budget.getUsedBytes("sessionA"));
+    assertEquals(bytes, budget.getUsedBytes("sessionB"));
+    assertEquals(bytes, budget.getUsedBytes());
+
+    queue.clear();
+
+    assertEquals(0L, budget.getUsedBytes("sessionB"));
+    assertEquals(0L, budget.getUsedBytes());
+  }
+
+  @Test
+  public void sizeMatchesEncodedSize() {
+    var dataChange =
+        new DataChangeNotification(
+            new MonitoredItemNotification[] {
+              new MonitoredItemNotification(uint(1), new DataValue(new Variant("foo"))),
+              new MonitoredItemNotification(uint(2), new DataValue(new Variant(42)))
+            },
+            new DiagnosticInfo[0]);
+
+    var events =
+        new EventNotificationList(
+            new EventFieldList[] {
+              new EventFieldList(uint(3), new Variant[] {new Variant("bar"), Variant.NULL_VALUE})
+            });
+
+    var message =
+        new NotificationMessage(
+            uint(1),
+            DateTime.now(),
+            new ExtensionObject[] {
+              ExtensionObject.encode(DefaultEncodingContext.INSTANCE, dataChange),
+              ExtensionObject.encode(DefaultEncodingContext.INSTANCE, events)
+            });
+
+    var encoded =
+        (ExtensionObject.Binary)
+            OpcUaDefaultBinaryEncoding.getInstance()
+                .encode(DefaultEncodingContext.INSTANCE, message);
+
+    assertEquals(encoded.getBody().length(), RetransmissionQueue.sizeOf(message));
+  }
+
+  private static RetransmissionQueue newQueue(
+      RetransmissionBudget budget, Object owner, int maxMessages, AtomicInteger discarded) {
+
+    return new RetransmissionQueue(budget, owner, maxMessages, discarded::incrementAndGet);
+  }
+
+  private static NotificationMessage message(long sequenceNumber, int size) {
+    ExtensionObject data = ExtensionObject.of(ByteString.of(new byte[size]), NodeId.NULL_VALUE);
+
+    return new NotificationMessage(
+        uint(sequenceNumber), DateTime.now(), new ExtensionObject[] {data});
+  }
+}
@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) 2025 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.subscriptions;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
+import org.eclipse.milo.opcua.sdk.server.OpcUaServerConfigLimits;
+import org.eclipse.milo.opcua.sdk.server.Session;
+import org.eclipse.milo.opcua.sdk.server.items.MonitoredDataItem;
+import org.eclipse.milo.opcua.sdk.server.subscriptions.PublishQueue.PendingPublish;
+import org.eclipse.milo.opcua.stack.core.AttributeId;
+import org.eclipse.milo.opcua.stack.core.encoding.DefaultEncodingContext;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ExtensionObject;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.MonitoringMode;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import org.eclipse.milo.opcua.stack.core.types.structured.DataChangeNotification;
+import org.eclipse.milo.opcua.stack.core.types.structured.MonitoredItemNotification;
+import org.eclipse.milo.opcua.stack.core.types.structured.PublishRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.PublishResponse;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
+import org.eclipse.milo.opcua.stack.core.types.structured.RequestHeader;
+import org.eclipse.milo.opcua.stack.transport.server.ServiceRequestContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class SubscriptionTest {
+
+  private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+  private final OpcUaServer server = mock(OpcUaServer.class, RETURNS_DEEP_STUBS);
+  private final SubscriptionManager subscriptionManager = mock(SubscriptionManager.class);
+  private final Session session = mock(Session.class);
+
+  private final PublishQueue publishQueue = new PublishQueue(executor);
+
+  @BeforeEach
+  public void setUp() {
+    when(server.getStaticEncodingContext()).thenReturn(DefaultEncodingContext.INSTANCE);
+    when(server.getRetransmissionBudget()).thenReturn(new RetransmissionBudget(Long.MAX_VALUE));
+    when(server.getConfig().getLimits()).thenReturn(new OpcUaServerConfigLimits() {});
+
+    when(subscriptionManager.getServer()).thenReturn(server);
+    when(subscriptionManager.getSession()).thenReturn(session);
+    when(subscriptionManager.getPublishQueue()).thenReturn(publishQueue);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void onlyChangedItemsAreVisited() throws Exception {
+    Subscription subscription = newSubscription(0);
+
+    MonitoredDataItem changed = spy(newItem(1, MonitoringMode.Reporting));
+    MonitoredDataItem idle1 = spy(newItem(2, MonitoringMode.Reporting));
+    MonitoredDataItem idle2 = spy(newItem(3, MonitoringMode.Reporting));
+
+    subscription.addMonitoredItems(List.of(changed, idle1, idle2));
+    clearInvocations(idle1, idle2);
+
+    changed.setValue(new DataValue(new Variant(42)));
+
+    PendingPublish pending = queuePublishRequest();
+    subscription.onPublishingTimer();
+
+    assertEquals(List.of(1L), clientHandles(pending));
+
+    verify(idle1, never()).hasNotifications();
+    verify(idle1, never()).isTriggered();
+    verify(idle2, never()).hasNotifications();
+    verify(idle2, never()).isTriggered();
+  }
+
+  @Test
+  public void itemIsReadyAgainAfterBeingPublished() throws Exception {
+    Subscription subscription = newSubscription(0);
+
+    MonitoredDataItem item = newItem(1, MonitoringMode.Reporting);
+    subscription.addMonitoredItems(List.of(item));
+
+    item.setValue(new DataValue(new Variant(1)));
+
+    PendingPublish first = queuePublishRequest();
+    subscription.onPublishingTimer();
+    assertEquals(List.of(1L), clientHandles(first));
+
+    item.setValue(new DataValue(new Variant(2)));
+
+    PendingPublish second = queuePublishRequest();
+    subscription.onPublishingTimer();
+    assertEquals(List.of(1L), clientHandles(second));
+  }
+
+  @Test
+  public void removedItemIsNotPublished() throws Exception {
+    Subscription subscription = newSubscription(0);
+
+    MonitoredDataItem item = newItem(1, MonitoringMode.Reporting);
+    subscription.addMonitoredItems(List.of(item));
+
+    item.setValue(new DataValue(new Variant(1)));
+    subscription.removeMonitoredItems(List.of(item));
+
+    PendingPublish pending = queuePublishRequest();
+    subscription.onPublishingTimer();
+
+    // Nothing left to report, so the PublishRequest gets a keep-alive.
+    assertEquals(List.of(), clientHandles(pending));
+  }
+
+  @Test
+  public void itemsLeftOverArePublishedBeforeNewlyReadyItems() throws Exception {
+    Subscription subscription = newSubscription(2);
+
+    MonitoredDataItem a = newItem(1, MonitoringMode.Reporting);
+    MonitoredDataItem b = newItem(2, MonitoringMode.Reporting);
+    MonitoredDataItem c = newItem(3, MonitoringMode.Reporting);
+    MonitoredDataItem d = newItem(4, MonitoringMode.Reporting);
+    subscription.addMonitoredItems(List.of(a, b, c, d));
+
+    a.setValue(new DataValue(new Variant(1)));
+    b.setValue(new DataValue(new Variant(1)));
+    c.setValue(new DataValue(new Variant(1)));
+
+    PendingPublish first = queuePublishRequest();
+    subscription.onPublishingTimer();
+
+    assertEquals(List.of(1L, 2L), clientHandles(first));
+    assertTrue(first.responseFuture.get(1, TimeUnit.SECONDS).getMoreNotifications());
+
+    d.setValue(new DataValue(new Variant(1)));
+
+    // The subscription is waiting for a PublishRequest to send the rest.
+    PendingPublish second = queuePublishRequest();
+
+    assertEquals(List.of(3L, 4L), clientHandles(second));
+    assertFalse(second.responseFuture.get(1, TimeUnit.SECONDS).getMoreNotifications());
+  }
+
+  @Test
+  public void triggeredItemIsPublished() throws Exception {
+    Subscription subscription = newSubscription(0);
+
+    MonitoredDataItem triggering = newItem(1, MonitoringMode.Reporting);
+    MonitoredDataItem linked = newItem(2, MonitoringMode.Sampling);
+    triggering.getTriggeredItems().put(linked.getId(), linked);
+    subscription.addMonitoredItems(List.of(triggering, linked));
+
+    // A sampled value alone isn't reported.
+    linked.setValue(new DataValue(new Variant("sampled")));
+
+    PendingPublish keepAlive = queuePublishRequest();
+    subscription.onPublishingTimer();
+    assertEquals(List.of(), clientHandles(keepAlive));
+
+    linked.setValue(new DataValue(new Variant("sampled again")));
+    triggering.setValue(new DataValue(new Variant("trigger")));
+
+    PendingPublish pending = queuePublishRequest();
+    subscription.onPublishingTimer();
+    assertEquals(List.of(1L, 2L), clientHandles(pending).stream().sorted().toList());
+  }
+
+  private Subscription newSubscription(long maxNotificationsPerPublish) {
+    return new Subscription(
+        subscriptionManager, uint(1), 100.0, 10, 30, maxNotificationsPerPublish, true, 0);
+  }
+
+  private MonitoredDataItem newItem(long id, MonitoringMode monitoringMode) throws Exception {
+    var readValueId =
+        new ReadValueId(
+            new NodeId(1, uint(id)), AttributeId.Value.uid(), null, QualifiedName.NULL_VALUE);
+
+    var item =
+        new MonitoredDataItem(
+            server,
+            session,
+            uint(id),
+            uint(1),
+            readValueId,
+            monitoringMode,
+            TimestampsToReturn.Both,
+            uint(id),
+            100.0,
+            uint(1),
+            true);
+
+    item.installFilter(MonitoredDataItem.DEFAULT_FILTER);
+
+    return item;
+  }
+
+  private PendingPublish queuePublishRequest() {
+    ServiceRequestContext context = mock(ServiceRequestContext.class);
+    when(context.receivedAtNanos()).thenReturn(System.nanoTime());
+
+    var requestHeader =
+        new RequestHeader(NodeId.NULL_VALUE, DateTime.now(), uint(1), uint(0), null, uint(0), null);
+
+    var pending =
+        new PendingPublish(context, new PublishRequest(requestHeader, null), new StatusCode[0]);
+
+    publishQueue.addRequest(pending);
+
+    return pending;
+  }
+
+  private static List<Long> clientHandles(PendingPublish pending) throws Exception {
+    PublishResponse response = pending.responseFuture.get(1, TimeUnit.SECONDS);
+    ExtensionObject[] notificationData = response.getNotificationMessage().getNotificationData();
+
+    return Arrays.stream(notificationData)
+        .map(xo -> (DataChangeNotification) xo.decode(DefaultEncodingContext.INSTANCE))
+        .flatMap(n -> Arrays.stream(n.getMonitoredItems()))
+        .map(MonitoredItemNotification::getClientHandle)
+        .map(Number::longValue)
+        .toList();
+  }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2025 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import org.eclipse.milo.opcua.sdk.core.AccessLevel;
+import org.eclipse.milo.opcua.sdk.server.AddressSpace;
+import org.eclipse.milo.opcua.sdk.server.NodeManager;
+import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
+import org.eclipse.milo.opcua.sdk.server.Session;
+import org.eclipse.milo.opcua.sdk.server.UaNodeManager;
+import org.eclipse.milo.opcua.sdk.server.items.DataItem;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaNodeContext;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaVariableNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.filters.AttributeFilters;
+import org.eclipse.milo.opcua.sdk.server.servicesets.impl.AccessController;
+import org.eclipse.milo.opcua.sdk.server.servicesets.impl.AccessController.AccessResult;
+import org.eclipse.milo.opcua.stack.core.AttributeId;
+import org.eclipse.milo.opcua.stack.core.NamespaceTable;
+import org.eclipse.milo.opcua.stack.core.NodeIds;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.LocalizedText;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+public class ExceptionSubscriptionModelTest {
+
+  private final ExecutorService executor = Executors.newSingleThreadExecutor();
+  private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+  private final UaNodeManager nodeManager = new UaNodeManager();
+
+  private final UaNodeContext context =
+      new UaNodeContext() {
+        @Override
+        public OpcUaServer getServer() {
+          return null;
+        }
+
+        @Override
+        public NodeManager<UaNode> getNodeManager() {
+          return nodeManager;
+        }
+
+        @Override
+        public NamespaceTable getNamespaceTable() {
+          return new NamespaceTable();
+        }
+      };
+
+  private final OpcUaServer server = mock(OpcUaServer.class);
+  private final AddressSpace addressSpace = mock(AddressSpace.class);
+  private final AccessController accessController = mock(AccessController.class);
+  private final Session session = mock(Session.class);
+
+  private ExceptionSubscriptionModel model;
+
+  @BeforeEach
+  public void setUp() {
+    when(server.getExecutorService()).thenReturn(executor);
+    when(server.getScheduledExecutorService()).thenReturn(scheduler);
+    when(server.getAccessController()).thenReturn(accessController);
+
+    when(addressSpace.read(any(), anyDouble(), any(), anyList()))
+        .thenAnswer(
+            invocation -> {
+              List<ReadValueId> ids = invocation.getArgument(3);
+
+              return ids.stream()
+                  .map(
+                      id -> {
+                        UaNode node = nodeManager.get(id.getNodeId());
+
+                        return node instanceof UaVariableNode variableNode
+                                && variableNode.getFilterChain().getFilters().isEmpty()
+                            ? variableNode.getValue()
+                            : new DataValue(new Variant("polled"));
+                      })
+                  .toList();
+            });
+
+    model = new ExceptionSubscriptionModel(server, addressSpace, nodeManager);
+    model.startup();
+  }
+
+  @AfterEach
+  public void tearDown() {
+    model.shutdown();
+    scheduler.shutdownNow();
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void changesAreCoalescedToSamplingInterval() throws Exception {
+    UaVariableNode node = addNode("Coalesced");
+    DataItem item = newItem(node.getNodeId(), 500.0);
+
+    model.onDataItemsCreated(List.of(item));
+
+    verify(item, timeout(1000)).setValue(argThat(v -> "initial".equals(v.value().value())));
+
+    node.setValue(new DataValue(new Variant("a")));
+    node.setValue(new DataValue(new Variant("b")));
+    node.setValue(new DataValue(new Variant("c")));
+
+    verify(item, timeout(2000)).setValue(argThat(v -> "c".equals(v.value().value())));
+
+    var captor = ArgumentCaptor.forClass(DataValue.class);
+    verify(item, atLeast(1)).setValue(captor.capture());
+
+    List<Object> delivered = captor.getAllValues().stream().map(v -> v.value().value()).toList();
+    assertEquals(List.of("initial", "c"), delivered);
+  }
+
+  @Test
+  public void unobservableItemsArePolled() {
+    UaVariableNode filtered = addNode("Filtered");
+    filtered
+        .getFilterChain()
+        .addLast(AttributeFilters.getValue(ctx -> new DataValue(new Variant("computed"))));
+
+    DataItem filteredItem = newItem(filtered.getNodeId(), 50.0);
+    DataItem missingItem = newItem(new NodeId(1, "Missing"), 50.0);
+
+    model.onDataItemsCreated(List.of(filteredItem, missingItem));
+
+    verify(filteredItem, timeout(2000).atLeast(2))
+        .setValue(argThat(v -> "polled".equals(v.value().value())));
+    verify(missingItem, timeout(2000).atLeast(2))
+        .setValue(argThat(v -> "polled".equals(v.value().value())));
+
+    assertTrue(model.getDataItems().containsAll(List.of(filteredItem, missingItem)));
+  }
+
+  @Test
+  public void deniedReadAccessIsDelivered() {
+    UaVariableNode node = addNode("Denied");
+    DataItem item = newItem(node.getNodeId(), 0.0);
+
+    ReadValueId readValueId = item.getReadValueId();
+    when(accessController.checkReadAccess(session, List.of(readValueId)))
+        .thenReturn(
+            Map.of(
+                readValueId,
+                new AccessResult.Denied(new StatusCode(StatusCodes.Bad_UserAccessDenied))));
+
+    model.onDataItemsCreated(List.of(item));
+
+    verify(item, timeout(1000))
+        .setValue(argThat(v -> v.statusCode().getValue() == StatusCodes.Bad_UserAccessDenied));
+
+    node.setValue(new DataValue(new Variant("secret")));
+
+    verify(item, timeout(1000).atLeast(2))
+        .setValue(argThat(v -> v.statusCode().getValue() == StatusCodes.Bad_UserAccessDenied));
+    verify(item, never()).setValue(argThat(v -> v.value().value() != null));
+  }
+
+  @Test
+  public void modifiedSamplingIntervalAppliesToHeldValue() {
+    UaVariableNode node = addNode("Modified");
+    DataItem item = newItem(node.getNodeId(), 60_000.0);
+
+    model.onDataItemsCreated(List.of(item));
+
+    verify(item, timeout(1000)).setValue(argThat(v -> "initial".equals(v.value().value())));
+
+    node.setValue(new DataValue(new Variant("held")));
+
+    when(item.getSamplingInterval()).thenReturn(0.0);
+    model.onDataItemsModified(List.of(item));
+
+    verify(item, timeout(1000)).setValue(argThat(v -> "held".equals(v.value().value())));
+  }
+
+  private UaVariableNode addNode(String id) {
+    UaVariableNode node =
+        new UaVariableNode.UaVariableNodeBuilder(context)
+            .setNodeId(new NodeId(1, id))
+            .setAccessLevel(AccessLevel.READ_WRITE)
+            .setBrowseName(new QualifiedName(1, id))
+            .setDisplayName(LocalizedText.english(id))
+            .setDataType(NodeIds.String)
+            .setTypeDefinition(NodeIds.BaseDataVariableType)
+            .build();
+
+    node.setValue(new DataValue(new Variant("initial")));
+
+    nodeManager.addNode(node);
+
+    return node;
+  }
+
+  private DataItem newItem(NodeId nodeId, double samplingInterval) {
+    var readValueId =
+        new ReadValueId(nodeId, AttributeId.Value.uid(), null, QualifiedName.NULL_VALUE);
+
+    DataItem item = mock(DataItem.class);
+    when(item.getReadValueId()).thenReturn(readValueId);
+    when(item.getSession()).thenReturn(session);
+    when(item.getSamplingInterval()).thenReturn(samplingInterval);
+    when(item.isSamplingEnabled()).thenReturn(true);
+
+    return item;
+  }
+}
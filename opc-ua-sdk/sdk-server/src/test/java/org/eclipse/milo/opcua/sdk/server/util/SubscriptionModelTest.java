@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2025 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.util;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import org.eclipse.milo.opcua.sdk.server.AddressSpace;
+import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
+import org.eclipse.milo.opcua.sdk.server.Session;
+import org.eclipse.milo.opcua.sdk.server.items.DataItem;
+import org.eclipse.milo.opcua.sdk.server.servicesets.impl.AccessController;
+import org.eclipse.milo.opcua.sdk.server.servicesets.impl.AccessController.AccessResult;
+import org.eclipse.milo.opcua.stack.core.AttributeId;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class SubscriptionModelTest {
+
+  private static final ReadValueId READ_VALUE_ID =
+      new ReadValueId(
+          new NodeId(1, "Shared"), AttributeId.Value.uid(), null, QualifiedName.NULL_VALUE);
+
+  private final ExecutorService executor = Executors.newSingleThreadExecutor();
+  private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+  private final OpcUaServer server = mock(OpcUaServer.class);
+  private final AddressSpace addressSpace = mock(AddressSpace.class);
+  private final AccessController accessController = mock(AccessController.class);
+
+  private final Session session1 = mock(Session.class);
+  private final Session session2 = mock(Session.class);
+
+  private SubscriptionModel model;
+
+  @BeforeEach
+  public void setUp() {
+    when(server.getExecutorService()).thenReturn(executor);
+    when(server.getScheduledExecutorService()).thenReturn(scheduler);
+    when(server.getAccessController()).thenReturn(accessController);
+
+    when(addressSpace.read(any(), anyDouble(), any(), anyList()))
+        .thenAnswer(
+            invocation -> {
+              List<ReadValueId> ids = invocation.getArgument(3);
+
+              return ids.stream().map(id -> new DataValue(new Variant("shared"))).toList();
+            });
+
+    model = new SubscriptionModel(server, addressSpace, true);
+    model.startup();
+  }
+
+  @AfterEach
+  public void tearDown() {
+    model.shutdown();
+    scheduler.shutdownNow();
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void sharedSamplingReadsOncePerValue() {
+    DataItem item1 = newItem(session1);
+    DataItem item2 = newItem(session2);
+
+    model.onDataItemsCreated(List.of(item1, item2));
+
+    verify(item1, timeout(1000).atLeast(2))
+        .setValue(argThat(v -> "shared".equals(v.value().value())));
+    verify(item2, timeout(1000).atLeast(2))
+        .setValue(argThat(v -> "shared".equals(v.value().value())));
+
+    verify(addressSpace, timeout(1000).atLeast(2))
+        .read(any(), anyDouble(), any(), argThat(ids -> ids.equals(List.of(READ_VALUE_ID))));
+    verify(addressSpace, never()).read(any(), anyDouble(), any(), argThat(ids -> ids.size() > 1));
+  }
+
+  @Test
+  public void readAccessIsCheckedEachSample() {
+    DataItem item1 = newItem(session1);
+    DataItem item2 = newItem(session2);
+
+    model.onDataItemsCreated(List.of(item1, item2));
+
+    verify(item2, timeout(1000).atLeastOnce())
+        .setValue(argThat(v -> "shared".equals(v.value().value())));
+
+    // session2 loses access after the items were scheduled, e.g. because its roles changed
+    when(accessController.checkReadAccess(session2, List.of(READ_VALUE_ID)))
+        .thenReturn(
+            Map.of(
+                READ_VALUE_ID,
+                new AccessResult.Denied(new StatusCode(StatusCodes.Bad_UserAccessDenied))));
+
+    verify(item2, timeout(1000).atLeastOnce())
+        .setValue(argThat(v -> v.statusCode().getValue() == StatusCodes.Bad_UserAccessDenied));
+    verify(item1, never())
+        .setValue(argThat(v -> v.statusCode().getValue() == StatusCodes.Bad_UserAccessDenied));
+  }
+
+  @Test
+  public void sessionsWithDifferentLocalesAreSampledSeparately() {
+    when(session1.getLocaleIds()).thenReturn(new String[] {"en"});
+    when(session2.getLocaleIds()).thenReturn(new String[] {"de"});
+
+    DataItem item1 = newItem(session1);
+    DataItem item2 = newItem(session2);
+
+    model.onDataItemsCreated(List.of(item1, item2));
+
+    verify(addressSpace, timeout(1000).atLeastOnce())
+        .read(
+            argThat(context -> context.getSession().orElse(null) == session1),
+            anyDouble(),
+            any(),
+            anyList());
+    verify(addressSpace, timeout(1000).atLeastOnce())
+        .read(
+            argThat(context -> context.getSession().orElse(null) == session2),
+            anyDouble(),
+            any(),
+            anyList());
+    verify(addressSpace, never())
+        .read(argThat(context -> context.getSession().isEmpty()), anyDouble(), any(), anyList());
+  }
+
+  private static DataItem newItem(Session session) {
+    DataItem item = mock(DataItem.class);
+    when(item.getReadValueId()).thenReturn(READ_VALUE_ID);
+    when(item.getSession()).thenReturn(session);
+    when(item.getSamplingInterval()).thenReturn(10.0);
+    when(item.isSamplingEnabled()).thenReturn(true);
+
+    return item;
+  }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2025 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.client;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.milo.opcua.sdk.client.AddressSpaceCrawler.CrawlListener;
+import org.eclipse.milo.opcua.sdk.client.AddressSpaceCrawler.CrawlOptions;
+import org.eclipse.milo.opcua.stack.core.NamespaceTable;
+import org.eclipse.milo.opcua.stack.core.NodeIds;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaException;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ByteString;
+import org.eclipse.milo.opcua.stack.core.types.builtin.LocalizedText;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.NodeClass;
+import org.eclipse.milo.opcua.stack.core.types.structured.BrowseDescription;
+import org.eclipse.milo.opcua.stack.core.types.structured.BrowseResponse;
+import org.eclipse.milo.opcua.stack.core.types.structured.BrowseResult;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReferenceDescription;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class AddressSpaceCrawlerTest {
+
+  private static final ByteString CONTINUATION_POINT = ByteString.of(new byte[] {1, 2, 3, 4});
+
+  private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+  private final OpcUaClient client = mock(OpcUaClient.class, RETURNS_DEEP_STUBS);
+
+  @BeforeEach
+  public void setUp() {
+    when(client.getTransport().getConfig().getExecutor()).thenReturn(executor);
+    when(client.getNamespaceTable()).thenReturn(new NamespaceTable());
+    when(client.getOperationLimitsAsync())
+        .thenReturn(CompletableFuture.failedFuture(new UaException(StatusCodes.Bad_Timeout)));
+  }
+
+  @AfterEach
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void operationLimitsFailureUsesDefaultBatchSize() throws Exception {
+    var batchSizes = new ArrayList<Integer>();
+
+    when(client.browseAsync(any(), any(), anyList()))
+        .thenAnswer(
+            invocation -> {
+              List<BrowseDescription> nodesToBrowse = invocation.getArgument(2);
+              batchSizes.add(nodesToBrowse.size());
+
+              return CompletableFuture.completedFuture(
+                  browseResponse(
+                      nodesToBrowse.stream()
+                          .map(d -> new BrowseResult(StatusCode.GOOD, ByteString.NULL_VALUE, null))
+                          .toArray(BrowseResult[]::new)));
+            });
+
+    var startingNodeIds = new ArrayList<NodeId>();
+    for (int i = 0; i < 150; i++) {
+      startingNodeIds.add(new NodeId(1, i));
+    }
+
+    CrawlOptions options = CrawlOptions.builder().setMaxRequestsInFlight(1).build();
+
+    long visited =
+        new AddressSpaceCrawler(client, options, (nodeId, references) -> {})
+            .crawl(startingNodeIds)
+            .get(5, TimeUnit.SECONDS);
+
+    assertEquals(150L, visited);
+    assertEquals(List.of(100, 50), batchSizes);
+  }
+
+  @Test
+  public void crawlStartsOnceOperationLimitsAreKnown() throws Exception {
+    var operationLimits = new CompletableFuture<OperationLimits>();
+    when(client.getOperationLimitsAsync()).thenReturn(operationLimits);
+
+    var batchSizes = new ArrayList<Integer>();
+
+    when(client.browseAsync(any(), any(), anyList()))
+        .thenAnswer(
+            invocation -> {
+              List<BrowseDescription> nodesToBrowse = invocation.getArgument(2);
+              batchSizes.add(nodesToBrowse.size());
+
+              return CompletableFuture.completedFuture(
+                  browseResponse(
+                      nodesToBrowse.stream()
+                          .map(d -> new BrowseResult(StatusCode.GOOD, ByteString.NULL_VALUE, null))
+                          .toArray(BrowseResult[]::new)));
+            });
+
+    var startingNodeIds = new ArrayList<NodeId>();
+    for (int i = 0; i < 25; i++) {
+      startingNodeIds.add(new NodeId(1, i));
+    }
+
+    CrawlOptions options = CrawlOptions.builder().setMaxRequestsInFlight(1).build();
+
+    CompletableFuture<Long> future =
+        new AddressSpaceCrawler(client, options, (nodeId, references) -> {}).crawl(startingNodeIds);
+
+    // The queue isn't blocked waiting for the OperationLimits.
+    assertTrue(CompletableFuture.supplyAsync(() -> true, executor).get(1, TimeUnit.SECONDS));
+    verify(client, never()).browseAsync(any(), any(), anyList());
+
+    operationLimits.complete(
+        new OperationLimits(
+            null, null, null, uint(10), null, null, null, null, null, null, null, null));
+
+    assertEquals(25L, future.get(5, TimeUnit.SECONDS));
+    assertEquals(List.of(10, 10, 5), batchSizes);
+  }
+
+  @Test
+  public void listenerFailureCompletesCrawlExceptionally() throws Exception {
+    when(client.browseAsync(any(), any(), anyList()))
+        .thenReturn(
+            CompletableFuture.completedFuture(
+                browseResponse(
+                    new BrowseResult(
+                        StatusCode.GOOD,
+                        CONTINUATION_POINT,
+                        new ReferenceDescription[] {reference(new NodeId(1, "Child"))}))));
+
+    var failure = new RuntimeException("listener failed");
+
+    CrawlListener listener = mock(CrawlListener.class);
+    doThrow(failure).when(listener).onReferences(any(), anyList());
+
+    CompletableFuture<Long> future =
+        new AddressSpaceCrawler(client, new CrawlOptions(), listener)
+            .crawl(List.of(NodeIds.RootFolder));
+
+    ExecutionException e =
+        assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+    assertSame(failure, e.getCause());
+
+    verify(client, timeout(1000)).browseNextAsync(true, List.of(CONTINUATION_POINT));
+  }
+
+  @Test
+  public void serviceFailureReleasesContinuationPointsOfOutstandingRequests() throws Exception {
+    var outstanding = new CompletableFuture<BrowseResponse>();
+
+    when(client.browseAsync(any(), any(), anyList()))
+        .thenReturn(outstanding)
+        .thenReturn(
+            CompletableFuture.failedFuture(new UaException(StatusCodes.Bad_ConnectionClosed)));
+
+    CrawlOptions options =
+        CrawlOptions.builder().setMaxNodesPerBrowse(1).setMaxRequestsInFlight(2).build();
+
+    CompletableFuture<Long> future =
+        new AddressSpaceCrawler(client, options, (nodeId, references) -> {})
+            .crawl(List.of(new NodeId(1, "A"), new NodeId(1, "B")));
+
+    assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+
+    outstanding.complete(
+        browseResponse(new BrowseResult(StatusCode.GOOD, CONTINUATION_POINT, null)));
+
+    verify(client, timeout(1000)).browseNextAsync(eq(true), eq(List.of(CONTINUATION_POINT)));
+  }
+
+  private static BrowseResponse browseResponse(BrowseResult... results) {
+    return new BrowseResponse(null, results, null);
+  }
+
+  private static ReferenceDescription reference(NodeId nodeId) {
+    return new ReferenceDescription(
+        NodeIds.Organizes,
+        true,
+        nodeId.expanded(),
+        QualifiedName.NULL_VALUE,
+        LocalizedText.NULL_VALUE,
+        NodeClass.Object,
+        NodeIds.BaseObjectType.expanded());
+  }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2025 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.client;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaException;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.structured.BrowseResponse;
+import org.eclipse.milo.opcua.stack.core.types.structured.ViewDescription;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+public class OpcUaClientPoolTest {
+
+  @Test
+  public void activeSessionIsDetectedWhenPoolIsCreated() throws Exception {
+    OpcUaClient inactive = newClient(false);
+    OpcUaClient active = newClient(true);
+
+    try (var pool = new OpcUaClientPool(List.of(inactive, active))) {
+      assertSame(active, selected(pool));
+    }
+  }
+
+  @Test
+  public void sessionActivityIsTracked() throws Exception {
+    OpcUaClient client1 = newClient(false);
+    OpcUaClient client2 = newClient(false);
+
+    try (var pool = new OpcUaClientPool(List.of(client1, client2))) {
+      SessionActivityListener listener2 = listener(client2);
+
+      listener2.onSessionActive(mock(UaSession.class));
+      assertSame(client2, selected(pool));
+
+      listener2.onSessionInactive(mock(UaSession.class));
+      listener(client1).onSessionActive(mock(UaSession.class));
+      assertSame(client1, selected(pool));
+    }
+  }
+
+  @Test
+  public void closeRemovesSessionActivityListeners() {
+    OpcUaClient client1 = newClient(true);
+    OpcUaClient client2 = newClient(false);
+
+    var pool = new OpcUaClientPool(List.of(client1, client2));
+
+    SessionActivityListener listener1 = listener(client1);
+    SessionActivityListener listener2 = listener(client2);
+
+    pool.close();
+
+    verify(client1).removeSessionActivityListener(listener1);
+    verify(client2).removeSessionActivityListener(listener2);
+  }
+
+  @Test
+  public void browseResponseIsReturnedWithItsClient() throws Exception {
+    OpcUaClient inactive = newClient(false);
+    OpcUaClient active = newClient(true);
+
+    var response = new BrowseResponse(null, null, null);
+    when(active.browseAsync(any(), any(), anyList()))
+        .thenReturn(CompletableFuture.completedFuture(response));
+
+    try (var pool = new OpcUaClientPool(List.of(inactive, active))) {
+      OpcUaClientPool.PooledResponse<BrowseResponse> pooled =
+          pool.browseAsync(
+                  new ViewDescription(NodeId.NULL_VALUE, DateTime.MIN_VALUE, uint(0)),
+                  uint(0),
+                  List.of())
+              .get();
+
+      // Continuation points in the response must be followed with the same client.
+      assertSame(active, pooled.client());
+      assertSame(response, pooled.response());
+    }
+  }
+
+  private static OpcUaClient newClient(boolean sessionActive) {
+    OpcUaClient client = mock(OpcUaClient.class);
+
+    when(client.getSessionAsync())
+        .thenReturn(
+            sessionActive
+                ? CompletableFuture.completedFuture(mock(OpcUaSession.class))
+                : CompletableFuture.failedFuture(new UaException(StatusCodes.Bad_SessionClosed)));
+
+    return client;
+  }
+
+  private static SessionActivityListener listener(OpcUaClient client) {
+    ArgumentCaptor<SessionActivityListener> captor =
+        ArgumentCaptor.forClass(SessionActivityListener.class);
+
+    verify(client).addSessionActivityListener(captor.capture());
+
+    return captor.getValue();
+  }
+
+  private static OpcUaClient selected(OpcUaClientPool pool) throws Exception {
+    return pool.execute(CompletableFuture::completedFuture).get();
+  }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2025 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.client;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.eclipse.milo.opcua.stack.core.AttributeId;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaException;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadResponse;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class OperationBatcherTest {
+
+  private final ExecutorService executor = Executors.newSingleThreadExecutor();
+  private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+  private final OpcUaClient client = mock(OpcUaClient.class, RETURNS_DEEP_STUBS);
+
+  private final AtomicLong now = new AtomicLong(0L);
+
+  private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+  @BeforeEach
+  public void setUp() {
+    when(client.getTransport().getConfig().getExecutor()).thenReturn(executor);
+    when(client.getTransport().getConfig().getScheduledExecutor()).thenReturn(scheduler);
+
+    when(client.readAsyncUnbatched(anyDouble(), eq(TimestampsToReturn.Both), anyList()))
+        .thenAnswer(
+            invocation -> {
+              List<ReadValueId> ids = invocation.getArgument(2);
+              batchSizes.add(ids.size());
+
+              DataValue[] results =
+                  ids.stream().map(id -> new DataValue(new Variant(1))).toArray(DataValue[]::new);
+
+              return CompletableFuture.completedFuture(new ReadResponse(null, results, null));
+            });
+  }
+
+  @AfterEach
+  public void tearDown() {
+    scheduler.shutdownNow();
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void operationLimitsFailureIsRetriedWithBackoff() throws Exception {
+    when(client.getOperationLimits()).thenThrow(new UaException(StatusCodes.Bad_Timeout));
+
+    var batcher = new OperationBatcher(client, 1, 100, now::get);
+
+    read(batcher);
+    read(batcher);
+    verify(client, times(1)).getOperationLimits();
+
+    // The first retry waits MIN_RETRY_DELAY_NANOS.
+    now.addAndGet(OperationBatcher.MIN_RETRY_DELAY_NANOS - 1);
+    read(batcher);
+    verify(client, times(1)).getOperationLimits();
+
+    now.addAndGet(1);
+    read(batcher);
+    verify(client, times(2)).getOperationLimits();
+
+    // The next retry waits twice as long.
+    now.addAndGet(OperationBatcher.MIN_RETRY_DELAY_NANOS);
+    read(batcher);
+    verify(client, times(2)).getOperationLimits();
+
+    now.addAndGet(OperationBatcher.MIN_RETRY_DELAY_NANOS);
+    read(batcher);
+    verify(client, times(3)).getOperationLimits();
+
+    // The delay is capped at MAX_RETRY_DELAY_NANOS.
+    for (int i = 0; i < 10; i++) {
+      now.addAndGet(OperationBatcher.MAX_RETRY_DELAY_NANOS);
+      read(batcher);
+    }
+    verify(client, times(13)).getOperationLimits();
+  }
+
+  @Test
+  public void operationLimitsCapBatchSize() throws Exception {
+    when(client.getOperationLimits())
+        .thenThrow(new UaException(StatusCodes.Bad_Timeout))
+        .thenReturn(
+            new OperationLimits(
+                uint(2), null, null, null, null, null, null, null, null, null, null, null));
+
+    var batcher = new OperationBatcher(client, 100, 100, now::get);
+
+    // Unknown limits: the configured maximum applies until the batching window elapses.
+    read(batcher);
+    now.addAndGet(OperationBatcher.MIN_RETRY_DELAY_NANOS);
+    read(batcher);
+    verify(client, times(2)).getOperationLimits();
+
+    List<CompletableFuture<ReadResponse>> futures =
+        List.of(readAsync(batcher), readAsync(batcher), readAsync(batcher), readAsync(batcher));
+
+    for (CompletableFuture<ReadResponse> future : futures) {
+      future.get(5, TimeUnit.SECONDS);
+    }
+
+    assertEquals(List.of(1, 1, 2, 2), batchSizes);
+  }
+
+  /** Read one value and wait for the OperationLimits request it may start to finish. */
+  private void read(OperationBatcher batcher) throws Exception {
+    readAsync(batcher).get(5, TimeUnit.SECONDS);
+
+    executor.submit(() -> {}).get(5, TimeUnit.SECONDS);
+  }
+
+  private static CompletableFuture<ReadResponse> readAsync(OperationBatcher batcher) {
+    var readValueId =
+        new ReadValueId(
+            new NodeId(1, "Value"), AttributeId.Value.uid(), null, QualifiedName.NULL_VALUE);
+
+    return batcher.read(0.0, TimestampsToReturn.Both, readValueId);
+  }
+}
@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2025 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.client.subscriptions;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.ubyte;
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.ulong;
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.ushort;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.util.ArrayList;
+import java.util.List;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaSerializationException;
+import org.eclipse.milo.opcua.stack.core.encoding.DefaultEncodingContext;
+import org.eclipse.milo.opcua.stack.core.encoding.EncodingContext;
+import org.eclipse.milo.opcua.stack.core.encoding.binary.OpcUaBinaryDecoder;
+import org.eclipse.milo.opcua.stack.core.encoding.binary.OpcUaBinaryEncoder;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ExtensionObject;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Matrix;
+import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.types.structured.DataChangeNotification;
+import org.eclipse.milo.opcua.stack.core.types.structured.MonitoredItemNotification;
+import org.eclipse.milo.opcua.stack.core.types.structured.Range;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+public class DataChangeBatchTest {
+
+  private static final EncodingContext CONTEXT = DefaultEncodingContext.INSTANCE;
+
+  private static final DateTime SOURCE_TIME = new DateTime(133_000_000_000_000_000L);
+  private static final DateTime SERVER_TIME = new DateTime(133_000_000_000_000_001L);
+
+  @Test
+  public void everyDataValueFieldIsDecoded() {
+    StatusCode uncertain = new StatusCode(StatusCodes.Uncertain_LastUsableValue);
+
+    // Each DataValue sets a different combination of the encoding mask bits.
+    assertRoundTrip(
+        List.of(
+            dataValue(new Variant(42), uncertain, SOURCE_TIME, 10, SERVER_TIME, 20),
+            dataValue(new Variant(42), StatusCode.GOOD, null, 0, null, 0),
+            dataValue(
+                Variant.NULL_VALUE,
+                new StatusCode(StatusCodes.Bad_NoCommunication),
+                null,
+                0,
+                null,
+                0),
+            dataValue(Variant.NULL_VALUE, StatusCode.GOOD, SOURCE_TIME, 0, null, 0),
+            dataValue(Variant.NULL_VALUE, StatusCode.GOOD, null, 0, SERVER_TIME, 0),
+            dataValue(new Variant(1.5), StatusCode.GOOD, SOURCE_TIME, 5, null, 0),
+            dataValue(new Variant(1.5), StatusCode.GOOD, null, 0, SERVER_TIME, 7),
+            dataValue(Variant.NULL_VALUE, StatusCode.GOOD, null, 0, null, 0)));
+  }
+
+  @Test
+  public void primitiveScalarsAreDecodedIntoColumns() {
+    List<DataValue> values =
+        List.of(
+            value(new Variant(true)),
+            value(new Variant((byte) -2)),
+            value(new Variant(ubyte(200))),
+            value(new Variant((short) -300)),
+            value(new Variant(ushort(60_000))),
+            value(new Variant(-70_000)),
+            value(new Variant(uint(4_000_000_000L))),
+            value(new Variant(Long.MIN_VALUE)),
+            value(new Variant(ulong(-1L))),
+            value(new Variant(1.25f)),
+            value(new Variant(Math.PI)),
+            value(new Variant(SOURCE_TIME)),
+            value(new Variant(new StatusCode(StatusCodes.Bad_Timeout))));
+
+    DataChangeBatch batch = assertRoundTrip(values);
+
+    assertEquals(1L, batch.getLongValues()[0]);
+    assertEquals(-2L, batch.getLongValues()[1]);
+    assertEquals(200L, batch.getLongValues()[2]);
+    assertEquals(-300L, batch.getLongValues()[3]);
+    assertEquals(60_000L, batch.getLongValues()[4]);
+    assertEquals(-70_000L, batch.getLongValues()[5]);
+    assertEquals(4_000_000_000L, batch.getLongValues()[6]);
+    assertEquals(Long.MIN_VALUE, batch.getLongValues()[7]);
+    assertEquals(-1L, batch.getLongValues()[8]);
+    assertEquals(1.25, batch.getDoubleValues()[9]);
+    assertEquals(Math.PI, batch.getDoubleValues()[10]);
+    assertEquals(SOURCE_TIME.getUtcTime(), batch.getLongValues()[11]);
+    assertEquals(StatusCodes.Bad_Timeout, batch.getLongValues()[12]);
+
+    for (int i = 0; i < values.size(); i++) {
+      assertNull(batch.getVariant(i));
+    }
+  }
+
+  @Test
+  public void otherValuesAreDecodedAsVariants() {
+    ExtensionObject range = ExtensionObject.encode(CONTEXT, new Range(0.0, 100.0));
+
+    List<DataValue> values =
+        List.of(
+            value(new Variant(new int[] {1, 2, 3})),
+            value(new Variant(new Matrix(new int[][] {{1, 2}, {3, 4}}))),
+            value(new Variant(range)),
+            value(new Variant(new ExtensionObject[] {range, range})),
+            value(new Variant("hello")),
+            value(new Variant(new Double[] {1.0, 2.0})));
+
+    DataChangeBatch batch = assertRoundTrip(values);
+
+    for (int i = 0; i < values.size(); i++) {
+      assertEquals(DataChangeBatch.TYPE_OTHER, batch.getValueTypes()[i]);
+      assertEquals(values.get(i).value(), batch.getVariant(i));
+    }
+  }
+
+  @Test
+  public void columnsGrowPastInitialCapacity() {
+    var values = new ArrayList<DataValue>();
+    for (int i = 0; i < 1000; i++) {
+      values.add(value(new Variant(i)));
+    }
+
+    DataChangeBatch batch = assertRoundTrip(values);
+
+    assertEquals(999L, batch.getLongValues()[999]);
+    assertEquals(999, batch.getClientHandles()[999]);
+  }
+
+  @Test
+  public void malformedBodyIsDiscarded() {
+    var batch = new DataChangeBatch();
+    decode(batch, List.of(value(new Variant(1))));
+
+    ByteBuf body = encode(List.of(value(new Variant(2)), value(new Variant(3))));
+    ByteBuf truncated = body.slice(0, body.readableBytes() - 8);
+
+    assertThrows(
+        UaSerializationException.class,
+        () -> batch.decode(truncated, new OpcUaBinaryDecoder(CONTEXT).setBuffer(truncated)));
+
+    // The rows decoded before the malformed body are kept.
+    assertEquals(1, batch.size());
+    assertEquals(1L, batch.getLongValues()[0]);
+  }
+
+  /**
+   * Decode {@code values} from their binary encoding and check the batch holds the same rows as one
+   * built from already decoded notifications.
+   */
+  private static DataChangeBatch assertRoundTrip(List<DataValue> values) {
+    var decoded = new DataChangeBatch();
+    decode(decoded, values);
+
+    var expected = new DataChangeBatch();
+    expected.add(notifications(values));
+
+    assertEquals(values.size(), decoded.size());
+
+    for (int i = 0; i < values.size(); i++) {
+      String row = "row " + i + ": " + values.get(i);
+      byte valueType = expected.getValueTypes()[i];
+
+      assertEquals(i, decoded.getClientHandles()[i], row);
+      assertEquals(valueType, decoded.getValueTypes()[i], row);
+      assertEquals(expected.getStatusCodes()[i], decoded.getStatusCodes()[i], row);
+      assertEquals(expected.getSourceTimes()[i], decoded.getSourceTimes()[i], row);
+      assertEquals(expected.getServerTimes()[i], decoded.getServerTimes()[i], row);
+      assertEquals(expected.getVariant(i), decoded.getVariant(i), row);
+
+      if (valueType == 10 || valueType == 11) {
+        assertEquals(expected.getDoubleValues()[i], decoded.getDoubleValues()[i], row);
+      } else if (valueType != DataChangeBatch.TYPE_NULL
+          && valueType != DataChangeBatch.TYPE_OTHER) {
+        assertEquals(expected.getLongValues()[i], decoded.getLongValues()[i], row);
+      }
+    }
+
+    return decoded;
+  }
+
+  private static void decode(DataChangeBatch batch, List<DataValue> values) {
+    ByteBuf body = encode(values);
+
+    batch.decode(body, new OpcUaBinaryDecoder(CONTEXT).setBuffer(body));
+
+    // Only the null DiagnosticInfos array is left.
+    assertEquals(4, body.readableBytes());
+  }
+
+  private static ByteBuf encode(List<DataValue> values) {
+    ByteBuf buffer = Unpooled.buffer();
+
+    new OpcUaBinaryEncoder(CONTEXT)
+        .setBuffer(buffer)
+        .encodeStruct(
+            null,
+            new DataChangeNotification(notifications(values), null),
+            DataChangeNotification.TYPE_ID);
+
+    return buffer;
+  }
+
+  private static MonitoredItemNotification[] notifications(List<DataValue> values) {
+    var notifications = new MonitoredItemNotification[values.size()];
+
+    for (int i = 0; i < values.size(); i++) {
+      notifications[i] = new MonitoredItemNotification(uint(i), values.get(i));
+    }
+
+    return notifications;
+  }
+
+  private static DataValue value(Variant value) {
+    return dataValue(value, StatusCode.GOOD, SOURCE_TIME, 0, SERVER_TIME, 0);
+  }
+
+  private static DataValue dataValue(
+      Variant value,
+      StatusCode statusCode,
+      @Nullable DateTime sourceTime,
+      int sourcePicoseconds,
+      @Nullable DateTime serverTime,
+      int serverPicoseconds) {
+
+    return new DataValue(
+        value,
+        statusCode,
+        sourceTime,
+        ushort(sourcePicoseconds),
+        serverTime,
+        ushort(serverPicoseconds));
+  }
+}
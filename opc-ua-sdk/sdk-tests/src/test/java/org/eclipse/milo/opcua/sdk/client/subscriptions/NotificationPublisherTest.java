@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2025 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.client.subscriptions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.junit.jupiter.api.Test;
+
+public class NotificationPublisherTest {
+
+  @Test
+  public void bufferStaysBoundedWithoutDemand() {
+    var publisher = new NotificationPublisher(3);
+    var subscriber = new RecordingSubscriber();
+    publisher.subscribe(subscriber);
+
+    for (int i = 0; i < 1000; i++) {
+      boolean overflow = publisher.offer(notification(i));
+
+      assertEquals(i >= 3, overflow);
+      assertTrue(publisher.getBufferedCount() <= 3);
+    }
+
+    assertTrue(subscriber.received.isEmpty());
+    assertEquals(997L, publisher.getDroppedCount());
+    assertFalse(publisher.demandAvailable().toCompletableFuture().isDone());
+
+    // Once there's demand the newest notifications are delivered, oldest first.
+    subscriber.subscription.request(Long.MAX_VALUE);
+
+    assertEquals(List.of(997, 998, 999), subscriber.receivedValues());
+    assertEquals(0, publisher.getBufferedCount());
+    assertTrue(publisher.demandAvailable().toCompletableFuture().isDone());
+  }
+
+  @Test
+  public void notificationsWithinDemandAreNotBuffered() {
+    var publisher = new NotificationPublisher(1);
+    var subscriber = new RecordingSubscriber();
+    publisher.subscribe(subscriber);
+
+    subscriber.subscription.request(5);
+
+    for (int i = 0; i < 5; i++) {
+      assertFalse(publisher.offer(notification(i)));
+    }
+
+    assertEquals(List.of(0, 1, 2, 3, 4), subscriber.receivedValues());
+    assertEquals(0L, publisher.getDroppedCount());
+  }
+
+  private static SubscriptionNotification notification(int value) {
+    return new SubscriptionNotification.DataChange(
+        null, List.of(), List.of(new DataValue(new Variant(value))));
+  }
+
+  private static class RecordingSubscriber implements Flow.Subscriber<SubscriptionNotification> {
+
+    private final List<SubscriptionNotification> received = new ArrayList<>();
+
+    private Flow.Subscription subscription;
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+      this.subscription = subscription;
+    }
+
+    @Override
+    public void onNext(SubscriptionNotification item) {
+      received.add(item);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {}
+
+    @Override
+    public void onComplete() {}
+
+    List<Integer> receivedValues() {
+      return received.stream()
+          .map(
+              n ->
+                  (Integer)
+                      ((SubscriptionNotification.DataChange) n).values().get(0).value().value())
+          .toList();
+    }
+  }
+}
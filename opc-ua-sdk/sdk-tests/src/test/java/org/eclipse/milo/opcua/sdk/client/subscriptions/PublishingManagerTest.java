@@ -0,0 +1,328 @@
+/*
+ * Copyright (c) 2025 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.client.subscriptions;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.milo.opcua.sdk.client.OpcUaClient;
+import org.eclipse.milo.opcua.sdk.client.OpcUaSession;
+import org.eclipse.milo.opcua.sdk.client.SessionActivityListener;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaException;
+import org.eclipse.milo.opcua.stack.core.encoding.DefaultEncodingContext;
+import org.eclipse.milo.opcua.stack.core.types.UaResponseMessageType;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DiagnosticInfo;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ExtensionObject;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
+import org.eclipse.milo.opcua.stack.core.types.structured.DataChangeNotification;
+import org.eclipse.milo.opcua.stack.core.types.structured.EventFieldList;
+import org.eclipse.milo.opcua.stack.core.types.structured.EventNotificationList;
+import org.eclipse.milo.opcua.stack.core.types.structured.MonitoredItemNotification;
+import org.eclipse.milo.opcua.stack.core.types.structured.NotificationMessage;
+import org.eclipse.milo.opcua.stack.core.types.structured.PublishResponse;
+import org.eclipse.milo.opcua.stack.core.types.structured.RequestHeader;
+import org.eclipse.milo.opcua.stack.core.types.structured.ResponseHeader;
+import org.eclipse.milo.opcua.stack.core.util.TaskQueue;
+import org.eclipse.milo.opcua.stack.core.util.Unit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+public class PublishingManagerTest {
+
+  private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+  private final OpcUaClient client = mock(OpcUaClient.class, RETURNS_DEEP_STUBS);
+  private final OpcUaSession session = mock(OpcUaSession.class);
+
+  /** PublishRequests sent, in order, waiting for a response. */
+  private final LinkedBlockingQueue<CompletableFuture<UaResponseMessageType>> publishRequests =
+      new LinkedBlockingQueue<>();
+
+  private PublishingManager publishingManager;
+  private SessionActivityListener sessionActivityListener;
+
+  @BeforeEach
+  public void setUp() {
+    when(client.getTransport().getConfig().getExecutor()).thenReturn(executor);
+    when(client.getConfig().getRequestTimeout()).thenReturn(uint(5000));
+    when(client.getConfig().getMaxPendingPublishRequests()).thenReturn(uint(2));
+    when(client.getSessionAsync()).thenReturn(CompletableFuture.completedFuture(session));
+    when(client.newRequestHeader(any(), any()))
+        .thenReturn(
+            new RequestHeader(
+                NodeId.NULL_VALUE, DateTime.now(), uint(1), uint(0), null, uint(0), null));
+    when(client.getTransport().sendRequestMessage(any()))
+        .thenAnswer(
+            invocation -> {
+              var future = new CompletableFuture<UaResponseMessageType>();
+              publishRequests.add(future);
+              return future;
+            });
+
+    when(session.getSessionId()).thenReturn(new NodeId(1, "session"));
+    when(session.getAuthenticationToken()).thenReturn(new NodeId(1, "token"));
+
+    publishingManager = new PublishingManager(client);
+
+    var listenerCaptor = ArgumentCaptor.forClass(SessionActivityListener.class);
+    verify(client).addSessionActivityListener(listenerCaptor.capture());
+    sessionActivityListener = listenerCaptor.getValue();
+  }
+
+  @AfterEach
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void publishRequestHeldUntilDemand() throws Exception {
+    var demand = new CompletableFuture<Unit>();
+    OpcUaSubscription subscription = newSubscription(1, demand);
+
+    publishingManager.addSubscription(subscription);
+
+    // min(subscriptions + 1, maxPendingPublishRequests)
+    CompletableFuture<UaResponseMessageType> first = nextPublishRequest();
+    nextPublishRequest();
+
+    first.complete(keepAlive(1, 1));
+    verify(subscription, timeout(1000)).notifyKeepAliveReceived();
+
+    assertNoPublishRequest();
+
+    demand.complete(Unit.VALUE);
+
+    nextPublishRequest();
+  }
+
+  @Test
+  public void onlyOnePublishRequestHeldPerSubscription() throws Exception {
+    OpcUaSubscription subscription = newSubscription(1, new CompletableFuture<>());
+
+    publishingManager.addSubscription(subscription);
+
+    CompletableFuture<UaResponseMessageType> first = nextPublishRequest();
+    CompletableFuture<UaResponseMessageType> second = nextPublishRequest();
+
+    first.complete(keepAlive(1, 1));
+    second.complete(keepAlive(1, 1));
+
+    // The second response doesn't wait on the demand the first is already waiting on.
+    nextPublishRequest();
+    assertNoPublishRequest();
+  }
+
+  @Test
+  public void removingSubscriptionReleasesHeldPublishRequest() throws Exception {
+    OpcUaSubscription waiting = newSubscription(1, new CompletableFuture<>());
+    OpcUaSubscription other = newSubscription(2, CompletableFuture.completedFuture(Unit.VALUE));
+
+    when(client.getConfig().getMaxPendingPublishRequests()).thenReturn(uint(3));
+
+    publishingManager.addSubscription(waiting);
+    publishingManager.addSubscription(other);
+
+    CompletableFuture<UaResponseMessageType> first = nextPublishRequest();
+    CompletableFuture<UaResponseMessageType> second = nextPublishRequest();
+    nextPublishRequest();
+
+    first.complete(keepAlive(1, 1));
+    verify(waiting, timeout(1000)).notifyKeepAliveReceived();
+    assertNoPublishRequest();
+
+    // The limit drops to 2. The held request is released, so once the next response is handled
+    // only one request is outstanding and another can be sent.
+    publishingManager.removeSubscription(waiting);
+
+    second.complete(keepAlive(2, 1));
+    verify(other, timeout(1000)).notifyKeepAliveReceived();
+
+    nextPublishRequest();
+    assertNoPublishRequest();
+  }
+
+  @Test
+  public void sessionInactiveReleasesHeldPublishRequest() throws Exception {
+    OpcUaSubscription subscription = newSubscription(1, new CompletableFuture<>());
+
+    publishingManager.addSubscription(subscription);
+
+    CompletableFuture<UaResponseMessageType> first = nextPublishRequest();
+    nextPublishRequest();
+
+    first.complete(keepAlive(1, 1));
+    verify(subscription, timeout(1000)).notifyKeepAliveReceived();
+    assertNoPublishRequest();
+
+    sessionActivityListener.onSessionInactive(session);
+
+    nextPublishRequest();
+  }
+
+  @Test
+  public void largeSequenceNumberGapIsSkippedNotTracked() throws Exception {
+    when(client.republishAsync(any(), any()))
+        .thenReturn(CompletableFuture.failedFuture(new UaException(StatusCodes.Bad_Timeout)));
+
+    OpcUaSubscription subscription =
+        newSubscription(1, CompletableFuture.completedFuture(Unit.VALUE));
+
+    publishingManager.addSubscription(subscription);
+
+    CompletableFuture<UaResponseMessageType> first = nextPublishRequest();
+    CompletableFuture<UaResponseMessageType> second = nextPublishRequest();
+
+    first.complete(keepAlive(1, 1));
+    verify(subscription, timeout(1000)).notifyKeepAliveReceived();
+
+    // A gap of ~4 billion sequence numbers: only the last MAX_REORDER_WINDOW are republished.
+    long gap = 4_000_000_000L;
+    second.complete(keepAlive(1, 1 + gap));
+
+    verify(client, timeout(5000).times(PublishingManager.MAX_REORDER_WINDOW))
+        .republishAsync(eq(uint(1)), any());
+
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (publishingManager.getLostSequenceNumberCount() < gap && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    assertEquals(gap, publishingManager.getLostSequenceNumberCount());
+
+    // Delivery continues after the gap without republishing anything else.
+    nextPublishRequest().complete(keepAlive(1, 1 + gap));
+    verify(subscription, timeout(1000).times(2)).notifyKeepAliveReceived();
+    verify(client, times(PublishingManager.MAX_REORDER_WINDOW)).republishAsync(any(), any());
+  }
+
+  @Test
+  public void dataChangeBatchesAndEventsAreDeliveredInOrder() throws Exception {
+    when(client.getStaticEncodingContext()).thenReturn(DefaultEncodingContext.INSTANCE);
+
+    OpcUaSubscription subscription =
+        newSubscription(1, CompletableFuture.completedFuture(Unit.VALUE));
+
+    var batch = new DataChangeBatch();
+    when(subscription.startDataChangeBatch()).thenReturn(batch);
+
+    var delivered = new CopyOnWriteArrayList<String>();
+    doAnswer(
+            invocation -> {
+              var handles = new ArrayList<Integer>();
+              for (int i = 0; i < batch.size(); i++) {
+                handles.add(batch.getClientHandles()[i]);
+              }
+              return delivered.add("data " + handles);
+            })
+        .when(subscription)
+        .notifyDataChangeBatch(any());
+    doAnswer(invocation -> delivered.add("events")).when(subscription).notifyEventsReceived(any());
+
+    publishingManager.addSubscription(subscription);
+
+    var notificationMessage =
+        new NotificationMessage(
+            uint(1),
+            DateTime.now(),
+            new ExtensionObject[] {dataChange(1, 2), events(), dataChange(3)});
+
+    nextPublishRequest().complete(publishResponse(1, notificationMessage));
+
+    verify(subscription, timeout(1000).times(2)).notifyDataChangeBatch(any());
+    verify(subscription, timeout(1000)).notifyEventsReceived(any());
+    assertEquals(List.of("data [1, 2]", "events", "data [3]"), delivered);
+  }
+
+  private static ExtensionObject dataChange(int... clientHandles) {
+    var notifications = new MonitoredItemNotification[clientHandles.length];
+    for (int i = 0; i < clientHandles.length; i++) {
+      notifications[i] =
+          new MonitoredItemNotification(uint(clientHandles[i]), new DataValue(new Variant(i)));
+    }
+
+    return ExtensionObject.encode(
+        DefaultEncodingContext.INSTANCE, new DataChangeNotification(notifications, null));
+  }
+
+  private static ExtensionObject events() {
+    var events = new EventFieldList[] {new EventFieldList(uint(9), new Variant[0])};
+
+    return ExtensionObject.encode(
+        DefaultEncodingContext.INSTANCE, new EventNotificationList(events));
+  }
+
+  private OpcUaSubscription newSubscription(long subscriptionId, CompletableFuture<Unit> demand) {
+    OpcUaSubscription subscription = mock(OpcUaSubscription.class);
+    when(subscription.getSubscriptionId()).thenReturn(Optional.of(uint(subscriptionId)));
+    when(subscription.getDeliveryQueue()).thenReturn(new TaskQueue(executor));
+    when(subscription.notificationDemandAvailable()).thenReturn(demand);
+    return subscription;
+  }
+
+  private CompletableFuture<UaResponseMessageType> nextPublishRequest() throws Exception {
+    CompletableFuture<UaResponseMessageType> request = publishRequests.poll(1, TimeUnit.SECONDS);
+    if (request == null) {
+      throw new AssertionError("expected a PublishRequest");
+    }
+    return request;
+  }
+
+  private void assertNoPublishRequest() throws Exception {
+    assertEquals(null, publishRequests.poll(250, TimeUnit.MILLISECONDS));
+  }
+
+  static PublishResponse keepAlive(long subscriptionId, long nextSequenceNumber) {
+    return publishResponse(
+        subscriptionId, new NotificationMessage(uint(nextSequenceNumber), DateTime.now(), null));
+  }
+
+  static PublishResponse publishResponse(
+      long subscriptionId, NotificationMessage notificationMessage) {
+
+    var responseHeader =
+        new ResponseHeader(
+            DateTime.now(), uint(1), StatusCode.GOOD, DiagnosticInfo.NULL_VALUE, null, null);
+
+    return new PublishResponse(
+        responseHeader,
+        uint(subscriptionId),
+        new UInteger[0],
+        false,
+        notificationMessage,
+        null,
+        null);
+  }
+}
@@ -983,7 +983,7 @@ public class OpcUaJsonDecoder implements UaDecoder {
             localizedText = jsonReader.nextInt();
             break;
           case "AdditionalInfo":
-            additionalInfo = jsonReader.nextString();
+            additionalInfo = decodeString(null);
             break;
           case "InnerStatusCode":
             innerStatusCode = decodeStatusCode(null);
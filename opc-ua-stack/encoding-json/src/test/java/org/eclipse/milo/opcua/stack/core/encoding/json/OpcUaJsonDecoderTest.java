@@ -848,6 +848,12 @@ class OpcUaJsonDecoderTest {
     decoder.jsonReader.beginObject();
     assertEquals(diagnosticInfo, decoder.decodeDiagnosticInfo("foo"));
     decoder.jsonReader.endObject();
+
+    // the encoder writes a null AdditionalInfo as JSON null
+    decoder.reset(
+        new StringReader(
+            "{\"SymbolicId\":-1,\"NamespaceUri\":-1,\"Locale\":-1,\"LocalizedText\":-1,\"AdditionalInfo\":null}"));
+    assertEquals(DiagnosticInfo.NULL_VALUE, decoder.decodeDiagnosticInfo(null));
   }
 
   @Test
@@ -11,9 +11,10 @@
 package org.eclipse.milo.opcua.stack.core;
 
 import io.netty.channel.EventLoopGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.util.HashedWheelTimer;
 import io.netty.util.Timeout;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
@@ -22,6 +23,8 @@ import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import org.eclipse.milo.opcua.stack.core.transport.NettyTransport;
+import org.eclipse.milo.opcua.stack.core.util.CryptoExecutor;
 import org.eclipse.milo.opcua.stack.core.util.ManifestUtil;
 import org.jspecify.annotations.NonNull;
 import org.slf4j.LoggerFactory;
@@ -56,16 +59,41 @@ public final class Stack {
   public static final int DEFAULT_HTTP_PORT = 8080;
   public static final int DEFAULT_HTTPS_PORT = 8443;
 
-  private static EventLoopGroup EVENT_LOOP;
+  private static final Map<NettyTransport, EventLoopGroup> EVENT_LOOPS =
+      new EnumMap<>(NettyTransport.class);
+
   private static ExecutorService EXECUTOR_SERVICE;
   private static ScheduledExecutorService SCHEDULED_EXECUTOR_SERVICE;
   private static HashedWheelTimer WHEEL_TIMER;
+  private static CryptoExecutor CRYPTO_EXECUTOR;
 
   /**
+   * Get the shared {@link EventLoopGroup} for the default {@link NettyTransport#NIO} transport.
+   *
    * @return a shared {@link EventLoopGroup}.
    */
   public static synchronized EventLoopGroup sharedEventLoop() {
-    if (EVENT_LOOP == null) {
+    return sharedEventLoop(NettyTransport.NIO);
+  }
+
+  /**
+   * Get the shared {@link EventLoopGroup} for {@code transport}, falling back to {@link
+   * NettyTransport#NIO} if {@code transport} isn't available on this platform.
+   *
+   * @param transport the {@link NettyTransport} the event loop must serve.
+   * @return a shared {@link EventLoopGroup} for {@code transport}.
+   */
+  public static synchronized EventLoopGroup sharedEventLoop(NettyTransport transport) {
+    if (!transport.isAvailable()) {
+      LoggerFactory.getLogger(Stack.class)
+          .warn("{} transport not available, falling back to {}", transport, NettyTransport.NIO);
+
+      transport = NettyTransport.NIO;
+    }
+
+    EventLoopGroup eventLoop = EVENT_LOOPS.get(transport);
+
+    if (eventLoop == null) {
       ThreadFactory threadFactory =
           new ThreadFactory() {
             private final AtomicLong threadNumber = new AtomicLong(0L);
@@ -79,10 +107,12 @@ public final class Stack {
             }
           };
 
-      EVENT_LOOP = new NioEventLoopGroup(0, threadFactory);
+      eventLoop = transport.newEventLoopGroup(0, threadFactory);
+
+      EVENT_LOOPS.put(transport, eventLoop);
     }
 
-    return EVENT_LOOP;
+    return eventLoop;
   }
 
   /**
@@ -179,6 +209,21 @@ public final class Stack {
     return SCHEDULED_EXECUTOR_SERVICE;
   }
 
+  /**
+   * Get the shared {@link CryptoExecutor}, with one thread per two available processors and room
+   * for 1024 waiting tasks.
+   *
+   * @return a shared {@link CryptoExecutor}.
+   */
+  public static synchronized CryptoExecutor sharedCryptoExecutor() {
+    if (CRYPTO_EXECUTOR == null) {
+      CRYPTO_EXECUTOR =
+          new CryptoExecutor(Math.max(1, Runtime.getRuntime().availableProcessors() / 2), 1024);
+    }
+
+    return CRYPTO_EXECUTOR;
+  }
+
   /**
    * @return a shared {@link HashedWheelTimer}.
    */
@@ -213,14 +258,14 @@ public final class Stack {
    * @param unit the unit of the timeout duration.
    */
   public static synchronized void releaseSharedResources(long timeout, TimeUnit unit) {
-    if (EVENT_LOOP != null) {
+    for (EventLoopGroup eventLoop : EVENT_LOOPS.values()) {
       try {
-        EVENT_LOOP.shutdownGracefully().await(timeout, unit);
+        eventLoop.shutdownGracefully().await(timeout, unit);
       } catch (InterruptedException e) {
         LoggerFactory.getLogger(Stack.class).warn("Interrupted awaiting event loop shutdown.", e);
       }
-      EVENT_LOOP = null;
     }
+    EVENT_LOOPS.clear();
 
     if (SCHEDULED_EXECUTOR_SERVICE != null) {
       SCHEDULED_EXECUTOR_SERVICE.shutdown();
@@ -230,6 +275,11 @@ public final class Stack {
       EXECUTOR_SERVICE.shutdown();
     }
 
+    if (CRYPTO_EXECUTOR != null) {
+      CRYPTO_EXECUTOR.shutdown();
+      CRYPTO_EXECUTOR = null;
+    }
+
     if (SCHEDULED_EXECUTOR_SERVICE != null) {
       try {
         SCHEDULED_EXECUTOR_SERVICE.awaitTermination(timeout, unit);
@@ -283,5 +333,11 @@ public final class Stack {
 
     /** The maximum number of connections allowed from any 1 remote address. */
     public static int RATE_LIMIT_MAX_CONNECTIONS_PER_ADDRESS = 100;
+
+    /**
+     * The maximum number of remote addresses whose connect attempts are tracked for rate limiting
+     * at once.
+     */
+    public static int RATE_LIMIT_MAX_TRACKED_ADDRESSES = 100_000;
   }
 }
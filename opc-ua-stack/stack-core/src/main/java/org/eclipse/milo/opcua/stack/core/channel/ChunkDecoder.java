@@ -38,6 +38,7 @@ import org.eclipse.milo.opcua.stack.core.security.SecurityAlgorithm;
 import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
 import org.eclipse.milo.opcua.stack.core.util.BufferUtil;
 import org.eclipse.milo.opcua.stack.core.util.SignatureUtil;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -75,6 +76,67 @@ public final class ChunkDecoder {
     return decode(symmetricDecoder, channel, chunkBuffers);
   }
 
+  /**
+   * Verify, decrypt, and decode a single symmetric chunk as soon as it arrives, appending its
+   * plaintext body to {@code partialMessage}.
+   *
+   * <p>The caller can release the chunk as soon as this method returns, rather than holding every
+   * chunk until the final one arrives. A decrypted body is copied out of {@code chunkBuffer}; a
+   * body that wasn't encrypted is kept as a retained slice of it instead, so the chunk's memory is
+   * freed once the message is released. The caller's reference to {@code chunkBuffer} is neither
+   * retained nor released by this method.
+   *
+   * <p>If decoding fails or an abort chunk is received, {@code partialMessage} is reset and the
+   * plaintext accumulated so far is released.
+   *
+   * @param channel the {@link SecureChannel} the chunk was received on.
+   * @param partialMessage the {@link PartialMessage} accumulating the current message.
+   * @param chunkBuffer the chunk to decode.
+   * @return the complete {@link DecodedMessage} if {@code chunkBuffer} was the final chunk,
+   *     otherwise {@code null}. The caller is responsible for releasing the message buffer.
+   * @throws MessageAbortException if {@code chunkBuffer} was an abort chunk.
+   * @throws MessageDecodeException if the chunk could not be verified or decoded.
+   */
+  public @Nullable DecodedMessage decodeSymmetricChunk(
+      SecureChannel channel, PartialMessage partialMessage, ByteBuf chunkBuffer)
+      throws MessageAbortException, MessageDecodeException {
+
+    final char chunkType = (char) chunkBuffer.getByte(3);
+
+    try {
+      validateSymmetricSecurityHeaders(channel, List.of(chunkBuffer));
+
+      DecodedChunk decodedChunk = symmetricDecoder.decodeChunk(channel, chunkBuffer);
+
+      ByteBuf body = decodedChunk.body();
+      ByteBuf plainText;
+
+      if (symmetricDecoder.isEncryptionEnabled(channel)) {
+        plainText = BufferUtil.pooledBuffer(body.readableBytes());
+        plainText.writeBytes(body);
+      } else {
+        // Nothing was decrypted, so keep a slice of the chunk instead of copying the body.
+        plainText = body.retainedSlice();
+      }
+
+      partialMessage.append(plainText, decodedChunk.requestId());
+
+      symmetricDecoder.checkMessageSize(partialMessage.composite);
+
+      if (chunkType == 'F') {
+        return partialMessage.complete();
+      } else {
+        return null;
+      }
+    } catch (MessageAbortException e) {
+      partialMessage.release();
+      throw e;
+    } catch (UaException e) {
+      partialMessage.release();
+      throw new MessageDecodeException(e);
+    }
+  }
+
   private static DecodedMessage decode(
       AbstractDecoder decoder, SecureChannel channel, List<ByteBuf> chunkBuffers)
       throws MessageAbortException, MessageDecodeException {
@@ -118,6 +180,63 @@ public final class ChunkDecoder {
     }
   }
 
+  /**
+   * A message being assembled from symmetric chunks decoded as they arrive.
+   *
+   * @see #decodeSymmetricChunk(SecureChannel, PartialMessage, ByteBuf)
+   */
+  public static final class PartialMessage {
+
+    private @Nullable CompositeByteBuf composite;
+    private int chunkCount = 0;
+    private long requestId = -1L;
+
+    /**
+     * @return the number of chunks decoded so far for the current message.
+     */
+    public int getChunkCount() {
+      return chunkCount;
+    }
+
+    /** Release any plaintext accumulated so far and reset to start a new message. */
+    public void release() {
+      if (composite != null) {
+        ReferenceCountUtil.safeRelease(composite);
+      }
+      reset();
+    }
+
+    private void append(ByteBuf plainText, long requestId) {
+      if (composite == null) {
+        // Never consolidate: that would copy bodies kept as slices of their chunks.
+        composite = BufferUtil.compositeBuffer(Integer.MAX_VALUE);
+      }
+
+      composite.addComponent(true, plainText);
+
+      this.chunkCount++;
+      this.requestId = requestId;
+    }
+
+    private DecodedMessage complete() {
+      DecodedMessage decodedMessage =
+          new DecodedMessage(
+              composite != null ? composite : BufferUtil.compositeBuffer(), requestId);
+
+      reset();
+
+      return decodedMessage;
+    }
+
+    private void reset() {
+      composite = null;
+      chunkCount = 0;
+      requestId = -1L;
+    }
+  }
+
+  private record DecodedChunk(ByteBuf body, long requestId) {}
+
   /** A full decoded message, assembled from one or more successfully decoded chunks. */
   public static class DecodedMessage {
 
@@ -146,94 +265,114 @@ public final class ChunkDecoder {
         SecureChannel channel, CompositeByteBuf composite, List<ByteBuf> chunkBuffers)
         throws MessageAbortException, UaException {
 
+      long requestId = -1L;
+
+      for (ByteBuf chunkBuffer : chunkBuffers) {
+        DecodedChunk decodedChunk = decodeChunk(channel, chunkBuffer);
+        ByteBuf bodyBuffer = decodedChunk.body();
+        requestId = decodedChunk.requestId();
+
+        composite.addComponent(bodyBuffer);
+        composite.writerIndex(composite.writerIndex() + bodyBuffer.readableBytes());
+      }
+
+      checkMessageSize(composite);
+
+      return new DecodedMessage(composite, requestId);
+    }
+
+    /**
+     * Verify, decrypt, and decode a single chunk.
+     *
+     * @return the {@link DecodedChunk}, whose body is a slice of {@code chunkBuffer}.
+     */
+    DecodedChunk decodeChunk(SecureChannel channel, ByteBuf chunkBuffer)
+        throws MessageAbortException, UaException {
+
       int signatureSize = getSignatureSize(channel);
       int cipherTextBlockSize = getCipherTextBlockSize(channel);
 
       boolean encrypted = isEncryptionEnabled(channel);
       boolean signed = isSigningEnabled(channel);
 
-      long requestId = -1L;
+      final char chunkType = (char) chunkBuffer.getByte(3);
 
-      for (ByteBuf chunkBuffer : chunkBuffers) {
-        final char chunkType = (char) chunkBuffer.getByte(3);
-
-        chunkBuffer.skipBytes(SecureMessageHeader.SECURE_MESSAGE_HEADER_SIZE);
+      chunkBuffer.skipBytes(SecureMessageHeader.SECURE_MESSAGE_HEADER_SIZE);
 
-        readSecurityHeader(channel, chunkBuffer);
+      readSecurityHeader(channel, chunkBuffer);
 
-        if (encrypted) {
-          decryptChunk(channel, chunkBuffer);
-        }
+      if (encrypted) {
+        decryptChunk(channel, chunkBuffer);
+      }
 
-        int encryptedStart = chunkBuffer.readerIndex();
-        chunkBuffer.readerIndex(0);
+      int encryptedStart = chunkBuffer.readerIndex();
+      chunkBuffer.readerIndex(0);
 
-        if (signed) {
-          verifyChunk(channel, chunkBuffer);
-        }
+      if (signed) {
+        verifyChunk(channel, chunkBuffer);
+      }
 
-        final int paddingOverhead = encrypted ? (cipherTextBlockSize > 256 ? 2 : 1) : 0;
-        final int paddingSize =
-            encrypted ? getPaddingSize(cipherTextBlockSize, signatureSize, chunkBuffer) : 0;
-        final int bodyEnd =
-            chunkBuffer.readableBytes() - signatureSize - paddingOverhead - paddingSize;
+      final int paddingOverhead = encrypted ? (cipherTextBlockSize > 256 ? 2 : 1) : 0;
+      final int paddingSize =
+          encrypted ? getPaddingSize(cipherTextBlockSize, signatureSize, chunkBuffer) : 0;
+      final int bodyEnd =
+          chunkBuffer.readableBytes() - signatureSize - paddingOverhead - paddingSize;
 
-        chunkBuffer.readerIndex(encryptedStart);
+      chunkBuffer.readerIndex(encryptedStart);
 
-        SequenceHeader sequenceHeader = SequenceHeader.decode(chunkBuffer);
-        long sequenceNumber = sequenceHeader.getSequenceNumber();
-        requestId = sequenceHeader.getRequestId();
+      SequenceHeader sequenceHeader = SequenceHeader.decode(chunkBuffer);
+      long sequenceNumber = sequenceHeader.getSequenceNumber();
+      long requestId = sequenceHeader.getRequestId();
 
-        if (!validateSequenceNumber(lastSequenceNumber, sequenceNumber)) {
-          throw new UaException(
-              StatusCodes.Bad_SecurityChecksFailed,
-              String.format(
-                  "bad sequence number: %s, lastSequenceNumber=%s",
-                  sequenceNumber, lastSequenceNumber));
-        }
+      if (!validateSequenceNumber(lastSequenceNumber, sequenceNumber)) {
+        throw new UaException(
+            StatusCodes.Bad_SecurityChecksFailed,
+            String.format(
+                "bad sequence number: %s, lastSequenceNumber=%s",
+                sequenceNumber, lastSequenceNumber));
+      }
 
-        lastSequenceNumber = sequenceNumber;
+      lastSequenceNumber = sequenceNumber;
 
-        ByteBuf bodyBuffer = chunkBuffer.readSlice(bodyEnd - chunkBuffer.readerIndex());
+      ByteBuf bodyBuffer = chunkBuffer.readSlice(bodyEnd - chunkBuffer.readerIndex());
 
-        if (encrypted) {
-          int expectedPaddingSize = chunkBuffer.readableBytes() - signatureSize - paddingOverhead;
-          if (paddingSize != expectedPaddingSize) {
-            throw new UaException(StatusCodes.Bad_SecurityChecksFailed, "bad padding size");
-          }
-          byte expectedPaddingByte = (byte) (paddingSize & 0xFF);
-          for (int i = chunkBuffer.readerIndex();
-              i < chunkBuffer.readerIndex() + paddingSize + 1;
-              i++) {
-            if (chunkBuffer.getByte(i) != expectedPaddingByte) {
-              throw new UaException(StatusCodes.Bad_SecurityChecksFailed, "bad padding sequence");
-            }
+      if (encrypted) {
+        int expectedPaddingSize = chunkBuffer.readableBytes() - signatureSize - paddingOverhead;
+        if (paddingSize != expectedPaddingSize) {
+          throw new UaException(StatusCodes.Bad_SecurityChecksFailed, "bad padding size");
+        }
+        byte expectedPaddingByte = (byte) (paddingSize & 0xFF);
+        for (int i = chunkBuffer.readerIndex();
+            i < chunkBuffer.readerIndex() + paddingSize + 1;
+            i++) {
+          if (chunkBuffer.getByte(i) != expectedPaddingByte) {
+            throw new UaException(StatusCodes.Bad_SecurityChecksFailed, "bad padding sequence");
           }
         }
+      }
 
-        if (chunkType == 'A') {
-          ErrorMessage errorMessage = ErrorMessage.decode(bodyBuffer);
+      if (chunkType == 'A') {
+        ErrorMessage errorMessage = ErrorMessage.decode(bodyBuffer);
 
-          throw new MessageAbortException(
-              errorMessage.getReason(), requestId, errorMessage.getError());
-        }
-
-        composite.addComponent(bodyBuffer);
-        composite.writerIndex(composite.writerIndex() + bodyBuffer.readableBytes());
+        throw new MessageAbortException(
+            errorMessage.getReason(), requestId, errorMessage.getError());
       }
 
-      if (parameters.getLocalMaxMessageSize() > 0
-          && composite.readableBytes() > parameters.getLocalMaxMessageSize()) {
+      return new DecodedChunk(bodyBuffer, requestId);
+    }
+
+    void checkMessageSize(@Nullable ByteBuf message) throws UaException {
+      if (message != null
+          && parameters.getLocalMaxMessageSize() > 0
+          && message.readableBytes() > parameters.getLocalMaxMessageSize()) {
 
         String errorMessage =
             String.format(
                 "message size exceeds configured limit: %s > %s",
-                composite.readableBytes(), parameters.getLocalMaxMessageSize());
+                message.readableBytes(), parameters.getLocalMaxMessageSize());
 
         throw new UaException(StatusCodes.Bad_TcpMessageTooLarge, errorMessage);
       }
-
-      return new DecodedMessage(composite, requestId);
     }
 
     private void decryptChunk(SecureChannel channel, ByteBuf chunkBuffer) throws UaException {
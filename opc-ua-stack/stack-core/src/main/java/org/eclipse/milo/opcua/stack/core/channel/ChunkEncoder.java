@@ -14,6 +14,7 @@ import static org.eclipse.milo.opcua.stack.core.channel.headers.SecureMessageHea
 import static org.eclipse.milo.opcua.stack.core.channel.headers.SequenceHeader.SEQUENCE_HEADER_SIZE;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.util.ReferenceCountUtil;
 import java.nio.Buffer;
 import java.nio.ByteBuffer;
@@ -67,6 +68,39 @@ public final class ChunkEncoder {
     return encode(symmetricEncoder, channel, requestId, messageBuffer, messageType);
   }
 
+  /**
+   * Split an asymmetric message into chunks and assign their sequence numbers, without signing or
+   * encrypting them yet.
+   *
+   * <p>Sequence numbers are assigned in the order messages are framed or encoded, so the framed
+   * message must be sent before any message encoded after it. Sealing, the expensive part, can be
+   * done on any thread with {@link FramedMessage#seal()}.
+   *
+   * @param channel the {@link SecureChannel} the message is sent on.
+   * @param requestId the request id of the message.
+   * @param messageBuffer the encoded message body.
+   * @param messageType the {@link MessageType} of the message.
+   * @return a {@link FramedMessage} that must be sealed or released.
+   * @throws MessageEncodeException if the message could not be framed.
+   */
+  public FramedMessage frameAsymmetric(
+      SecureChannel channel, long requestId, ByteBuf messageBuffer, MessageType messageType)
+      throws MessageEncodeException {
+
+    List<ByteBuf> chunks = new ArrayList<>();
+
+    try {
+      ChunkLayout layout =
+          asymmetricEncoder.frame(chunks, channel, requestId, messageBuffer, messageType);
+
+      return new FramedMessage(asymmetricEncoder, channel, layout, chunks, requestId);
+    } catch (UaException e) {
+      chunks.forEach(ReferenceCountUtil::safeRelease);
+
+      throw new MessageEncodeException(e);
+    }
+  }
+
   private EncodedMessage encode(
       AbstractEncoder encoder,
       SecureChannel channel,
@@ -96,7 +130,29 @@ public final class ChunkEncoder {
         MessageType messageType)
         throws UaException {
 
+      ChunkLayout layout = frame(chunks, channel, requestId, messageBuffer, messageType);
+
+      for (ByteBuf chunkBuffer : chunks) {
+        seal(layout, channel, chunkBuffer);
+      }
+
+      return new EncodedMessage(chunks, requestId);
+    }
+
+    /**
+     * Write each chunk's headers, body, and padding, leaving the writer index where the signature
+     * goes.
+     */
+    ChunkLayout frame(
+        List<ByteBuf> chunks,
+        SecureChannel channel,
+        long requestId,
+        ByteBuf messageBuffer,
+        MessageType messageType)
+        throws UaException {
+
       boolean encrypted = isEncryptionEnabled(channel);
+      boolean signed = isSigningEnabled(channel);
 
       int securityHeaderSize = getSecurityHeaderSize(channel);
       int cipherTextBlockSize = getCipherTextBlockSize(channel);
@@ -137,7 +193,8 @@ public final class ChunkEncoder {
 
         assert (chunkSize <= maxChunkSize);
 
-        ByteBuf chunkBuffer = BufferUtil.pooledBuffer(chunkSize);
+        ByteBuf chunkBuffer =
+            BufferUtil.pooledBuffer(encrypted || signed ? chunkSize : chunkSize - bodySize);
 
         chunks.add(chunkBuffer);
 
@@ -168,63 +225,84 @@ public final class ChunkEncoder {
         SequenceHeader.encode(sequenceHeader, chunkBuffer);
 
         /* Message Body */
-        chunkBuffer.writeBytes(messageBuffer, bodySize);
+        if (encrypted || signed) {
+          chunkBuffer.writeBytes(messageBuffer, bodySize);
+        } else {
+          // Nothing to sign or encrypt, so the body is a slice of messageBuffer, not a copy.
+          CompositeByteBuf compositeChunk = BufferUtil.compositeBuffer();
+          compositeChunk.addComponents(
+              true, chunkBuffer, messageBuffer.readRetainedSlice(bodySize));
+
+          chunks.set(chunks.size() - 1, compositeChunk);
+        }
 
-        /* Padding and Signature */
+        /* Padding */
         if (encrypted) {
           writePadding(cipherTextBlockSize, paddingSize, chunkBuffer);
         }
+      }
 
-        if (isSigningEnabled(channel)) {
-          ByteBuffer chunkNioBuffer = chunkBuffer.nioBuffer(0, chunkBuffer.writerIndex());
+      return new ChunkLayout(
+          encrypted, signed, securityHeaderSize, cipherTextBlockSize, plainTextBlockSize);
+    }
 
-          byte[] signature = signChunk(channel, chunkNioBuffer);
+    /** Sign and encrypt a chunk written by {@link #frame}. */
+    void seal(ChunkLayout layout, SecureChannel channel, ByteBuf chunkBuffer) throws UaException {
+      int securityHeaderSize = layout.securityHeaderSize();
+      int cipherTextBlockSize = layout.cipherTextBlockSize();
+      int plainTextBlockSize = layout.plainTextBlockSize();
 
-          chunkBuffer.writeBytes(signature);
-        }
+      // messageSize follows messageType and chunkType
+      int chunkSize = (int) chunkBuffer.getUnsignedIntLE(3 + 1);
 
-        /* Encryption */
-        if (encrypted) {
-          chunkBuffer.readerIndex(SECURE_MESSAGE_HEADER_SIZE + securityHeaderSize);
+      /* Signature */
+      if (layout.signing()) {
+        ByteBuffer chunkNioBuffer = chunkBuffer.nioBuffer(0, chunkBuffer.writerIndex());
 
-          assert (chunkBuffer.readableBytes() % plainTextBlockSize == 0);
+        byte[] signature = signChunk(channel, chunkNioBuffer);
 
-          try {
-            int blockCount = chunkBuffer.readableBytes() / plainTextBlockSize;
+        chunkBuffer.writeBytes(signature);
+      }
 
-            ByteBuffer chunkNioBuffer =
-                chunkBuffer.nioBuffer(chunkBuffer.readerIndex(), blockCount * cipherTextBlockSize);
+      /* Encryption */
+      if (layout.encrypted()) {
+        chunkBuffer.readerIndex(SECURE_MESSAGE_HEADER_SIZE + securityHeaderSize);
 
-            ByteBuf copyBuffer = chunkBuffer.copy();
-            ByteBuffer plainTextNioBuffer = copyBuffer.nioBuffer();
+        assert (chunkBuffer.readableBytes() % plainTextBlockSize == 0);
 
-            Cipher cipher = getCipher(channel);
+        try {
+          int blockCount = chunkBuffer.readableBytes() / plainTextBlockSize;
 
-            if (isAsymmetric()) {
-              for (int blockNumber = 0; blockNumber < blockCount; blockNumber++) {
-                int position = blockNumber * plainTextBlockSize;
-                int limit = (blockNumber + 1) * plainTextBlockSize;
-                ((Buffer) plainTextNioBuffer).position(position);
-                ((Buffer) plainTextNioBuffer).limit(limit);
+          ByteBuffer chunkNioBuffer =
+              chunkBuffer.nioBuffer(chunkBuffer.readerIndex(), blockCount * cipherTextBlockSize);
 
-                int bytesWritten = cipher.doFinal(plainTextNioBuffer, chunkNioBuffer);
+          ByteBuf copyBuffer = chunkBuffer.copy();
+          ByteBuffer plainTextNioBuffer = copyBuffer.nioBuffer();
 
-                assert (bytesWritten == cipherTextBlockSize);
-              }
-            } else {
-              cipher.doFinal(plainTextNioBuffer, chunkNioBuffer);
-            }
+          Cipher cipher = getCipher(channel);
+
+          if (isAsymmetric()) {
+            for (int blockNumber = 0; blockNumber < blockCount; blockNumber++) {
+              int position = blockNumber * plainTextBlockSize;
+              int limit = (blockNumber + 1) * plainTextBlockSize;
+              ((Buffer) plainTextNioBuffer).position(position);
+              ((Buffer) plainTextNioBuffer).limit(limit);
+
+              int bytesWritten = cipher.doFinal(plainTextNioBuffer, chunkNioBuffer);
 
-            copyBuffer.release();
-          } catch (GeneralSecurityException e) {
-            throw new UaException(StatusCodes.Bad_SecurityChecksFailed, e);
+              assert (bytesWritten == cipherTextBlockSize);
+            }
+          } else {
+            cipher.doFinal(plainTextNioBuffer, chunkNioBuffer);
           }
-        }
 
-        chunkBuffer.readerIndex(0).writerIndex(chunkSize);
+          copyBuffer.release();
+        } catch (GeneralSecurityException e) {
+          throw new UaException(StatusCodes.Bad_SecurityChecksFailed, e);
+        }
       }
 
-      return new EncodedMessage(chunks, requestId);
+      chunkBuffer.readerIndex(0).writerIndex(chunkSize);
     }
 
     private void writePadding(int cipherTextBlockSize, int paddingSize, ByteBuf buffer) {
@@ -285,6 +363,72 @@ public final class ChunkEncoder {
     }
   }
 
+  /**
+   * An asymmetric message that has been split into chunks and assigned sequence numbers, but not
+   * yet signed or encrypted.
+   *
+   * @see #frameAsymmetric(SecureChannel, long, ByteBuf, MessageType)
+   */
+  public static final class FramedMessage {
+
+    private final AbstractEncoder encoder;
+    private final SecureChannel channel;
+    private final ChunkLayout layout;
+    private final List<ByteBuf> messageChunks;
+    private final long requestId;
+
+    private FramedMessage(
+        AbstractEncoder encoder,
+        SecureChannel channel,
+        ChunkLayout layout,
+        List<ByteBuf> messageChunks,
+        long requestId) {
+
+      this.encoder = encoder;
+      this.channel = channel;
+      this.layout = layout;
+      this.messageChunks = messageChunks;
+      this.requestId = requestId;
+    }
+
+    /**
+     * Sign and encrypt the chunks of this message. Safe to call from any thread, but only once.
+     *
+     * @return the {@link EncodedMessage}, ready to send.
+     * @throws MessageEncodeException if signing or encryption failed; the chunks have been
+     *     released.
+     */
+    public EncodedMessage seal() throws MessageEncodeException {
+      try {
+        for (ByteBuf chunkBuffer : messageChunks) {
+          encoder.seal(layout, channel, chunkBuffer);
+        }
+
+        return new EncodedMessage(messageChunks, requestId);
+      } catch (UaException e) {
+        release();
+
+        throw new MessageEncodeException(e);
+      }
+    }
+
+    /** Release the chunks of this message without sealing it. */
+    public void release() {
+      messageChunks.forEach(ReferenceCountUtil::safeRelease);
+    }
+
+    public long getRequestId() {
+      return requestId;
+    }
+  }
+
+  private record ChunkLayout(
+      boolean encrypted,
+      boolean signing,
+      int securityHeaderSize,
+      int cipherTextBlockSize,
+      int plainTextBlockSize) {}
+
   private final class AsymmetricEncoder extends AbstractEncoder {
 
     @Override
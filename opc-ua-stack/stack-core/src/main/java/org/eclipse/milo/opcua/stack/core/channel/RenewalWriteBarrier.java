@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2025 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.core.channel;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.util.ReferenceCountUtil;
+import java.nio.channels.ClosedChannelException;
+import java.util.ArrayDeque;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import org.eclipse.milo.opcua.stack.core.channel.ChunkEncoder.EncodedMessage;
+import org.eclipse.milo.opcua.stack.core.channel.ChunkEncoder.FramedMessage;
+import org.eclipse.milo.opcua.stack.core.util.CryptoExecutor;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Sends the OpenSecureChannel message of a SecureChannel renewal without blocking the event loop on
+ * its asymmetric signing and encryption.
+ *
+ * <p>The message is framed on the event loop, which fixes its sequence number, and sealed on a
+ * {@link CryptoExecutor}. Writes made through {@link #hold(Object, ChannelPromise)} in the meantime
+ * are held and written, in order, right after it, so the sequence numbers on the wire stay
+ * contiguous while symmetric traffic keeps being encoded.
+ *
+ * <p>All methods must be called on the event loop of the channel.
+ */
+public final class RenewalWriteBarrier {
+
+  /** The number of renewal messages sealed through a barrier. */
+  public static final AtomicLong CUMULATIVE_RENEWALS_SEALED = new AtomicLong();
+
+  /** The number of renewal messages sealed on the event loop because the executor was saturated. */
+  public static final AtomicLong CUMULATIVE_RENEWALS_SEALED_INLINE = new AtomicLong();
+
+  /** The number of renewal messages received and decoded through a {@link CryptoExecutor}. */
+  public static final AtomicLong CUMULATIVE_RENEWALS_DECODED = new AtomicLong();
+
+  /**
+   * The number of renewal messages received and decoded on the event loop because the executor was
+   * saturated.
+   */
+  public static final AtomicLong CUMULATIVE_RENEWALS_DECODED_INLINE = new AtomicLong();
+
+  /** The number of writes held while a renewal message was being sealed. */
+  public static final AtomicLong CUMULATIVE_WRITES_HELD = new AtomicLong();
+
+  /** The total time, in nanoseconds, writes were held while renewal messages were sealed. */
+  public static final AtomicLong CUMULATIVE_HOLD_NANOS = new AtomicLong();
+
+  /** The longest time, in nanoseconds, writes were held while a renewal message was sealed. */
+  public static final AtomicLong MAX_HOLD_NANOS = new AtomicLong();
+
+  /**
+   * The total time, in nanoseconds, renewals spent on the event loop, i.e. everything but decoding
+   * and sealing renewal messages on a {@link CryptoExecutor}.
+   */
+  public static final AtomicLong CUMULATIVE_EVENT_LOOP_NANOS = new AtomicLong();
+
+  private @Nullable ArrayDeque<HeldWrite> held;
+  private long holdStartNanos;
+
+  private final ChannelHandlerContext ctx;
+
+  /**
+   * @param ctx the {@link ChannelHandlerContext} the renewal message and held writes are written
+   *     through.
+   */
+  public RenewalWriteBarrier(ChannelHandlerContext ctx) {
+    this.ctx = ctx;
+  }
+
+  /**
+   * @return {@code true} if a renewal message is being sealed and writes are being held.
+   */
+  public boolean isHolding() {
+    return held != null;
+  }
+
+  /**
+   * Hold {@code msg} until the renewal message being sealed has been written.
+   *
+   * @param msg the message to write.
+   * @param promise the promise to complete when {@code msg} is written.
+   * @return {@code true} if {@code msg} was held, {@code false} if no renewal is being sealed and
+   *     the caller should write it now.
+   */
+  public boolean hold(Object msg, ChannelPromise promise) {
+    ArrayDeque<HeldWrite> held = this.held;
+
+    if (held != null) {
+      held.add(new HeldWrite(msg, promise));
+      return true;
+    } else {
+      return false;
+    }
+  }
+
+  /**
+   * Seal {@code framedMessage} on {@code cryptoExecutor}, or on the calling thread if it isn't
+   * admitted, then write it followed by any writes held in the meantime.
+   *
+   * @param framedMessage the renewal message, already framed.
+   * @param cryptoExecutor the {@link CryptoExecutor} to seal the message on.
+   * @param onFailure called on the event loop if the message can't be sealed or the channel has
+   *     closed in the meantime; held writes have been failed and released by then.
+   */
+  public void sealAndWrite(
+      FramedMessage framedMessage, CryptoExecutor cryptoExecutor, Consumer<Throwable> onFailure) {
+
+    if (held != null) {
+      framedMessage.release();
+      onFailure.accept(new IllegalStateException("renewal already in progress"));
+      return;
+    }
+
+    held = new ArrayDeque<>();
+    holdStartNanos = System.nanoTime();
+    CUMULATIVE_RENEWALS_SEALED.incrementAndGet();
+
+    boolean admitted =
+        cryptoExecutor.tryExecute(
+            () -> {
+              SealResult result = seal(framedMessage);
+
+              ctx.executor().execute(() -> complete(result, onFailure));
+            });
+
+    if (!admitted) {
+      CUMULATIVE_RENEWALS_SEALED_INLINE.incrementAndGet();
+
+      long start = System.nanoTime();
+      SealResult result = seal(framedMessage);
+      CUMULATIVE_EVENT_LOOP_NANOS.addAndGet(System.nanoTime() - start);
+
+      complete(result, onFailure);
+    }
+  }
+
+  private void complete(SealResult result, Consumer<Throwable> onFailure) {
+    ArrayDeque<HeldWrite> writes = held;
+    held = null;
+
+    if (writes == null) {
+      writes = new ArrayDeque<>();
+    }
+
+    long holdNanos = System.nanoTime() - holdStartNanos;
+    CUMULATIVE_WRITES_HELD.addAndGet(writes.size());
+    CUMULATIVE_HOLD_NANOS.addAndGet(holdNanos);
+    MAX_HOLD_NANOS.accumulateAndGet(holdNanos, Math::max);
+
+    EncodedMessage encodedMessage = result.encodedMessage();
+    Throwable failure = result.failure();
+
+    if (encodedMessage != null && !ctx.channel().isActive()) {
+      encodedMessage.getMessageChunks().forEach(ReferenceCountUtil::safeRelease);
+      encodedMessage = null;
+      failure = new ClosedChannelException();
+    }
+
+    if (encodedMessage == null) {
+      Throwable cause = failure != null ? failure : new ClosedChannelException();
+
+      for (HeldWrite write : writes) {
+        ReferenceCountUtil.safeRelease(write.msg());
+        write.promise().tryFailure(cause);
+      }
+
+      onFailure.accept(cause);
+      return;
+    }
+
+    CompositeByteBuf chunkComposite = ctx.alloc().compositeBuffer();
+    for (ByteBuf chunk : encodedMessage.getMessageChunks()) {
+      chunkComposite.addComponent(true, chunk);
+    }
+
+    ctx.write(chunkComposite, ctx.voidPromise());
+
+    for (HeldWrite write : writes) {
+      ctx.write(write.msg(), write.promise());
+    }
+
+    ctx.flush();
+  }
+
+  private static SealResult seal(FramedMessage framedMessage) {
+    try {
+      return new SealResult(framedMessage.seal(), null);
+    } catch (Throwable t) {
+      return new SealResult(null, t);
+    }
+  }
+
+  private record SealResult(@Nullable EncodedMessage encodedMessage, @Nullable Throwable failure) {}
+
+  private record HeldWrite(Object msg, ChannelPromise promise) {}
+}
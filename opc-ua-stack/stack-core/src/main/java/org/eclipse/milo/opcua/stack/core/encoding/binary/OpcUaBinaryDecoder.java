@@ -20,6 +20,7 @@ import io.netty.util.ByteProcessor;
 import java.lang.reflect.Array;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
@@ -63,6 +64,8 @@ public class OpcUaBinaryDecoder implements UaDecoder {
 
   private final AtomicInteger depth = new AtomicInteger(0);
 
+  private @Nullable List<ExtensionObject.Binary> retainedBodies;
+
   private final EncodingContext context;
 
   public OpcUaBinaryDecoder(EncodingContext context) {
@@ -74,6 +77,25 @@ public class OpcUaBinaryDecoder implements UaDecoder {
     return this;
   }
 
+  /**
+   * Set a List that Binary ExtensionObjects decoded from now on are added to.
+   *
+   * <p>While set, the body of each Binary ExtensionObject is decoded as a retained slice of the
+   * buffer instead of being copied, see {@link ExtensionObject.Binary#retained(ByteBuf, NodeId)}.
+   * The caller is responsible for releasing every ExtensionObject added to {@code retainedBodies},
+   * even if decoding fails.
+   *
+   * @param retainedBodies the List to add ExtensionObjects with retained bodies to, or {@code null}
+   *     to copy bodies.
+   * @return this {@link OpcUaBinaryDecoder}.
+   */
+  public OpcUaBinaryDecoder setRetainedBodies(
+      @Nullable List<ExtensionObject.Binary> retainedBodies) {
+
+    this.retainedBodies = retainedBodies;
+    return this;
+  }
+
   @Override
   public EncodingContext getEncodingContext() {
     return context;
@@ -305,6 +327,21 @@ public class OpcUaBinaryDecoder implements UaDecoder {
     if (encoding == 0) {
       return ExtensionObject.of(ByteString.NULL_VALUE, encodingTypeId);
     } else if (encoding == 1) {
+      if (retainedBodies != null) {
+        int length = decodeInt32();
+
+        if (length != -1) {
+          checkArrayLength(length);
+
+          var xo =
+              ExtensionObject.Binary.retained(buffer.readRetainedSlice(length), encodingTypeId);
+          retainedBodies.add(xo);
+          return xo;
+        } else {
+          return ExtensionObject.of(ByteString.NULL_VALUE, encodingTypeId);
+        }
+      }
+
       ByteString byteString = decodeByteString();
 
       return ExtensionObject.of(byteString, encodingTypeId);
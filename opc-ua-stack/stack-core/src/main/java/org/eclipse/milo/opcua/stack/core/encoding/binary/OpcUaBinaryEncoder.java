@@ -474,7 +474,14 @@ public class OpcUaBinaryEncoder implements UaEncoder {
       if (value instanceof ExtensionObject.Binary xo) {
         encodeNodeId(xo.getEncodingOrTypeId());
         buffer.writeByte(1); // Body is binary encoded
-        encodeByteString(xo.getBody());
+
+        ByteBuf retainedBody = xo.getRetainedBody();
+        if (retainedBody != null) {
+          buffer.writeIntLE(retainedBody.readableBytes());
+          buffer.writeBytes(retainedBody);
+        } else {
+          encodeByteString(xo.getBody());
+        }
       } else if (value instanceof ExtensionObject.Xml xo) {
         encodeNodeId(xo.getEncodingOrTypeId());
         buffer.writeByte(2);
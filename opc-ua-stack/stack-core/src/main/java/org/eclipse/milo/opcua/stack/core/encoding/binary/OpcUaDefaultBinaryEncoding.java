@@ -89,10 +89,14 @@ public class OpcUaDefaultBinaryEncoding implements DataTypeEncoding {
                 + encoded.getEncodingOrTypeId().toParseableString());
       }
 
-      ByteString binaryBody = xo.getBody();
-      byte[] bs = binaryBody.bytesOrEmpty();
+      ByteBuf buffer = xo.getRetainedBody();
 
-      ByteBuf buffer = Unpooled.wrappedBuffer(bs);
+      if (buffer == null) {
+        ByteString binaryBody = xo.getBody();
+        byte[] bs = binaryBody.bytesOrEmpty();
+
+        buffer = Unpooled.wrappedBuffer(bs);
+      }
 
       OpcUaBinaryDecoder decoder = new OpcUaBinaryDecoder(context);
       decoder.setBuffer(buffer);
@@ -17,6 +17,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import org.eclipse.milo.opcua.stack.core.UaException;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.util.validation.CertificateValidationCache;
 import org.eclipse.milo.opcua.stack.core.util.validation.CertificateValidationUtil;
 import org.eclipse.milo.opcua.stack.core.util.validation.ValidationCheck;
 import org.slf4j.Logger;
@@ -31,6 +33,8 @@ public class DefaultClientCertificateValidator implements CertificateValidator {
   private final Set<ValidationCheck> validationChecks;
   private final CertificateQuarantine certificateQuarantine;
 
+  private final CertificateValidationCache validationCache = new CertificateValidationCache();
+
   /**
    * Create a {@link CertificateValidator} that performs no optional validation checks.
    *
@@ -65,37 +69,14 @@ public class DefaultClientCertificateValidator implements CertificateValidator {
       List<X509Certificate> certificateChain, String applicationUri, String[] validHostNames)
       throws UaException {
 
-    PKIXCertPathBuilderResult certPathResult;
+    CertificateValidationCache.Key key =
+        validationCache.key(certificateChain, validationChecks, false);
 
-    try {
-      certPathResult =
-          CertificateValidationUtil.buildTrustedCertPath(
-              certificateChain,
-              trustListManager.getTrustedCertificates(),
-              trustListManager.getIssuerCertificates());
-    } catch (UaException e) {
-      certificateChain.forEach(certificateQuarantine::addRejectedCertificate);
-
-      LOGGER.debug("validateCertificateChain failed, underlying status: {}", e.getStatusCode(), e);
+    // Read before the Trust List contents so a concurrent update can't be missed.
+    DateTime trustListUpdateTime = trustListManager.getLastUpdateTime();
 
-      throw e;
-    }
-
-    try {
-      List<X509CRL> crls = new ArrayList<>();
-      crls.addAll(trustListManager.getTrustedCrls());
-      crls.addAll(trustListManager.getIssuerCrls());
-
-      CertificateValidationUtil.validateTrustedCertPath(
-          certPathResult.getCertPath(),
-          certPathResult.getTrustAnchor(),
-          crls,
-          validationChecks,
-          false);
-    } catch (UaException e) {
-      LOGGER.debug("validateCertificateChain failed, underlying status: {}", e.getStatusCode(), e);
-
-      throw e;
+    if (!validationCache.isValidated(key, trustListUpdateTime)) {
+      validateTrustedCertificateChain(certificateChain, key, trustListUpdateTime);
     }
 
     X509Certificate certificate = certificateChain.get(0);
@@ -135,4 +116,56 @@ public class DefaultClientCertificateValidator implements CertificateValidator {
       }
     }
   }
+
+  /**
+   * Get the {@link CertificateValidationCache} that remembers chains this validator has already
+   * found to be trusted.
+   *
+   * @return the {@link CertificateValidationCache} used by this validator.
+   */
+  public CertificateValidationCache getValidationCache() {
+    return validationCache;
+  }
+
+  private void validateTrustedCertificateChain(
+      List<X509Certificate> certificateChain,
+      CertificateValidationCache.Key key,
+      DateTime trustListUpdateTime)
+      throws UaException {
+
+    PKIXCertPathBuilderResult certPathResult;
+
+    try {
+      certPathResult =
+          CertificateValidationUtil.buildTrustedCertPath(
+              certificateChain,
+              trustListManager.getTrustedCertificates(),
+              trustListManager.getIssuerCertificates());
+    } catch (UaException e) {
+      certificateChain.forEach(certificateQuarantine::addRejectedCertificate);
+
+      LOGGER.debug("validateCertificateChain failed, underlying status: {}", e.getStatusCode(), e);
+
+      throw e;
+    }
+
+    List<X509CRL> crls = new ArrayList<>();
+    crls.addAll(trustListManager.getTrustedCrls());
+    crls.addAll(trustListManager.getIssuerCrls());
+
+    try {
+      CertificateValidationUtil.validateTrustedCertPath(
+          certPathResult.getCertPath(),
+          certPathResult.getTrustAnchor(),
+          crls,
+          validationChecks,
+          false);
+    } catch (UaException e) {
+      LOGGER.debug("validateCertificateChain failed, underlying status: {}", e.getStatusCode(), e);
+
+      throw e;
+    }
+
+    validationCache.putValidated(key, trustListUpdateTime, certPathResult, crls);
+  }
 }
@@ -21,6 +21,8 @@ import java.util.List;
 import java.util.Set;
 import org.eclipse.milo.opcua.stack.core.StatusCodes;
 import org.eclipse.milo.opcua.stack.core.UaException;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.util.validation.CertificateValidationCache;
 import org.eclipse.milo.opcua.stack.core.util.validation.CertificateValidationUtil;
 import org.eclipse.milo.opcua.stack.core.util.validation.ValidationCheck;
 import org.jspecify.annotations.Nullable;
@@ -36,6 +38,8 @@ public class DefaultServerCertificateValidator implements CertificateValidator {
   private final Set<ValidationCheck> validationChecks;
   private final CertificateQuarantine certificateQuarantine;
 
+  private final CertificateValidationCache validationCache = new CertificateValidationCache();
+
   /**
    * Create a {@link DefaultServerCertificateValidator} that performs no optional validation checks.
    *
@@ -73,6 +77,53 @@ public class DefaultServerCertificateValidator implements CertificateValidator {
       @Nullable String[] validHostnames)
       throws UaException {
 
+    CertificateValidationCache.Key key =
+        validationCache.key(certificateChain, validationChecks, true);
+
+    // Read before the Trust List contents so a concurrent update can't be missed.
+    DateTime trustListUpdateTime = trustListManager.getLastUpdateTime();
+
+    if (!validationCache.isValidated(key, trustListUpdateTime)) {
+      validateTrustedCertificateChain(certificateChain, key, trustListUpdateTime);
+    }
+
+    if (applicationUri != null) {
+      X509Certificate certificate = certificateChain.get(0);
+
+      try {
+        CertificateValidationUtil.checkApplicationUri(certificate, applicationUri);
+      } catch (UaException e) {
+        if (validationChecks.contains(ValidationCheck.APPLICATION_URI)) {
+          LOGGER.debug(
+              "validateCertificateChain failed, underlying status: {}", e.getStatusCode(), e);
+
+          throw e;
+        } else {
+          LOGGER.warn(
+              "check suppressed: certificate failed application uri check: {} != {}",
+              applicationUri,
+              CertificateValidationUtil.getSubjectAltNameUri(certificate));
+        }
+      }
+    }
+  }
+
+  /**
+   * Get the {@link CertificateValidationCache} that remembers chains this validator has already
+   * found to be trusted.
+   *
+   * @return the {@link CertificateValidationCache} used by this validator.
+   */
+  public CertificateValidationCache getValidationCache() {
+    return validationCache;
+  }
+
+  private void validateTrustedCertificateChain(
+      List<X509Certificate> certificateChain,
+      CertificateValidationCache.Key key,
+      DateTime trustListUpdateTime)
+      throws UaException {
+
     PKIXCertPathBuilderResult certPathResult;
 
     try {
@@ -99,11 +150,11 @@ public class DefaultServerCertificateValidator implements CertificateValidator {
       }
     }
 
-    try {
-      List<X509CRL> crls = new ArrayList<>();
-      crls.addAll(trustListManager.getTrustedCrls());
-      crls.addAll(trustListManager.getIssuerCrls());
+    List<X509CRL> crls = new ArrayList<>();
+    crls.addAll(trustListManager.getTrustedCrls());
+    crls.addAll(trustListManager.getIssuerCrls());
 
+    try {
       validateTrustedCertPath(
           certPathResult.getCertPath(),
           certPathResult.getTrustAnchor(),
@@ -127,24 +178,6 @@ public class DefaultServerCertificateValidator implements CertificateValidator {
       }
     }
 
-    if (applicationUri != null) {
-      X509Certificate certificate = certificateChain.get(0);
-
-      try {
-        CertificateValidationUtil.checkApplicationUri(certificate, applicationUri);
-      } catch (UaException e) {
-        if (validationChecks.contains(ValidationCheck.APPLICATION_URI)) {
-          LOGGER.debug(
-              "validateCertificateChain failed, underlying status: {}", e.getStatusCode(), e);
-
-          throw e;
-        } else {
-          LOGGER.warn(
-              "check suppressed: certificate failed application uri check: {} != {}",
-              applicationUri,
-              CertificateValidationUtil.getSubjectAltNameUri(certificate));
-        }
-      }
-    }
+    validationCache.putValidated(key, trustListUpdateTime, certPathResult, crls);
   }
 }
@@ -135,7 +135,8 @@ public class FileBasedTrustListManager implements TrustListManager, Closeable {
     synchronizeTrustedCerts();
     synchronizeTrustedCrl();
 
-    lastUpdateTime.set(DateTime.now());
+    // Loaded, even if every directory was empty.
+    updated();
   }
 
   @Override
@@ -158,6 +159,8 @@ public class FileBasedTrustListManager implements TrustListManager, Closeable {
       issuerCrls.clear();
       trustedCertificates.clear();
       trustedCrls.clear();
+
+      updated();
     } finally {
       readWriteLock.writeLock().unlock();
     }
@@ -217,6 +220,8 @@ public class FileBasedTrustListManager implements TrustListManager, Closeable {
 
       toWrite.forEach(crl -> writeCrlToDir(crl, issuerCrlDir));
       toDelete.forEach(crl -> deleteCrlFromDir(crl, issuerCrlDir));
+
+      updated();
     } finally {
       readWriteLock.writeLock().unlock();
     }
@@ -236,6 +241,8 @@ public class FileBasedTrustListManager implements TrustListManager, Closeable {
 
       toWrite.forEach(crl -> writeCrlToDir(crl, trustedCrlDir));
       toDelete.forEach(crl -> deleteCrlFromDir(crl, trustedCrlDir));
+
+      updated();
     } finally {
       readWriteLock.writeLock().unlock();
     }
@@ -255,6 +262,8 @@ public class FileBasedTrustListManager implements TrustListManager, Closeable {
 
       toWrite.forEach(cert -> writeCertificateToDir(cert, issuerCertsDir));
       toDelete.forEach(cert -> deleteCertificateFromDir(cert, issuerCertsDir));
+
+      updated();
     } finally {
       readWriteLock.writeLock().unlock();
     }
@@ -274,6 +283,8 @@ public class FileBasedTrustListManager implements TrustListManager, Closeable {
 
       toWrite.forEach(cert -> writeCertificateToDir(cert, trustedCertsDir));
       toDelete.forEach(cert -> deleteCertificateFromDir(cert, trustedCertsDir));
+
+      updated();
     } finally {
       readWriteLock.writeLock().unlock();
     }
@@ -286,6 +297,8 @@ public class FileBasedTrustListManager implements TrustListManager, Closeable {
       issuerCertificates.add(certificate);
 
       writeCertificateToDir(certificate, issuerCertsDir);
+
+      updated();
     } finally {
       readWriteLock.writeLock().unlock();
     }
@@ -298,6 +311,8 @@ public class FileBasedTrustListManager implements TrustListManager, Closeable {
       trustedCertificates.add(certificate);
 
       writeCertificateToDir(certificate, trustedCertsDir);
+
+      updated();
     } finally {
       readWriteLock.writeLock().unlock();
     }
@@ -309,7 +324,13 @@ public class FileBasedTrustListManager implements TrustListManager, Closeable {
     try {
       deleteCertificateFromDir(thumbprint, issuerCertsDir);
 
-      return remove(thumbprint, issuerCertificates);
+      boolean removed = remove(thumbprint, issuerCertificates);
+
+      if (removed) {
+        updated();
+      }
+
+      return removed;
     } finally {
       readWriteLock.writeLock().unlock();
     }
@@ -321,7 +342,13 @@ public class FileBasedTrustListManager implements TrustListManager, Closeable {
     try {
       deleteCertificateFromDir(thumbprint, trustedCertsDir);
 
-      return remove(thumbprint, trustedCertificates);
+      boolean removed = remove(thumbprint, trustedCertificates);
+
+      if (removed) {
+        updated();
+      }
+
+      return removed;
     } finally {
       readWriteLock.writeLock().unlock();
     }
@@ -348,13 +375,15 @@ public class FileBasedTrustListManager implements TrustListManager, Closeable {
 
     readWriteLock.writeLock().lock();
     try {
-      issuerCertificates.clear();
+      var latest = new HashSet<X509Certificate>();
 
       try (var files = Files.list(issuerCertsDir)) {
-        files.flatMap(c -> decodeCertificateFile(c).stream()).forEach(issuerCertificates::add);
+        files.flatMap(c -> decodeCertificateFile(c).stream()).forEach(latest::add);
+      } catch (IOException e) {
+        LOGGER.warn("Error synchronizing issuer certs", e);
       }
-    } catch (IOException e) {
-      LOGGER.warn("Error synchronizing issuer certs", e);
+
+      replaceContents(issuerCertificates, latest);
     } finally {
       readWriteLock.writeLock().unlock();
     }
@@ -365,13 +394,15 @@ public class FileBasedTrustListManager implements TrustListManager, Closeable {
 
     readWriteLock.writeLock().lock();
     try {
-      issuerCrls.clear();
+      var latest = new HashSet<X509CRL>();
 
       try (var files = Files.list(issuerCrlDir)) {
-        files.flatMap(c -> decodeCrlFile(c).stream()).forEach(issuerCrls::addAll);
+        files.flatMap(c -> decodeCrlFile(c).stream()).forEach(latest::addAll);
+      } catch (IOException e) {
+        LOGGER.warn("Error synchronizing issuer CRLs", e);
       }
-    } catch (IOException e) {
-      LOGGER.warn("Error synchronizing issuer CRLs", e);
+
+      replaceContents(issuerCrls, latest);
     } finally {
       readWriteLock.writeLock().unlock();
     }
@@ -382,13 +413,15 @@ public class FileBasedTrustListManager implements TrustListManager, Closeable {
 
     readWriteLock.writeLock().lock();
     try {
-      trustedCertificates.clear();
+      var latest = new HashSet<X509Certificate>();
 
       try (var files = Files.list(trustedCertsDir)) {
-        files.flatMap(c -> decodeCertificateFile(c).stream()).forEach(trustedCertificates::add);
+        files.flatMap(c -> decodeCertificateFile(c).stream()).forEach(latest::add);
+      } catch (IOException e) {
+        LOGGER.warn("Error synchronizing trusted certs", e);
       }
-    } catch (IOException e) {
-      LOGGER.warn("Error synchronizing trusted certs", e);
+
+      replaceContents(trustedCertificates, latest);
     } finally {
       readWriteLock.writeLock().unlock();
     }
@@ -399,18 +432,49 @@ public class FileBasedTrustListManager implements TrustListManager, Closeable {
 
     readWriteLock.writeLock().lock();
     try {
-      trustedCrls.clear();
+      var latest = new HashSet<X509CRL>();
 
       try (var files = Files.list(trustedCrlDir)) {
-        files.flatMap(c -> decodeCrlFile(c).stream()).forEach(trustedCrls::addAll);
+        files.flatMap(c -> decodeCrlFile(c).stream()).forEach(latest::addAll);
+      } catch (IOException e) {
+        LOGGER.warn("Error synchronizing trusted CRLs", e);
       }
-    } catch (IOException e) {
-      LOGGER.warn("Error synchronizing trusted CRLs", e);
+
+      replaceContents(trustedCrls, latest);
     } finally {
       readWriteLock.writeLock().unlock();
     }
   }
 
+  /**
+   * Replace the contents of {@code current} with {@code latest}, advancing the last update time
+   * only if they differ, so that re-reading an unchanged directory doesn't invalidate anything
+   * keyed on the last update time.
+   */
+  private <T> void replaceContents(Set<T> current, Set<T> latest) {
+    if (!current.equals(latest)) {
+      current.clear();
+      current.addAll(latest);
+
+      updated();
+    }
+  }
+
+  /**
+   * Advance the last update time, strictly, so that two updates within the clock's resolution can't
+   * be mistaken for one by anything comparing update times.
+   */
+  private void updated() {
+    lastUpdateTime.updateAndGet(
+        previous -> {
+          DateTime now = DateTime.now();
+
+          return now.getUtcTime() > previous.getUtcTime()
+              ? now
+              : new DateTime(previous.getUtcTime() + 1);
+        });
+  }
+
   private static Optional<X509Certificate> decodeCertificateFile(Path path) {
     try {
       try (FileInputStream inputStream = new FileInputStream(path.toFile())) {
@@ -68,7 +68,7 @@ public class MemoryTrustListManager implements TrustListManager {
       this.issuerCrls.clear();
       this.issuerCrls.addAll(issuerCrls);
 
-      lastUpdateTime.set(DateTime.now());
+      updated();
     }
   }
 
@@ -78,7 +78,7 @@ public class MemoryTrustListManager implements TrustListManager {
       this.trustedCrls.clear();
       this.trustedCrls.addAll(trustedCrls);
 
-      lastUpdateTime.set(DateTime.now());
+      updated();
     }
   }
 
@@ -88,7 +88,7 @@ public class MemoryTrustListManager implements TrustListManager {
       this.issuerCertificates.clear();
       this.issuerCertificates.addAll(issuerCertificates);
 
-      lastUpdateTime.set(DateTime.now());
+      updated();
     }
   }
 
@@ -98,7 +98,7 @@ public class MemoryTrustListManager implements TrustListManager {
       this.trustedCertificates.clear();
       this.trustedCertificates.addAll(trustedCertificates);
 
-      lastUpdateTime.set(DateTime.now());
+      updated();
     }
   }
 
@@ -106,14 +106,14 @@ public class MemoryTrustListManager implements TrustListManager {
   public void addIssuerCertificate(X509Certificate certificate) {
     issuerCertificates.add(certificate);
 
-    lastUpdateTime.set(DateTime.now());
+    updated();
   }
 
   @Override
   public void addTrustedCertificate(X509Certificate certificate) {
     trustedCertificates.add(certificate);
 
-    lastUpdateTime.set(DateTime.now());
+    updated();
   }
 
   @Override
@@ -121,7 +121,7 @@ public class MemoryTrustListManager implements TrustListManager {
     boolean removed = issuerCertificates.removeIf(c -> thumbprintMatches(c, thumbprint));
 
     if (removed) {
-      lastUpdateTime.set(DateTime.now());
+      updated();
     }
 
     return removed;
@@ -132,7 +132,7 @@ public class MemoryTrustListManager implements TrustListManager {
     boolean removed = trustedCertificates.removeIf(c -> thumbprintMatches(c, thumbprint));
 
     if (removed) {
-      lastUpdateTime.set(DateTime.now());
+      updated();
     }
 
     return removed;
@@ -143,6 +143,21 @@ public class MemoryTrustListManager implements TrustListManager {
     return lastUpdateTime.get();
   }
 
+  /**
+   * Advance the last update time, strictly, so that two updates within the clock's resolution can't
+   * be mistaken for one by anything comparing update times.
+   */
+  private void updated() {
+    lastUpdateTime.updateAndGet(
+        previous -> {
+          DateTime now = DateTime.now();
+
+          return now.getUtcTime() > previous.getUtcTime()
+              ? now
+              : new DateTime(previous.getUtcTime() + 1);
+        });
+  }
+
   private static boolean thumbprintMatches(X509Certificate certificate, ByteString thumbprint) {
     try {
       return CertificateUtil.thumbprint(certificate).equals(thumbprint);
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2025 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.core.transport;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.ServerSocketChannel;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * The Netty channel implementation used by socket-based transports.
+ *
+ * <p>{@link #NIO} is the default and is always available. {@link #EPOLL} is opt-in: it's only
+ * available on Linux when {@code netty-transport-native-epoll} for the platform is on the
+ * classpath, which Milo does not bring in transitively. An {@link EventLoopGroup} can only serve
+ * channels of its own kind, so the channel classes used by a transport are chosen with {@link
+ * #of(EventLoopGroup)}.
+ */
+public enum NettyTransport {
+
+  /** The JDK NIO transport. */
+  NIO,
+
+  /** The native Linux epoll transport. */
+  EPOLL;
+
+  /**
+   * @return {@code true} if this transport can be used on the current platform.
+   */
+  public boolean isAvailable() {
+    return switch (this) {
+      case NIO -> true;
+      case EPOLL -> EpollSupport.AVAILABLE;
+    };
+  }
+
+  /**
+   * Create a new {@link EventLoopGroup} for this transport.
+   *
+   * @param nThreads the number of threads, or 0 for Netty's default.
+   * @param threadFactory the {@link ThreadFactory} used to create event loop threads.
+   * @return a new {@link EventLoopGroup} for this transport.
+   */
+  public EventLoopGroup newEventLoopGroup(int nThreads, ThreadFactory threadFactory) {
+    return switch (this) {
+      case NIO -> new NioEventLoopGroup(nThreads, threadFactory);
+      case EPOLL -> new EpollEventLoopGroup(nThreads, threadFactory);
+    };
+  }
+
+  /**
+   * @return the client {@link SocketChannel} class for this transport.
+   */
+  public Class<? extends SocketChannel> getSocketChannelClass() {
+    return switch (this) {
+      case NIO -> NioSocketChannel.class;
+      case EPOLL -> EpollSocketChannel.class;
+    };
+  }
+
+  /**
+   * @return the {@link ServerSocketChannel} class for this transport.
+   */
+  public Class<? extends ServerSocketChannel> getServerSocketChannelClass() {
+    return switch (this) {
+      case NIO -> NioServerSocketChannel.class;
+      case EPOLL -> EpollServerSocketChannel.class;
+    };
+  }
+
+  /**
+   * Get the transport whose channels can be registered with {@code eventLoop}.
+   *
+   * @param eventLoop an {@link EventLoopGroup}.
+   * @return the transport whose channels can be registered with {@code eventLoop}.
+   */
+  public static NettyTransport of(EventLoopGroup eventLoop) {
+    if (EPOLL.isAvailable() && eventLoop instanceof EpollEventLoopGroup) {
+      return EPOLL;
+    } else {
+      return NIO;
+    }
+  }
+
+  private static final class EpollSupport {
+
+    static final boolean AVAILABLE = isEpollAvailable();
+
+    private static boolean isEpollAvailable() {
+      try {
+        return Epoll.isAvailable();
+      } catch (Throwable t) {
+        // the native library is an optional dependency, and the epoll classes are optional in OSGi.
+        return false;
+      }
+    }
+  }
+}
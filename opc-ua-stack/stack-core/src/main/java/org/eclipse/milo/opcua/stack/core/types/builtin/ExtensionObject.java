@@ -10,6 +10,10 @@
 
 package org.eclipse.milo.opcua.stack.core.types.builtin;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.util.IllegalReferenceCountException;
 import java.util.Objects;
 import java.util.StringJoiner;
 import org.eclipse.milo.opcua.stack.core.StatusCodes;
@@ -20,6 +24,7 @@ import org.eclipse.milo.opcua.stack.core.types.DataTypeEncoding;
 import org.eclipse.milo.opcua.stack.core.types.UaStructuredType;
 import org.eclipse.milo.opcua.stack.core.util.Lazy;
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.LoggerFactory;
 
 @NullMarked
@@ -257,10 +262,21 @@ public abstract sealed class ExtensionObject
     return encoding.encode(context, struct);
   }
 
-  /** An ExtensionObject that contains a {@link ByteString} body, used with Binary encoding. */
+  /**
+   * An ExtensionObject that contains a {@link ByteString} body, used with Binary encoding.
+   *
+   * <p>A Binary ExtensionObject created by {@link #retained(ByteBuf, NodeId)} holds its body as a
+   * retained slice of the buffer it was decoded from instead of a copy. The slice is written back
+   * as-is when the ExtensionObject is encoded again, and the body is only copied into a {@link
+   * ByteString} if {@link #getBody()} is called. Whoever created it must call {@link #release()}
+   * once the body is no longer needed.
+   */
   public static final class Binary extends ExtensionObject {
 
-    private final ByteString body;
+    private volatile @Nullable ByteString body;
+    private volatile @Nullable ByteBuf retainedBody;
+    private volatile @Nullable Integer bodyHash;
+
     private final NodeId encodingId;
 
     private Binary(ByteString body, NodeId encodingId) {
@@ -268,9 +284,67 @@ public abstract sealed class ExtensionObject
       this.encodingId = encodingId;
     }
 
+    private Binary(ByteBuf retainedBody, NodeId encodingId) {
+      this.retainedBody = retainedBody;
+      this.encodingId = encodingId;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalStateException if this ExtensionObject has a retained body that was released
+     *     before it was ever read.
+     */
     @Override
     public ByteString getBody() {
-      return body;
+      ByteString b = body;
+
+      if (b == null) {
+        synchronized (this) {
+          b = body;
+
+          if (b == null) {
+            ByteBuf buffer = retainedBody;
+
+            if (buffer == null) {
+              throw new IllegalStateException("retained body was released before it was read");
+            }
+
+            b = body = ByteString.of(ByteBufUtil.getBytes(buffer));
+          }
+        }
+      }
+
+      return b;
+    }
+
+    /**
+     * Get the retained buffer holding the body of this ExtensionObject, if it was created by {@link
+     * #retained(ByteBuf, NodeId)} and hasn't been released yet.
+     *
+     * <p>The buffer returned is a read-only view; it must not be released by the caller.
+     *
+     * @return the retained buffer holding the body, or {@code null} if there isn't one.
+     */
+    public @Nullable ByteBuf getRetainedBody() {
+      ByteBuf buffer = retainedBody;
+
+      return buffer != null ? buffer.asReadOnly() : null;
+    }
+
+    /**
+     * Release the retained buffer holding the body of this ExtensionObject, if there is one.
+     *
+     * <p>If the body was read with {@link #getBody()} before this is called it remains available,
+     * otherwise it's no longer accessible.
+     */
+    public synchronized void release() {
+      ByteBuf buffer = retainedBody;
+
+      if (buffer != null) {
+        retainedBody = null;
+        buffer.release();
+      }
     }
 
     @Override
@@ -280,28 +354,113 @@ public abstract sealed class ExtensionObject
 
     @Override
     public boolean isNull() {
-      return body.isNull();
+      ByteString b = body;
+
+      return b != null && b.isNull();
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>A retained body is compared in place, without copying it. A retained body that was
+     * released before it was ever read can't be compared, and is only equal to itself.
+     */
     @Override
     public boolean equals(Object o) {
+      if (this == o) return true;
       if (o == null || getClass() != o.getClass()) return false;
       ExtensionObject.Binary that = (ExtensionObject.Binary) o;
-      return Objects.equals(body, that.body) && Objects.equals(encodingId, that.encodingId);
+      return Objects.equals(encodingId, that.encodingId) && bodyEquals(that);
     }
 
     @Override
     public int hashCode() {
-      return Objects.hash(body, encodingId);
+      return 31 * bodyHashCode() + Objects.hashCode(encodingId);
+    }
+
+    private boolean bodyEquals(ExtensionObject.Binary that) {
+      ByteString b1 = this.body;
+      ByteString b2 = that.body;
+
+      if (b1 != null && b2 != null) {
+        return b1.equals(b2);
+      }
+
+      ByteBuf buffer1 = bodyBuffer(b1);
+      ByteBuf buffer2 = that.bodyBuffer(b2);
+
+      if (buffer1 == null || buffer2 == null) {
+        return false;
+      }
+
+      try {
+        return ByteBufUtil.equals(buffer1, buffer2);
+      } catch (IllegalReferenceCountException e) {
+        // released while being compared
+        return false;
+      }
+    }
+
+    /**
+     * Hash the body the same way {@link java.util.Arrays#hashCode(byte[])} would, whether it's held
+     * as a {@link ByteString} or a retained buffer. The hash is computed once so it stays the same
+     * after the retained body is released.
+     */
+    private int bodyHashCode() {
+      Integer h = bodyHash;
+
+      if (h == null) {
+        int hash = 0;
+
+        ByteBuf buffer = bodyBuffer(body);
+        if (buffer != null) {
+          try {
+            hash = 1;
+            for (int i = buffer.readerIndex(); i < buffer.writerIndex(); i++) {
+              hash = 31 * hash + buffer.getByte(i);
+            }
+          } catch (IllegalReferenceCountException e) {
+            hash = 0;
+          }
+        }
+
+        bodyHash = h = hash;
+      }
+
+      return h;
+    }
+
+    /**
+     * @return a buffer holding the body, or {@code null} if the retained body was released before
+     *     it was ever read.
+     */
+    private @Nullable ByteBuf bodyBuffer(@Nullable ByteString b) {
+      return b != null ? Unpooled.wrappedBuffer(b.bytesOrEmpty()) : retainedBody;
     }
 
     @Override
     public String toString() {
+      ByteBuf buffer = retainedBody;
+
       return new StringJoiner(", ", ExtensionObject.class.getSimpleName() + "[", "]")
-          .add("body=" + body)
+          .add(
+              "body=" + (buffer != null ? "retained[length=" + buffer.readableBytes() + "]" : body))
           .add("encodingId=" + encodingId)
           .toString();
     }
+
+    /**
+     * Create a Binary ExtensionObject whose body is a retained buffer, taking ownership of one
+     * reference to {@code body}.
+     *
+     * @param body a retained buffer holding the encoded body, e.g. from {@link
+     *     ByteBuf#readRetainedSlice(int)}.
+     * @param encodingId the NodeId of the datatype encoding.
+     * @return a new ExtensionObject that must be released with {@link #release()}.
+     */
+    public static ExtensionObject.Binary retained(ByteBuf body, NodeId encodingId) {
+      return new ExtensionObject.Binary(body, encodingId);
+    }
   }
 
   /** An ExtensionObject that contains an {@link XmlElement} body, used with XML encoding. */
@@ -26,6 +26,15 @@ public class BufferUtil {
     return allocator.compositeBuffer();
   }
 
+  /**
+   * @param maxNumComponents the number of components beyond which the buffer consolidates its
+   *     components into a single copy.
+   * @return a pooled {@link CompositeByteBuf}.
+   */
+  public static CompositeByteBuf compositeBuffer(int maxNumComponents) {
+    return allocator.compositeBuffer(maxNumComponents);
+  }
+
   /**
    * @return a pooled {@link ByteBuf} in <b>BIG ENDIAN</b> byte order.
    */
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2025 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.core.util;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A bounded pool for expensive asymmetric cryptography, like the RSA work done to open a
+ * SecureChannel or create and activate a Session, so it doesn't run on the event loop threads that
+ * also carry the traffic of established channels.
+ *
+ * <p>At most {@code threads} tasks run at once and at most {@code maxQueued} more wait; further
+ * tasks are not admitted by {@link #tryExecute(Runnable)}, and the caller is expected to reject the
+ * handshake instead.
+ */
+public final class CryptoExecutor {
+
+  /** The number of one-second buckets {@link #getCompletionRate()} is averaged over. */
+  private static final int RATE_SECONDS = 10;
+
+  private final Logger logger = LoggerFactory.getLogger(getClass());
+
+  private final AtomicLong submitted = new AtomicLong();
+  private final AtomicLong rejected = new AtomicLong();
+  private final AtomicLong completed = new AtomicLong();
+  private final AtomicLong totalNanos = new AtomicLong();
+
+  private final AtomicLongArray bucketSeconds = new AtomicLongArray(RATE_SECONDS);
+  private final AtomicLongArray bucketCounts = new AtomicLongArray(RATE_SECONDS);
+
+  private final ThreadPoolExecutor executor;
+
+  /**
+   * @param threads the maximum number of tasks that run at once.
+   * @param maxQueued the maximum number of tasks waiting to run.
+   */
+  public CryptoExecutor(int threads, int maxQueued) {
+    var threadNumber = new AtomicLong(0L);
+
+    executor =
+        new ThreadPoolExecutor(
+            threads,
+            threads,
+            60L,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, maxQueued)),
+            r -> {
+              Thread thread = new Thread(r, "milo-crypto-" + threadNumber.getAndIncrement());
+              thread.setDaemon(true);
+              return thread;
+            });
+
+    executor.allowCoreThreadTimeOut(true);
+
+    long now = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime());
+    for (int i = 0; i < RATE_SECONDS; i++) {
+      bucketSeconds.set(i, now - RATE_SECONDS);
+    }
+  }
+
+  /**
+   * Run {@code task} on this executor if there's room for it.
+   *
+   * @param task the task to run.
+   * @return {@code true} if {@code task} was admitted, {@code false} if this executor is saturated
+   *     or shut down.
+   */
+  public boolean tryExecute(Runnable task) {
+    // Counted first so a task that completes right away is never counted as completed but not
+    // submitted.
+    submitted.incrementAndGet();
+
+    try {
+      executor.execute(
+          () -> {
+            long start = System.nanoTime();
+            try {
+              task.run();
+            } catch (Throwable t) {
+              logger.error("Uncaught Throwable on CryptoExecutor thread", t);
+            } finally {
+              long end = System.nanoTime();
+              totalNanos.addAndGet(end - start);
+              completed.incrementAndGet();
+              recordCompletion(end);
+            }
+          });
+
+      return true;
+    } catch (RejectedExecutionException e) {
+      submitted.decrementAndGet();
+      rejected.incrementAndGet();
+
+      return false;
+    }
+  }
+
+  /**
+   * @return the number of tasks admitted since this executor was created.
+   */
+  public long getSubmittedCount() {
+    return submitted.get();
+  }
+
+  /**
+   * @return the number of tasks not admitted since this executor was created.
+   */
+  public long getRejectedCount() {
+    return rejected.get();
+  }
+
+  /**
+   * @return the number of tasks completed since this executor was created.
+   */
+  public long getCompletedCount() {
+    return completed.get();
+  }
+
+  /**
+   * @return the number of tasks admitted but not yet completed.
+   */
+  public long getPendingCount() {
+    return submitted.get() - completed.get();
+  }
+
+  /**
+   * @return the mean time, in milliseconds, taken to run a completed task.
+   */
+  public double getAverageDurationMillis() {
+    long n = completed.get();
+
+    return n > 0 ? totalNanos.get() / 1_000_000.0 / n : 0.0;
+  }
+
+  /**
+   * @return the number of tasks completed per second, averaged over the last 10 seconds.
+   */
+  public double getCompletionRate() {
+    long now = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime());
+
+    long count = 0L;
+    for (int i = 0; i < RATE_SECONDS; i++) {
+      if (now - bucketSeconds.get(i) < RATE_SECONDS) {
+        count += bucketCounts.get(i);
+      }
+    }
+
+    return (double) count / RATE_SECONDS;
+  }
+
+  /** Stop admitting tasks; tasks already admitted still run. */
+  public void shutdown() {
+    executor.shutdown();
+  }
+
+  private void recordCompletion(long nanoTime) {
+    long second = TimeUnit.NANOSECONDS.toSeconds(nanoTime);
+    int i = (int) Math.floorMod(second, (long) RATE_SECONDS);
+
+    long bucketSecond = bucketSeconds.get(i);
+    if (bucketSecond != second && bucketSeconds.compareAndSet(i, bucketSecond, second)) {
+      bucketCounts.set(i, 0L);
+    }
+
+    bucketCounts.incrementAndGet(i);
+  }
+}
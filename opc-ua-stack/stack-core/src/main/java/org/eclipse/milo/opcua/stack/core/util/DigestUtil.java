@@ -18,6 +18,7 @@ import org.eclipse.milo.opcua.stack.core.UaRuntimeException;
 public class DigestUtil {
 
   private static final ThreadLocal<MessageDigest> sha1Digest = new ThreadLocal<>();
+  private static final ThreadLocal<MessageDigest> sha256Digest = new ThreadLocal<>();
 
   /**
    * Compute the SHA1 digest for a given input.
@@ -39,4 +40,25 @@ public class DigestUtil {
 
     return messageDigest.digest(input);
   }
+
+  /**
+   * Compute the SHA-256 digest for a given input.
+   *
+   * @param input the input to compute the digest for.
+   * @return the SHA-256 digest of {@code input}.
+   */
+  public static byte[] sha256(byte[] input) {
+    MessageDigest messageDigest = sha256Digest.get();
+
+    if (messageDigest == null) {
+      try {
+        messageDigest = MessageDigest.getInstance("SHA-256");
+        sha256Digest.set(messageDigest);
+      } catch (NoSuchAlgorithmException e) {
+        throw new UaRuntimeException(StatusCodes.Bad_InternalError, e);
+      }
+    }
+
+    return messageDigest.digest(input);
+  }
 }
@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2025 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.core.util.validation;
+
+import java.security.cert.Certificate;
+import java.security.cert.CertificateEncodingException;
+import java.security.cert.PKIXCertPathBuilderResult;
+import java.security.cert.X509CRL;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaException;
+import org.eclipse.milo.opcua.stack.core.security.TrustListManager;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ByteString;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.util.DigestUtil;
+
+/**
+ * Remembers certificate chains that passed {@link
+ * CertificateValidationUtil#buildTrustedCertPath(List, Collection, Collection)} and {@link
+ * CertificateValidationUtil#validateTrustedCertPath(java.security.cert.CertPath,
+ * java.security.cert.TrustAnchor, Collection, Set, boolean)}, so that clients reconnecting or
+ * renewing with the same chain don't pay for PKIX path building and revocation checking every time.
+ *
+ * <p>Entries are keyed by the SHA-256 digests of the chain's encoded certificates and the
+ * validation options. An entry is only used while the {@link TrustListManager#getLastUpdateTime()}
+ * it was validated against is still current, and only until shortly before any certificate in the
+ * trusted path expires or any CRL used is due to be updated. Only successful validations are
+ * remembered.
+ */
+public final class CertificateValidationCache {
+
+  /** The default maximum number of chains remembered at once. */
+  public static final int DEFAULT_MAX_ENTRIES = 1024;
+
+  /** Entries stop being used this long before a certificate expires or a CRL is due. */
+  static final long EXPIRY_MARGIN_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+  /** Entries are re-validated at least this often regardless of their expiry. */
+  static final long MAX_AGE_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+  private final ConcurrentMap<Key, Entry> entries = new ConcurrentHashMap<>();
+
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+
+  private volatile DateTime trustListUpdateTime = DateTime.MIN_VALUE;
+
+  private final int maxEntries;
+  private final LongSupplier currentTimeMillis;
+
+  public CertificateValidationCache() {
+    this(DEFAULT_MAX_ENTRIES);
+  }
+
+  /**
+   * @param maxEntries the maximum number of chains remembered at once.
+   */
+  public CertificateValidationCache(int maxEntries) {
+    this(maxEntries, System::currentTimeMillis);
+  }
+
+  CertificateValidationCache(int maxEntries, LongSupplier currentTimeMillis) {
+    this.maxEntries = maxEntries;
+    this.currentTimeMillis = currentTimeMillis;
+  }
+
+  /**
+   * Create the {@link Key} identifying {@code certificateChain} validated with {@code
+   * validationChecks}.
+   *
+   * @param certificateChain the certificate chain being validated.
+   * @param validationChecks the set of optional {@link ValidationCheck}s being enforced.
+   * @param endEntityIsClient {@code true} if the end-entity is a client, {@code false} if it is a
+   *     server.
+   * @return the {@link Key} identifying this validation.
+   * @throws UaException if a certificate in the chain can't be encoded.
+   */
+  public Key key(
+      List<X509Certificate> certificateChain,
+      Set<ValidationCheck> validationChecks,
+      boolean endEntityIsClient)
+      throws UaException {
+
+    var digests = new ArrayList<ByteString>(certificateChain.size());
+    for (X509Certificate certificate : certificateChain) {
+      try {
+        digests.add(ByteString.of(DigestUtil.sha256(certificate.getEncoded())));
+      } catch (CertificateEncodingException e) {
+        throw new UaException(StatusCodes.Bad_CertificateInvalid, e);
+      }
+    }
+
+    return new Key(List.copyOf(digests), Set.copyOf(validationChecks), endEntityIsClient);
+  }
+
+  /**
+   * Check whether the validation identified by {@code key} previously succeeded against the Trust
+   * List as of {@code trustListUpdateTime} and hasn't expired since.
+   *
+   * @param key the {@link Key} identifying the validation.
+   * @param trustListUpdateTime the current {@link TrustListManager#getLastUpdateTime()}.
+   * @return {@code true} if the validation can be skipped.
+   */
+  public boolean isValidated(Key key, DateTime trustListUpdateTime) {
+    invalidateIfUpdated(trustListUpdateTime);
+
+    Entry entry = entries.get(key);
+
+    if (entry != null) {
+      if (entry.trustListUpdateTime().equals(trustListUpdateTime)
+          && currentTimeMillis.getAsLong() < entry.expiresAt()) {
+
+        hits.incrementAndGet();
+        return true;
+      } else {
+        entries.remove(key, entry);
+      }
+    }
+
+    misses.incrementAndGet();
+    return false;
+  }
+
+  /**
+   * Remember that the validation identified by {@code key} succeeded.
+   *
+   * @param key the {@link Key} identifying the validation.
+   * @param trustListUpdateTime the {@link TrustListManager#getLastUpdateTime()} read before the
+   *     Trust List contents used to validate were read.
+   * @param certPathResult the trusted path that was validated.
+   * @param crls the CRLs the trusted path was validated with.
+   */
+  public void putValidated(
+      Key key,
+      DateTime trustListUpdateTime,
+      PKIXCertPathBuilderResult certPathResult,
+      Collection<X509CRL> crls) {
+
+    invalidateIfUpdated(trustListUpdateTime);
+
+    long now = currentTimeMillis.getAsLong();
+    long expiresAt = Math.min(now + MAX_AGE_MILLIS, expiryOf(certPathResult, crls));
+
+    if (expiresAt <= now) {
+      return;
+    }
+
+    if (entries.size() >= maxEntries && !entries.containsKey(key)) {
+      entries.values().removeIf(e -> now >= e.expiresAt());
+
+      if (entries.size() >= maxEntries) {
+        return;
+      }
+    }
+
+    entries.put(key, new Entry(trustListUpdateTime, expiresAt));
+  }
+
+  /** Forget all previously successful validations. */
+  public void invalidateAll() {
+    entries.clear();
+  }
+
+  /**
+   * @return the number of chains currently remembered.
+   */
+  public int size() {
+    return entries.size();
+  }
+
+  /**
+   * @return the number of validations skipped because of this cache.
+   */
+  public long getHitCount() {
+    return hits.get();
+  }
+
+  /**
+   * @return the number of validations that weren't found in this cache.
+   */
+  public long getMissCount() {
+    return misses.get();
+  }
+
+  /**
+   * A Trust List change makes every entry unusable, so drop them all at once rather than one by one
+   * as they're looked up.
+   */
+  private void invalidateIfUpdated(DateTime trustListUpdateTime) {
+    DateTime previous = this.trustListUpdateTime;
+
+    if (trustListUpdateTime.getUtcTime() > previous.getUtcTime()) {
+      this.trustListUpdateTime = trustListUpdateTime;
+
+      entries.values().removeIf(e -> !e.trustListUpdateTime().equals(trustListUpdateTime));
+    }
+  }
+
+  private static long expiryOf(PKIXCertPathBuilderResult certPathResult, Collection<X509CRL> crls) {
+    long expiry = certPathResult.getTrustAnchor().getTrustedCert().getNotAfter().getTime();
+
+    for (Certificate certificate : certPathResult.getCertPath().getCertificates()) {
+      if (certificate instanceof X509Certificate x509Certificate) {
+        expiry = Math.min(expiry, x509Certificate.getNotAfter().getTime());
+      }
+    }
+
+    for (X509CRL crl : crls) {
+      Date nextUpdate = crl.getNextUpdate();
+
+      if (nextUpdate != null) {
+        expiry = Math.min(expiry, nextUpdate.getTime());
+      }
+    }
+
+    return expiry - EXPIRY_MARGIN_MILLIS;
+  }
+
+  /**
+   * Identifies the validation of a certificate chain with a set of options.
+   *
+   * @param digests the SHA-256 digests of the encoded certificates in the chain, in order.
+   * @param validationChecks the set of optional {@link ValidationCheck}s enforced.
+   * @param endEntityIsClient {@code true} if the end-entity is a client, {@code false} if it is a
+   *     server.
+   */
+  public record Key(
+      List<ByteString> digests, Set<ValidationCheck> validationChecks, boolean endEntityIsClient) {}
+
+  private record Entry(DateTime trustListUpdateTime, long expiresAt) {}
+}
@@ -11,12 +11,21 @@
 package org.eclipse.milo.opcua.stack.core.encoding.binary;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import java.util.ArrayList;
+import java.util.List;
 import org.eclipse.milo.opcua.stack.core.types.builtin.ByteString;
 import org.eclipse.milo.opcua.stack.core.types.builtin.ExtensionObject;
 import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
 import org.eclipse.milo.opcua.stack.core.types.builtin.XmlElement;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
@@ -38,4 +47,74 @@ public class ExtensionObjectSerializationTest extends BinarySerializationFixture
 
     assertEquals(xo, decoded);
   }
+
+  @Test
+  @DisplayName("Binary ExtensionObject bodies can be decoded as retained slices.")
+  public void testRetainedBodyRoundTrip() {
+    var xo = ExtensionObject.of(ByteString.of(new byte[] {1, 2, 3, 4}), new NodeId(1, 2));
+
+    writer.encodeExtensionObject(xo);
+    byte[] encoded = ByteBufUtil.getBytes(buffer);
+
+    var retainedBodies = new ArrayList<ExtensionObject.Binary>();
+    reader.setRetainedBodies(retainedBodies);
+
+    ExtensionObject decoded = reader.decodeExtensionObject();
+    assertEquals(List.of(decoded), retainedBodies);
+    assertNotNull(retainedBodies.get(0).getRetainedBody());
+    assertEquals(2, buffer.refCnt());
+
+    var reencoded = Unpooled.buffer();
+    new OpcUaBinaryEncoder(writer.getEncodingContext())
+        .setBuffer(reencoded)
+        .encodeExtensionObject(decoded);
+    assertEquals(Unpooled.wrappedBuffer(encoded), reencoded);
+
+    assertEquals(xo, decoded);
+    assertEquals(xo.hashCode(), decoded.hashCode());
+    decoded.getBody();
+    retainedBodies.get(0).release();
+
+    assertEquals(1, buffer.refCnt());
+    assertNull(retainedBodies.get(0).getRetainedBody());
+    assertEquals(xo, decoded);
+  }
+
+  @Test
+  @DisplayName("Retained bodies are compared without being copied.")
+  public void testRetainedBodyEquality() {
+    var xo = ExtensionObject.of(ByteString.of(new byte[] {1, 2, 3, 4}), new NodeId(1, 2));
+
+    writer.encodeExtensionObject(xo);
+    writer.encodeExtensionObject(xo);
+
+    var retainedBodies = new ArrayList<ExtensionObject.Binary>();
+    reader.setRetainedBodies(retainedBodies);
+
+    ExtensionObject.Binary decoded1 = (ExtensionObject.Binary) reader.decodeExtensionObject();
+    ExtensionObject.Binary decoded2 = (ExtensionObject.Binary) reader.decodeExtensionObject();
+
+    assertEquals(decoded1, decoded2);
+    assertEquals(xo, decoded1);
+    assertEquals(decoded1, xo);
+    assertEquals(xo.hashCode(), decoded1.hashCode());
+    assertNotEquals(
+        ExtensionObject.of(ByteString.of(new byte[] {1, 2, 3}), new NodeId(1, 2)), decoded1);
+
+    // Nothing was copied.
+    assertNotNull(decoded1.getRetainedBody());
+    assertNotNull(decoded2.getRetainedBody());
+
+    int hashCode = decoded1.hashCode();
+    decoded1.release();
+    decoded2.release();
+    assertEquals(1, buffer.refCnt());
+
+    // A body released before it was read is only equal to itself.
+    assertEquals(decoded1, decoded1);
+    assertNotEquals(decoded2, decoded1);
+    assertNotEquals(xo, decoded1);
+    assertEquals(hashCode, decoded1.hashCode());
+    assertThrows(IllegalStateException.class, decoded1::getBody);
+  }
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2025 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.core.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.cert.X509Certificate;
+import java.util.List;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.util.SelfSignedCertificateBuilder;
+import org.eclipse.milo.opcua.stack.core.util.SelfSignedCertificateGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FileBasedTrustListManagerTest {
+
+  @TempDir Path baseDir;
+
+  @Test
+  void unchangedDirectoriesDontAdvanceUpdateTime() throws Exception {
+    X509Certificate certificate = newCertificate("urn:eclipse:milo:test:a");
+
+    try (var trustListManager = FileBasedTrustListManager.createAndInitialize(baseDir)) {
+      trustListManager.addTrustedCertificate(certificate);
+      DateTime updateTime = trustListManager.getLastUpdateTime();
+
+      // Give the watcher time to re-read the directory the certificate was written to.
+      Thread.sleep(1_000);
+
+      assertEquals(updateTime, trustListManager.getLastUpdateTime());
+      assertEquals(List.of(certificate), trustListManager.getTrustedCertificates());
+    }
+  }
+
+  @Test
+  void changedDirectoriesAdvanceUpdateTime() throws Exception {
+    X509Certificate certificate = newCertificate("urn:eclipse:milo:test:b");
+
+    try (var trustListManager = FileBasedTrustListManager.createAndInitialize(baseDir)) {
+      DateTime updateTime = trustListManager.getLastUpdateTime();
+
+      Files.write(baseDir.resolve("trusted/certs/b.der"), certificate.getEncoded());
+
+      long deadline = System.currentTimeMillis() + 10_000;
+      while (trustListManager.getLastUpdateTime().equals(updateTime)
+          && System.currentTimeMillis() < deadline) {
+        Thread.sleep(50);
+      }
+
+      assertNotEquals(updateTime, trustListManager.getLastUpdateTime());
+      assertTrue(trustListManager.getTrustedCertificates().contains(certificate));
+    }
+  }
+
+  private static X509Certificate newCertificate(String applicationUri) throws Exception {
+    KeyPair keyPair = SelfSignedCertificateGenerator.generateRsaKeyPair(2048);
+
+    return new SelfSignedCertificateBuilder(keyPair)
+        .setApplicationUri(applicationUri)
+        .addDnsName("localhost")
+        .build();
+  }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2025 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.core.transport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import io.netty.channel.EventLoopGroup;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Test;
+
+public class NettyTransportTest {
+
+  @Test
+  public void nioIsAlwaysAvailable() {
+    assertTrue(NettyTransport.NIO.isAvailable());
+  }
+
+  @Test
+  public void transportMatchesEventLoop() {
+    for (NettyTransport transport : NettyTransport.values()) {
+      assumeTrue(transport.isAvailable());
+
+      EventLoopGroup eventLoop = transport.newEventLoopGroup(1, Executors.defaultThreadFactory());
+
+      try {
+        assertEquals(transport, NettyTransport.of(eventLoop));
+      } finally {
+        eventLoop.shutdownGracefully();
+      }
+    }
+  }
+}
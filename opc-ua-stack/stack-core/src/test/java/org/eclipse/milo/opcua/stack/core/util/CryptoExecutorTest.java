@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2025 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.core.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class CryptoExecutorTest {
+
+  @Test
+  public void tasksBeyondCapacityAreNotAdmitted() throws Exception {
+    var executor = new CryptoExecutor(1, 1);
+
+    try {
+      var started = new CountDownLatch(1);
+      var release = new CountDownLatch(1);
+      var done = new CountDownLatch(2);
+
+      assertTrue(
+          executor.tryExecute(
+              () -> {
+                started.countDown();
+                await(release);
+                done.countDown();
+              }));
+      assertTrue(started.await(5, TimeUnit.SECONDS));
+
+      // One running, one queued, then full.
+      assertTrue(executor.tryExecute(done::countDown));
+      assertFalse(executor.tryExecute(() -> {}));
+
+      assertEquals(2, executor.getSubmittedCount());
+      assertEquals(1, executor.getRejectedCount());
+      assertEquals(2, executor.getPendingCount());
+
+      release.countDown();
+      assertTrue(done.await(5, TimeUnit.SECONDS));
+
+      // Completion is counted just after the task returns.
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+      while (executor.getCompletedCount() < 2 && System.nanoTime() < deadline) {
+        Thread.sleep(10);
+      }
+
+      assertEquals(2, executor.getCompletedCount());
+      assertEquals(0, executor.getPendingCount());
+      assertEquals(0.2, executor.getCompletionRate());
+      assertTrue(executor.tryExecute(() -> {}));
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void shutdownStopsAdmitting() {
+    var executor = new CryptoExecutor(1, 1);
+    executor.shutdown();
+
+    assertFalse(executor.tryExecute(() -> {}));
+    assertEquals(1, executor.getRejectedCount());
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2025 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.core.util.validation;
+
+import static java.util.Collections.emptySet;
+import static org.eclipse.milo.opcua.stack.core.util.validation.CertificateValidationUtil.buildTrustedCertPath;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.security.KeyPair;
+import java.security.cert.PKIXCertPathBuilderResult;
+import java.security.cert.X509Certificate;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaException;
+import org.eclipse.milo.opcua.stack.core.security.DefaultServerCertificateValidator;
+import org.eclipse.milo.opcua.stack.core.security.MemoryCertificateQuarantine;
+import org.eclipse.milo.opcua.stack.core.security.MemoryTrustListManager;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ByteString;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.util.CertificateUtil;
+import org.eclipse.milo.opcua.stack.core.util.DigestUtil;
+import org.eclipse.milo.opcua.stack.core.util.SelfSignedCertificateBuilder;
+import org.eclipse.milo.opcua.stack.core.util.SelfSignedCertificateGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class CertificateValidationCacheTest {
+
+  private X509Certificate certificate;
+
+  @BeforeEach
+  public void createCertificate() throws Exception {
+    KeyPair keyPair = SelfSignedCertificateGenerator.generateRsaKeyPair(2048);
+
+    certificate =
+        new SelfSignedCertificateBuilder(keyPair)
+            .setApplicationUri("urn:eclipse:milo:test")
+            .addDnsName("localhost")
+            .build();
+  }
+
+  @Test
+  public void trustListChangesInvalidate() throws Exception {
+    var trustListManager = new MemoryTrustListManager();
+    trustListManager.addTrustedCertificate(certificate);
+
+    var validator =
+        new DefaultServerCertificateValidator(trustListManager, new MemoryCertificateQuarantine());
+    CertificateValidationCache cache = validator.getValidationCache();
+
+    validator.validateCertificateChain(List.of(certificate), null, null);
+    validator.validateCertificateChain(List.of(certificate), null, null);
+    assertEquals(1, cache.getMissCount());
+    assertEquals(1, cache.getHitCount());
+
+    // Immediately after the change, even within the same clock tick.
+    trustListManager.removeTrustedCertificate(CertificateUtil.thumbprint(certificate));
+
+    UaException e =
+        assertThrows(
+            UaException.class,
+            () -> validator.validateCertificateChain(List.of(certificate), null, null));
+    assertEquals(StatusCodes.Bad_SecurityChecksFailed, e.getStatusCode().value());
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void entriesExpire() throws Exception {
+    var now = new AtomicLong(System.currentTimeMillis());
+    var cache = new CertificateValidationCache(10, now::get);
+
+    PKIXCertPathBuilderResult result =
+        buildTrustedCertPath(List.of(certificate), Set.of(certificate), emptySet());
+
+    CertificateValidationCache.Key key =
+        cache.key(List.of(certificate), ValidationCheck.NO_OPTIONAL_CHECKS, true);
+    DateTime updateTime = DateTime.now();
+
+    cache.putValidated(key, updateTime, result, emptySet());
+    assertTrue(cache.isValidated(key, updateTime));
+
+    // Different options are a different validation.
+    assertFalse(
+        cache.isValidated(
+            cache.key(List.of(certificate), ValidationCheck.ALL_OPTIONAL_CHECKS, true),
+            updateTime));
+
+    now.addAndGet(CertificateValidationCache.MAX_AGE_MILLIS);
+    assertFalse(cache.isValidated(key, updateTime));
+
+    // Certificates close to expiry aren't cached at all.
+    now.set(certificate.getNotAfter().getTime() - CertificateValidationCache.EXPIRY_MARGIN_MILLIS);
+    cache.putValidated(key, updateTime, result, emptySet());
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void keyIdentifiesCertificatesBySha256Digest() throws Exception {
+    var cache = new CertificateValidationCache();
+
+    CertificateValidationCache.Key key =
+        cache.key(List.of(certificate), ValidationCheck.NO_OPTIONAL_CHECKS, true);
+
+    assertEquals(
+        List.of(ByteString.of(DigestUtil.sha256(certificate.getEncoded()))), key.digests());
+  }
+}
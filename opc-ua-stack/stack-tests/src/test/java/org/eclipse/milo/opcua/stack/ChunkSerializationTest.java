@@ -13,9 +13,13 @@ package org.eclipse.milo.opcua.stack;
 import static org.eclipse.milo.opcua.stack.core.channel.EncodingLimits.DEFAULT_MAX_CHUNK_SIZE;
 import static org.eclipse.milo.opcua.stack.core.channel.EncodingLimits.DEFAULT_MAX_MESSAGE_SIZE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.util.ReferenceCountUtil;
 import java.security.Security;
 import java.util.ArrayList;
@@ -386,4 +390,123 @@ public class ChunkSerializationTest extends SecureChannelFixture {
       }
     }
   }
+
+  @ParameterizedTest
+  @MethodSource("getSymmetricSecurityParameters")
+  public void testSymmetricMessageChunkByChunk(
+      SecurityPolicy securityPolicy, MessageSecurityMode messageSecurity) throws Exception {
+
+    logger.info(
+        "Symmetric chunk-by-chunk decoding, securityPolicy={}, messageSecurityMode={}",
+        securityPolicy,
+        messageSecurity);
+
+    ChannelParameters parameters = smallParameters;
+
+    ChunkEncoder encoder = new ChunkEncoder(parameters);
+
+    ChunkDecoder decoder = new ChunkDecoder(parameters, EncodingLimits.DEFAULT);
+
+    SecureChannel[] channels = generateChannels(securityPolicy, messageSecurity);
+    ClientSecureChannel clientChannel = (ClientSecureChannel) channels[0];
+    ServerSecureChannel serverChannel = (ServerSecureChannel) channels[1];
+
+    LongSequence requestId = new LongSequence(1L, UInteger.MAX_VALUE);
+
+    var partialMessage = new ChunkDecoder.PartialMessage();
+
+    for (int messageSize : new int[] {128, parameters.getRemoteMaxMessageSize()}) {
+      byte[] messageBytes = new byte[messageSize];
+      for (int i = 0; i < messageBytes.length; i++) {
+        messageBytes[i] = (byte) i;
+      }
+
+      ByteBuf messageBuffer = BufferUtil.pooledBuffer().writeBytes(messageBytes);
+
+      long expectedRequestId = requestId.getAndIncrement();
+
+      ChunkEncoder.EncodedMessage encodedMessage =
+          encoder.encodeSymmetric(
+              clientChannel, expectedRequestId, messageBuffer, MessageType.SecureMessage);
+
+      List<ByteBuf> chunkBuffers = encodedMessage.getMessageChunks();
+
+      ChunkDecoder.DecodedMessage decodedMessage = null;
+
+      for (int i = 0; i < chunkBuffers.size(); i++) {
+        ByteBuf chunkBuffer = chunkBuffers.get(i);
+
+        decodedMessage = decoder.decodeSymmetricChunk(serverChannel, partialMessage, chunkBuffer);
+
+        // Chunks can be released as soon as they've been decoded.
+        ReferenceCountUtil.release(chunkBuffer);
+
+        if (i < chunkBuffers.size() - 1) {
+          assertNull(decodedMessage);
+          assertEquals(i + 1, partialMessage.getChunkCount());
+        }
+      }
+
+      assertNotNull(decodedMessage);
+      assertEquals(0, partialMessage.getChunkCount());
+      assertEquals(expectedRequestId, decodedMessage.getRequestId());
+
+      ByteBuf message = decodedMessage.getMessage();
+
+      messageBuffer.readerIndex(0);
+      assertEquals(messageBuffer, message);
+
+      ReferenceCountUtil.release(messageBuffer);
+      ReferenceCountUtil.release(message);
+    }
+  }
+
+  @Test
+  public void testSymmetricNoneChunksShareMessageBuffer() throws Exception {
+    ChannelParameters parameters = smallParameters;
+
+    ChunkEncoder encoder = new ChunkEncoder(parameters);
+
+    ChunkDecoder decoder = new ChunkDecoder(parameters, EncodingLimits.DEFAULT);
+
+    SecureChannel[] channels = generateChannels(SecurityPolicy.None, MessageSecurityMode.None);
+    ClientSecureChannel clientChannel = (ClientSecureChannel) channels[0];
+    ServerSecureChannel serverChannel = (ServerSecureChannel) channels[1];
+
+    byte[] messageBytes = new byte[parameters.getRemoteMaxMessageSize()];
+    for (int i = 0; i < messageBytes.length; i++) {
+      messageBytes[i] = (byte) i;
+    }
+
+    ByteBuf messageBuffer = BufferUtil.pooledBuffer().writeBytes(messageBytes);
+
+    ChunkEncoder.EncodedMessage encodedMessage =
+        encoder.encodeSymmetric(clientChannel, 1L, messageBuffer, MessageType.SecureMessage);
+
+    // Each chunk's body is a retained slice of the message rather than a copy.
+    assertTrue(encodedMessage.getMessageChunks().size() > 1);
+    assertEquals(1 + encodedMessage.getMessageChunks().size(), messageBuffer.refCnt());
+
+    messageBuffer.release();
+
+    var partialMessage = new ChunkDecoder.PartialMessage();
+
+    ChunkDecoder.DecodedMessage decodedMessage = null;
+
+    for (ByteBuf chunkBuffer : encodedMessage.getMessageChunks()) {
+      decodedMessage = decoder.decodeSymmetricChunk(serverChannel, partialMessage, chunkBuffer);
+
+      ReferenceCountUtil.release(chunkBuffer);
+    }
+
+    assertNotNull(decodedMessage);
+
+    // Nothing was decrypted, so the decoded message still refers to the original bytes.
+    assertTrue(messageBuffer.refCnt() > 0);
+    assertEquals(Unpooled.wrappedBuffer(messageBytes), decodedMessage.getMessage());
+
+    ReferenceCountUtil.release(decodedMessage.getMessage());
+
+    assertEquals(0, messageBuffer.refCnt());
+  }
 }
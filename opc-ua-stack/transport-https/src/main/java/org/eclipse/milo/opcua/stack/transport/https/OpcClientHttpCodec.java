@@ -13,7 +13,6 @@ package org.eclipse.milo.opcua.stack.transport.https;
 import static java.util.Objects.requireNonNullElse;
 
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.MessageToMessageCodec;
 import io.netty.handler.codec.http.DefaultFullHttpRequest;
@@ -28,8 +27,6 @@ import io.netty.handler.codec.http.HttpVersion;
 import java.util.List;
 import org.eclipse.milo.opcua.stack.core.StatusCodes;
 import org.eclipse.milo.opcua.stack.core.UaException;
-import org.eclipse.milo.opcua.stack.core.encoding.binary.OpcUaBinaryDecoder;
-import org.eclipse.milo.opcua.stack.core.encoding.binary.OpcUaBinaryEncoder;
 import org.eclipse.milo.opcua.stack.core.transport.TransportProfile;
 import org.eclipse.milo.opcua.stack.core.types.UaRequestMessageType;
 import org.eclipse.milo.opcua.stack.core.types.UaResponseMessageType;
@@ -42,9 +39,6 @@ import org.slf4j.LoggerFactory;
 
 public class OpcClientHttpCodec extends MessageToMessageCodec<HttpResponse, UaRequestMessageType> {
 
-  private static final String UABINARY_CONTENT_TYPE =
-      HttpHeaderValues.APPLICATION_OCTET_STREAM.toString();
-
   private final Logger logger = LoggerFactory.getLogger(getClass());
 
   private final EndpointDescription endpoint;
@@ -69,27 +63,14 @@ public class OpcClientHttpCodec extends MessageToMessageCodec<HttpResponse, UaRe
 
     logger.debug("encoding: {}", requestMessage);
 
-    ByteBuf content = Unpooled.buffer();
-
-    switch (transportProfile) {
-      case HTTPS_UABINARY:
-        {
-          var encoder = new OpcUaBinaryEncoder(application.getEncodingContext());
-          encoder.setBuffer(content);
-          encoder.encodeMessage(null, requestMessage);
-          break;
-        }
-
-      case HTTPS_UAXML:
-        {
-          // TODO put document into a SOAP message.
-          throw new UaException(
-              StatusCodes.Bad_InternalError, "no encoder for transport: " + transportProfile);
-        }
-
-      default:
-        throw new UaException(
-            StatusCodes.Bad_InternalError, "no encoder for transport: " + transportProfile);
+    ByteBuf content = ctx.alloc().buffer();
+
+    try {
+      OpcHttpBodyCodec.encode(
+          application.getEncodingContext(), transportProfile, requestMessage, content);
+    } catch (Exception e) {
+      content.release();
+      throw e;
     }
 
     String endpointUrl = endpoint.getEndpointUrl();
@@ -100,11 +81,15 @@ public class OpcClientHttpCodec extends MessageToMessageCodec<HttpResponse, UaRe
 
     httpRequest.headers().set(HttpHeaderNames.HOST, EndpointUtil.getHost(endpointUrl));
     httpRequest.headers().set(HttpHeaderNames.CONNECTION, HttpHeaderValues.KEEP_ALIVE);
-    httpRequest.headers().set(HttpHeaderNames.CONTENT_TYPE, UABINARY_CONTENT_TYPE);
+    httpRequest
+        .headers()
+        .set(HttpHeaderNames.CONTENT_TYPE, OpcHttpBodyCodec.contentType(transportProfile));
     httpRequest.headers().set(HttpHeaderNames.CONTENT_LENGTH, content.readableBytes());
     httpRequest
         .headers()
-        .set("OPCUA-SecurityPolicy", application.getEndpoint().getSecurityPolicyUri());
+        .set(
+            OpcHttpBodyCodec.SECURITY_POLICY_HEADER,
+            application.getEndpoint().getSecurityPolicyUri());
 
     out.add(httpRequest);
   }
@@ -115,53 +100,28 @@ public class OpcClientHttpCodec extends MessageToMessageCodec<HttpResponse, UaRe
 
     logger.trace("channelRead0: {}", httpResponse);
 
+    HttpResponseStatus status = httpResponse.status();
+
+    if (status.equals(HttpResponseStatus.REQUEST_ENTITY_TOO_LARGE)) {
+      throw new UaException(StatusCodes.Bad_RequestTooLarge, status.toString());
+    } else if (!status.equals(HttpResponseStatus.OK)) {
+      throw new UaException(StatusCodes.Bad_UnexpectedError, status.toString());
+    }
+
     if (httpResponse instanceof FullHttpResponse fullHttpResponse) {
       String contentType = httpResponse.headers().get(HttpHeaderNames.CONTENT_TYPE);
 
-      ByteBuf content = fullHttpResponse.content();
-
-      UaResponseMessageType responseMessage;
-
-      switch (transportProfile) {
-        case HTTPS_UABINARY:
-          {
-            if (!UABINARY_CONTENT_TYPE.equalsIgnoreCase(contentType)) {
-              throw new UaException(
-                  StatusCodes.Bad_DecodingError, "unexpected content-type: " + contentType);
-            }
-
-            var decoder = new OpcUaBinaryDecoder(application.getEncodingContext());
-            decoder.setBuffer(content);
-            responseMessage = (UaResponseMessageType) decoder.decodeMessage(null);
-            break;
-          }
-
-        case HTTPS_UAXML:
-          {
-            // TODO extract document from SOAP message body
-            throw new UaException(
-                StatusCodes.Bad_InternalError, "no decoder for transport: " + transportProfile);
-          }
-
-        default:
-          throw new UaException(
-              StatusCodes.Bad_InternalError, "no decoder for transport: " + transportProfile);
+      if (OpcHttpBodyCodec.transportProfile(contentType) != transportProfile) {
+        throw new UaException(
+            StatusCodes.Bad_DecodingError, "unexpected content-type: " + contentType);
       }
 
+      UaResponseMessageType responseMessage =
+          (UaResponseMessageType)
+              OpcHttpBodyCodec.decode(
+                  application.getEncodingContext(), transportProfile, fullHttpResponse.content());
+
       out.add(responseMessage);
-    } else {
-      HttpResponseStatus status = httpResponse.status();
-
-      if (status.equals(HttpResponseStatus.REQUEST_ENTITY_TOO_LARGE)) {
-        // TODO
-        //                transportRequest.getFuture().completeExceptionally(
-        //                    new UaException(StatusCodes.Bad_ResponseTooLarge));
-      } else {
-        // TODO
-        //                transportRequest.getFuture().completeExceptionally(
-        //                    new UaException(StatusCodes.Bad_UnexpectedError,
-        //                        String.format("%s: %s", status.code(), status.reasonPhrase())));
-      }
     }
   }
 }
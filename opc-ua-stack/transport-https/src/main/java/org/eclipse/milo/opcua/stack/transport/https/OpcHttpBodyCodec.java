@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2025 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.transport.https;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaException;
+import org.eclipse.milo.opcua.stack.core.UaSerializationException;
+import org.eclipse.milo.opcua.stack.core.encoding.EncodingContext;
+import org.eclipse.milo.opcua.stack.core.encoding.binary.OpcUaBinaryDecoder;
+import org.eclipse.milo.opcua.stack.core.encoding.binary.OpcUaBinaryEncoder;
+import org.eclipse.milo.opcua.stack.core.encoding.json.OpcUaJsonDecoder;
+import org.eclipse.milo.opcua.stack.core.encoding.json.OpcUaJsonEncoder;
+import org.eclipse.milo.opcua.stack.core.transport.TransportProfile;
+import org.eclipse.milo.opcua.stack.core.types.UaMessageType;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Encodes and decodes the body of an HTTPS request or response for the {@link
+ * TransportProfile#HTTPS_UABINARY} and {@link TransportProfile#HTTPS_UAJSON} profiles, reading and
+ * writing the {@link ByteBuf} content directly.
+ */
+final class OpcHttpBodyCodec {
+
+  static final String UABINARY_CONTENT_TYPE = HttpHeaderValues.APPLICATION_OCTET_STREAM.toString();
+
+  static final String UAJSON_CONTENT_TYPE = "application/opcua+uajson";
+
+  /** Header carrying the SecurityPolicy URI of the endpoint a request is addressed to. */
+  static final String SECURITY_POLICY_HEADER = "OPCUA-SecurityPolicy";
+
+  private OpcHttpBodyCodec() {}
+
+  /**
+   * Get the {@link TransportProfile} for a Content-Type header value.
+   *
+   * @param contentType the Content-Type header value, possibly with parameters.
+   * @return the matching {@link TransportProfile}, or {@code null} if not supported.
+   */
+  static @Nullable TransportProfile transportProfile(@Nullable String contentType) {
+    if (contentType == null) return null;
+
+    int i = contentType.indexOf(';');
+    String mimeType = (i >= 0 ? contentType.substring(0, i) : contentType).trim();
+
+    if (UABINARY_CONTENT_TYPE.equalsIgnoreCase(mimeType)) {
+      return TransportProfile.HTTPS_UABINARY;
+    } else if (UAJSON_CONTENT_TYPE.equalsIgnoreCase(mimeType)
+        || HttpHeaderValues.APPLICATION_JSON.contentEqualsIgnoreCase(mimeType)) {
+      return TransportProfile.HTTPS_UAJSON;
+    } else {
+      return null;
+    }
+  }
+
+  static String contentType(TransportProfile transportProfile) throws UaException {
+    return switch (transportProfile) {
+      case HTTPS_UABINARY -> UABINARY_CONTENT_TYPE;
+      case HTTPS_UAJSON -> UAJSON_CONTENT_TYPE;
+      default ->
+          throw new UaException(
+              StatusCodes.Bad_InternalError, "unsupported transport: " + transportProfile);
+    };
+  }
+
+  static void encode(
+      EncodingContext context,
+      TransportProfile transportProfile,
+      UaMessageType message,
+      ByteBuf buffer)
+      throws UaException {
+
+    switch (transportProfile) {
+      case HTTPS_UABINARY -> {
+        var encoder = new OpcUaBinaryEncoder(context);
+        encoder.setBuffer(buffer);
+        encoder.encodeMessage(null, message);
+      }
+
+      case HTTPS_UAJSON -> {
+        try (Writer writer = new OutputStreamWriter(new ByteBufOutputStream(buffer), UTF_8)) {
+          var encoder = new OpcUaJsonEncoder(context, writer);
+          encoder.encodeMessage(null, message);
+        } catch (IOException | UaSerializationException e) {
+          throw new UaException(StatusCodes.Bad_EncodingError, e);
+        }
+      }
+
+      default ->
+          throw new UaException(
+              StatusCodes.Bad_InternalError, "no encoder for transport: " + transportProfile);
+    }
+  }
+
+  static UaMessageType decode(
+      EncodingContext context, TransportProfile transportProfile, ByteBuf buffer)
+      throws UaException {
+
+    try {
+      return switch (transportProfile) {
+        case HTTPS_UABINARY -> {
+          var decoder = new OpcUaBinaryDecoder(context);
+          decoder.setBuffer(buffer);
+          yield decoder.decodeMessage(null);
+        }
+
+        case HTTPS_UAJSON -> {
+          try (Reader reader = new InputStreamReader(new ByteBufInputStream(buffer), UTF_8)) {
+            var decoder = new OpcUaJsonDecoder(context, reader);
+            yield decoder.decodeMessage(null);
+          }
+        }
+
+        default ->
+            throw new UaException(
+                StatusCodes.Bad_InternalError, "no decoder for transport: " + transportProfile);
+      };
+    } catch (IOException | RuntimeException e) {
+      // RuntimeException covers UaSerializationException and malformed JSON.
+      throw new UaException(StatusCodes.Bad_DecodingError, e);
+    }
+  }
+}
@@ -12,53 +12,92 @@ package org.eclipse.milo.opcua.stack.transport.https;
 
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.SimpleChannelInboundHandler;
 import io.netty.channel.pool.AbstractChannelPoolHandler;
 import io.netty.channel.pool.ChannelPool;
 import io.netty.channel.pool.SimpleChannelPool;
-import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.handler.codec.http.HttpClientCodec;
 import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
+import io.netty.handler.codec.http2.Http2MultiplexHandler;
+import io.netty.handler.codec.http2.Http2StreamChannel;
+import io.netty.handler.codec.http2.Http2StreamChannelBootstrap;
+import io.netty.handler.codec.http2.Http2StreamFrameToHttpObjectCodec;
 import io.netty.handler.logging.LogLevel;
 import io.netty.handler.logging.LoggingHandler;
+import io.netty.handler.ssl.ApplicationProtocolConfig;
+import io.netty.handler.ssl.ApplicationProtocolNames;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.SslHandler;
 import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
+import io.netty.util.AttributeKey;
+import io.netty.util.Timeout;
 import io.netty.util.concurrent.FutureListener;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import javax.net.ssl.SSLException;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaException;
+import org.eclipse.milo.opcua.stack.core.transport.NettyTransport;
 import org.eclipse.milo.opcua.stack.core.types.UaRequestMessageType;
 import org.eclipse.milo.opcua.stack.core.types.UaResponseMessageType;
+import org.eclipse.milo.opcua.stack.core.types.structured.RequestHeader;
 import org.eclipse.milo.opcua.stack.core.util.EndpointUtil;
 import org.eclipse.milo.opcua.stack.core.util.Unit;
 import org.eclipse.milo.opcua.stack.transport.client.ClientApplicationContext;
 import org.eclipse.milo.opcua.stack.transport.client.OpcClientTransport;
-import org.eclipse.milo.opcua.stack.transport.client.OpcClientTransportConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * An {@link OpcClientTransport} for {@code https} endpoints.
+ *
+ * <p>Requests are sent either over a pool of HTTP/1.1 keep-alive connections, one outstanding
+ * request per connection, or, if {@link OpcHttpClientTransportConfig#isHttp2Enabled()}, as HTTP/2
+ * streams multiplexed over a single connection.
+ */
 public class OpcHttpClientTransport implements OpcClientTransport {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(OpcHttpClientTransport.class);
 
+  private static final AttributeKey<CompletableFuture<UaResponseMessageType>> RESPONSE_FUTURE =
+      AttributeKey.valueOf("opc-http-response-future");
+
   private ChannelPool channelPool = null;
+  private CompletableFuture<Channel> http2Connection = null;
+  private ClientApplicationContext application = null;
 
-  private final OpcClientTransportConfig config;
+  private final OpcHttpClientTransportConfig config;
 
-  public OpcHttpClientTransport(OpcClientTransportConfig config) {
+  public OpcHttpClientTransport(OpcHttpClientTransportConfig config) {
     this.config = config;
   }
 
   @Override
-  public OpcClientTransportConfig getConfig() {
+  public OpcHttpClientTransportConfig getConfig() {
     return config;
   }
 
   @Override
   public synchronized CompletableFuture<Unit> connect(ClientApplicationContext applicationContext) {
-    if (channelPool == null) {
-      channelPool = createChannelPool(config, applicationContext);
-    }
+    application = applicationContext;
 
-    return CompletableFuture.completedFuture(Unit.VALUE);
+    if (config.isHttp2Enabled()) {
+      return getHttp2Connection().thenApply(ch -> Unit.VALUE);
+    } else {
+      if (channelPool == null) {
+        channelPool = createChannelPool(config, applicationContext);
+      }
+
+      return CompletableFuture.completedFuture(Unit.VALUE);
+    }
   }
 
   @Override
@@ -68,24 +107,95 @@ public class OpcHttpClientTransport implements OpcClientTransport {
       channelPool = null;
     }
 
+    if (http2Connection != null) {
+      http2Connection.thenAccept(Channel::close);
+      http2Connection = null;
+    }
+
+    application = null;
+
     return CompletableFuture.completedFuture(Unit.VALUE);
   }
 
   @Override
-  public synchronized CompletableFuture<UaResponseMessageType> sendRequestMessage(
-      UaRequestMessageType request) {
+  public CompletableFuture<UaResponseMessageType> sendRequestMessage(UaRequestMessageType request) {
     LOGGER.trace("sendRequest({})", request.getClass().getSimpleName());
 
-    return acquireChannel()
-        .thenCompose(
-            channel ->
-                sendRequestMessage(request, channel)
-                    .whenComplete((response, ex) -> releaseChannel(channel)));
+    if (config.isHttp2Enabled()) {
+      return openStream()
+          .thenCompose(
+              stream ->
+                  sendRequestMessage(request, stream).whenComplete((r, ex) -> stream.close()));
+    } else {
+      return acquireChannel()
+          .thenCompose(
+              channel ->
+                  sendRequestMessage(request, channel)
+                      .whenComplete((response, ex) -> releaseChannel(channel)));
+    }
   }
 
   private CompletableFuture<UaResponseMessageType> sendRequestMessage(
       UaRequestMessageType request, Channel channel) {
-    return CompletableFuture.failedFuture(new RuntimeException("TODO")); // TODO
+
+    var responseFuture = new CompletableFuture<UaResponseMessageType>();
+    channel.attr(RESPONSE_FUTURE).set(responseFuture);
+
+    Timeout timeout = scheduleRequestTimeout(request, channel, responseFuture);
+
+    if (timeout != null) {
+      responseFuture.whenComplete((r, ex) -> timeout.cancel());
+    }
+
+    channel
+        .writeAndFlush(request)
+        .addListener(
+            f -> {
+              if (!f.isSuccess()) {
+                responseFuture.completeExceptionally(f.cause());
+
+                LOGGER.debug(
+                    "Write failed, request={}", request.getClass().getSimpleName(), f.cause());
+              }
+            });
+
+    return responseFuture;
+  }
+
+  private Timeout scheduleRequestTimeout(
+      UaRequestMessageType request,
+      Channel channel,
+      CompletableFuture<UaResponseMessageType> responseFuture) {
+
+    RequestHeader requestHeader = request.getRequestHeader();
+
+    long timeoutHint =
+        requestHeader.getTimeoutHint() != null ? requestHeader.getTimeoutHint().longValue() : 0L;
+
+    if (timeoutHint > 0) {
+      return config
+          .getWheelTimer()
+          .newTimeout(
+              t -> {
+                if (!t.isCancelled()) {
+                  boolean timedOut =
+                      responseFuture.completeExceptionally(
+                          new UaException(
+                              StatusCodes.Bad_Timeout,
+                              String.format(
+                                  "%s timed out after %sms",
+                                  request.getClass().getSimpleName(), timeoutHint)));
+
+                  // A late response would otherwise be read as the response to the next
+                  // request sent on this connection.
+                  if (timedOut) channel.close();
+                }
+              },
+              timeoutHint,
+              TimeUnit.MILLISECONDS);
+    } else {
+      return null;
+    }
   }
 
   private synchronized CompletableFuture<Channel> acquireChannel() {
@@ -116,8 +226,155 @@ public class OpcHttpClientTransport implements OpcClientTransport {
     }
   }
 
+  private CompletableFuture<Http2StreamChannel> openStream() {
+    ClientApplicationContext application;
+    CompletableFuture<Channel> connection;
+
+    synchronized (this) {
+      application = this.application;
+
+      if (application == null) {
+        return CompletableFuture.failedFuture(new Exception("not connected"));
+      }
+
+      connection = getHttp2Connection();
+    }
+
+    return connection.thenCompose(
+        parent -> {
+          CompletableFuture<Http2StreamChannel> future = new CompletableFuture<>();
+
+          new Http2StreamChannelBootstrap(parent)
+              .handler(
+                  new ChannelInitializer<Http2StreamChannel>() {
+                    @Override
+                    protected void initChannel(Http2StreamChannel stream) {
+                      int maxMessageSize =
+                          application.getEncodingContext().getEncodingLimits().getMaxMessageSize();
+
+                      stream.pipeline().addLast(new Http2StreamFrameToHttpObjectCodec(false));
+                      stream.pipeline().addLast(new HttpObjectAggregator(maxMessageSize));
+                      stream.pipeline().addLast(new OpcClientHttpCodec(config, application));
+                      stream.pipeline().addLast(new ResponseHandler());
+                    }
+                  })
+              .open()
+              .addListener(
+                  (FutureListener<Http2StreamChannel>)
+                      f -> {
+                        if (f.isSuccess()) {
+                          future.complete(f.getNow());
+                        } else {
+                          future.completeExceptionally(f.cause());
+                        }
+                      });
+
+          return future;
+        });
+  }
+
+  /**
+   * Get the connection HTTP/2 streams are opened on, connecting if there's no connection or the
+   * previous one has closed.
+   */
+  private synchronized CompletableFuture<Channel> getHttp2Connection() {
+    CompletableFuture<Channel> connection = http2Connection;
+
+    if (connection != null
+        && (!connection.isDone()
+            || (!connection.isCompletedExceptionally() && connection.join().isActive()))) {
+      return connection;
+    }
+
+    connection = connectHttp2(config, application);
+    http2Connection = connection;
+
+    return connection;
+  }
+
+  private static CompletableFuture<Channel> connectHttp2(
+      OpcHttpClientTransportConfig config, ClientApplicationContext application) {
+
+    final String endpointUrl = application.getEndpoint().getEndpointUrl();
+
+    String host = EndpointUtil.getHost(endpointUrl);
+    if (host == null) host = "";
+
+    int port = EndpointUtil.getPort(endpointUrl);
+
+    LOGGER.debug("connectHttp2() host={} port={}", host, port);
+
+    CompletableFuture<Channel> future = new CompletableFuture<>();
+
+    Bootstrap bootstrap =
+        new Bootstrap()
+            .channel(NettyTransport.of(config.getEventLoop()).getSocketChannelClass())
+            .group(config.getEventLoop())
+            .option(ChannelOption.TCP_NODELAY, true)
+            .remoteAddress(host, port)
+            .handler(
+                new ChannelInitializer<>() {
+                  @Override
+                  protected void initChannel(Channel channel) throws Exception {
+                    ChannelPipeline pipeline = channel.pipeline();
+
+                    if (isHttps(endpointUrl)) {
+                      pipeline.addLast(newSslContext(true).newHandler(channel.alloc()));
+                    }
+
+                    pipeline.addLast(new LoggingHandler(LogLevel.TRACE));
+                    pipeline.addLast(Http2FrameCodecBuilder.forClient().build());
+                    pipeline.addLast(new Http2MultiplexHandler(new ChannelInboundHandlerAdapter()));
+
+                    config.getChannelPipelineCustomizer().accept(pipeline);
+                  }
+                });
+
+    config.getBootstrapCustomizer().accept(bootstrap);
+
+    bootstrap
+        .connect()
+        .addListener(
+            (ChannelFutureListener)
+                cf -> {
+                  if (!cf.isSuccess()) {
+                    future.completeExceptionally(cf.cause());
+                    return;
+                  }
+
+                  Channel channel = cf.channel();
+                  SslHandler sslHandler = channel.pipeline().get(SslHandler.class);
+
+                  if (sslHandler == null) {
+                    future.complete(channel);
+                    return;
+                  }
+
+                  sslHandler
+                      .handshakeFuture()
+                      .addListener(
+                          hf -> {
+                            if (!hf.isSuccess()) {
+                              future.completeExceptionally(hf.cause());
+                            } else if (!ApplicationProtocolNames.HTTP_2.equals(
+                                sslHandler.applicationProtocol())) {
+                              channel.close();
+
+                              future.completeExceptionally(
+                                  new UaException(
+                                      StatusCodes.Bad_ConnectionRejected,
+                                      "server did not negotiate HTTP/2"));
+                            } else {
+                              future.complete(channel);
+                            }
+                          });
+                });
+
+    return future;
+  }
+
   private static ChannelPool createChannelPool(
-      OpcClientTransportConfig config, ClientApplicationContext application) {
+      OpcHttpClientTransportConfig config, ClientApplicationContext application) {
     final String endpointUrl = application.getEndpoint().getEndpointUrl();
 
     String host = EndpointUtil.getHost(endpointUrl);
@@ -129,24 +386,20 @@ public class OpcHttpClientTransport implements OpcClientTransport {
 
     Bootstrap bootstrap =
         new Bootstrap()
-            .channel(NioSocketChannel.class)
+            .channel(NettyTransport.of(config.getEventLoop()).getSocketChannelClass())
             .group(config.getEventLoop())
+            .option(ChannelOption.TCP_NODELAY, true)
             .remoteAddress(host, port);
 
+    config.getBootstrapCustomizer().accept(bootstrap);
+
     return new SimpleChannelPool(
         bootstrap,
         new AbstractChannelPoolHandler() {
           @Override
           public void channelCreated(Channel channel) throws Exception {
-            String scheme = EndpointUtil.getScheme(endpointUrl);
-
-            if ("https".equalsIgnoreCase(scheme) || "opc.https".equalsIgnoreCase(scheme)) {
-              SslContext sslContext =
-                  SslContextBuilder.forClient()
-                      .trustManager(InsecureTrustManagerFactory.INSTANCE)
-                      .build();
-
-              channel.pipeline().addLast(sslContext.newHandler(channel.alloc()));
+            if (isHttps(endpointUrl)) {
+              channel.pipeline().addLast(newSslContext(false).newHandler(channel.alloc()));
             }
 
             int maxMessageSize =
@@ -156,6 +409,9 @@ public class OpcHttpClientTransport implements OpcClientTransport {
             channel.pipeline().addLast(new HttpClientCodec());
             channel.pipeline().addLast(new HttpObjectAggregator(maxMessageSize));
             channel.pipeline().addLast(new OpcClientHttpCodec(config, application));
+            channel.pipeline().addLast(new ResponseHandler());
+
+            config.getChannelPipelineCustomizer().accept(channel.pipeline());
 
             LOGGER.debug("channelCreated(): {}", channel);
           }
@@ -171,4 +427,67 @@ public class OpcHttpClientTransport implements OpcClientTransport {
           }
         });
   }
+
+  private static boolean isHttps(String endpointUrl) {
+    String scheme = EndpointUtil.getScheme(endpointUrl);
+
+    return "https".equalsIgnoreCase(scheme) || "opc.https".equalsIgnoreCase(scheme);
+  }
+
+  private static SslContext newSslContext(boolean http2) throws SSLException {
+    SslContextBuilder builder =
+        SslContextBuilder.forClient().trustManager(InsecureTrustManagerFactory.INSTANCE);
+
+    if (http2) {
+      builder.applicationProtocolConfig(
+          new ApplicationProtocolConfig(
+              ApplicationProtocolConfig.Protocol.ALPN,
+              ApplicationProtocolConfig.SelectorFailureBehavior.NO_ADVERTISE,
+              ApplicationProtocolConfig.SelectedListenerFailureBehavior.ACCEPT,
+              ApplicationProtocolNames.HTTP_2));
+    }
+
+    return builder.build();
+  }
+
+  /**
+   * Completes the response future of the request outstanding on a channel, or an HTTP/2 stream
+   * channel, with the decoded response or the error that prevented it.
+   */
+  private static class ResponseHandler extends SimpleChannelInboundHandler<UaResponseMessageType> {
+
+    @Override
+    protected void channelRead0(ChannelHandlerContext ctx, UaResponseMessageType response) {
+      CompletableFuture<UaResponseMessageType> future = ctx.channel().attr(RESPONSE_FUTURE).get();
+
+      if (future != null) {
+        future.complete(response);
+      } else {
+        LOGGER.debug("Received response with no request outstanding: {}", response);
+      }
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+      CompletableFuture<UaResponseMessageType> future = ctx.channel().attr(RESPONSE_FUTURE).get();
+
+      if (future != null) {
+        future.completeExceptionally(cause);
+      }
+
+      ctx.close();
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+      CompletableFuture<UaResponseMessageType> future = ctx.channel().attr(RESPONSE_FUTURE).get();
+
+      if (future != null) {
+        future.completeExceptionally(
+            new UaException(StatusCodes.Bad_ConnectionClosed, "connection closed"));
+      }
+
+      super.channelInactive(ctx);
+    }
+  }
 }
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2025 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.transport.https;
+
+import org.eclipse.milo.opcua.stack.transport.client.OpcClientTransportConfig;
+
+public interface OpcHttpClientTransportConfig extends OpcClientTransportConfig {
+
+  /**
+   * Get whether requests are sent as HTTP/2 streams multiplexed over a single connection.
+   *
+   * <p>For {@code https} endpoints HTTP/2 is negotiated with ALPN; for {@code http} endpoints it's
+   * used with prior knowledge (h2c). When disabled, requests are sent over a pool of HTTP/1.1
+   * keep-alive connections, one request per connection at a time.
+   *
+   * @return {@code true} if requests are sent as multiplexed HTTP/2 streams.
+   */
+  boolean isHttp2Enabled();
+
+  /**
+   * Create a new {@link OpcHttpClientTransportConfigBuilder}.
+   *
+   * @return a new {@link OpcHttpClientTransportConfigBuilder}.
+   */
+  static OpcHttpClientTransportConfigBuilder newBuilder() {
+    return new OpcHttpClientTransportConfigBuilder();
+  }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2025 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.transport.https;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.HashedWheelTimer;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Consumer;
+import org.eclipse.milo.opcua.stack.core.Stack;
+
+public class OpcHttpClientTransportConfigBuilder {
+
+  private boolean http2Enabled = false;
+
+  private ExecutorService executor;
+  private ScheduledExecutorService scheduledExecutor;
+  private EventLoopGroup eventLoop;
+  private HashedWheelTimer wheelTimer;
+  private Consumer<Bootstrap> bootstrapCustomizer = b -> {};
+  private Consumer<ChannelPipeline> channelPipelineCustomizer = p -> {};
+
+  /**
+   * Set whether requests are sent as HTTP/2 streams multiplexed over a single connection.
+   *
+   * @param http2Enabled {@code true} to send requests as multiplexed HTTP/2 streams.
+   * @return this {@link OpcHttpClientTransportConfigBuilder}.
+   * @see OpcHttpClientTransportConfig#isHttp2Enabled()
+   */
+  public OpcHttpClientTransportConfigBuilder setHttp2Enabled(boolean http2Enabled) {
+    this.http2Enabled = http2Enabled;
+    return this;
+  }
+
+  public OpcHttpClientTransportConfigBuilder setExecutor(ExecutorService executor) {
+    this.executor = executor;
+    return this;
+  }
+
+  public OpcHttpClientTransportConfigBuilder setScheduledExecutor(
+      ScheduledExecutorService scheduledExecutor) {
+    this.scheduledExecutor = scheduledExecutor;
+    return this;
+  }
+
+  public OpcHttpClientTransportConfigBuilder setEventLoop(EventLoopGroup eventLoop) {
+    this.eventLoop = eventLoop;
+    return this;
+  }
+
+  public OpcHttpClientTransportConfigBuilder setWheelTimer(HashedWheelTimer wheelTimer) {
+    this.wheelTimer = wheelTimer;
+    return this;
+  }
+
+  /**
+   * Set a {@link Consumer} that will be given a chance to customize the {@link Bootstrap} used by
+   * this transport.
+   *
+   * @param bootstrapCustomizer a {@link Consumer} that will be given a chance to customize the
+   *     {@link Bootstrap} used by this transport.
+   * @return this {@link OpcHttpClientTransportConfigBuilder}.
+   */
+  public OpcHttpClientTransportConfigBuilder setBootstrapCustomizer(
+      Consumer<Bootstrap> bootstrapCustomizer) {
+
+    this.bootstrapCustomizer = bootstrapCustomizer;
+    return this;
+  }
+
+  /**
+   * Set a {@link Consumer} that will be given a chance to customize the {@link ChannelPipeline}
+   * used by this transport.
+   *
+   * @param channelPipelineCustomizer a {@link Consumer} that will be given a chance to customize
+   *     the {@link ChannelPipeline} used by this transport.
+   * @return this {@link OpcHttpClientTransportConfigBuilder}.
+   */
+  public OpcHttpClientTransportConfigBuilder setChannelPipelineCustomizer(
+      Consumer<ChannelPipeline> channelPipelineCustomizer) {
+
+    this.channelPipelineCustomizer = channelPipelineCustomizer;
+    return this;
+  }
+
+  public OpcHttpClientTransportConfig build() {
+    if (executor == null) {
+      executor = Stack.sharedExecutor();
+    }
+    if (scheduledExecutor == null) {
+      scheduledExecutor = Stack.sharedScheduledExecutor();
+    }
+    if (eventLoop == null) {
+      eventLoop = Stack.sharedEventLoop();
+    }
+    if (wheelTimer == null) {
+      wheelTimer = Stack.sharedWheelTimer();
+    }
+
+    return new OpcHttpClientTransportConfigImpl(
+        http2Enabled,
+        executor,
+        scheduledExecutor,
+        eventLoop,
+        wheelTimer,
+        bootstrapCustomizer,
+        channelPipelineCustomizer);
+  }
+
+  static class OpcHttpClientTransportConfigImpl implements OpcHttpClientTransportConfig {
+
+    private final boolean http2Enabled;
+    private final ExecutorService executor;
+    private final ScheduledExecutorService scheduledExecutor;
+    private final EventLoopGroup eventLoop;
+    private final HashedWheelTimer wheelTimer;
+    private final Consumer<Bootstrap> bootstrapCustomizer;
+    private final Consumer<ChannelPipeline> channelPipelineCustomizer;
+
+    public OpcHttpClientTransportConfigImpl(
+        boolean http2Enabled,
+        ExecutorService executor,
+        ScheduledExecutorService scheduledExecutor,
+        EventLoopGroup eventLoop,
+        HashedWheelTimer wheelTimer,
+        Consumer<Bootstrap> bootstrapCustomizer,
+        Consumer<ChannelPipeline> channelPipelineCustomizer) {
+
+      this.http2Enabled = http2Enabled;
+      this.executor = executor;
+      this.scheduledExecutor = scheduledExecutor;
+      this.eventLoop = eventLoop;
+      this.wheelTimer = wheelTimer;
+      this.bootstrapCustomizer = bootstrapCustomizer;
+      this.channelPipelineCustomizer = channelPipelineCustomizer;
+    }
+
+    @Override
+    public boolean isHttp2Enabled() {
+      return http2Enabled;
+    }
+
+    @Override
+    public ExecutorService getExecutor() {
+      return executor;
+    }
+
+    @Override
+    public ScheduledExecutorService getScheduledExecutor() {
+      return scheduledExecutor;
+    }
+
+    @Override
+    public EventLoopGroup getEventLoop() {
+      return eventLoop;
+    }
+
+    @Override
+    public HashedWheelTimer getWheelTimer() {
+      return wheelTimer;
+    }
+
+    @Override
+    public Consumer<Bootstrap> getBootstrapCustomizer() {
+      return bootstrapCustomizer;
+    }
+
+    @Override
+    public Consumer<ChannelPipeline> getChannelPipelineCustomizer() {
+      return channelPipelineCustomizer;
+    }
+  }
+}
@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) 2025 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.transport.https;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.handler.codec.http.HttpMessage;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpServerCodec;
+import io.netty.handler.codec.http.HttpServerKeepAliveHandler;
+import io.netty.handler.codec.http.HttpServerUpgradeHandler;
+import io.netty.handler.codec.http2.CleartextHttp2ServerUpgradeHandler;
+import io.netty.handler.codec.http2.Http2CodecUtil;
+import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
+import io.netty.handler.codec.http2.Http2MultiplexHandler;
+import io.netty.handler.codec.http2.Http2ServerUpgradeCodec;
+import io.netty.handler.codec.http2.Http2StreamChannel;
+import io.netty.handler.codec.http2.Http2StreamFrameToHttpObjectCodec;
+import io.netty.handler.logging.LoggingHandler;
+import io.netty.handler.ssl.ApplicationProtocolNames;
+import io.netty.handler.ssl.ApplicationProtocolNegotiationHandler;
+import io.netty.util.AsciiString;
+import io.netty.util.ReferenceCountUtil;
+import java.net.InetSocketAddress;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import org.eclipse.milo.opcua.stack.core.transport.NettyTransport;
+import org.eclipse.milo.opcua.stack.core.transport.TransportProfile;
+import org.eclipse.milo.opcua.stack.core.util.Lazy;
+import org.eclipse.milo.opcua.stack.transport.server.OpcServerTransport;
+import org.eclipse.milo.opcua.stack.transport.server.ServerApplicationContext;
+import org.eclipse.milo.opcua.stack.transport.server.tcp.RateLimitingHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link OpcServerTransport} for {@code https} endpoints.
+ *
+ * <p>A single instance serves both {@link TransportProfile#HTTPS_UABINARY} and {@link
+ * TransportProfile#HTTPS_UAJSON} on the same port; the encoding is chosen per request by its
+ * Content-Type. There is no SecureChannel handshake: each POST carries one service request and its
+ * response carries the service response.
+ *
+ * <p>Connections are kept alive between requests. If {@link
+ * OpcHttpServerTransportConfig#isHttp2Enabled()}, clients may instead use HTTP/2, in which case
+ * every request is a separate stream and requests on one connection are handled concurrently.
+ *
+ * <p>The same instance should be returned from an {@code OpcServerTransportFactory} for both
+ * profiles; binding an address that is already bound is a no-op.
+ */
+public class OpcHttpServerTransport implements OpcServerTransport {
+
+  private final Logger logger = LoggerFactory.getLogger(getClass());
+
+  private final Set<InetSocketAddress> boundAddresses = new HashSet<>();
+  private final Set<Channel> channelReferences = new HashSet<>();
+  private final Set<Channel> childChannelReferences = Collections.synchronizedSet(new HashSet<>());
+  private final Lazy<ServerBootstrap> serverBootstrap = new Lazy<>();
+
+  private final OpcHttpServerTransportConfig config;
+
+  public OpcHttpServerTransport(OpcHttpServerTransportConfig config) {
+    this.config = config;
+  }
+
+  @Override
+  public synchronized void bind(
+      ServerApplicationContext applicationContext, InetSocketAddress bindAddress) throws Exception {
+
+    ServerBootstrap bootstrap =
+        serverBootstrap.get(
+            () ->
+                new ServerBootstrap()
+                    .channel(NettyTransport.of(config.getEventLoop()).getServerSocketChannelClass())
+                    .group(config.getEventLoop())
+                    .handler(new LoggingHandler(OpcHttpServerTransport.class))
+                    .childOption(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
+                    .childOption(ChannelOption.TCP_NODELAY, true)
+                    .childHandler(
+                        new ChannelInitializer<SocketChannel>() {
+                          @Override
+                          protected void initChannel(SocketChannel channel) {
+                            initHttpChannel(channel, applicationContext);
+
+                            childChannelReferences.add(channel);
+                            channel
+                                .closeFuture()
+                                .addListener(future -> childChannelReferences.remove(channel));
+                          }
+                        }));
+
+    assert bootstrap != null;
+
+    config.getBootstrapCustomizer().accept(bootstrap);
+
+    if (!boundAddresses.contains(bindAddress)) {
+      ChannelFuture bindFuture = bootstrap.bind(bindAddress).sync();
+
+      boundAddresses.add(bindAddress);
+      channelReferences.add(bindFuture.channel());
+    }
+  }
+
+  @Override
+  public synchronized void unbind() {
+    boundAddresses.clear();
+
+    channelReferences.forEach(
+        channel -> {
+          try {
+            channel.close().sync();
+          } catch (InterruptedException ignored) {
+          }
+        });
+    channelReferences.clear();
+
+    synchronized (childChannelReferences) {
+      childChannelReferences.forEach(
+          channel -> {
+            logger.info("Closing child channel: {}", channel);
+            channel.close();
+          });
+      childChannelReferences.clear();
+    }
+
+    serverBootstrap.reset();
+  }
+
+  private void initHttpChannel(SocketChannel channel, ServerApplicationContext application) {
+    ChannelPipeline pipeline = channel.pipeline();
+
+    pipeline.addLast(RateLimitingHandler.getInstance());
+
+    config
+        .getSslContext()
+        .ifPresentOrElse(
+            sslContext -> {
+              pipeline.addLast(sslContext.newHandler(channel.alloc()));
+
+              if (config.isHttp2Enabled()) {
+                pipeline.addLast(
+                    new ApplicationProtocolNegotiationHandler(ApplicationProtocolNames.HTTP_1_1) {
+                      @Override
+                      protected void configurePipeline(ChannelHandlerContext ctx, String protocol) {
+                        if (ApplicationProtocolNames.HTTP_2.equals(protocol)) {
+                          addHttp2Handlers(ctx.pipeline(), application);
+                        } else {
+                          addHttp1Handlers(ctx.pipeline(), new HttpServerCodec(), application);
+                        }
+                      }
+                    });
+              } else {
+                addHttp1Handlers(pipeline, new HttpServerCodec(), application);
+              }
+            },
+            () -> {
+              if (config.isHttp2Enabled()) {
+                addCleartextHandlers(pipeline, application);
+              } else {
+                addHttp1Handlers(pipeline, new HttpServerCodec(), application);
+              }
+            });
+
+    config.getChannelPipelineCustomizer().accept(pipeline);
+  }
+
+  /**
+   * Accept HTTP/2 without TLS (h2c), either with prior knowledge or via an HTTP/1.1 Upgrade, and
+   * fall back to HTTP/1.1 otherwise.
+   */
+  private void addCleartextHandlers(
+      ChannelPipeline pipeline, ServerApplicationContext application) {
+    var sourceCodec = new HttpServerCodec();
+
+    var upgradeHandler =
+        new HttpServerUpgradeHandler(
+            sourceCodec,
+            protocol -> {
+              if (AsciiString.contentEquals(Http2CodecUtil.HTTP_UPGRADE_PROTOCOL_NAME, protocol)) {
+                return new Http2ServerUpgradeCodec(
+                    Http2FrameCodecBuilder.forServer().build(),
+                    new Http2MultiplexHandler(new Http2StreamInitializer(application)));
+              } else {
+                return null;
+              }
+            },
+            maxMessageSize(application));
+
+    pipeline.addLast(
+        new CleartextHttp2ServerUpgradeHandler(
+            sourceCodec,
+            upgradeHandler,
+            new ChannelInitializer<>() {
+              @Override
+              protected void initChannel(Channel channel) {
+                addHttp2Handlers(channel.pipeline(), application);
+              }
+            }));
+
+    pipeline.addLast(
+        new SimpleChannelInboundHandler<HttpMessage>() {
+          @Override
+          protected void channelRead0(ChannelHandlerContext ctx, HttpMessage message) {
+            // No upgrade: the HttpServerCodec is already in the pipeline, add the rest of
+            // the HTTP/1.1 handlers in place of this one.
+            ChannelPipeline pipeline = ctx.pipeline();
+            pipeline.addAfter(ctx.name(), null, new OpcServerHttpRequestHandler(application));
+            pipeline.addAfter(
+                ctx.name(), null, new HttpObjectAggregator(maxMessageSize(application)));
+            pipeline.replace(this, null, new HttpServerKeepAliveHandler());
+
+            ctx.fireChannelRead(ReferenceCountUtil.retain(message));
+          }
+        });
+  }
+
+  private static void addHttp1Handlers(
+      ChannelPipeline pipeline, HttpServerCodec codec, ServerApplicationContext application) {
+
+    pipeline.addLast(codec);
+    pipeline.addLast(new HttpServerKeepAliveHandler());
+    pipeline.addLast(new HttpObjectAggregator(maxMessageSize(application)));
+    pipeline.addLast(new OpcServerHttpRequestHandler(application));
+  }
+
+  private static void addHttp2Handlers(
+      ChannelPipeline pipeline, ServerApplicationContext application) {
+
+    pipeline.addLast(Http2FrameCodecBuilder.forServer().build());
+    pipeline.addLast(new Http2MultiplexHandler(new Http2StreamInitializer(application)));
+  }
+
+  private static int maxMessageSize(ServerApplicationContext application) {
+    return application.getEncodingContext().getEncodingLimits().getMaxMessageSize();
+  }
+
+  /** Initializes the pipeline of each HTTP/2 stream, which carries a single request. */
+  private static class Http2StreamInitializer extends ChannelInitializer<Http2StreamChannel> {
+
+    private final ServerApplicationContext application;
+
+    Http2StreamInitializer(ServerApplicationContext application) {
+      this.application = application;
+    }
+
+    @Override
+    protected void initChannel(Http2StreamChannel stream) {
+      stream.pipeline().addLast(new Http2StreamFrameToHttpObjectCodec(true));
+      stream.pipeline().addLast(new HttpObjectAggregator(maxMessageSize(application)));
+      stream.pipeline().addLast(new OpcServerHttpRequestHandler(application));
+    }
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2025 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.transport.https;
+
+import io.netty.handler.ssl.SslContext;
+import java.util.Optional;
+import org.eclipse.milo.opcua.stack.transport.server.OpcServerTransportConfig;
+
+public interface OpcHttpServerTransportConfig extends OpcServerTransportConfig {
+
+  /**
+   * Get the {@link SslContext} used to secure HTTPS connections.
+   *
+   * <p>If empty, connections are accepted without TLS, e.g. when TLS is terminated by a load
+   * balancer or reverse proxy in front of the server.
+   *
+   * @return the {@link SslContext} used to secure HTTPS connections, if any.
+   */
+  Optional<SslContext> getSslContext();
+
+  /**
+   * Get whether clients may use HTTP/2.
+   *
+   * <p>With TLS, HTTP/2 is offered via ALPN; without TLS, it's accepted via the h2c upgrade or with
+   * prior knowledge. HTTP/1.1 is always accepted.
+   *
+   * @return {@code true} if clients may use HTTP/2.
+   */
+  boolean isHttp2Enabled();
+
+  /**
+   * Create a new {@link OpcHttpServerTransportConfigBuilder}.
+   *
+   * @return a new {@link OpcHttpServerTransportConfigBuilder}.
+   */
+  static OpcHttpServerTransportConfigBuilder newBuilder() {
+    return new OpcHttpServerTransportConfigBuilder();
+  }
+}
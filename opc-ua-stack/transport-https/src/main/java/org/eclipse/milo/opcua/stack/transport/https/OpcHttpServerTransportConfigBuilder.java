@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2025 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.transport.https;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.EventLoopGroup;
+import io.netty.handler.ssl.SslContext;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
+import org.eclipse.milo.opcua.stack.core.Stack;
+import org.jspecify.annotations.Nullable;
+
+public class OpcHttpServerTransportConfigBuilder {
+
+  private ExecutorService executor;
+  private EventLoopGroup eventLoop;
+  private @Nullable SslContext sslContext;
+  private boolean http2Enabled = true;
+  private Consumer<ServerBootstrap> bootstrapCustomizer = b -> {};
+  private Consumer<ChannelPipeline> channelPipelineCustomizer = p -> {};
+
+  public OpcHttpServerTransportConfigBuilder setExecutor(ExecutorService executor) {
+    this.executor = executor;
+    return this;
+  }
+
+  public OpcHttpServerTransportConfigBuilder setEventLoop(EventLoopGroup eventLoop) {
+    this.eventLoop = eventLoop;
+    return this;
+  }
+
+  /**
+   * Set the {@link SslContext} used to secure HTTPS connections.
+   *
+   * <p>Leave unset only when TLS is terminated in front of the server. If HTTP/2 is enabled, the
+   * {@link SslContext} must be configured to negotiate {@code h2} and {@code http/1.1} via ALPN.
+   *
+   * @param sslContext the {@link SslContext} used to secure HTTPS connections.
+   * @return this {@link OpcHttpServerTransportConfigBuilder}.
+   */
+  public OpcHttpServerTransportConfigBuilder setSslContext(@Nullable SslContext sslContext) {
+    this.sslContext = sslContext;
+    return this;
+  }
+
+  /**
+   * Set whether clients may use HTTP/2.
+   *
+   * @param http2Enabled {@code true} if clients may use HTTP/2.
+   * @return this {@link OpcHttpServerTransportConfigBuilder}.
+   * @see OpcHttpServerTransportConfig#isHttp2Enabled()
+   */
+  public OpcHttpServerTransportConfigBuilder setHttp2Enabled(boolean http2Enabled) {
+    this.http2Enabled = http2Enabled;
+    return this;
+  }
+
+  /**
+   * Set a {@link Consumer} that will be given a chance to customize the {@link ServerBootstrap}
+   * used by this transport.
+   *
+   * @param bootstrapCustomizer a {@link Consumer} that will be given a chance to customize the
+   *     {@link ServerBootstrap} used by this transport.
+   * @return this {@link OpcHttpServerTransportConfigBuilder}.
+   */
+  public OpcHttpServerTransportConfigBuilder setBootstrapCustomizer(
+      Consumer<ServerBootstrap> bootstrapCustomizer) {
+
+    this.bootstrapCustomizer = bootstrapCustomizer;
+    return this;
+  }
+
+  /**
+   * Set a {@link Consumer} that will be given a chance to customize the {@link ChannelPipeline}
+   * used by this transport.
+   *
+   * @param channelPipelineCustomizer a {@link Consumer} that will be given a chance to customize
+   *     the {@link ChannelPipeline} used by this transport.
+   * @return this {@link OpcHttpServerTransportConfigBuilder}.
+   */
+  public OpcHttpServerTransportConfigBuilder setChannelPipelineCustomizer(
+      Consumer<ChannelPipeline> channelPipelineCustomizer) {
+
+    this.channelPipelineCustomizer = channelPipelineCustomizer;
+    return this;
+  }
+
+  public OpcHttpServerTransportConfig build() {
+    if (executor == null) {
+      executor = Stack.sharedExecutor();
+    }
+    if (eventLoop == null) {
+      eventLoop = Stack.sharedEventLoop();
+    }
+
+    return new OpcHttpServerTransportConfigImpl(
+        executor,
+        eventLoop,
+        sslContext,
+        http2Enabled,
+        bootstrapCustomizer,
+        channelPipelineCustomizer);
+  }
+
+  static class OpcHttpServerTransportConfigImpl implements OpcHttpServerTransportConfig {
+
+    private final ExecutorService executor;
+    private final EventLoopGroup eventLoop;
+    private final @Nullable SslContext sslContext;
+    private final boolean http2Enabled;
+    private final Consumer<ServerBootstrap> bootstrapCustomizer;
+    private final Consumer<ChannelPipeline> channelPipelineCustomizer;
+
+    OpcHttpServerTransportConfigImpl(
+        ExecutorService executor,
+        EventLoopGroup eventLoop,
+        @Nullable SslContext sslContext,
+        boolean http2Enabled,
+        Consumer<ServerBootstrap> bootstrapCustomizer,
+        Consumer<ChannelPipeline> channelPipelineCustomizer) {
+
+      this.executor = executor;
+      this.eventLoop = eventLoop;
+      this.sslContext = sslContext;
+      this.http2Enabled = http2Enabled;
+      this.bootstrapCustomizer = bootstrapCustomizer;
+      this.channelPipelineCustomizer = channelPipelineCustomizer;
+    }
+
+    @Override
+    public ExecutorService getExecutor() {
+      return executor;
+    }
+
+    @Override
+    public EventLoopGroup getEventLoop() {
+      return eventLoop;
+    }
+
+    @Override
+    public Optional<SslContext> getSslContext() {
+      return Optional.ofNullable(sslContext);
+    }
+
+    @Override
+    public boolean isHttp2Enabled() {
+      return http2Enabled;
+    }
+
+    @Override
+    public Consumer<ServerBootstrap> getBootstrapCustomizer() {
+      return bootstrapCustomizer;
+    }
+
+    @Override
+    public Consumer<ChannelPipeline> getChannelPipelineCustomizer() {
+      return channelPipelineCustomizer;
+    }
+  }
+}
@@ -0,0 +1,370 @@
+/*
+ * Copyright (c) 2025 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.transport.https;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http2.Http2StreamChannel;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.util.Attribute;
+import io.netty.util.AttributeKey;
+import java.io.ByteArrayOutputStream;
+import java.security.cert.Certificate;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import javax.net.ssl.SSLPeerUnverifiedException;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaException;
+import org.eclipse.milo.opcua.stack.core.channel.ServerSecureChannel;
+import org.eclipse.milo.opcua.stack.core.encoding.EncodingContext;
+import org.eclipse.milo.opcua.stack.core.security.SecurityPolicy;
+import org.eclipse.milo.opcua.stack.core.transport.TransportProfile;
+import org.eclipse.milo.opcua.stack.core.types.UaMessageType;
+import org.eclipse.milo.opcua.stack.core.types.UaRequestMessageType;
+import org.eclipse.milo.opcua.stack.core.types.UaResponseMessageType;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DiagnosticInfo;
+import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.MessageSecurityMode;
+import org.eclipse.milo.opcua.stack.core.types.structured.EndpointDescription;
+import org.eclipse.milo.opcua.stack.core.types.structured.ResponseHeader;
+import org.eclipse.milo.opcua.stack.core.types.structured.ServiceFault;
+import org.eclipse.milo.opcua.stack.core.util.EndpointUtil;
+import org.eclipse.milo.opcua.stack.transport.server.ServerApplicationContext;
+import org.eclipse.milo.opcua.stack.transport.server.ServiceRequest;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Handles one OPC UA service request per HTTP POST, for both HTTP/1.1 connections and HTTP/2
+ * streams.
+ *
+ * <p>HTTPS is stateless: there is no SecureChannel handshake. Each request is matched to an
+ * endpoint by its path, Content-Type, and {@value OpcHttpBodyCodec#SECURITY_POLICY_HEADER} header,
+ * and given a SecureChannel carrying that endpoint's SecurityPolicy and MessageSecurityMode. If the
+ * client authenticated with a TLS certificate it's used as the SecureChannel's remote certificate,
+ * which is required to create Sessions on endpoints with a SecurityPolicy other than None.
+ *
+ * <p>Only TLS protects these requests, so endpoints with a SecurityPolicy or MessageSecurityMode
+ * other than None are rejected with {@code 403 Forbidden} on connections without TLS. Every request
+ * on a connection gets the same SecureChannel id, so Sessions stay bound to the connection that
+ * created them.
+ *
+ * <p>On an HTTP/1.1 connection pipelined requests are dispatched concurrently, but responses are
+ * written in request order, as HTTP/1.1 requires.
+ */
+class OpcServerHttpRequestHandler extends SimpleChannelInboundHandler<FullHttpRequest> {
+
+  private static final AttributeKey<Long> SECURE_CHANNEL_ID =
+      AttributeKey.valueOf("opc-https-secure-channel-id");
+
+  private final Logger logger = LoggerFactory.getLogger(getClass());
+
+  /** Completes when the response to the most recent request has been written. */
+  private CompletableFuture<Void> lastResponseWritten = CompletableFuture.completedFuture(null);
+
+  private final ServerApplicationContext application;
+
+  OpcServerHttpRequestHandler(ServerApplicationContext application) {
+    this.application = application;
+  }
+
+  @Override
+  protected void channelRead0(ChannelHandlerContext ctx, FullHttpRequest httpRequest) {
+    Channel channel = ctx.channel();
+    boolean keepAlive = HttpUtil.isKeepAlive(httpRequest);
+
+    CompletableFuture<FullHttpResponse> response = handleRequest(channel, httpRequest);
+
+    lastResponseWritten =
+        lastResponseWritten
+            .thenCompose(v -> response)
+            .handle(
+                (httpResponse, ex) -> {
+                  if (httpResponse != null) {
+                    HttpUtil.setKeepAlive(httpResponse, keepAlive);
+                    channel.writeAndFlush(httpResponse);
+                  } else {
+                    logger.error(
+                        "[remote={}] Error handling request; closing channel.",
+                        channel.remoteAddress(),
+                        ex);
+
+                    channel.close();
+                  }
+                  return null;
+                });
+  }
+
+  private CompletableFuture<FullHttpResponse> handleRequest(
+      Channel channel, FullHttpRequest httpRequest) {
+
+    if (!HttpMethod.POST.equals(httpRequest.method())) {
+      return CompletableFuture.completedFuture(httpResponse(HttpResponseStatus.METHOD_NOT_ALLOWED));
+    }
+
+    String contentType = httpRequest.headers().get(HttpHeaderNames.CONTENT_TYPE);
+    TransportProfile transportProfile = OpcHttpBodyCodec.transportProfile(contentType);
+
+    if (transportProfile == null) {
+      return CompletableFuture.completedFuture(
+          httpResponse(HttpResponseStatus.UNSUPPORTED_MEDIA_TYPE));
+    }
+
+    String host = httpRequest.headers().get(HttpHeaderNames.HOST, "");
+    String endpointUrl = transportProfile.getScheme() + "://" + host + httpRequest.uri();
+
+    String securityPolicyUri =
+        httpRequest
+            .headers()
+            .get(OpcHttpBodyCodec.SECURITY_POLICY_HEADER, SecurityPolicy.None.getUri());
+
+    EndpointDescription endpoint = findEndpoint(transportProfile, endpointUrl, securityPolicyUri);
+
+    if (endpoint == null) {
+      logger.debug(
+          "[remote={}] No endpoint for url={}, transport={}, securityPolicy={}",
+          channel.remoteAddress(),
+          endpointUrl,
+          transportProfile,
+          securityPolicyUri);
+
+      return CompletableFuture.completedFuture(httpResponse(HttpResponseStatus.NOT_FOUND));
+    }
+
+    SslHandler sslHandler = connection(channel).pipeline().get(SslHandler.class);
+
+    if (sslHandler == null
+        && (endpoint.getSecurityMode() != MessageSecurityMode.None
+            || !SecurityPolicy.None.getUri().equals(securityPolicyUri))) {
+
+      logger.debug(
+          "[remote={}] Bad_SecurityModeRejected: securityPolicy={} requires TLS",
+          channel.remoteAddress(),
+          securityPolicyUri);
+
+      return CompletableFuture.completedFuture(httpResponse(HttpResponseStatus.FORBIDDEN));
+    }
+
+    EncodingContext encodingContext = application.getEncodingContext();
+    UaRequestMessageType request;
+
+    try {
+      UaMessageType message =
+          OpcHttpBodyCodec.decode(encodingContext, transportProfile, httpRequest.content());
+
+      if (message instanceof UaRequestMessageType requestMessage) {
+        request = requestMessage;
+      } else {
+        throw new UaException(
+            StatusCodes.Bad_DecodingError, "not a request: " + message.getClass().getSimpleName());
+      }
+    } catch (UaException e) {
+      logger.debug("[remote={}] Error decoding request.", channel.remoteAddress(), e);
+
+      return CompletableFuture.completedFuture(httpResponse(HttpResponseStatus.BAD_REQUEST));
+    }
+
+    var serviceRequest =
+        new ServiceRequest(
+            endpointUrl,
+            transportProfile,
+            channel,
+            newSecureChannel(channel, sslHandler, endpoint, securityPolicyUri),
+            request);
+
+    return application
+        .handleServiceRequest(serviceRequest, request)
+        .handle(
+            (response, ex) -> {
+              if (response == null) {
+                StatusCode serviceResult =
+                    UaException.extractStatusCode(ex)
+                        .orElse(new StatusCode(StatusCodes.Bad_UnexpectedError));
+
+                response = serviceFault(request, serviceResult);
+              }
+
+              return encodeResponse(channel, transportProfile, request, response);
+            });
+  }
+
+  private @Nullable EndpointDescription findEndpoint(
+      TransportProfile transportProfile, String endpointUrl, String securityPolicyUri) {
+
+    String path = EndpointUtil.getPath(endpointUrl);
+
+    return application.getEndpointDescriptions().stream()
+        .filter(e -> transportProfile.getUri().equals(e.getTransportProfileUri()))
+        .filter(e -> securityPolicyUri.equals(e.getSecurityPolicyUri()))
+        .filter(e -> Objects.equals(path, EndpointUtil.getPath(e.getEndpointUrl())))
+        .findFirst()
+        .orElse(null);
+  }
+
+  private ServerSecureChannel newSecureChannel(
+      Channel channel,
+      @Nullable SslHandler sslHandler,
+      EndpointDescription endpoint,
+      String securityPolicyUri) {
+
+    var secureChannel = new ServerSecureChannel();
+    secureChannel.setChannelId(secureChannelId(channel));
+    secureChannel.setMessageSecurityMode(endpoint.getSecurityMode());
+
+    try {
+      secureChannel.setSecurityPolicy(SecurityPolicy.fromUri(securityPolicyUri));
+    } catch (UaException e) {
+      // the endpoint was configured with this SecurityPolicy, so it must be known.
+      throw new IllegalStateException(e);
+    }
+
+    Certificate[] peerCertificates = peerCertificates(sslHandler);
+
+    if (peerCertificates != null) {
+      try {
+        var certificateBytes = new ByteArrayOutputStream();
+        for (Certificate certificate : peerCertificates) {
+          certificateBytes.writeBytes(certificate.getEncoded());
+        }
+        secureChannel.setRemoteCertificate(certificateBytes.toByteArray());
+      } catch (Exception e) {
+        logger.debug(
+            "[remote={}] Error decoding TLS client certificate.", channel.remoteAddress(), e);
+      }
+    }
+
+    return secureChannel;
+  }
+
+  /**
+   * Get the SecureChannel id of the connection {@code channel} belongs to, assigning one to the
+   * connection on its first request.
+   */
+  private long secureChannelId(Channel channel) {
+    Attribute<Long> attribute = connection(channel).attr(SECURE_CHANNEL_ID);
+
+    Long channelId = attribute.get();
+
+    if (channelId == null) {
+      Long nextChannelId = application.getNextSecureChannelId();
+      channelId = attribute.setIfAbsent(nextChannelId);
+
+      if (channelId == null) {
+        channelId = nextChannelId;
+      }
+    }
+
+    return channelId;
+  }
+
+  private static Channel connection(Channel channel) {
+    return channel instanceof Http2StreamChannel ? channel.parent() : channel;
+  }
+
+  private static Certificate @Nullable [] peerCertificates(@Nullable SslHandler sslHandler) {
+    if (sslHandler != null) {
+      try {
+        return sslHandler.engine().getSession().getPeerCertificates();
+      } catch (SSLPeerUnverifiedException e) {
+        return null;
+      }
+    } else {
+      return null;
+    }
+  }
+
+  private FullHttpResponse encodeResponse(
+      Channel channel,
+      TransportProfile transportProfile,
+      UaRequestMessageType request,
+      UaResponseMessageType response) {
+
+    EncodingContext encodingContext = application.getEncodingContext();
+    int maxMessageSize = encodingContext.getEncodingLimits().getMaxMessageSize();
+
+    ByteBuf content = channel.alloc().buffer();
+    String contentType;
+
+    try {
+      contentType = OpcHttpBodyCodec.contentType(transportProfile);
+
+      OpcHttpBodyCodec.encode(encodingContext, transportProfile, response, content);
+
+      if (maxMessageSize > 0 && content.readableBytes() > maxMessageSize) {
+        throw new UaException(
+            StatusCodes.Bad_ResponseTooLarge,
+            String.format("%s > %s bytes", content.readableBytes(), maxMessageSize));
+      }
+    } catch (UaException e) {
+      logger.warn("[remote={}] Error encoding response.", channel.remoteAddress(), e);
+
+      content.clear();
+
+      try {
+        contentType = OpcHttpBodyCodec.contentType(transportProfile);
+
+        OpcHttpBodyCodec.encode(
+            encodingContext, transportProfile, serviceFault(request, e.getStatusCode()), content);
+      } catch (UaException e2) {
+        content.release();
+
+        return httpResponse(HttpResponseStatus.INTERNAL_SERVER_ERROR);
+      }
+    }
+
+    var httpResponse =
+        new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK, content);
+
+    httpResponse.headers().set(HttpHeaderNames.CONTENT_TYPE, contentType);
+    HttpUtil.setContentLength(httpResponse, content.readableBytes());
+
+    return httpResponse;
+  }
+
+  @Override
+  public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+    logger.error(
+        "[remote={}] Exception caught; closing channel.", ctx.channel().remoteAddress(), cause);
+
+    ctx.close();
+  }
+
+  private static FullHttpResponse httpResponse(HttpResponseStatus status) {
+    var httpResponse =
+        new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, status, Unpooled.EMPTY_BUFFER);
+    HttpUtil.setContentLength(httpResponse, 0);
+    return httpResponse;
+  }
+
+  private static ServiceFault serviceFault(UaRequestMessageType request, StatusCode serviceResult) {
+    UInteger requestHandle = request.getRequestHeader().getRequestHandle();
+
+    var header =
+        new ResponseHeader(
+            DateTime.now(), requestHandle, serviceResult, DiagnosticInfo.NULL_VALUE, null, null);
+
+    return new ServiceFault(header);
+  }
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2025 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.transport.https;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.ubyte;
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.ssl.SslHandler;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import org.eclipse.milo.opcua.stack.core.UaException;
+import org.eclipse.milo.opcua.stack.core.channel.SecureChannel;
+import org.eclipse.milo.opcua.stack.core.encoding.DefaultEncodingContext;
+import org.eclipse.milo.opcua.stack.core.encoding.EncodingContext;
+import org.eclipse.milo.opcua.stack.core.security.CertificateManager;
+import org.eclipse.milo.opcua.stack.core.security.SecurityPolicy;
+import org.eclipse.milo.opcua.stack.core.transport.TransportProfile;
+import org.eclipse.milo.opcua.stack.core.types.UaRequestMessageType;
+import org.eclipse.milo.opcua.stack.core.types.UaResponseMessageType;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ByteString;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DiagnosticInfo;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.MessageSecurityMode;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import org.eclipse.milo.opcua.stack.core.types.structured.ApplicationDescription;
+import org.eclipse.milo.opcua.stack.core.types.structured.EndpointDescription;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadResponse;
+import org.eclipse.milo.opcua.stack.core.types.structured.RequestHeader;
+import org.eclipse.milo.opcua.stack.core.types.structured.ResponseHeader;
+import org.eclipse.milo.opcua.stack.transport.server.ServerApplicationContext;
+import org.eclipse.milo.opcua.stack.transport.server.ServiceRequestContext;
+import org.junit.jupiter.api.Test;
+
+public class OpcServerHttpRequestHandlerTest {
+
+  private static final String HOST = "localhost:8443";
+  private static final String PATH = "/milo";
+
+  private final EncodingContext encodingContext = new DefaultEncodingContext();
+
+  private final List<ServiceRequestContext> requests = new CopyOnWriteArrayList<>();
+
+  private final TestApplication application = new TestApplication();
+
+  @Test
+  public void securedEndpointIsRejectedWithoutTls() throws Exception {
+    var channel = new EmbeddedChannel(new OpcServerHttpRequestHandler(application));
+
+    FullHttpResponse response = post(channel, SecurityPolicy.Basic256Sha256);
+
+    assertEquals(HttpResponseStatus.FORBIDDEN, response.status());
+    assertTrue(requests.isEmpty());
+  }
+
+  @Test
+  public void securedEndpointIsServedOverTls() throws Exception {
+    // Responses are taken before they reach the SslHandler, which has no peer to talk to.
+    var channel =
+        new EmbeddedChannel(
+            sslHandler(), new ResponseCapture(), new OpcServerHttpRequestHandler(application));
+
+    FullHttpResponse response = post(channel, SecurityPolicy.Basic256Sha256);
+
+    assertEquals(HttpResponseStatus.OK, response.status());
+
+    SecureChannel secureChannel = requests.get(0).getSecureChannel();
+    assertEquals(SecurityPolicy.Basic256Sha256, secureChannel.getSecurityPolicy());
+    assertEquals(MessageSecurityMode.SignAndEncrypt, secureChannel.getMessageSecurityMode());
+  }
+
+  @Test
+  public void unsecuredEndpointIsServedWithoutTls() throws Exception {
+    var channel = new EmbeddedChannel(new OpcServerHttpRequestHandler(application));
+
+    FullHttpResponse response = post(channel, SecurityPolicy.None);
+
+    assertEquals(HttpResponseStatus.OK, response.status());
+
+    SecureChannel secureChannel = requests.get(0).getSecureChannel();
+    assertEquals(SecurityPolicy.None, secureChannel.getSecurityPolicy());
+    assertEquals(MessageSecurityMode.None, secureChannel.getMessageSecurityMode());
+  }
+
+  @Test
+  public void secureChannelIdIsAssignedPerConnection() throws Exception {
+    var channel1 = new EmbeddedChannel(new OpcServerHttpRequestHandler(application));
+    var channel2 = new EmbeddedChannel(new OpcServerHttpRequestHandler(application));
+
+    post(channel1, SecurityPolicy.None);
+    post(channel1, SecurityPolicy.None);
+    post(channel2, SecurityPolicy.None);
+
+    long id1 = requests.get(0).getSecureChannel().getChannelId();
+    long id2 = requests.get(1).getSecureChannel().getChannelId();
+    long id3 = requests.get(2).getSecureChannel().getChannelId();
+
+    assertNotEquals(0L, id1);
+    assertEquals(id1, id2);
+    assertNotEquals(id1, id3);
+  }
+
+  private FullHttpResponse post(EmbeddedChannel channel, SecurityPolicy securityPolicy)
+      throws UaException {
+
+    var requestHeader =
+        new RequestHeader(NodeId.NULL_VALUE, DateTime.now(), uint(1), uint(0), null, uint(0), null);
+
+    var request = new ReadRequest(requestHeader, 0.0, TimestampsToReturn.Neither, null);
+
+    ByteBuf content = Unpooled.buffer();
+    OpcHttpBodyCodec.encode(encodingContext, TransportProfile.HTTPS_UABINARY, request, content);
+
+    FullHttpRequest httpRequest =
+        new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, PATH, content);
+    httpRequest.headers().set(HttpHeaderNames.HOST, HOST);
+    httpRequest
+        .headers()
+        .set(HttpHeaderNames.CONTENT_TYPE, OpcHttpBodyCodec.UABINARY_CONTENT_TYPE)
+        .set(OpcHttpBodyCodec.SECURITY_POLICY_HEADER, securityPolicy.getUri());
+
+    channel.writeInbound(httpRequest);
+
+    ResponseCapture capture = channel.pipeline().get(ResponseCapture.class);
+
+    FullHttpResponse response =
+        capture != null ? capture.responses.remove() : channel.readOutbound();
+
+    response.release();
+
+    return response;
+  }
+
+  private static class ResponseCapture extends ChannelOutboundHandlerAdapter {
+
+    final Queue<FullHttpResponse> responses = new ArrayDeque<>();
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+      if (msg instanceof FullHttpResponse response) {
+        responses.add(response);
+        promise.setSuccess();
+      } else {
+        ctx.write(msg, promise);
+      }
+    }
+  }
+
+  private static SslHandler sslHandler() throws Exception {
+    SSLEngine engine = SSLContext.getDefault().createSSLEngine();
+    engine.setUseClientMode(false);
+
+    return new SslHandler(engine);
+  }
+
+  private static EndpointDescription endpoint(
+      SecurityPolicy securityPolicy, MessageSecurityMode securityMode) {
+
+    return new EndpointDescription(
+        "https://" + HOST + PATH,
+        new ApplicationDescription(null, null, null, null, null, null, null),
+        ByteString.NULL_VALUE,
+        securityMode,
+        securityPolicy.getUri(),
+        null,
+        TransportProfile.HTTPS_UABINARY.getUri(),
+        ubyte(0));
+  }
+
+  private class TestApplication implements ServerApplicationContext {
+
+    private final AtomicLong secureChannelIds = new AtomicLong(0L);
+
+    @Override
+    public List<EndpointDescription> getEndpointDescriptions() {
+      return List.of(
+          endpoint(SecurityPolicy.None, MessageSecurityMode.None),
+          endpoint(SecurityPolicy.Basic256Sha256, MessageSecurityMode.SignAndEncrypt));
+    }
+
+    @Override
+    public CertificateManager getCertificateManager() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public EncodingContext getEncodingContext() {
+      return encodingContext;
+    }
+
+    @Override
+    public Long getNextSecureChannelId() {
+      return secureChannelIds.incrementAndGet();
+    }
+
+    @Override
+    public Long getNextSecureChannelTokenId() {
+      return 0L;
+    }
+
+    @Override
+    public CompletableFuture<UaResponseMessageType> handleServiceRequest(
+        ServiceRequestContext context, UaRequestMessageType requestMessage) {
+
+      requests.add(context);
+
+      var responseHeader =
+          new ResponseHeader(
+              DateTime.now(),
+              requestMessage.getRequestHeader().getRequestHandle(),
+              StatusCode.GOOD,
+              DiagnosticInfo.NULL_VALUE,
+              null,
+              null);
+
+      return CompletableFuture.completedFuture(new ReadResponse(responseHeader, null, null));
+    }
+  }
+}
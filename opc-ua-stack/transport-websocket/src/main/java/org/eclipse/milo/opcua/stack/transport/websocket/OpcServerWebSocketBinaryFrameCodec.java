@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2025 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.transport.websocket;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.MessageToMessageCodec;
+import io.netty.handler.codec.http.websocketx.BinaryWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.WebSocketFrame;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Carries UASC chunks in binary WebSocket frames for the {@code opcua+uacp} subprotocol, so the
+ * UASC server handlers see the same byte stream they would on a TCP connection.
+ */
+public class OpcServerWebSocketBinaryFrameCodec
+    extends MessageToMessageCodec<WebSocketFrame, ByteBuf> {
+
+  private final Logger logger = LoggerFactory.getLogger(getClass());
+
+  @Override
+  protected void encode(ChannelHandlerContext ctx, ByteBuf msg, List<Object> out) {
+    out.add(new BinaryWebSocketFrame(msg.retain()));
+  }
+
+  @Override
+  protected void decode(ChannelHandlerContext ctx, WebSocketFrame msg, List<Object> out) {
+    if (msg instanceof BinaryWebSocketFrame) {
+      out.add(msg.content().retain());
+    } else {
+      logger.error(
+          "[remote={}] Unexpected {} for opcua+uacp; closing channel.",
+          ctx.channel().remoteAddress(),
+          msg.getClass().getSimpleName());
+
+      ctx.close();
+    }
+  }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2025 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.transport.websocket;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.handler.codec.http.websocketx.BinaryWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.WebSocketFrame;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaException;
+import org.eclipse.milo.opcua.stack.core.UaSerializationException;
+import org.eclipse.milo.opcua.stack.core.channel.ServerSecureChannel;
+import org.eclipse.milo.opcua.stack.core.encoding.EncodingContext;
+import org.eclipse.milo.opcua.stack.core.encoding.json.OpcUaJsonDecoder;
+import org.eclipse.milo.opcua.stack.core.encoding.json.OpcUaJsonEncoder;
+import org.eclipse.milo.opcua.stack.core.security.SecurityPolicy;
+import org.eclipse.milo.opcua.stack.core.transport.TransportProfile;
+import org.eclipse.milo.opcua.stack.core.types.UaRequestMessageType;
+import org.eclipse.milo.opcua.stack.core.types.UaResponseMessageType;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DiagnosticInfo;
+import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.MessageSecurityMode;
+import org.eclipse.milo.opcua.stack.core.types.structured.ResponseHeader;
+import org.eclipse.milo.opcua.stack.core.types.structured.ServiceFault;
+import org.eclipse.milo.opcua.stack.transport.server.ServerApplicationContext;
+import org.eclipse.milo.opcua.stack.transport.server.ServiceRequest;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Serves the {@code opcua+uajson} subprotocol: each WebSocket message carries one JSON-encoded
+ * service request or response.
+ *
+ * <p>Requests are decoded by reading the frame's {@link ByteBuf} directly and responses are encoded
+ * straight into a pooled {@link ByteBuf}, so no intermediate {@link String}s are created. Security
+ * is provided by TLS rather than a UASC SecureChannel, so each connection is given a SecureChannel
+ * with {@link SecurityPolicy#None} to identify it to the server.
+ */
+public class OpcServerWebSocketJsonFrameHandler
+    extends SimpleChannelInboundHandler<WebSocketFrame> {
+
+  private final Logger logger = LoggerFactory.getLogger(getClass());
+
+  private final ServerSecureChannel secureChannel = new ServerSecureChannel();
+
+  private final ServerApplicationContext application;
+  private final String endpointUrl;
+
+  /**
+   * @param application the {@link ServerApplicationContext} requests are dispatched to.
+   * @param endpointUrl the endpoint URL the client connected to.
+   */
+  public OpcServerWebSocketJsonFrameHandler(
+      ServerApplicationContext application, String endpointUrl) {
+
+    this.application = application;
+    this.endpointUrl = endpointUrl;
+
+    secureChannel.setChannelId(application.getNextSecureChannelId());
+    secureChannel.setSecurityPolicy(SecurityPolicy.None);
+    secureChannel.setMessageSecurityMode(MessageSecurityMode.None);
+  }
+
+  @Override
+  protected void channelRead0(ChannelHandlerContext ctx, WebSocketFrame frame) {
+    if (!(frame instanceof TextWebSocketFrame) && !(frame instanceof BinaryWebSocketFrame)) {
+      return;
+    }
+
+    UaRequestMessageType request;
+
+    try {
+      request = decodeRequest(application.getEncodingContext(), frame.content());
+    } catch (UaSerializationException | ClassCastException | IOException e) {
+      logger.error(
+          "[remote={}] Error decoding JSON request; closing channel.",
+          ctx.channel().remoteAddress(),
+          e);
+
+      ctx.close();
+      return;
+    }
+
+    var serviceRequest =
+        new ServiceRequest(
+            endpointUrl, TransportProfile.WSS_UAJSON, ctx.channel(), secureChannel, request);
+
+    application
+        .handleServiceRequest(serviceRequest, request)
+        .whenComplete(
+            (response, ex) -> {
+              if (response == null) {
+                StatusCode serviceResult =
+                    UaException.extractStatusCode(ex)
+                        .orElse(new StatusCode(StatusCodes.Bad_UnexpectedError));
+
+                response = serviceFault(request, serviceResult);
+              }
+
+              sendResponse(ctx.channel(), request, response);
+            });
+  }
+
+  private void sendResponse(
+      Channel channel, UaRequestMessageType request, UaResponseMessageType response) {
+
+    EncodingContext encodingContext = application.getEncodingContext();
+    int maxMessageSize = encodingContext.getEncodingLimits().getMaxMessageSize();
+
+    ByteBuf buffer = encodeResponse(channel, encodingContext, response);
+
+    if (buffer == null) {
+      response = serviceFault(request, new StatusCode(StatusCodes.Bad_EncodingError));
+      buffer = encodeResponse(channel, encodingContext, response);
+    } else if (maxMessageSize > 0 && buffer.readableBytes() > maxMessageSize) {
+      logger.warn(
+          "[remote={}] JSON response exceeds max message size ({} > {} bytes).",
+          channel.remoteAddress(),
+          buffer.readableBytes(),
+          maxMessageSize);
+
+      buffer.release();
+
+      response = serviceFault(request, new StatusCode(StatusCodes.Bad_ResponseTooLarge));
+      buffer = encodeResponse(channel, encodingContext, response);
+    }
+
+    if (buffer != null) {
+      channel.writeAndFlush(new TextWebSocketFrame(buffer));
+    } else {
+      channel.close();
+    }
+  }
+
+  private @Nullable ByteBuf encodeResponse(
+      Channel channel, EncodingContext encodingContext, UaResponseMessageType response) {
+
+    ByteBuf buffer = channel.alloc().buffer();
+
+    try (Writer writer = new OutputStreamWriter(new ByteBufOutputStream(buffer), UTF_8)) {
+      var encoder = new OpcUaJsonEncoder(encodingContext, writer);
+      encoder.encodeMessage(null, response);
+    } catch (UaSerializationException | IOException e) {
+      logger.error("[remote={}] Error encoding JSON response.", channel.remoteAddress(), e);
+
+      buffer.release();
+      return null;
+    }
+
+    return buffer;
+  }
+
+  private static UaRequestMessageType decodeRequest(
+      EncodingContext encodingContext, ByteBuf content) throws IOException {
+
+    try (Reader reader = new InputStreamReader(new ByteBufInputStream(content), UTF_8)) {
+      var decoder = new OpcUaJsonDecoder(encodingContext, reader);
+
+      return (UaRequestMessageType) decoder.decodeMessage(null);
+    }
+  }
+
+  private static ServiceFault serviceFault(UaRequestMessageType request, StatusCode serviceResult) {
+    UInteger requestHandle = request.getRequestHeader().getRequestHandle();
+
+    var header =
+        new ResponseHeader(
+            DateTime.now(), requestHandle, serviceResult, DiagnosticInfo.NULL_VALUE, null, null);
+
+    return new ServiceFault(header);
+  }
+
+  @Override
+  public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+    logger.error(
+        "[remote={}] Exception caught; closing channel.", ctx.channel().remoteAddress(), cause);
+
+    ctx.close();
+  }
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) 2025 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.transport.websocket;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpServerCodec;
+import io.netty.handler.codec.http.websocketx.WebSocketDecoderConfig;
+import io.netty.handler.codec.http.websocketx.WebSocketFrameAggregator;
+import io.netty.handler.codec.http.websocketx.WebSocketServerProtocolConfig;
+import io.netty.handler.codec.http.websocketx.WebSocketServerProtocolHandler;
+import io.netty.handler.codec.http.websocketx.WebSocketServerProtocolHandler.HandshakeComplete;
+import io.netty.handler.logging.LoggingHandler;
+import io.netty.handler.ssl.SslHandler;
+import java.net.InetSocketAddress;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import org.eclipse.milo.opcua.stack.core.channel.EncodingLimits;
+import org.eclipse.milo.opcua.stack.core.security.SecurityPolicy;
+import org.eclipse.milo.opcua.stack.core.transport.NettyTransport;
+import org.eclipse.milo.opcua.stack.core.transport.TransportProfile;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.MessageSecurityMode;
+import org.eclipse.milo.opcua.stack.core.types.structured.EndpointDescription;
+import org.eclipse.milo.opcua.stack.core.util.EndpointUtil;
+import org.eclipse.milo.opcua.stack.core.util.Lazy;
+import org.eclipse.milo.opcua.stack.transport.server.OpcServerTransport;
+import org.eclipse.milo.opcua.stack.transport.server.ServerApplicationContext;
+import org.eclipse.milo.opcua.stack.transport.server.tcp.RateLimitingHandler;
+import org.eclipse.milo.opcua.stack.transport.server.uasc.UascServerHelloHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link OpcServerTransport} for {@code opc.wss} endpoints.
+ *
+ * <p>A single instance serves both {@link TransportProfile#WSS_UASC_UABINARY} and {@link
+ * TransportProfile#WSS_UAJSON} on the same port; the protocol is chosen per connection by the
+ * WebSocket subprotocol the client negotiates:
+ *
+ * <ul>
+ *   <li>{@code opcua+uacp}: binary frames carrying UASC chunks, handled by the same UASC handlers
+ *       as {@code opc.tcp}.
+ *   <li>{@code opcua+uajson}: one JSON-encoded service request or response per message. Only TLS
+ *       protects these connections, so without TLS they are only accepted for endpoints with a
+ *       SecurityPolicy and MessageSecurityMode of None.
+ * </ul>
+ *
+ * <p>The same instance should be returned from an {@code OpcServerTransportFactory} for both
+ * profiles; binding an address that is already bound is a no-op.
+ */
+public class OpcWebSocketServerTransport implements OpcServerTransport {
+
+  static final String SUBPROTOCOL_UACP = "opcua+uacp";
+  static final String SUBPROTOCOL_UAJSON = "opcua+uajson";
+
+  /** Subprotocol used by older clients, including {@link OpcWebSocketClientTransport}. */
+  static final String SUBPROTOCOL_CP = "opcua+cp";
+
+  private final Logger logger = LoggerFactory.getLogger(getClass());
+
+  private final Set<InetSocketAddress> boundAddresses = new HashSet<>();
+  private final Set<Channel> channelReferences = new HashSet<>();
+  private final Set<Channel> childChannelReferences = Collections.synchronizedSet(new HashSet<>());
+  private final Lazy<ServerBootstrap> serverBootstrap = new Lazy<>();
+
+  private final OpcWebSocketServerTransportConfig config;
+
+  public OpcWebSocketServerTransport(OpcWebSocketServerTransportConfig config) {
+    this.config = config;
+  }
+
+  @Override
+  public synchronized void bind(
+      ServerApplicationContext applicationContext, InetSocketAddress bindAddress) throws Exception {
+
+    ServerBootstrap bootstrap =
+        serverBootstrap.get(
+            () ->
+                new ServerBootstrap()
+                    .channel(NettyTransport.of(config.getEventLoop()).getServerSocketChannelClass())
+                    .group(config.getEventLoop())
+                    .handler(new LoggingHandler(OpcWebSocketServerTransport.class))
+                    .childOption(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
+                    .childOption(ChannelOption.TCP_NODELAY, true)
+                    .childHandler(
+                        new ChannelInitializer<SocketChannel>() {
+                          @Override
+                          protected void initChannel(SocketChannel channel) {
+                            initWebSocketChannel(channel, applicationContext);
+
+                            childChannelReferences.add(channel);
+                            channel
+                                .closeFuture()
+                                .addListener(future -> childChannelReferences.remove(channel));
+                          }
+                        }));
+
+    assert bootstrap != null;
+
+    config.getBootstrapCustomizer().accept(bootstrap);
+
+    if (!boundAddresses.contains(bindAddress)) {
+      ChannelFuture bindFuture = bootstrap.bind(bindAddress).sync();
+
+      boundAddresses.add(bindAddress);
+      channelReferences.add(bindFuture.channel());
+    }
+  }
+
+  @Override
+  public synchronized void unbind() {
+    boundAddresses.clear();
+
+    channelReferences.forEach(
+        channel -> {
+          try {
+            channel.close().sync();
+          } catch (InterruptedException ignored) {
+          }
+        });
+    channelReferences.clear();
+
+    synchronized (childChannelReferences) {
+      childChannelReferences.forEach(
+          channel -> {
+            logger.info("Closing child channel: {}", channel);
+            channel.close();
+          });
+      childChannelReferences.clear();
+    }
+
+    serverBootstrap.reset();
+  }
+
+  private void initWebSocketChannel(SocketChannel channel, ServerApplicationContext application) {
+    ChannelPipeline pipeline = channel.pipeline();
+
+    pipeline.addLast(RateLimitingHandler.getInstance());
+
+    config
+        .getSslContext()
+        .ifPresent(sslContext -> pipeline.addLast(sslContext.newHandler(channel.alloc())));
+
+    EncodingLimits encodingLimits = application.getEncodingContext().getEncodingLimits();
+
+    var protocolConfig =
+        WebSocketServerProtocolConfig.newBuilder()
+            .websocketPath("/")
+            .checkStartsWith(true)
+            .subprotocols(String.join(",", SUBPROTOCOL_UACP, SUBPROTOCOL_CP, SUBPROTOCOL_UAJSON))
+            .handshakeTimeoutMillis(config.getHelloDeadline().longValue())
+            .decoderConfig(
+                WebSocketDecoderConfig.newBuilder()
+                    .maxFramePayloadLength(encodingLimits.getMaxMessageSize())
+                    .build())
+            .build();
+
+    pipeline.addLast(new HttpServerCodec());
+    pipeline.addLast(new HttpObjectAggregator(encodingLimits.getMaxChunkSize()));
+    pipeline.addLast(new WebSocketServerProtocolHandler(protocolConfig));
+    pipeline.addLast(new WebSocketFrameAggregator(encodingLimits.getMaxMessageSize()));
+    pipeline.addLast(new SubprotocolHandler(application));
+  }
+
+  /**
+   * Waits for the WebSocket handshake to complete, then replaces itself with the handlers for the
+   * negotiated subprotocol.
+   */
+  private class SubprotocolHandler extends ChannelInboundHandlerAdapter {
+
+    private final ServerApplicationContext application;
+
+    SubprotocolHandler(ServerApplicationContext application) {
+      this.application = application;
+    }
+
+    @Override
+    public void userEventTriggered(ChannelHandlerContext ctx, Object event) throws Exception {
+      if (event instanceof HandshakeComplete handshake) {
+        String subprotocol = handshake.selectedSubprotocol();
+        ChannelPipeline pipeline = ctx.pipeline();
+
+        if (SUBPROTOCOL_UACP.equals(subprotocol) || SUBPROTOCOL_CP.equals(subprotocol)) {
+          pipeline.addLast(new OpcServerWebSocketBinaryFrameCodec());
+          pipeline.addLast(
+              new UascServerHelloHandler(config, application, TransportProfile.WSS_UASC_UABINARY));
+        } else if (SUBPROTOCOL_UAJSON.equals(subprotocol)) {
+          String endpointUrl = endpointUrl(handshake);
+          boolean tls = pipeline.get(SslHandler.class) != null;
+
+          if (jsonEndpoints(application.getEndpointDescriptions(), endpointUrl, tls).isEmpty()) {
+            logger.debug(
+                "[remote={}] No {} endpoint for url={}, tls={}; closing channel.",
+                ctx.channel().remoteAddress(),
+                TransportProfile.WSS_UAJSON,
+                endpointUrl,
+                tls);
+
+            ctx.close();
+            return;
+          }
+
+          pipeline.addLast(new OpcServerWebSocketJsonFrameHandler(application, endpointUrl));
+        } else {
+          logger.debug(
+              "[remote={}] Unsupported WebSocket subprotocol: {}; closing channel.",
+              ctx.channel().remoteAddress(),
+              subprotocol);
+
+          ctx.close();
+          return;
+        }
+
+        config.getChannelPipelineCustomizer().accept(pipeline);
+
+        pipeline.remove(this);
+      } else {
+        super.userEventTriggered(ctx, event);
+      }
+    }
+
+    private String endpointUrl(HandshakeComplete handshake) {
+      String host = handshake.requestHeaders().get(HttpHeaderNames.HOST, "");
+
+      return "opc.wss://" + host + handshake.requestUri();
+    }
+  }
+
+  /**
+   * Get the {@link TransportProfile#WSS_UAJSON} endpoints at the path of {@code endpointUrl} that a
+   * {@code opcua+uajson} connection may use.
+   *
+   * <p>Only TLS protects these connections, so without it only endpoints with {@link
+   * SecurityPolicy#None} and {@link MessageSecurityMode#None} may be used.
+   *
+   * @param endpoints the server's endpoints.
+   * @param endpointUrl the endpoint URL the client connected to.
+   * @param tls {@code true} if the connection is protected by TLS.
+   * @return the endpoints the connection may use, or an empty list if it must be rejected.
+   */
+  static List<EndpointDescription> jsonEndpoints(
+      List<EndpointDescription> endpoints, String endpointUrl, boolean tls) {
+
+    String path = EndpointUtil.getPath(endpointUrl);
+
+    return endpoints.stream()
+        .filter(e -> TransportProfile.WSS_UAJSON.getUri().equals(e.getTransportProfileUri()))
+        .filter(e -> Objects.equals(path, EndpointUtil.getPath(e.getEndpointUrl())))
+        .filter(
+            e ->
+                tls
+                    || (e.getSecurityMode() == MessageSecurityMode.None
+                        && SecurityPolicy.None.getUri().equals(e.getSecurityPolicyUri())))
+        .toList();
+  }
+}
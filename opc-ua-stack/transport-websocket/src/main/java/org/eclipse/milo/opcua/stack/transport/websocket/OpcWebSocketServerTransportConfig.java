@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2025 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.transport.websocket;
+
+import io.netty.handler.ssl.SslContext;
+import java.util.Optional;
+import org.eclipse.milo.opcua.stack.transport.server.OpcServerTransportConfig;
+import org.eclipse.milo.opcua.stack.transport.server.uasc.UascServerConfig;
+
+public interface OpcWebSocketServerTransportConfig
+    extends OpcServerTransportConfig, UascServerConfig {
+
+  /**
+   * Get the {@link SslContext} used to secure WebSocket connections.
+   *
+   * <p>If empty, connections are accepted without TLS, e.g. when TLS is terminated by a load
+   * balancer or reverse proxy in front of the server.
+   *
+   * @return the {@link SslContext} used to secure WebSocket connections, if any.
+   */
+  Optional<SslContext> getSslContext();
+
+  /**
+   * Create a new {@link OpcWebSocketServerTransportConfigBuilder}.
+   *
+   * @return a new {@link OpcWebSocketServerTransportConfigBuilder}.
+   */
+  static OpcWebSocketServerTransportConfigBuilder newBuilder() {
+    return new OpcWebSocketServerTransportConfigBuilder();
+  }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2025 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.transport.websocket;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.EventLoopGroup;
+import io.netty.handler.ssl.SslContext;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
+import org.eclipse.milo.opcua.stack.core.Stack;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
+import org.jspecify.annotations.Nullable;
+
+public class OpcWebSocketServerTransportConfigBuilder {
+
+  private ExecutorService executor;
+  private EventLoopGroup eventLoop;
+  private @Nullable SslContext sslContext;
+  private UInteger helloDeadline = uint(10_000);
+  private UInteger minimumSecureChannelLifetime = uint(60_000);
+  private UInteger maximumSecureChannelLifetime = uint(60_000 * 60 * 24);
+  private boolean retainExtensionObjectBodies = false;
+  private Consumer<ServerBootstrap> bootstrapCustomizer = b -> {};
+  private Consumer<ChannelPipeline> channelPipelineCustomizer = p -> {};
+
+  public OpcWebSocketServerTransportConfigBuilder setExecutor(ExecutorService executor) {
+    this.executor = executor;
+    return this;
+  }
+
+  public OpcWebSocketServerTransportConfigBuilder setEventLoop(EventLoopGroup eventLoop) {
+    this.eventLoop = eventLoop;
+    return this;
+  }
+
+  /**
+   * Set the {@link SslContext} used to secure WebSocket connections.
+   *
+   * <p>Leave unset only when TLS is terminated in front of the server.
+   *
+   * @param sslContext the {@link SslContext} used to secure WebSocket connections.
+   * @return this {@link OpcWebSocketServerTransportConfigBuilder}.
+   */
+  public OpcWebSocketServerTransportConfigBuilder setSslContext(@Nullable SslContext sslContext) {
+    this.sslContext = sslContext;
+    return this;
+  }
+
+  /**
+   * Set a {@link Consumer} that will be given a chance to customize the {@link ServerBootstrap}
+   * used by this transport.
+   *
+   * @param bootstrapCustomizer a {@link Consumer} that will be given a chance to customize the
+   *     {@link ServerBootstrap} used by this transport.
+   * @return this {@link OpcWebSocketServerTransportConfigBuilder}.
+   */
+  public OpcWebSocketServerTransportConfigBuilder setBootstrapCustomizer(
+      Consumer<ServerBootstrap> bootstrapCustomizer) {
+
+    this.bootstrapCustomizer = bootstrapCustomizer;
+    return this;
+  }
+
+  /**
+   * Set a {@link Consumer} that will be given a chance to customize the {@link ChannelPipeline}
+   * used by this transport, after the WebSocket handshake has completed.
+   *
+   * @param channelPipelineCustomizer a {@link Consumer} that will be given a chance to customize
+   *     the {@link ChannelPipeline} used by this transport.
+   * @return this {@link OpcWebSocketServerTransportConfigBuilder}.
+   */
+  public OpcWebSocketServerTransportConfigBuilder setChannelPipelineCustomizer(
+      Consumer<ChannelPipeline> channelPipelineCustomizer) {
+
+    this.channelPipelineCustomizer = channelPipelineCustomizer;
+    return this;
+  }
+
+  public OpcWebSocketServerTransportConfigBuilder setHelloDeadline(UInteger helloDeadline) {
+    this.helloDeadline = helloDeadline;
+    return this;
+  }
+
+  public OpcWebSocketServerTransportConfigBuilder setMinimumSecureChannelLifetime(
+      UInteger minimumSecureChannelLifetime) {
+    this.minimumSecureChannelLifetime = minimumSecureChannelLifetime;
+    return this;
+  }
+
+  public OpcWebSocketServerTransportConfigBuilder setMaximumSecureChannelLifetime(
+      UInteger maximumSecureChannelLifetime) {
+    this.maximumSecureChannelLifetime = maximumSecureChannelLifetime;
+    return this;
+  }
+
+  /**
+   * Set whether the bodies of Binary ExtensionObjects in inbound requests are kept as retained
+   * slices of the received message instead of being copied.
+   *
+   * @param retainExtensionObjectBodies {@code true} to retain Binary ExtensionObject bodies.
+   * @return this {@link OpcWebSocketServerTransportConfigBuilder}.
+   * @see OpcWebSocketServerTransportConfig#isRetainExtensionObjectBodies()
+   */
+  public OpcWebSocketServerTransportConfigBuilder setRetainExtensionObjectBodies(
+      boolean retainExtensionObjectBodies) {
+
+    this.retainExtensionObjectBodies = retainExtensionObjectBodies;
+    return this;
+  }
+
+  public OpcWebSocketServerTransportConfig build() {
+    if (executor == null) {
+      executor = Stack.sharedExecutor();
+    }
+    if (eventLoop == null) {
+      eventLoop = Stack.sharedEventLoop();
+    }
+
+    return new OpcWebSocketServerTransportConfigImpl(
+        executor,
+        eventLoop,
+        sslContext,
+        bootstrapCustomizer,
+        channelPipelineCustomizer,
+        helloDeadline,
+        minimumSecureChannelLifetime,
+        maximumSecureChannelLifetime,
+        retainExtensionObjectBodies);
+  }
+
+  static class OpcWebSocketServerTransportConfigImpl implements OpcWebSocketServerTransportConfig {
+
+    private final ExecutorService executor;
+    private final EventLoopGroup eventLoop;
+    private final @Nullable SslContext sslContext;
+    private final Consumer<ServerBootstrap> bootstrapCustomizer;
+    private final Consumer<ChannelPipeline> channelPipelineCustomizer;
+    private final UInteger helloDeadline;
+    private final UInteger minimumSecureChannelLifetime;
+    private final UInteger maximumSecureChannelLifetime;
+    private final boolean retainExtensionObjectBodies;
+
+    public OpcWebSocketServerTransportConfigImpl(
+        ExecutorService executor,
+        EventLoopGroup eventLoop,
+        @Nullable SslContext sslContext,
+        Consumer<ServerBootstrap> bootstrapCustomizer,
+        Consumer<ChannelPipeline> channelPipelineCustomizer,
+        UInteger helloDeadline,
+        UInteger minimumSecureChannelLifetime,
+        UInteger maximumSecureChannelLifetime,
+        boolean retainExtensionObjectBodies) {
+
+      this.executor = executor;
+      this.eventLoop = eventLoop;
+      this.sslContext = sslContext;
+      this.bootstrapCustomizer = bootstrapCustomizer;
+      this.channelPipelineCustomizer = channelPipelineCustomizer;
+      this.helloDeadline = helloDeadline;
+      this.minimumSecureChannelLifetime = minimumSecureChannelLifetime;
+      this.maximumSecureChannelLifetime = maximumSecureChannelLifetime;
+      this.retainExtensionObjectBodies = retainExtensionObjectBodies;
+    }
+
+    @Override
+    public ExecutorService getExecutor() {
+      return executor;
+    }
+
+    @Override
+    public EventLoopGroup getEventLoop() {
+      return eventLoop;
+    }
+
+    @Override
+    public Optional<SslContext> getSslContext() {
+      return Optional.ofNullable(sslContext);
+    }
+
+    @Override
+    public Consumer<ServerBootstrap> getBootstrapCustomizer() {
+      return bootstrapCustomizer;
+    }
+
+    @Override
+    public Consumer<ChannelPipeline> getChannelPipelineCustomizer() {
+      return channelPipelineCustomizer;
+    }
+
+    @Override
+    public UInteger getHelloDeadline() {
+      return helloDeadline;
+    }
+
+    @Override
+    public UInteger getMinimumSecureChannelLifetime() {
+      return minimumSecureChannelLifetime;
+    }
+
+    @Override
+    public UInteger getMaximumSecureChannelLifetime() {
+      return maximumSecureChannelLifetime;
+    }
+
+    @Override
+    public boolean isRetainExtensionObjectBodies() {
+      return retainExtensionObjectBodies;
+    }
+  }
+}
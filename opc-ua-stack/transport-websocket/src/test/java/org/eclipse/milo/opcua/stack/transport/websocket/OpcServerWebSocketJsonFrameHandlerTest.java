@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2025 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.transport.websocket;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.websocketx.BinaryWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.WebSocketFrame;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import org.eclipse.milo.opcua.stack.core.AttributeId;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaException;
+import org.eclipse.milo.opcua.stack.core.encoding.DefaultEncodingContext;
+import org.eclipse.milo.opcua.stack.core.encoding.EncodingContext;
+import org.eclipse.milo.opcua.stack.core.encoding.json.OpcUaJsonDecoder;
+import org.eclipse.milo.opcua.stack.core.encoding.json.OpcUaJsonEncoder;
+import org.eclipse.milo.opcua.stack.core.security.CertificateManager;
+import org.eclipse.milo.opcua.stack.core.security.SecurityPolicy;
+import org.eclipse.milo.opcua.stack.core.transport.TransportProfile;
+import org.eclipse.milo.opcua.stack.core.types.UaMessageType;
+import org.eclipse.milo.opcua.stack.core.types.UaRequestMessageType;
+import org.eclipse.milo.opcua.stack.core.types.UaResponseMessageType;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DiagnosticInfo;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import org.eclipse.milo.opcua.stack.core.types.structured.EndpointDescription;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadResponse;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
+import org.eclipse.milo.opcua.stack.core.types.structured.RequestHeader;
+import org.eclipse.milo.opcua.stack.core.types.structured.ResponseHeader;
+import org.eclipse.milo.opcua.stack.core.types.structured.ServiceFault;
+import org.eclipse.milo.opcua.stack.transport.server.ServerApplicationContext;
+import org.eclipse.milo.opcua.stack.transport.server.ServiceRequestContext;
+import org.junit.jupiter.api.Test;
+
+public class OpcServerWebSocketJsonFrameHandlerTest {
+
+  private static final String ENDPOINT_URL = "opc.wss://localhost:8443/milo";
+
+  private final EncodingContext encodingContext = new DefaultEncodingContext();
+
+  private final AtomicReference<ServiceRequestContext> lastContext = new AtomicReference<>();
+
+  @Test
+  public void requestIsDecodedAndResponseEncoded() {
+    var channel =
+        newChannel(
+            request ->
+                CompletableFuture.completedFuture(
+                    new ReadResponse(
+                        responseHeader(request, StatusCode.GOOD),
+                        new DataValue[] {new DataValue(new Variant(42))},
+                        null)));
+
+    ReadRequest request = readRequest(7);
+    channel.writeInbound(new TextWebSocketFrame(encode(request)));
+
+    ReadResponse response = assertInstanceOf(ReadResponse.class, readResponse(channel));
+    assertEquals(uint(7), response.getResponseHeader().getRequestHandle());
+    assertNotNull(response.getResults());
+    assertEquals(new Variant(42), response.getResults()[0].value());
+
+    ServiceRequestContext context = lastContext.get();
+    assertEquals(TransportProfile.WSS_UAJSON, context.getTransportProfile());
+    assertEquals(ENDPOINT_URL, context.getEndpointUrl());
+    assertEquals(SecurityPolicy.None, context.getSecureChannel().getSecurityPolicy());
+  }
+
+  @Test
+  public void binaryFramesAreAccepted() {
+    var channel =
+        newChannel(
+            request ->
+                CompletableFuture.completedFuture(
+                    new ReadResponse(responseHeader(request, StatusCode.GOOD), null, null)));
+
+    channel.writeInbound(
+        new BinaryWebSocketFrame(Unpooled.copiedBuffer(encode(readRequest(8)), UTF_8)));
+
+    ReadResponse response = assertInstanceOf(ReadResponse.class, readResponse(channel));
+    assertEquals(uint(8), response.getResponseHeader().getRequestHandle());
+  }
+
+  @Test
+  public void failedRequestIsAnsweredWithServiceFault() {
+    var channel =
+        newChannel(
+            request ->
+                CompletableFuture.failedFuture(new UaException(StatusCodes.Bad_TooManyOperations)));
+
+    channel.writeInbound(new TextWebSocketFrame(encode(readRequest(9))));
+
+    ServiceFault fault = assertInstanceOf(ServiceFault.class, readResponse(channel));
+    assertEquals(uint(9), fault.getResponseHeader().getRequestHandle());
+    assertEquals(
+        StatusCodes.Bad_TooManyOperations, fault.getResponseHeader().getServiceResult().getValue());
+  }
+
+  @Test
+  public void malformedRequestClosesChannel() {
+    var channel =
+        newChannel(
+            request -> {
+              throw new AssertionError("unexpected request: " + request);
+            });
+
+    channel.writeInbound(new TextWebSocketFrame("{\"not\": "));
+
+    assertFalse(channel.isOpen());
+    assertNull(channel.readOutbound());
+  }
+
+  private EmbeddedChannel newChannel(
+      Function<UaRequestMessageType, CompletableFuture<UaResponseMessageType>> service) {
+
+    var application =
+        new ServerApplicationContext() {
+          private final AtomicLong secureChannelIds = new AtomicLong(0L);
+
+          @Override
+          public List<EndpointDescription> getEndpointDescriptions() {
+            return List.of();
+          }
+
+          @Override
+          public CertificateManager getCertificateManager() {
+            throw new UnsupportedOperationException();
+          }
+
+          @Override
+          public EncodingContext getEncodingContext() {
+            return encodingContext;
+          }
+
+          @Override
+          public Long getNextSecureChannelId() {
+            return secureChannelIds.incrementAndGet();
+          }
+
+          @Override
+          public Long getNextSecureChannelTokenId() {
+            return 0L;
+          }
+
+          @Override
+          public CompletableFuture<UaResponseMessageType> handleServiceRequest(
+              ServiceRequestContext context, UaRequestMessageType requestMessage) {
+
+            lastContext.set(context);
+
+            return service.apply(requestMessage);
+          }
+        };
+
+    return new EmbeddedChannel(new OpcServerWebSocketJsonFrameHandler(application, ENDPOINT_URL));
+  }
+
+  private String encode(UaMessageType message) {
+    var writer = new StringWriter();
+    new OpcUaJsonEncoder(encodingContext, writer).encodeMessage(null, message);
+    return writer.toString();
+  }
+
+  private UaMessageType readResponse(EmbeddedChannel channel) {
+    WebSocketFrame frame = channel.readOutbound();
+    assertInstanceOf(TextWebSocketFrame.class, frame);
+
+    try {
+      String json = ((TextWebSocketFrame) frame).text();
+
+      return new OpcUaJsonDecoder(encodingContext, json).decodeMessage(null);
+    } finally {
+      frame.release();
+    }
+  }
+
+  private static ReadRequest readRequest(long requestHandle) {
+    var requestHeader =
+        new RequestHeader(
+            NodeId.NULL_VALUE, DateTime.now(), uint(requestHandle), uint(0), null, uint(0), null);
+
+    return new ReadRequest(
+        requestHeader,
+        0.0,
+        TimestampsToReturn.Neither,
+        new ReadValueId[] {
+          new ReadValueId(
+              new NodeId(1, "Value"), AttributeId.Value.uid(), null, QualifiedName.NULL_VALUE)
+        });
+  }
+
+  private static ResponseHeader responseHeader(
+      UaRequestMessageType request, StatusCode serviceResult) {
+
+    return new ResponseHeader(
+        DateTime.now(),
+        request.getRequestHeader().getRequestHandle(),
+        serviceResult,
+        DiagnosticInfo.NULL_VALUE,
+        null,
+        null);
+  }
+}
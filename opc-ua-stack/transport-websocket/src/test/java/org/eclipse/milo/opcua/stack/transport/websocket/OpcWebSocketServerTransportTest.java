@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2025 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.transport.websocket;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.ubyte;
+import static org.eclipse.milo.opcua.stack.transport.websocket.OpcWebSocketServerTransport.jsonEndpoints;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import org.eclipse.milo.opcua.stack.core.security.SecurityPolicy;
+import org.eclipse.milo.opcua.stack.core.transport.TransportProfile;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ByteString;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.MessageSecurityMode;
+import org.eclipse.milo.opcua.stack.core.types.structured.EndpointDescription;
+import org.junit.jupiter.api.Test;
+
+public class OpcWebSocketServerTransportTest {
+
+  private static final String ENDPOINT_URL = "opc.wss://localhost:8443/milo";
+
+  private static final EndpointDescription JSON_NONE =
+      endpoint(TransportProfile.WSS_UAJSON, SecurityPolicy.None, MessageSecurityMode.None);
+
+  private static final EndpointDescription JSON_SECURED =
+      endpoint(
+          TransportProfile.WSS_UAJSON,
+          SecurityPolicy.Basic256Sha256,
+          MessageSecurityMode.SignAndEncrypt);
+
+  private static final EndpointDescription BINARY_NONE =
+      endpoint(TransportProfile.WSS_UASC_UABINARY, SecurityPolicy.None, MessageSecurityMode.None);
+
+  @Test
+  public void securedEndpointsRequireTls() {
+    assertEquals(List.of(), jsonEndpoints(List.of(JSON_SECURED), ENDPOINT_URL, false));
+    assertEquals(List.of(JSON_SECURED), jsonEndpoints(List.of(JSON_SECURED), ENDPOINT_URL, true));
+
+    assertEquals(
+        List.of(JSON_NONE), jsonEndpoints(List.of(JSON_NONE, JSON_SECURED), ENDPOINT_URL, false));
+  }
+
+  @Test
+  public void endpointsMustMatchTransportProfileAndPath() {
+    assertEquals(List.of(), jsonEndpoints(List.of(BINARY_NONE), ENDPOINT_URL, true));
+    assertEquals(
+        List.of(), jsonEndpoints(List.of(JSON_NONE), "opc.wss://localhost:8443/other", true));
+
+    assertEquals(
+        List.of(JSON_NONE), jsonEndpoints(List.of(BINARY_NONE, JSON_NONE), ENDPOINT_URL, true));
+  }
+
+  private static EndpointDescription endpoint(
+      TransportProfile transportProfile,
+      SecurityPolicy securityPolicy,
+      MessageSecurityMode securityMode) {
+
+    return new EndpointDescription(
+        ENDPOINT_URL,
+        null,
+        ByteString.NULL_VALUE,
+        securityMode,
+        securityPolicy.getUri(),
+        null,
+        transportProfile.getUri(),
+        ubyte(0));
+  }
+}
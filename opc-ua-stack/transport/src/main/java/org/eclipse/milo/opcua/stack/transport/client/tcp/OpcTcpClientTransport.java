@@ -29,8 +29,8 @@ import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.ConnectTimeoutException;
+import io.netty.channel.epoll.EpollChannelOption;
 import io.netty.channel.socket.SocketChannel;
-import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.util.Timeout;
 import io.netty.util.TimerTask;
 import java.net.ConnectException;
@@ -40,6 +40,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import org.eclipse.milo.opcua.stack.core.StatusCodes;
 import org.eclipse.milo.opcua.stack.core.UaException;
+import org.eclipse.milo.opcua.stack.core.transport.NettyTransport;
 import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
 import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
 import org.eclipse.milo.opcua.stack.core.types.structured.CloseSecureChannelRequest;
@@ -130,7 +131,7 @@ public class OpcTcpClientTransport extends AbstractUascClientTransport {
       var bootstrap = new Bootstrap();
 
       bootstrap
-          .channel(NioSocketChannel.class)
+          .channel(config.getNettyTransport().getSocketChannelClass())
           .group(OpcTcpClientTransport.this.config.getEventLoop())
           .option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
           .option(
@@ -153,6 +154,10 @@ public class OpcTcpClientTransport extends AbstractUascClientTransport {
                 }
               });
 
+      if (config.getNettyTransport() == NettyTransport.EPOLL && config.isTcpQuickAck()) {
+        bootstrap.option(EpollChannelOption.TCP_QUICKACK, true);
+      }
+
       config.getBootstrapCustomizer().accept(bootstrap);
 
       String endpointUrl = application.getEndpoint().getEndpointUrl();
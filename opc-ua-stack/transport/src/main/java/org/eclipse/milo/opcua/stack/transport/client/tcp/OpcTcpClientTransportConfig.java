@@ -10,6 +10,7 @@
 
 package org.eclipse.milo.opcua.stack.transport.client.tcp;
 
+import org.eclipse.milo.opcua.stack.core.transport.NettyTransport;
 import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
 import org.eclipse.milo.opcua.stack.transport.client.OpcClientTransportConfig;
 import org.eclipse.milo.opcua.stack.transport.client.uasc.UascClientConfig;
@@ -23,6 +24,24 @@ public interface OpcTcpClientTransportConfig extends OpcClientTransportConfig, U
    */
   UInteger getConnectTimeout();
 
+  /**
+   * Get the {@link NettyTransport} used by this transport.
+   *
+   * <p>This is always the transport matching {@link #getEventLoop()}.
+   *
+   * @return the {@link NettyTransport} used by this transport.
+   */
+  NettyTransport getNettyTransport();
+
+  /**
+   * Get whether {@code TCP_QUICKACK} is enabled on the socket.
+   *
+   * <p>Only supported by the {@link NettyTransport#EPOLL} transport; ignored otherwise.
+   *
+   * @return {@code true} if {@code TCP_QUICKACK} is enabled on the socket.
+   */
+  boolean isTcpQuickAck();
+
   /**
    * Create a new {@link OpcTcpClientTransportConfigBuilder}.
    *
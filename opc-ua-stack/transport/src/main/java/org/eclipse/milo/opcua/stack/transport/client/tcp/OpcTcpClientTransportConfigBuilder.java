@@ -20,18 +20,23 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Consumer;
 import org.eclipse.milo.opcua.stack.core.Stack;
+import org.eclipse.milo.opcua.stack.core.transport.NettyTransport;
 import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
+import org.eclipse.milo.opcua.stack.core.util.CryptoExecutor;
 
 public class OpcTcpClientTransportConfigBuilder {
 
   private UInteger connectTimeout = uint(5_000);
   private UInteger acknowledgeTimeout = uint(5_000);
   private UInteger channelLifetime = uint(60 * 60 * 1000);
+  private NettyTransport nettyTransport = NettyTransport.NIO;
+  private boolean tcpQuickAck = false;
 
   private ExecutorService executor;
   private ScheduledExecutorService scheduledExecutor;
   private EventLoopGroup eventLoop;
   private HashedWheelTimer wheelTimer;
+  private CryptoExecutor cryptoExecutor;
   private Consumer<Bootstrap> bootstrapCustomizer = b -> {};
   private Consumer<ChannelPipeline> channelPipelineCustomizer = p -> {};
 
@@ -66,11 +71,54 @@ public class OpcTcpClientTransportConfigBuilder {
     return this;
   }
 
+  /**
+   * Set the {@link NettyTransport} to use when no {@link EventLoopGroup} has been configured.
+   *
+   * <p>Defaults to {@link NettyTransport#NIO}. Set {@link NettyTransport#EPOLL} to opt in to the
+   * native Linux transport; this requires {@code netty-transport-native-epoll} for the platform on
+   * the classpath, and falls back to {@link NettyTransport#NIO} when it isn't available. When an
+   * {@link EventLoopGroup} has been configured the transport is always the one matching that event
+   * loop.
+   *
+   * @param nettyTransport the {@link NettyTransport} to use.
+   * @return this {@link OpcTcpClientTransportConfigBuilder}.
+   */
+  public OpcTcpClientTransportConfigBuilder setNettyTransport(NettyTransport nettyTransport) {
+    this.nettyTransport = nettyTransport;
+    return this;
+  }
+
+  /**
+   * Set whether {@code TCP_QUICKACK} is enabled on the socket. Only supported by the {@link
+   * NettyTransport#EPOLL} transport.
+   *
+   * @param tcpQuickAck {@code true} to enable {@code TCP_QUICKACK}.
+   * @return this {@link OpcTcpClientTransportConfigBuilder}.
+   */
+  public OpcTcpClientTransportConfigBuilder setTcpQuickAck(boolean tcpQuickAck) {
+    this.tcpQuickAck = tcpQuickAck;
+    return this;
+  }
+
   public OpcTcpClientTransportConfigBuilder setWheelTimer(HashedWheelTimer wheelTimer) {
     this.wheelTimer = wheelTimer;
     return this;
   }
 
+  /**
+   * Set the {@link CryptoExecutor} used to sign and encrypt secure channel renewals.
+   *
+   * <p>If not set, {@link Stack#sharedCryptoExecutor()} is used.
+   *
+   * @param cryptoExecutor the {@link CryptoExecutor} to use.
+   * @return this {@link OpcTcpClientTransportConfigBuilder}.
+   * @see OpcTcpClientTransportConfig#getCryptoExecutor()
+   */
+  public OpcTcpClientTransportConfigBuilder setCryptoExecutor(CryptoExecutor cryptoExecutor) {
+    this.cryptoExecutor = cryptoExecutor;
+    return this;
+  }
+
   /**
    * Set a {@link Consumer} that will be given a chance to customize the {@link Bootstrap} used by
    * this transport.
@@ -109,11 +157,14 @@ public class OpcTcpClientTransportConfigBuilder {
       scheduledExecutor = Stack.sharedScheduledExecutor();
     }
     if (eventLoop == null) {
-      eventLoop = Stack.sharedEventLoop();
+      eventLoop = Stack.sharedEventLoop(nettyTransport);
     }
     if (wheelTimer == null) {
       wheelTimer = Stack.sharedWheelTimer();
     }
+    if (cryptoExecutor == null) {
+      cryptoExecutor = Stack.sharedCryptoExecutor();
+    }
 
     return new OpcTcpClientTransportConfigImpl(
         connectTimeout,
@@ -122,7 +173,10 @@ public class OpcTcpClientTransportConfigBuilder {
         executor,
         scheduledExecutor,
         eventLoop,
+        NettyTransport.of(eventLoop),
+        tcpQuickAck,
         wheelTimer,
+        cryptoExecutor,
         bootstrapCustomizer,
         channelPipelineCustomizer);
   }
@@ -135,7 +189,10 @@ public class OpcTcpClientTransportConfigBuilder {
     private final ExecutorService executor;
     private final ScheduledExecutorService scheduledExecutor;
     private final EventLoopGroup eventLoop;
+    private final NettyTransport nettyTransport;
+    private final boolean tcpQuickAck;
     private final HashedWheelTimer wheelTimer;
+    private final CryptoExecutor cryptoExecutor;
     private final Consumer<Bootstrap> bootstrapCustomizer;
     private final Consumer<ChannelPipeline> channelPipelineCustomizer;
 
@@ -146,7 +203,10 @@ public class OpcTcpClientTransportConfigBuilder {
         ExecutorService executor,
         ScheduledExecutorService scheduledExecutor,
         EventLoopGroup eventLoop,
+        NettyTransport nettyTransport,
+        boolean tcpQuickAck,
         HashedWheelTimer wheelTimer,
+        CryptoExecutor cryptoExecutor,
         Consumer<Bootstrap> bootstrapCustomizer,
         Consumer<ChannelPipeline> channelPipelineCustomizer) {
 
@@ -156,7 +216,10 @@ public class OpcTcpClientTransportConfigBuilder {
       this.executor = executor;
       this.scheduledExecutor = scheduledExecutor;
       this.eventLoop = eventLoop;
+      this.nettyTransport = nettyTransport;
+      this.tcpQuickAck = tcpQuickAck;
       this.wheelTimer = wheelTimer;
+      this.cryptoExecutor = cryptoExecutor;
       this.bootstrapCustomizer = bootstrapCustomizer;
       this.channelPipelineCustomizer = channelPipelineCustomizer;
     }
@@ -191,11 +254,26 @@ public class OpcTcpClientTransportConfigBuilder {
       return eventLoop;
     }
 
+    @Override
+    public NettyTransport getNettyTransport() {
+      return nettyTransport;
+    }
+
+    @Override
+    public boolean isTcpQuickAck() {
+      return tcpQuickAck;
+    }
+
     @Override
     public HashedWheelTimer getWheelTimer() {
       return wheelTimer;
     }
 
+    @Override
+    public CryptoExecutor getCryptoExecutor() {
+      return cryptoExecutor;
+    }
+
     @Override
     public Consumer<Bootstrap> getBootstrapCustomizer() {
       return bootstrapCustomizer;
@@ -11,7 +11,9 @@
 package org.eclipse.milo.opcua.stack.transport.client.uasc;
 
 import io.netty.util.HashedWheelTimer;
+import org.eclipse.milo.opcua.stack.core.Stack;
 import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
+import org.eclipse.milo.opcua.stack.core.util.CryptoExecutor;
 
 public interface UascClientConfig {
 
@@ -36,4 +38,14 @@ public interface UascClientConfig {
    * @return the Netty {@link HashedWheelTimer} to use for scheduling transport layer timeouts.
    */
   HashedWheelTimer getWheelTimer();
+
+  /**
+   * Get the {@link CryptoExecutor} that signs and encrypts the OpenSecureChannel requests that
+   * renew the secure channel's security token.
+   *
+   * @return the {@link CryptoExecutor} to use for secure channel renewals.
+   */
+  default CryptoExecutor getCryptoExecutor() {
+    return Stack.sharedCryptoExecutor();
+  }
 }
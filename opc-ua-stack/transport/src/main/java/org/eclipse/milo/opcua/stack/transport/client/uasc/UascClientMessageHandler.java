@@ -14,8 +14,10 @@ import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
 import io.netty.handler.codec.ByteToMessageCodec;
 import io.netty.util.ReferenceCountUtil;
 import io.netty.util.Timeout;
@@ -37,11 +39,14 @@ import org.eclipse.milo.opcua.stack.core.channel.ChannelParameters;
 import org.eclipse.milo.opcua.stack.core.channel.ChannelSecurity;
 import org.eclipse.milo.opcua.stack.core.channel.ChunkDecoder;
 import org.eclipse.milo.opcua.stack.core.channel.ChunkDecoder.DecodedMessage;
+import org.eclipse.milo.opcua.stack.core.channel.ChunkDecoder.PartialMessage;
 import org.eclipse.milo.opcua.stack.core.channel.ChunkEncoder;
 import org.eclipse.milo.opcua.stack.core.channel.ChunkEncoder.EncodedMessage;
+import org.eclipse.milo.opcua.stack.core.channel.ChunkEncoder.FramedMessage;
 import org.eclipse.milo.opcua.stack.core.channel.MessageAbortException;
 import org.eclipse.milo.opcua.stack.core.channel.MessageDecodeException;
 import org.eclipse.milo.opcua.stack.core.channel.MessageEncodeException;
+import org.eclipse.milo.opcua.stack.core.channel.RenewalWriteBarrier;
 import org.eclipse.milo.opcua.stack.core.channel.headers.AsymmetricSecurityHeader;
 import org.eclipse.milo.opcua.stack.core.channel.messages.ErrorMessage;
 import org.eclipse.milo.opcua.stack.core.channel.messages.MessageType;
@@ -66,8 +71,10 @@ import org.eclipse.milo.opcua.stack.core.types.structured.RequestHeader;
 import org.eclipse.milo.opcua.stack.core.types.structured.ServiceFault;
 import org.eclipse.milo.opcua.stack.core.util.BufferUtil;
 import org.eclipse.milo.opcua.stack.core.util.CertificateUtil;
+import org.eclipse.milo.opcua.stack.core.util.CryptoExecutor;
 import org.eclipse.milo.opcua.stack.core.util.NonceUtil;
 import org.eclipse.milo.opcua.stack.transport.client.ClientApplicationContext;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -80,11 +87,16 @@ public class UascClientMessageHandler extends ByteToMessageCodec<UascRequest> {
   private final AtomicReference<AsymmetricSecurityHeader> headerRef = new AtomicReference<>();
 
   private List<ByteBuf> chunkBuffers = new ArrayList<>();
+  private final PartialMessage partialMessage = new PartialMessage();
 
   private ScheduledFuture<?> renewFuture;
   private Timeout secureChannelTimeout;
 
   private ClientSecureChannel secureChannel;
+  private RenewalWriteBarrier writeBarrier;
+
+  /** Set while an OpenSecureChannelResponse is being decoded on the {@link CryptoExecutor}. */
+  private boolean decodingPaused = false;
 
   private final OpcUaBinaryDecoder binaryDecoder;
   private final OpcUaBinaryEncoder binaryEncoder;
@@ -159,6 +171,7 @@ public class UascClientMessageHandler extends ByteToMessageCodec<UascRequest> {
 
     chunkBuffers.forEach(ReferenceCountUtil::safeRelease);
     chunkBuffers.clear();
+    partialMessage.release();
 
     // If the handshake hasn't completed yet this cause will be more
     // accurate than the generic "connection closed" exception that
@@ -173,6 +186,8 @@ public class UascClientMessageHandler extends ByteToMessageCodec<UascRequest> {
     secureChannel = newSecureChannel(application);
     secureChannel.setChannel(ctx.channel());
 
+    writeBarrier = new RenewalWriteBarrier(ctx);
+
     SecurityTokenRequestType requestType =
         secureChannel.getChannelId() == 0
             ? SecurityTokenRequestType.Issue
@@ -222,14 +237,14 @@ public class UascClientMessageHandler extends ByteToMessageCodec<UascRequest> {
 
       List<ByteBuf> messageChunks = encodedMessage.getMessageChunks();
 
-      CompositeByteBuf chunkComposite = BufferUtil.compositeBuffer();
+      CompositeByteBuf chunkComposite = BufferUtil.compositeBuffer(Integer.MAX_VALUE);
 
       for (ByteBuf chunk : messageChunks) {
         chunkComposite.addComponent(chunk);
         chunkComposite.writerIndex(chunkComposite.writerIndex() + chunk.readableBytes());
       }
 
-      ctx.writeAndFlush(chunkComposite, ctx.voidPromise());
+      write(ctx, chunkComposite, ctx.voidPromise());
     } catch (MessageEncodeException e) {
       logger.error("Error encoding {}: {}", request, e.getMessage(), e);
 
@@ -257,6 +272,10 @@ public class UascClientMessageHandler extends ByteToMessageCodec<UascRequest> {
   @Override
   protected void decode(ChannelHandlerContext ctx, ByteBuf buffer, List<Object> out)
       throws Exception {
+    if (decodingPaused) {
+      return;
+    }
+
     if (buffer.readableBytes() >= 8) {
       int messageLength = getMessageLength(buffer, channelParameters.getLocalReceiveBufferSize());
 
@@ -295,16 +314,17 @@ public class UascClientMessageHandler extends ByteToMessageCodec<UascRequest> {
           StatusCodes.Bad_SecureChannelIdInvalid, "invalid secure channel id: " + secureChannelId);
     }
 
-    if (accumulateChunk(buffer)) {
-      final List<ByteBuf> buffersToDecode = chunkBuffers;
-      chunkBuffers = new ArrayList<>(getMaxChunkCount());
+    checkChunkLimits(buffer, partialMessage.getChunkCount() + 1);
 
-      ByteBuf messageBuffer = null;
+    ByteBuf messageBuffer = null;
 
-      try {
-        DecodedMessage decodedMessage =
-            chunkDecoder.decodeSymmetric(secureChannel, buffersToDecode);
+    try {
+      // Each chunk is verified and decrypted as it arrives and its plaintext appended to
+      // partialMessage, so the chunk itself doesn't need to be retained.
+      DecodedMessage decodedMessage =
+          chunkDecoder.decodeSymmetricChunk(secureChannel, partialMessage, buffer);
 
+      if (decodedMessage != null) {
         messageBuffer = decodedMessage.getMessage();
 
         binaryDecoder.setBuffer(messageBuffer);
@@ -327,21 +347,21 @@ public class UascClientMessageHandler extends ByteToMessageCodec<UascRequest> {
                       StatusCodes.Bad_UnknownResponse, message.getClass().getSimpleName()));
           out.add(response);
         }
-      } catch (MessageAbortException e) {
-        logger.warn(
-            "Received message abort chunk; error={}, reason={}", e.getStatusCode(), e.getMessage());
+      }
+    } catch (MessageAbortException e) {
+      logger.warn(
+          "Received message abort chunk; error={}, reason={}", e.getStatusCode(), e.getMessage());
 
-        out.add(
-            UascResponse.failure(
-                e.getRequestId(), new UaException(e.getStatusCode(), e.getMessage())));
-      } catch (MessageDecodeException e) {
-        logger.error("Error decoding symmetric message", e);
+      out.add(
+          UascResponse.failure(
+              e.getRequestId(), new UaException(e.getStatusCode(), e.getMessage())));
+    } catch (MessageDecodeException e) {
+      logger.error("Error decoding symmetric message", e);
 
-        ctx.close();
-      } finally {
-        if (messageBuffer != null) {
-          messageBuffer.release();
-        }
+      ctx.close();
+    } finally {
+      if (messageBuffer != null) {
+        messageBuffer.release();
       }
     }
   }
@@ -394,57 +414,163 @@ public class UascClientMessageHandler extends ByteToMessageCodec<UascRequest> {
       final List<ByteBuf> buffersToDecode = chunkBuffers;
       chunkBuffers = new ArrayList<>(getMaxChunkCount());
 
-      ByteBuf messageBuffer = null;
+      if (secureChannel.getSecurityPolicy() == SecurityPolicy.None) {
+        // Unsecured responses involve no crypto.
+        UaResponseMessageType responseMessage =
+            decodeOpenSecureChannelResponse(ctx, buffersToDecode);
 
-      try {
-        DecodedMessage decodedMessage =
-            chunkDecoder.decodeAsymmetric(secureChannel, buffersToDecode);
+        if (responseMessage != null) {
+          onOpenSecureChannelResponse(ctx, responseMessage);
+        }
+      } else {
+        // The response is verified and decrypted on the CryptoExecutor. It shares sequence
+        // numbers with the symmetric traffic on this channel, so nothing else is decoded until
+        // it's been handled, back on the event loop.
+        boolean renewal = secureChannel.getChannelSecurity() != null;
 
-        messageBuffer = decodedMessage.getMessage();
+        if (renewal) {
+          RenewalWriteBarrier.CUMULATIVE_RENEWALS_DECODED.incrementAndGet();
+        }
 
-        binaryDecoder.setBuffer(messageBuffer);
-        UaResponseMessageType responseMessage =
-            (UaResponseMessageType) binaryDecoder.decodeMessage(null);
+        boolean admitted =
+            config
+                .getCryptoExecutor()
+                .tryExecute(
+                    () -> {
+                      UaResponseMessageType responseMessage =
+                          decodeOpenSecureChannelResponse(ctx, buffersToDecode);
+
+                      ctx.executor()
+                          .execute(
+                              () -> {
+                                if (responseMessage != null && ctx.channel().isActive()) {
+                                  onOpenSecureChannelResponse(ctx, responseMessage);
+                                }
+
+                                resumeDecoding(ctx);
+                              });
+                    });
+
+        if (admitted) {
+          // The response is handled in a later event loop task, so pausing now is soon enough.
+          pauseDecoding(ctx);
+        } else {
+          if (renewal) {
+            RenewalWriteBarrier.CUMULATIVE_RENEWALS_DECODED_INLINE.incrementAndGet();
+          }
+
+          UaResponseMessageType responseMessage =
+              decodeOpenSecureChannelResponse(ctx, buffersToDecode);
+
+          if (responseMessage != null) {
+            onOpenSecureChannelResponse(ctx, responseMessage);
+          }
+        }
+      }
+    }
+  }
 
-        StatusCode serviceResult = responseMessage.getResponseHeader().getServiceResult();
+  /**
+   * Decode, verify, and decrypt an OpenSecureChannelResponse.
+   *
+   * <p>This may run on the {@link CryptoExecutor}; it must not modify the secure channel or the
+   * pipeline, or write to the channel.
+   *
+   * @return the decoded response, or {@code null} if there's nothing to handle.
+   */
+  private @Nullable UaResponseMessageType decodeOpenSecureChannelResponse(
+      ChannelHandlerContext ctx, List<ByteBuf> buffersToDecode) {
 
-        if (serviceResult.isGood()) {
-          OpenSecureChannelResponse response = (OpenSecureChannelResponse) responseMessage;
-          logger.debug("Received OpenSecureChannelResponse.");
+    ByteBuf messageBuffer = null;
 
-          secureChannel.setChannelId(response.getSecurityToken().getChannelId().longValue());
+    try {
+      DecodedMessage decodedMessage = chunkDecoder.decodeAsymmetric(secureChannel, buffersToDecode);
 
-          installSecurityToken(ctx, response);
+      messageBuffer = decodedMessage.getMessage();
 
-          handshakeFuture.complete(secureChannel);
-        } else {
-          ServiceFault serviceFault =
-              (responseMessage instanceof ServiceFault)
-                  ? (ServiceFault) responseMessage
-                  : new ServiceFault(responseMessage.getResponseHeader());
+      binaryDecoder.setBuffer(messageBuffer);
 
-          handshakeFuture.completeExceptionally(new UaServiceFaultException(serviceFault));
-          ctx.close();
-        }
-      } catch (MessageAbortException e) {
-        logger.warn(
-            "Received message abort chunk; error={}, reason={}", e.getStatusCode(), e.getMessage());
-      } catch (MessageDecodeException e) {
-        logger.error("Error decoding asymmetric message", e);
+      return (UaResponseMessageType) binaryDecoder.decodeMessage(null);
+    } catch (MessageAbortException e) {
+      logger.warn(
+          "Received message abort chunk; error={}, reason={}", e.getStatusCode(), e.getMessage());
+    } catch (MessageDecodeException e) {
+      logger.error("Error decoding asymmetric message", e);
 
-        handshakeFuture.completeExceptionally(e);
+      handshakeFuture.completeExceptionally(e);
 
-        ctx.close();
-      } catch (Exception e) {
-        logger.error("Error decoding OpenSecureChannelResponse", e);
+      ctx.close();
+    } catch (Exception e) {
+      logger.error("Error decoding OpenSecureChannelResponse", e);
+
+      handshakeFuture.completeExceptionally(e);
+
+      ctx.close();
+    } finally {
+      if (messageBuffer != null) {
+        messageBuffer.release();
+      }
+    }
+
+    return null;
+  }
+
+  /** Install the security token from a decoded OpenSecureChannelResponse. */
+  private void onOpenSecureChannelResponse(
+      ChannelHandlerContext ctx, UaResponseMessageType responseMessage) {
+
+    try {
+      StatusCode serviceResult = responseMessage.getResponseHeader().getServiceResult();
+
+      if (serviceResult.isGood()) {
+        OpenSecureChannelResponse response = (OpenSecureChannelResponse) responseMessage;
+        logger.debug("Received OpenSecureChannelResponse.");
+
+        secureChannel.setChannelId(response.getSecurityToken().getChannelId().longValue());
 
-        handshakeFuture.completeExceptionally(e);
+        installSecurityToken(ctx, response);
 
+        handshakeFuture.complete(secureChannel);
+      } else {
+        ServiceFault serviceFault =
+            (responseMessage instanceof ServiceFault)
+                ? (ServiceFault) responseMessage
+                : new ServiceFault(responseMessage.getResponseHeader());
+
+        handshakeFuture.completeExceptionally(new UaServiceFaultException(serviceFault));
         ctx.close();
-      } finally {
-        if (messageBuffer != null) {
-          messageBuffer.release();
-        }
+      }
+    } catch (Exception e) {
+      logger.error("Error handling OpenSecureChannelResponse", e);
+
+      handshakeFuture.completeExceptionally(e);
+
+      ctx.close();
+    }
+  }
+
+  /**
+   * Stop decoding received messages, and reading from the channel, until {@link
+   * #resumeDecoding(ChannelHandlerContext)}.
+   */
+  private void pauseDecoding(ChannelHandlerContext ctx) {
+    decodingPaused = true;
+
+    ctx.channel().config().setAutoRead(false);
+  }
+
+  /** Resume decoding received messages, starting with any received while paused. */
+  private void resumeDecoding(ChannelHandlerContext ctx) {
+    decodingPaused = false;
+
+    ctx.channel().config().setAutoRead(true);
+
+    if (!ctx.isRemoved()) {
+      try {
+        // Decode whatever is already buffered; reading alone won't if nothing more arrives.
+        channelRead(ctx, Unpooled.EMPTY_BUFFER);
+      } catch (Exception e) {
+        exceptionCaught(ctx, e);
       }
     }
   }
@@ -543,6 +669,22 @@ public class UascClientMessageHandler extends ByteToMessageCodec<UascRequest> {
   }
 
   private boolean accumulateChunk(ByteBuf buffer) throws UaException {
+    chunkBuffers.add(buffer.retain());
+
+    checkChunkLimits(buffer, chunkBuffers.size());
+
+    char chunkType = (char) buffer.getByte(3);
+
+    return (chunkType == 'A' || chunkType == 'F');
+  }
+
+  /**
+   * Check {@code buffer} against the max chunk size, and {@code chunkCount}, including {@code
+   * buffer}, against the max chunk count.
+   *
+   * <p>Resets the reader index of {@code buffer} to the start of the chunk.
+   */
+  private void checkChunkLimits(ByteBuf buffer, int chunkCount) throws UaException {
     int maxChunkCount = getMaxChunkCount();
     int maxChunkSize = getMaxChunkSize();
 
@@ -554,17 +696,11 @@ public class UascClientMessageHandler extends ByteToMessageCodec<UascRequest> {
           String.format("max chunk size exceeded (%s)", maxChunkSize));
     }
 
-    chunkBuffers.add(buffer.retain());
-
-    if (maxChunkCount > 0 && chunkBuffers.size() > maxChunkCount) {
+    if (maxChunkCount > 0 && chunkCount > maxChunkCount) {
       throw new UaException(
           StatusCodes.Bad_TcpMessageTooLarge,
           String.format("max chunk count exceeded (%s)", maxChunkCount));
     }
-
-    char chunkType = (char) buffer.getByte(3);
-
-    return (chunkType == 'A' || chunkType == 'F');
   }
 
   private void sendOpenSecureChannelRequest(
@@ -597,20 +733,50 @@ public class UascClientMessageHandler extends ByteToMessageCodec<UascRequest> {
 
       checkMessageSize(messageBuffer);
 
-      EncodedMessage encodedMessage =
-          chunkEncoder.encodeAsymmetric(
-              secureChannel, requestIdSupplier.get(), messageBuffer, MessageType.OpenSecureChannel);
-
-      CompositeByteBuf chunkComposite = BufferUtil.compositeBuffer();
+      ChannelSecurity channelSecurity = secureChannel.getChannelSecurity();
 
-      for (ByteBuf chunk : encodedMessage.getMessageChunks()) {
-        chunkComposite.addComponent(chunk);
-        chunkComposite.writerIndex(chunkComposite.writerIndex() + chunk.readableBytes());
-      }
+      if (channelSecurity != null && secureChannel.getSecurityPolicy() != SecurityPolicy.None) {
+        // Renewing a token on this connection. Requests keep being encoded with the current
+        // token while the request is signed and encrypted off the event loop, and are sent right
+        // after it.
+        long startNanos = System.nanoTime();
+
+        FramedMessage framedMessage =
+            chunkEncoder.frameAsymmetric(
+                secureChannel,
+                requestIdSupplier.get(),
+                messageBuffer,
+                MessageType.OpenSecureChannel);
+
+        writeBarrier.sealAndWrite(
+            framedMessage,
+            config.getCryptoExecutor(),
+            cause -> {
+              if (ctx.channel().isActive()) {
+                logger.error("Error encoding {}: {}", request, cause.getMessage(), cause);
+
+                ctx.close();
+              }
+            });
 
-      ctx.writeAndFlush(chunkComposite, ctx.voidPromise());
+        RenewalWriteBarrier.CUMULATIVE_EVENT_LOOP_NANOS.addAndGet(System.nanoTime() - startNanos);
+      } else {
+        EncodedMessage encodedMessage =
+            chunkEncoder.encodeAsymmetric(
+                secureChannel,
+                requestIdSupplier.get(),
+                messageBuffer,
+                MessageType.OpenSecureChannel);
+
+        CompositeByteBuf chunkComposite = BufferUtil.compositeBuffer(Integer.MAX_VALUE);
+
+        for (ByteBuf chunk : encodedMessage.getMessageChunks()) {
+          chunkComposite.addComponent(chunk);
+          chunkComposite.writerIndex(chunkComposite.writerIndex() + chunk.readableBytes());
+        }
 
-      ChannelSecurity channelSecurity = secureChannel.getChannelSecurity();
+        ctx.writeAndFlush(chunkComposite, ctx.voidPromise());
+      }
 
       long currentTokenId = -1L;
       if (channelSecurity != null) {
@@ -658,14 +824,17 @@ public class UascClientMessageHandler extends ByteToMessageCodec<UascRequest> {
               messageBuffer,
               MessageType.CloseSecureChannel);
 
-      CompositeByteBuf chunkComposite = BufferUtil.compositeBuffer();
+      CompositeByteBuf chunkComposite = BufferUtil.compositeBuffer(Integer.MAX_VALUE);
 
       for (ByteBuf chunk : encodedMessage.getMessageChunks()) {
         chunkComposite.addComponent(chunk);
         chunkComposite.writerIndex(chunkComposite.writerIndex() + chunk.readableBytes());
       }
 
-      ctx.writeAndFlush(chunkComposite).addListener(future -> ctx.close());
+      ChannelPromise promise = ctx.newPromise();
+      promise.addListener(future -> ctx.close());
+
+      write(ctx, chunkComposite, promise);
 
       secureChannel.setChannelId(0);
     } catch (MessageEncodeException e) {
@@ -681,6 +850,16 @@ public class UascClientMessageHandler extends ByteToMessageCodec<UascRequest> {
     }
   }
 
+  /**
+   * Write and flush {@code chunks}, unless a renewal request is being sealed, in which case they're
+   * held until it has been written.
+   */
+  private void write(ChannelHandlerContext ctx, ByteBuf chunks, ChannelPromise promise) {
+    if (!writeBarrier.hold(chunks, promise)) {
+      ctx.writeAndFlush(chunks, promise);
+    }
+  }
+
   private void checkMessageSize(ByteBuf messageBuffer) throws UaSerializationException {
     int messageSize = messageBuffer.readableBytes();
     int remoteMaxMessageSize = channelParameters.getRemoteMaxMessageSize();
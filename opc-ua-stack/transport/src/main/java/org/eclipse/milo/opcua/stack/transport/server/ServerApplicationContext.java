@@ -41,6 +41,18 @@ public interface ServerApplicationContext {
    */
   EncodingContext getEncodingContext();
 
+  /**
+   * Check if the server currently has capacity for new connections.
+   *
+   * <p>Transports using UASC reject Hello messages with {@code Bad_TcpNotEnoughResources} while
+   * this returns {@code false}, before any secure channel work is done.
+   *
+   * @return {@code true} if the server currently has capacity for new connections.
+   */
+  default boolean isAcceptingConnections() {
+    return true;
+  }
+
   /**
    * Get the next unique secure channel id to assign to a secure channel.
    *
@@ -13,13 +13,15 @@ package org.eclipse.milo.opcua.stack.transport.server.tcp;
 import io.netty.bootstrap.ServerBootstrap;
 import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.channel.*;
+import io.netty.channel.epoll.EpollChannelOption;
 import io.netty.channel.socket.SocketChannel;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.netty.handler.logging.LoggingHandler;
+import io.netty.util.concurrent.EventExecutor;
 import java.net.InetSocketAddress;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
+import org.eclipse.milo.opcua.stack.core.transport.NettyTransport;
 import org.eclipse.milo.opcua.stack.core.transport.TransportProfile;
 import org.eclipse.milo.opcua.stack.core.util.Lazy;
 import org.eclipse.milo.opcua.stack.transport.server.OpcServerTransport;
@@ -48,7 +50,7 @@ public class OpcTcpServerTransport implements OpcServerTransport {
         serverBootstrap.get(
             () ->
                 new ServerBootstrap()
-                    .channel(NioServerSocketChannel.class)
+                    .channel(config.getNettyTransport().getServerSocketChannelClass())
                     .group(config.getEventLoop())
                     .handler(new LoggingHandler(OpcTcpServerTransport.class))
                     .childOption(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
@@ -77,13 +79,29 @@ public class OpcTcpServerTransport implements OpcServerTransport {
 
     assert bootstrap != null;
 
+    int acceptors = 1;
+
+    if (config.getNettyTransport() == NettyTransport.EPOLL && config.isReusePort()) {
+      // With SO_REUSEPORT the kernel load-balances incoming connections across every socket bound
+      // to the same address, so bind one per event loop to accept on all of them in parallel.
+      bootstrap.option(EpollChannelOption.SO_REUSEPORT, true);
+
+      acceptors = 0;
+      for (EventExecutor ignored : config.getEventLoop()) {
+        acceptors++;
+      }
+    }
+
     config.getBootstrapCustomizer().accept(bootstrap);
 
     if (!boundAddresses.contains(bindAddress)) {
-      ChannelFuture bindFuture = bootstrap.bind(bindAddress).sync();
+      for (int i = 0; i < Math.max(1, acceptors); i++) {
+        ChannelFuture bindFuture = bootstrap.bind(bindAddress).sync();
+
+        channelReferences.add(bindFuture.channel());
+      }
 
       boundAddresses.add(bindAddress);
-      channelReferences.add(bindFuture.channel());
     }
   }
 
@@ -10,11 +10,32 @@
 
 package org.eclipse.milo.opcua.stack.transport.server.tcp;
 
+import org.eclipse.milo.opcua.stack.core.transport.NettyTransport;
 import org.eclipse.milo.opcua.stack.transport.server.OpcServerTransportConfig;
 import org.eclipse.milo.opcua.stack.transport.server.uasc.UascServerConfig;
 
 public interface OpcTcpServerTransportConfig extends OpcServerTransportConfig, UascServerConfig {
 
+  /**
+   * Get the {@link NettyTransport} used by this transport.
+   *
+   * <p>This is always the transport matching {@link #getEventLoop()}.
+   *
+   * @return the {@link NettyTransport} used by this transport.
+   */
+  NettyTransport getNettyTransport();
+
+  /**
+   * Get whether {@code SO_REUSEPORT} is enabled on the listening sockets.
+   *
+   * <p>When enabled and the {@link NettyTransport#EPOLL} transport is in use, each bind address is
+   * bound once per event loop thread so incoming connections are accepted by multiple threads in
+   * parallel. Ignored by the {@link NettyTransport#NIO} transport.
+   *
+   * @return {@code true} if {@code SO_REUSEPORT} is enabled on the listening sockets.
+   */
+  boolean isReusePort();
+
   /**
    * Create a new {@link OpcTcpServerTransportConfigBuilder}.
    *
@@ -19,15 +19,21 @@ import io.netty.channel.EventLoopGroup;
 import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
 import org.eclipse.milo.opcua.stack.core.Stack;
+import org.eclipse.milo.opcua.stack.core.transport.NettyTransport;
 import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
+import org.eclipse.milo.opcua.stack.core.util.CryptoExecutor;
 
 public class OpcTcpServerTransportConfigBuilder {
 
   private ExecutorService executor;
+  private CryptoExecutor cryptoExecutor;
   private EventLoopGroup eventLoop;
+  private NettyTransport nettyTransport = NettyTransport.NIO;
+  private boolean reusePort = false;
   private UInteger helloDeadline = uint(10_000);
   private UInteger minimumSecureChannelLifetime = uint(60_000);
   private UInteger maximumSecureChannelLifetime = uint(60_000 * 60 * 24);
+  private boolean retainExtensionObjectBodies = false;
   private Consumer<ServerBootstrap> bootstrapCustomizer = b -> {};
   private Consumer<ChannelPipeline> channelPipelineCustomizer = p -> {};
 
@@ -36,11 +42,55 @@ public class OpcTcpServerTransportConfigBuilder {
     return this;
   }
 
+  /**
+   * Set the {@link CryptoExecutor} used for secure channel handshakes.
+   *
+   * <p>If not set, {@link Stack#sharedCryptoExecutor()} is used.
+   *
+   * @param cryptoExecutor the {@link CryptoExecutor} to use.
+   * @return this {@link OpcTcpServerTransportConfigBuilder}.
+   * @see OpcTcpServerTransportConfig#getCryptoExecutor()
+   */
+  public OpcTcpServerTransportConfigBuilder setCryptoExecutor(CryptoExecutor cryptoExecutor) {
+    this.cryptoExecutor = cryptoExecutor;
+    return this;
+  }
+
   public OpcTcpServerTransportConfigBuilder setEventLoop(EventLoopGroup eventLoop) {
     this.eventLoop = eventLoop;
     return this;
   }
 
+  /**
+   * Set the {@link NettyTransport} to use when no {@link EventLoopGroup} has been configured.
+   *
+   * <p>Defaults to {@link NettyTransport#NIO}. Set {@link NettyTransport#EPOLL} to opt in to the
+   * native Linux transport; this requires {@code netty-transport-native-epoll} for the platform on
+   * the classpath, and falls back to {@link NettyTransport#NIO} when it isn't available. When an
+   * {@link EventLoopGroup} has been configured the transport is always the one matching that event
+   * loop.
+   *
+   * @param nettyTransport the {@link NettyTransport} to use.
+   * @return this {@link OpcTcpServerTransportConfigBuilder}.
+   */
+  public OpcTcpServerTransportConfigBuilder setNettyTransport(NettyTransport nettyTransport) {
+    this.nettyTransport = nettyTransport;
+    return this;
+  }
+
+  /**
+   * Set whether {@code SO_REUSEPORT} is enabled on the listening sockets, allowing each bind
+   * address to be accepted on by every event loop thread. Only supported by the {@link
+   * NettyTransport#EPOLL} transport.
+   *
+   * @param reusePort {@code true} to enable {@code SO_REUSEPORT}.
+   * @return this {@link OpcTcpServerTransportConfigBuilder}.
+   */
+  public OpcTcpServerTransportConfigBuilder setReusePort(boolean reusePort) {
+    this.reusePort = reusePort;
+    return this;
+  }
+
   /**
    * Set a {@link Consumer} that will be given a chance to customize the {@link Bootstrap} used by
    * this transport.
@@ -88,50 +138,84 @@ public class OpcTcpServerTransportConfigBuilder {
     return this;
   }
 
+  /**
+   * Set whether the bodies of Binary ExtensionObjects in inbound requests are kept as retained
+   * slices of the received message instead of being copied.
+   *
+   * @param retainExtensionObjectBodies {@code true} to retain Binary ExtensionObject bodies.
+   * @return this {@link OpcTcpServerTransportConfigBuilder}.
+   * @see OpcTcpServerTransportConfig#isRetainExtensionObjectBodies()
+   */
+  public OpcTcpServerTransportConfigBuilder setRetainExtensionObjectBodies(
+      boolean retainExtensionObjectBodies) {
+
+    this.retainExtensionObjectBodies = retainExtensionObjectBodies;
+    return this;
+  }
+
   public OpcTcpServerTransportConfig build() {
     if (executor == null) {
       executor = Stack.sharedExecutor();
     }
+    if (cryptoExecutor == null) {
+      cryptoExecutor = Stack.sharedCryptoExecutor();
+    }
     if (eventLoop == null) {
-      eventLoop = Stack.sharedEventLoop();
+      eventLoop = Stack.sharedEventLoop(nettyTransport);
     }
 
     return new OpcTcpServerTransportConfigImpl(
         executor,
+        cryptoExecutor,
         eventLoop,
+        NettyTransport.of(eventLoop),
+        reusePort,
         bootstrapCustomizer,
         channelPipelineCustomizer,
         helloDeadline,
         minimumSecureChannelLifetime,
-        maximumSecureChannelLifetime);
+        maximumSecureChannelLifetime,
+        retainExtensionObjectBodies);
   }
 
   static class OpcTcpServerTransportConfigImpl implements OpcTcpServerTransportConfig {
 
     private final ExecutorService executor;
+    private final CryptoExecutor cryptoExecutor;
     private final EventLoopGroup eventLoop;
+    private final NettyTransport nettyTransport;
+    private final boolean reusePort;
     private final UInteger helloDeadline;
     private final UInteger minimumSecureChannelLifetime;
     private final UInteger maximumSecureChannelLifetime;
+    private final boolean retainExtensionObjectBodies;
     private final Consumer<ServerBootstrap> bootstrapCustomizer;
     private final Consumer<ChannelPipeline> channelPipelineCustomizer;
 
     public OpcTcpServerTransportConfigImpl(
         ExecutorService executor,
+        CryptoExecutor cryptoExecutor,
         EventLoopGroup eventLoop,
+        NettyTransport nettyTransport,
+        boolean reusePort,
         Consumer<ServerBootstrap> bootstrapCustomizer,
         Consumer<ChannelPipeline> channelPipelineCustomizer,
         UInteger helloDeadline,
         UInteger minimumSecureChannelLifetime,
-        UInteger maximumSecureChannelLifetime) {
+        UInteger maximumSecureChannelLifetime,
+        boolean retainExtensionObjectBodies) {
 
       this.executor = executor;
+      this.cryptoExecutor = cryptoExecutor;
       this.eventLoop = eventLoop;
+      this.nettyTransport = nettyTransport;
+      this.reusePort = reusePort;
       this.bootstrapCustomizer = bootstrapCustomizer;
       this.channelPipelineCustomizer = channelPipelineCustomizer;
       this.helloDeadline = helloDeadline;
       this.minimumSecureChannelLifetime = minimumSecureChannelLifetime;
       this.maximumSecureChannelLifetime = maximumSecureChannelLifetime;
+      this.retainExtensionObjectBodies = retainExtensionObjectBodies;
     }
 
     @Override
@@ -139,11 +223,26 @@ public class OpcTcpServerTransportConfigBuilder {
       return executor;
     }
 
+    @Override
+    public CryptoExecutor getCryptoExecutor() {
+      return cryptoExecutor;
+    }
+
     @Override
     public EventLoopGroup getEventLoop() {
       return eventLoop;
     }
 
+    @Override
+    public NettyTransport getNettyTransport() {
+      return nettyTransport;
+    }
+
+    @Override
+    public boolean isReusePort() {
+      return reusePort;
+    }
+
     @Override
     public Consumer<ServerBootstrap> getBootstrapCustomizer() {
       return bootstrapCustomizer;
@@ -168,5 +267,10 @@ public class OpcTcpServerTransportConfigBuilder {
     public UInteger getMaximumSecureChannelLifetime() {
       return maximumSecureChannelLifetime;
     }
+
+    @Override
+    public boolean isRetainExtensionObjectBodies() {
+      return retainExtensionObjectBodies;
+    }
   }
 }
@@ -19,11 +19,13 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.ipfilter.AbstractRemoteAddressFilter;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
-import java.util.LinkedList;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
 import org.eclipse.milo.opcua.stack.core.Stack;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -33,9 +35,14 @@ import org.slf4j.LoggerFactory;
  * handler that is added to the beginning of every server pipeline to handle rate limiting and
  * connection limits.
  *
- * <p>Any configuration changes must be made before an {@link OpcTcpServerTransport} is bound the
- * first time, application-wide. Once the instance has been created further configuration changes
- * will have no effect.
+ * <p>Connect attempts from each remote address are limited by a token bucket holding up to {@link
+ * Limits#maxAttempts()} tokens, refilled at {@code maxAttempts} per {@link Limits#windowMs()}. The
+ * bucket is implemented as a single theoretical arrival time per address, updated with
+ * compare-and-set, so accepting never takes a lock. Addresses whose bucket has refilled are
+ * forgotten, and at most {@link Limits#maxTrackedAddresses()} addresses are tracked at once.
+ *
+ * <p>The initial {@link Limits} are taken from {@link Stack.ConnectionLimits} when the instance is
+ * created; use {@link #setLimits(Limits)} to change them afterward.
  */
 @ChannelHandler.Sharable
 public class RateLimitingHandler extends AbstractRemoteAddressFilter<InetSocketAddress> {
@@ -50,9 +57,10 @@ public class RateLimitingHandler extends AbstractRemoteAddressFilter<InetSocketA
    * <p>The values of {@link Stack.ConnectionLimits#RATE_LIMIT_ENABLED}, {@link
    * Stack.ConnectionLimits#RATE_LIMIT_MAX_ATTEMPTS}, {@link
    * Stack.ConnectionLimits#RATE_LIMIT_WINDOW_MS}, {@link
-   * Stack.ConnectionLimits#RATE_LIMIT_MAX_CONNECTIONS}, and {@link
-   * Stack.ConnectionLimits#RATE_LIMIT_MAX_CONNECTIONS_PER_ADDRESS} will be locked in whenever the
-   * first invocation of this method occurs.
+   * Stack.ConnectionLimits#RATE_LIMIT_MAX_CONNECTIONS}, {@link
+   * Stack.ConnectionLimits#RATE_LIMIT_MAX_CONNECTIONS_PER_ADDRESS}, and {@link
+   * Stack.ConnectionLimits#RATE_LIMIT_MAX_TRACKED_ADDRESSES} become the initial {@link Limits}
+   * whenever the first invocation of this method occurs.
    *
    * @return the shared {@link RateLimitingHandler} instance.
    */
@@ -64,159 +72,247 @@ public class RateLimitingHandler extends AbstractRemoteAddressFilter<InetSocketA
 
     private static final RateLimitingHandler INSTANCE =
         new RateLimitingHandler(
-            Stack.ConnectionLimits.RATE_LIMIT_ENABLED,
-            Stack.ConnectionLimits.RATE_LIMIT_MAX_ATTEMPTS,
-            Stack.ConnectionLimits.RATE_LIMIT_WINDOW_MS,
-            Stack.ConnectionLimits.RATE_LIMIT_MAX_CONNECTIONS,
-            Stack.ConnectionLimits.RATE_LIMIT_MAX_CONNECTIONS_PER_ADDRESS);
+            new Limits(
+                Stack.ConnectionLimits.RATE_LIMIT_ENABLED,
+                Stack.ConnectionLimits.RATE_LIMIT_MAX_ATTEMPTS,
+                Stack.ConnectionLimits.RATE_LIMIT_WINDOW_MS,
+                Stack.ConnectionLimits.RATE_LIMIT_MAX_CONNECTIONS,
+                Stack.ConnectionLimits.RATE_LIMIT_MAX_CONNECTIONS_PER_ADDRESS,
+                Stack.ConnectionLimits.RATE_LIMIT_MAX_TRACKED_ADDRESSES),
+            System::nanoTime);
   }
 
+  /** Marks a bucket that is being removed; it must not be updated any more. */
+  private static final long EXPIRED = Long.MIN_VALUE;
+
   private final Logger logger = LoggerFactory.getLogger(getClass());
-  private final ConcurrentMap<InetAddress, LinkedList<Long>> timestamps = new ConcurrentHashMap<>();
 
-  private final boolean enabled;
-  private final int maxAttempts;
-  private final int rateLimitWindowMs;
-  private final int maxConnections;
-  private final int maxConnectionsPerAddress;
+  /** The theoretical arrival time, in {@link #nanoTime} nanos, of the next attempt per address. */
+  private final ConcurrentMap<InetAddress, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+  private final AtomicLong lastSweep;
 
   private final Multiset<InetAddress> connections = ConcurrentHashMultiset.create();
+  private final AtomicInteger connectionCount = new AtomicInteger();
 
-  private RateLimitingHandler(
-      boolean enabled,
-      int maxAttempts,
-      int rateLimitWindowMs,
-      int maxConnections,
-      int maxConnectionsPerAddress) {
-
-    this.enabled = enabled;
-    this.maxAttempts = maxAttempts;
-    this.rateLimitWindowMs = rateLimitWindowMs;
-    this.maxConnections = maxConnections;
-    this.maxConnectionsPerAddress = maxConnectionsPerAddress;
-
-    logger.debug(
-        "enabled={}, maxAttempts={}, rateLimitWindowMs={}, maxConnections={},"
-            + " maxConnectionsPerAddress={}",
-        enabled,
-        maxAttempts,
-        rateLimitWindowMs,
-        maxConnections,
-        maxConnectionsPerAddress);
+  private volatile Limits limits;
+
+  private final LongSupplier nanoTime;
+
+  RateLimitingHandler(Limits limits, LongSupplier nanoTime) {
+    this.limits = limits;
+    this.nanoTime = nanoTime;
+
+    lastSweep = new AtomicLong(nanoTime.getAsLong());
+
+    logger.debug("{}", limits);
+  }
+
+  /**
+   * Get the {@link Limits} currently being applied.
+   *
+   * @return the {@link Limits} currently being applied.
+   */
+  public Limits getLimits() {
+    return limits;
+  }
+
+  /**
+   * Set the {@link Limits} to apply to connect attempts from now on.
+   *
+   * <p>Connections that have already been accepted are not affected.
+   *
+   * @param limits the {@link Limits} to apply.
+   */
+  public void setLimits(Limits limits) {
+    this.limits = limits;
+
+    logger.debug("{}", limits);
+  }
+
+  /**
+   * @return the number of remote addresses currently being tracked for rate limiting.
+   */
+  public int getTrackedAddressCount() {
+    return buckets.size();
   }
 
   @Override
-  protected synchronized boolean accept(ChannelHandlerContext ctx, InetSocketAddress isa) {
+  protected boolean accept(ChannelHandlerContext ctx, InetSocketAddress isa) {
     final InetAddress address = isa.getAddress();
+    final Limits limits = this.limits;
 
-    if (!enabled || address.isLoopbackAddress()) {
+    if (!limits.enabled() || address.isLoopbackAddress()) {
       return true;
     }
 
-    LinkedList<Long> attempts = timestamps.computeIfAbsent(address, ia -> new LinkedList<>());
+    long now = nanoTime.getAsLong();
 
-    long now = System.currentTimeMillis();
+    maybeSweep(limits, now);
 
-    if (attempts.size() >= maxAttempts) {
-      // count the number of previous connections from this address
-      // that have occurred within the rate limit window.
-      int attemptsInWindow = 0;
-      for (Long ts : attempts) {
-        if (now - ts < rateLimitWindowMs) {
-          attemptsInWindow++;
-        }
-      }
+    boolean withinRate = tryAcquire(address, limits, now);
 
-      attempts.addLast(now);
-      while (attempts.size() > maxAttempts) {
-        attempts.removeFirst();
-      }
+    int connectionsTotal = connectionCount.get();
+    int connectionsFromAddress = connections.count(address);
 
-      int connectionsTotal = connections.size();
-      int connectionsFromAddress = connections.count(address);
-
-      boolean accept =
-          attemptsInWindow < maxAttempts
-              && connectionsTotal < maxConnections
-              && connectionsFromAddress < maxConnectionsPerAddress;
-
-      if (accept) {
-        logger.debug(
-            "Accepting connection from {}. window={}ms, attemptsInWindow={},"
-                + " connectionsTotal={}, connectionsFromAddress={}",
-            isa,
-            rateLimitWindowMs,
-            attemptsInWindow,
-            connectionsTotal,
-            connectionsFromAddress);
-      } else {
-        logger.debug(
-            "Rejecting connection from {}. window={}ms, attemptsInWindow={},"
-                + " connectionsTotal={}, connectionsFromAddress={}",
-            isa,
-            rateLimitWindowMs,
-            attemptsInWindow,
-            connectionsTotal,
-            connectionsFromAddress);
-
-        long cumulativeConnectionsRejected = CUMULATIVE_CONNECTIONS_REJECTED.incrementAndGet();
-        logger.debug("cumulativeConnectionsRejected={}", cumulativeConnectionsRejected);
-      }
+    boolean accept =
+        withinRate
+            && connectionsTotal < limits.maxConnections()
+            && connectionsFromAddress < limits.maxConnectionsPerAddress();
 
-      return accept;
+    if (accept) {
+      logger.debug(
+          "Accepting connection from {}. connectionsTotal={}, connectionsFromAddress={}",
+          isa,
+          connectionsTotal,
+          connectionsFromAddress);
     } else {
-      attempts.addLast(now);
-
-      return true;
+      long cumulativeConnectionsRejected = CUMULATIVE_CONNECTIONS_REJECTED.incrementAndGet();
+
+      logger.debug(
+          "Rejecting connection from {}. withinRate={}, connectionsTotal={},"
+              + " connectionsFromAddress={}, cumulativeConnectionsRejected={}",
+          isa,
+          withinRate,
+          connectionsTotal,
+          connectionsFromAddress,
+          cumulativeConnectionsRejected);
     }
+
+    return accept;
   }
 
   @Override
   protected void channelAccepted(ChannelHandlerContext ctx, InetSocketAddress remoteAddress) {
     final InetAddress address = remoteAddress.getAddress();
 
-    if (!enabled || address.isLoopbackAddress()) {
+    if (!limits.enabled() || address.isLoopbackAddress()) {
       return;
     }
 
     connections.add(address);
+    connectionCount.incrementAndGet();
+
+    ctx.channel().closeFuture().addListener(new ChannelCloseListener(address));
+  }
+
+  /**
+   * Take a token from the bucket for {@code address}, if there is one.
+   *
+   * <p>Each attempt moves the bucket's theoretical arrival time forward by one emission interval
+   * ({@code window / maxAttempts}); an attempt is allowed as long as that time is no more than
+   * {@code window - interval} ahead of now, i.e. as long as there's a token left in the bucket.
+   */
+  private boolean tryAcquire(InetAddress address, Limits limits, long now) {
+    long window = TimeUnit.MILLISECONDS.toNanos(Math.max(1, limits.windowMs()));
+    long interval = window / Math.max(1, limits.maxAttempts());
+    long tolerance = window - interval;
+
+    while (true) {
+      AtomicLong bucket = buckets.get(address);
+
+      if (bucket == null) {
+        if (buckets.size() >= limits.maxTrackedAddresses()) {
+          // Make room if buckets have refilled, but don't sweep the whole table for every new
+          // address while it's full; at most once per emission interval.
+          trySweep(now, interval);
+
+          if (buckets.size() >= limits.maxTrackedAddresses()) {
+            logger.debug("Not tracking {}; {} addresses already tracked", address, buckets.size());
+            return false;
+          }
+        }
+
+        bucket = buckets.putIfAbsent(address, new AtomicLong(now + interval));
+
+        if (bucket == null) {
+          return true;
+        }
+      }
+
+      long tat = bucket.get();
+
+      if (tat == EXPIRED) {
+        // A sweep is removing this bucket; help it along and start over with a new one.
+        buckets.remove(address, bucket);
+        continue;
+      }
 
-    ctx.channel().closeFuture().addListener(new ChannelCloseListener(address, ctx));
+      long next = tat - now > 0 ? tat : now;
+
+      if (next - now > tolerance) {
+        return false;
+      }
+
+      if (bucket.compareAndSet(tat, next + interval)) {
+        return true;
+      }
+    }
+  }
+
+  /** Sweep once per window so departed addresses don't accumulate. */
+  private void maybeSweep(Limits limits, long now) {
+    trySweep(now, TimeUnit.MILLISECONDS.toNanos(Math.max(1, limits.windowMs())));
+  }
+
+  /**
+   * Sweep if at least {@code minInterval} nanos have passed since the last sweep. Only one of the
+   * callers racing to sweep does.
+   */
+  private void trySweep(long now, long minInterval) {
+    long last = lastSweep.get();
+
+    if (now - last >= minInterval && lastSweep.compareAndSet(last, now)) {
+      sweep(now);
+    }
+  }
+
+  /** Remove the buckets that have refilled completely, which are equivalent to no bucket. */
+  private void sweep(long now) {
+    for (Map.Entry<InetAddress, AtomicLong> e : buckets.entrySet()) {
+      AtomicLong bucket = e.getValue();
+      long tat = bucket.get();
+
+      if (tat != EXPIRED && tat - now <= 0 && bucket.compareAndSet(tat, EXPIRED)) {
+        buckets.remove(e.getKey(), bucket);
+      }
+    }
   }
 
   private class ChannelCloseListener implements ChannelFutureListener {
 
     private final InetAddress address;
-    private final ChannelHandlerContext ctx;
 
-    private ChannelCloseListener(InetAddress address, ChannelHandlerContext ctx) {
+    private ChannelCloseListener(InetAddress address) {
       this.address = address;
-      this.ctx = ctx;
     }
 
     @Override
     public void operationComplete(ChannelFuture channelFuture) {
       connections.remove(address);
-
-      if (connections.count(address) == 0) {
-        logger.debug("Scheduling timestamp removal for {}", address);
-
-        ctx.executor()
-            .schedule(
-                () -> {
-                  // If there's still no connections from the remote address after the rate limit
-                  // window remove the timestamps.
-                  // Removing them before the window elapses would allow a remote address to
-                  // connect/disconnect at an effectively unlimited rate.
-
-                  if (connections.count(address) == 0) {
-                    timestamps.remove(address);
-                    logger.debug("Removed timestamps for {}", address);
-                  }
-                },
-                rateLimitWindowMs,
-                TimeUnit.MILLISECONDS);
-      }
+      connectionCount.decrementAndGet();
     }
   }
+
+  /**
+   * Limits applied by a {@link RateLimitingHandler}.
+   *
+   * @param enabled whether rate and connection limiting is enabled at all.
+   * @param maxAttempts the maximum number of connect attempts per remote address per {@code
+   *     windowMs}, which is also the size of the burst allowed.
+   * @param windowMs the window of time, in milliseconds, over which connect attempts are counted.
+   * @param maxConnections the maximum number of connections allowed in total (any remote address,
+   *     not including localhost).
+   * @param maxConnectionsPerAddress the maximum number of connections allowed from any 1 remote
+   *     address.
+   * @param maxTrackedAddresses the maximum number of remote addresses whose connect attempts are
+   *     tracked at once; attempts from further addresses are rejected until some are forgotten.
+   */
+  public record Limits(
+      boolean enabled,
+      int maxAttempts,
+      int windowMs,
+      int maxConnections,
+      int maxConnectionsPerAddress,
+      int maxTrackedAddresses) {}
 }
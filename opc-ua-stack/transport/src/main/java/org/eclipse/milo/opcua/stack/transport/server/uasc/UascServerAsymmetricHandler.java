@@ -41,10 +41,12 @@ import org.eclipse.milo.opcua.stack.core.channel.ChannelSecurity.SecurityKeys;
 import org.eclipse.milo.opcua.stack.core.channel.ChunkDecoder;
 import org.eclipse.milo.opcua.stack.core.channel.ChunkEncoder;
 import org.eclipse.milo.opcua.stack.core.channel.ChunkEncoder.EncodedMessage;
+import org.eclipse.milo.opcua.stack.core.channel.ChunkEncoder.FramedMessage;
 import org.eclipse.milo.opcua.stack.core.channel.ExceptionHandler;
 import org.eclipse.milo.opcua.stack.core.channel.MessageAbortException;
 import org.eclipse.milo.opcua.stack.core.channel.MessageDecodeException;
 import org.eclipse.milo.opcua.stack.core.channel.MessageEncodeException;
+import org.eclipse.milo.opcua.stack.core.channel.RenewalWriteBarrier;
 import org.eclipse.milo.opcua.stack.core.channel.ServerSecureChannel;
 import org.eclipse.milo.opcua.stack.core.channel.headers.AsymmetricSecurityHeader;
 import org.eclipse.milo.opcua.stack.core.channel.headers.HeaderDecoder;
@@ -67,10 +69,12 @@ import org.eclipse.milo.opcua.stack.core.types.structured.OpenSecureChannelReque
 import org.eclipse.milo.opcua.stack.core.types.structured.OpenSecureChannelResponse;
 import org.eclipse.milo.opcua.stack.core.types.structured.ResponseHeader;
 import org.eclipse.milo.opcua.stack.core.util.BufferUtil;
+import org.eclipse.milo.opcua.stack.core.util.CryptoExecutor;
 import org.eclipse.milo.opcua.stack.core.util.DigestUtil;
 import org.eclipse.milo.opcua.stack.core.util.EndpointUtil;
 import org.eclipse.milo.opcua.stack.core.util.NonceUtil;
 import org.eclipse.milo.opcua.stack.transport.server.ServerApplicationContext;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -83,7 +87,10 @@ public class UascServerAsymmetricHandler extends ByteToMessageDecoder implements
   private ServerSecureChannel secureChannel;
   private Timeout secureChannelTimeout;
 
-  private boolean symmetricHandlerAdded = false;
+  private @Nullable UascServerSymmetricHandler symmetricHandler;
+
+  /** Set while an OpenSecureChannelRequest is being handled on the {@link CryptoExecutor}. */
+  private boolean handshakeInProgress = false;
 
   private List<ByteBuf> chunkBuffers = new ArrayList<>();
 
@@ -199,6 +206,11 @@ public class UascServerAsymmetricHandler extends ByteToMessageDecoder implements
   }
 
   private void onOpenSecureChannel(ChannelHandlerContext ctx, ByteBuf buffer) throws UaException {
+    if (handshakeInProgress) {
+      throw new UaException(
+          StatusCodes.Bad_SecurityChecksFailed, "OpenSecureChannel received during handshake");
+    }
+
     buffer.skipBytes(3); // Skip messageType
 
     char chunkType = (char) buffer.readByte();
@@ -355,96 +367,297 @@ public class UascServerAsymmetricHandler extends ByteToMessageDecoder implements
         chunkBuffers = new ArrayList<>();
         headerRef.set(null);
 
-        ByteBuf message;
-        long requestId;
-
-        try {
-          ChunkDecoder.DecodedMessage decodedMessage =
-              chunkDecoder.decodeAsymmetric(secureChannel, buffersToDecode);
+        if (secureChannel.getSecurityPolicy() == SecurityPolicy.None) {
+          // Unsecured handshakes and renewals involve no crypto.
+          OpenSecureChannelResult result =
+              handleOpenSecureChannel(ctx, secureChannelId, header, buffersToDecode);
 
-          message = decodedMessage.getMessage();
-          requestId = decodedMessage.getRequestId();
-        } catch (MessageAbortException e) {
-          logger.warn(
-              "Received message abort chunk; error={}, reason={}",
-              e.getStatusCode(),
-              e.getMessage());
-          return;
-        } catch (MessageDecodeException e) {
-          logger.error("Error decoding asymmetric message", e);
+          if (result != null) {
+            ByteBuf chunks = sealOpenSecureChannelResponse(ctx, result.framedMessage());
 
-          ctx.executor()
-              .schedule(() -> ctx.close(), new Random().nextInt(1000), TimeUnit.MILLISECONDS);
+            if (chunks != null) {
+              completeOpenSecureChannel(ctx, chunks, result.lifetime());
+            }
+          }
+        } else if (symmetricHandler != null) {
+          // Renewals share sequence numbers with the symmetric traffic on this channel. The
+          // request is verified and decrypted on the CryptoExecutor while the symmetric handler
+          // decodes nothing else, then the response is encoded and framed in order, on the event
+          // loop, and sealed on the CryptoExecutor while responses sent in the meantime are held
+          // to follow it.
+          final UascServerSymmetricHandler symmetricHandler = this.symmetricHandler;
+
+          RenewalWriteBarrier.CUMULATIVE_RENEWALS_DECODED.incrementAndGet();
+
+          handshakeInProgress = true;
+
+          boolean admitted =
+              config
+                  .getCryptoExecutor()
+                  .tryExecute(
+                      () -> {
+                        DecodedRequest request =
+                            decodeOpenSecureChannelRequest(ctx, secureChannelId, buffersToDecode);
+
+                        ctx.executor()
+                            .execute(
+                                () -> {
+                                  handshakeInProgress = false;
+
+                                  if (request != null && ctx.channel().isActive()) {
+                                    long startNanos = System.nanoTime();
+
+                                    renewOpenSecureChannel(ctx, symmetricHandler, header, request);
+
+                                    RenewalWriteBarrier.CUMULATIVE_EVENT_LOOP_NANOS.addAndGet(
+                                        System.nanoTime() - startNanos);
+                                  }
+
+                                  symmetricHandler.resumeDecoding();
+                                });
+                      });
+
+          if (admitted) {
+            // The request is handled in a later event loop task, so pausing now is soon enough.
+            symmetricHandler.pauseDecoding();
+          } else {
+            handshakeInProgress = false;
 
-          return;
-        }
+            RenewalWriteBarrier.CUMULATIVE_RENEWALS_DECODED_INLINE.incrementAndGet();
 
-        try {
-          OpenSecureChannelRequest request =
-              (OpenSecureChannelRequest) binaryDecoder.setBuffer(message).decodeMessage(null);
+            long startNanos = System.nanoTime();
 
-          logger.debug(
-              "Received OpenSecureChannelRequest ({}, id={}).",
-              request.getRequestType(),
-              secureChannelId);
+            DecodedRequest request =
+                decodeOpenSecureChannelRequest(ctx, secureChannelId, buffersToDecode);
 
-          if (request.getRequestType() == SecurityTokenRequestType.Renew) {
-            if (secureChannelId == 0L) {
-              throw new UaException(
-                  StatusCodes.Bad_SecurityChecksFailed,
-                  "secure channel renewal for secureChannelId=0");
+            if (request != null) {
+              renewOpenSecureChannel(ctx, symmetricHandler, header, request);
             }
-          }
 
-          sendOpenSecureChannelResponse(ctx, requestId, header, request);
-        } catch (Throwable t) {
-          logger.error("Error decoding OpenSecureChannelRequest", t);
+            RenewalWriteBarrier.CUMULATIVE_EVENT_LOOP_NANOS.addAndGet(
+                System.nanoTime() - startNanos);
+          }
+        } else {
+          handshakeInProgress = true;
+
+          boolean admitted =
+              config
+                  .getCryptoExecutor()
+                  .tryExecute(
+                      () -> {
+                        OpenSecureChannelResult result =
+                            handleOpenSecureChannel(ctx, secureChannelId, header, buffersToDecode);
+
+                        ByteBuf chunks =
+                            result != null
+                                ? sealOpenSecureChannelResponse(ctx, result.framedMessage())
+                                : null;
+
+                        ctx.executor()
+                            .execute(
+                                () -> {
+                                  handshakeInProgress = false;
+
+                                  if (result != null && chunks != null) {
+                                    completeOpenSecureChannel(ctx, chunks, result.lifetime());
+                                  }
+                                });
+                      });
+
+          if (!admitted) {
+            handshakeInProgress = false;
+            buffersToDecode.forEach(ReferenceCountUtil::safeRelease);
+            buffersToDecode.clear();
 
-          ctx.close();
-        } finally {
-          message.release();
-          buffersToDecode.clear();
+            throw new UaException(
+                StatusCodes.Bad_TcpNotEnoughResources,
+                "too many secure channel handshakes in progress");
+          }
         }
       }
     }
   }
 
-  private void sendOpenSecureChannelResponse(
+  /**
+   * Decode, verify, and decrypt an OpenSecureChannelRequest and encode and frame the response.
+   *
+   * <p>This may run on the {@link CryptoExecutor}; it must not modify the pipeline or write to the
+   * channel.
+   *
+   * @return the framed response, or {@code null} if there's no response to send.
+   */
+  private @Nullable OpenSecureChannelResult handleOpenSecureChannel(
       ChannelHandlerContext ctx,
-      long requestId,
+      long secureChannelId,
       AsymmetricSecurityHeader header,
-      OpenSecureChannelRequest request) {
+      List<ByteBuf> buffersToDecode) {
 
-    ByteBuf messageBuffer = BufferUtil.pooledBuffer();
+    DecodedRequest request = decodeOpenSecureChannelRequest(ctx, secureChannelId, buffersToDecode);
+
+    return request != null ? respondToOpenSecureChannel(ctx, header, request) : null;
+  }
+
+  /**
+   * Decode, verify, and decrypt an OpenSecureChannelRequest.
+   *
+   * <p>This may run on the {@link CryptoExecutor}; it must not modify the secure channel or the
+   * pipeline, or write to the channel.
+   *
+   * @return the decoded request, or {@code null} if there's nothing to respond to.
+   */
+  private @Nullable DecodedRequest decodeOpenSecureChannelRequest(
+      ChannelHandlerContext ctx, long secureChannelId, List<ByteBuf> buffersToDecode) {
+
+    ByteBuf message;
+    long requestId;
 
     try {
-      OpenSecureChannelResponse response = openSecureChannel(ctx, header, request);
+      ChunkDecoder.DecodedMessage decodedMessage =
+          chunkDecoder.decodeAsymmetric(secureChannel, buffersToDecode);
 
-      binaryEncoder.setBuffer(messageBuffer);
-      binaryEncoder.encodeMessage(null, response);
+      message = decodedMessage.getMessage();
+      requestId = decodedMessage.getRequestId();
+    } catch (MessageAbortException e) {
+      logger.warn(
+          "Received message abort chunk; error={}, reason={}", e.getStatusCode(), e.getMessage());
+      return null;
+    } catch (MessageDecodeException e) {
+      logger.error("Error decoding asymmetric message", e);
 
-      checkMessageSize(messageBuffer);
+      ctx.executor().schedule(() -> ctx.close(), new Random().nextInt(1000), TimeUnit.MILLISECONDS);
 
-      EncodedMessage encodedMessage =
-          chunkEncoder.encodeAsymmetric(
-              secureChannel, requestId, messageBuffer, MessageType.OpenSecureChannel);
+      return null;
+    }
 
-      if (!symmetricHandlerAdded) {
-        var symmetricHandler =
-            new UascServerSymmetricHandler(
-                config,
-                application,
-                transportProfile,
-                channelParameters,
-                chunkEncoder,
-                chunkDecoder,
-                secureChannel);
+    try {
+      OpenSecureChannelRequest request =
+          (OpenSecureChannelRequest) binaryDecoder.setBuffer(message).decodeMessage(null);
 
-        ctx.pipeline().addBefore(ctx.name(), null, symmetricHandler);
+      logger.debug(
+          "Received OpenSecureChannelRequest ({}, id={}).",
+          request.getRequestType(),
+          secureChannelId);
 
-        symmetricHandlerAdded = true;
+      if (request.getRequestType() == SecurityTokenRequestType.Renew) {
+        if (secureChannelId == 0L) {
+          throw new UaException(
+              StatusCodes.Bad_SecurityChecksFailed, "secure channel renewal for secureChannelId=0");
+        }
       }
 
+      return new DecodedRequest(requestId, request);
+    } catch (Throwable t) {
+      logger.error("Error decoding OpenSecureChannelRequest", t);
+
+      ctx.close();
+
+      return null;
+    } finally {
+      message.release();
+      buffersToDecode.clear();
+    }
+  }
+
+  /**
+   * Install a new security token and encode and frame the response to {@code request}.
+   *
+   * @return the framed response, or {@code null} if there's no response to send.
+   */
+  private @Nullable OpenSecureChannelResult respondToOpenSecureChannel(
+      ChannelHandlerContext ctx, AsymmetricSecurityHeader header, DecodedRequest request) {
+
+    try {
+      return encodeOpenSecureChannelResponse(ctx, request.requestId(), header, request.request());
+    } catch (Throwable t) {
+      logger.error("Error handling OpenSecureChannelRequest", t);
+
+      ctx.close();
+
+      return null;
+    }
+  }
+
+  /**
+   * Install the symmetric handler, if it isn't already, restart the secure channel timeout, and
+   * send the OpenSecureChannelResponse. Must be called on the event loop.
+   */
+  private void completeOpenSecureChannel(ChannelHandlerContext ctx, ByteBuf chunks, long lifetime) {
+    if (!ctx.channel().isActive()) {
+      chunks.release();
+      return;
+    }
+
+    if (symmetricHandler == null) {
+      symmetricHandler =
+          new UascServerSymmetricHandler(
+              config,
+              application,
+              transportProfile,
+              channelParameters,
+              chunkEncoder,
+              chunkDecoder,
+              secureChannel);
+
+      ctx.pipeline().addBefore(ctx.name(), null, symmetricHandler);
+    }
+
+    resetSecureChannelTimeout(ctx, lifetime);
+
+    ctx.writeAndFlush(chunks, ctx.voidPromise());
+
+    logger.debug("Sent OpenSecureChannelResponse.");
+  }
+
+  /**
+   * Install a new security token, restart the secure channel timeout, and send the
+   * OpenSecureChannelResponse to a renewal, sealing it on the {@link CryptoExecutor}. Must be
+   * called on the event loop.
+   *
+   * <p>The new token is installed first, so responses encoded while the renewal response is being
+   * sealed are secured with it, and are held by the symmetric handler until the renewal response
+   * has been written.
+   */
+  private void renewOpenSecureChannel(
+      ChannelHandlerContext ctx,
+      UascServerSymmetricHandler symmetricHandler,
+      AsymmetricSecurityHeader header,
+      DecodedRequest request) {
+
+    OpenSecureChannelResult result = respondToOpenSecureChannel(ctx, header, request);
+
+    if (result == null) {
+      return;
+    }
+
+    resetSecureChannelTimeout(ctx, result.lifetime());
+
+    symmetricHandler
+        .getWriteBarrier()
+        .sealAndWrite(
+            result.framedMessage(),
+            config.getCryptoExecutor(),
+            cause -> {
+              if (ctx.channel().isActive()) {
+                logger.error("Error encoding OpenSecureChannelResponse: {}", cause.getMessage());
+
+                ctx.close();
+              }
+            });
+
+    logger.debug("Sending OpenSecureChannelResponse to renewal.");
+  }
+
+  /**
+   * Sign and encrypt a framed OpenSecureChannelResponse.
+   *
+   * @return the chunks of the response, or {@code null} if it couldn't be sealed.
+   */
+  private @Nullable ByteBuf sealOpenSecureChannelResponse(
+      ChannelHandlerContext ctx, FramedMessage framedMessage) {
+
+    try {
+      EncodedMessage encodedMessage = framedMessage.seal();
+
       CompositeByteBuf chunkComposite = BufferUtil.compositeBuffer();
 
       for (ByteBuf chunk : encodedMessage.getMessageChunks()) {
@@ -452,9 +665,37 @@ public class UascServerAsymmetricHandler extends ByteToMessageDecoder implements
         chunkComposite.writerIndex(chunkComposite.writerIndex() + chunk.readableBytes());
       }
 
-      ctx.writeAndFlush(chunkComposite, ctx.voidPromise());
+      return chunkComposite;
+    } catch (MessageEncodeException e) {
+      logger.error("Error encoding OpenSecureChannelResponse: {}", e.getMessage(), e);
+      ctx.fireExceptionCaught(e);
+
+      return null;
+    }
+  }
+
+  private @Nullable OpenSecureChannelResult encodeOpenSecureChannelResponse(
+      ChannelHandlerContext ctx,
+      long requestId,
+      AsymmetricSecurityHeader header,
+      OpenSecureChannelRequest request) {
+
+    ByteBuf messageBuffer = BufferUtil.pooledBuffer();
+
+    try {
+      OpenSecureChannelResponse response = openSecureChannel(ctx, header, request);
+
+      binaryEncoder.setBuffer(messageBuffer);
+      binaryEncoder.encodeMessage(null, response);
+
+      checkMessageSize(messageBuffer);
+
+      FramedMessage framedMessage =
+          chunkEncoder.frameAsymmetric(
+              secureChannel, requestId, messageBuffer, MessageType.OpenSecureChannel);
 
-      logger.debug("Sent OpenSecureChannelResponse.");
+      return new OpenSecureChannelResult(
+          framedMessage, response.getSecurityToken().getRevisedLifetime().longValue());
     } catch (MessageEncodeException e) {
       logger.error("Error encoding OpenSecureChannelResponse: {}", e.getMessage(), e);
       ctx.fireExceptionCaught(e);
@@ -467,6 +708,8 @@ public class UascServerAsymmetricHandler extends ByteToMessageDecoder implements
     } finally {
       messageBuffer.release();
     }
+
+    return null;
   }
 
   private OpenSecureChannelResponse openSecureChannel(
@@ -582,11 +825,22 @@ public class UascServerAsymmetricHandler extends ByteToMessageDecoder implements
 
     secureChannel.setChannelSecurity(newSecrets);
 
-    /*
-     * Cancel the previous timeout, if it exists, and start a new one.
-     */
+    ResponseHeader responseHeader =
+        new ResponseHeader(
+            DateTime.now(),
+            request.getRequestHeader().getRequestHandle(),
+            StatusCode.GOOD,
+            null,
+            null,
+            null);
+
+    return new OpenSecureChannelResponse(
+        responseHeader, uint(PROTOCOL_VERSION), newToken, secureChannel.getLocalNonce());
+  }
+
+  /** Cancel the previous timeout, if it exists, and start a new one. */
+  private void resetSecureChannelTimeout(ChannelHandlerContext ctx, long lifetime) {
     if (secureChannelTimeout == null || secureChannelTimeout.cancel()) {
-      final long lifetime = channelLifetime;
       secureChannelTimeout =
           Stack.sharedWheelTimer()
               .newTimeout(
@@ -599,21 +853,9 @@ public class UascServerAsymmetricHandler extends ByteToMessageDecoder implements
 
                     ctx.close();
                   },
-                  channelLifetime,
+                  lifetime,
                   TimeUnit.MILLISECONDS);
     }
-
-    ResponseHeader responseHeader =
-        new ResponseHeader(
-            DateTime.now(),
-            request.getRequestHeader().getRequestHandle(),
-            StatusCode.GOOD,
-            null,
-            null,
-            null);
-
-    return new OpenSecureChannelResponse(
-        responseHeader, uint(PROTOCOL_VERSION), newToken, secureChannel.getLocalNonce());
   }
 
   private void checkMessageSize(ByteBuf messageBuffer) throws UaSerializationException {
@@ -629,4 +871,8 @@ public class UascServerAsymmetricHandler extends ByteToMessageDecoder implements
               + remoteMaxMessageSize);
     }
   }
+
+  private record DecodedRequest(long requestId, OpenSecureChannelRequest request) {}
+
+  private record OpenSecureChannelResult(FramedMessage framedMessage, long lifetime) {}
 }
@@ -11,7 +11,9 @@
 package org.eclipse.milo.opcua.stack.transport.server.uasc;
 
 import java.util.concurrent.ExecutorService;
+import org.eclipse.milo.opcua.stack.core.Stack;
 import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
+import org.eclipse.milo.opcua.stack.core.util.CryptoExecutor;
 
 public interface UascServerConfig {
 
@@ -24,6 +26,18 @@ public interface UascServerConfig {
    */
   ExecutorService getExecutor();
 
+  /**
+   * Get the {@link CryptoExecutor} that decrypts, verifies, signs, and encrypts the
+   * OpenSecureChannel messages that open a new secure channel.
+   *
+   * <p>Handshakes it doesn't admit are rejected with {@code Bad_TcpNotEnoughResources}.
+   *
+   * @return the {@link CryptoExecutor} to use for secure channel handshakes.
+   */
+  default CryptoExecutor getCryptoExecutor() {
+    return Stack.sharedCryptoExecutor();
+  }
+
   /**
    * Get the deadline, in milliseconds, that a "Hello" message must arrive by after the underlying
    * channel is activated.
@@ -47,4 +61,18 @@ public interface UascServerConfig {
    * @return the maximum allowed secure channel lifetime, in milliseconds.
    */
   UInteger getMaximumSecureChannelLifetime();
+
+  /**
+   * Get whether the bodies of Binary ExtensionObjects in inbound requests are kept as retained
+   * slices of the received message instead of being copied.
+   *
+   * <p>Retained bodies are written back without an intermediate copy when re-encoded, e.g. by a
+   * server that forwards values to another server, and are released once the response to the
+   * request has been written. An ExtensionObject kept beyond that must have had its body read with
+   * {@link org.eclipse.milo.opcua.stack.core.types.builtin.ExtensionObject.Binary#getBody()} while
+   * the request was being handled.
+   *
+   * @return {@code true} if Binary ExtensionObject bodies in inbound requests are retained.
+   */
+  boolean isRetainExtensionObjectBodies();
 }
@@ -46,6 +46,10 @@ public class UascServerHelloHandler extends ByteToMessageDecoder implements Head
   @SuppressWarnings("WeakerAccess")
   public static final AtomicLong CUMULATIVE_DEADLINES_MISSED = new AtomicLong(0L);
 
+  /** Cumulative count of Hello messages rejected because the server was at capacity. */
+  @SuppressWarnings("WeakerAccess")
+  public static final AtomicLong CUMULATIVE_HELLOS_REJECTED = new AtomicLong(0L);
+
   private static final int MAX_HELLO_MESSAGE_SIZE = 8 + 20 + 4 + 4096;
 
   private final Logger logger = LoggerFactory.getLogger(getClass());
@@ -148,6 +152,17 @@ public class UascServerHelloHandler extends ByteToMessageDecoder implements Head
 
     receivedHello = true;
 
+    if (!application.isAcceptingConnections()) {
+      long cumulativeHellosRejected = CUMULATIVE_HELLOS_REJECTED.incrementAndGet();
+
+      logger.debug(
+          "[remote={}] Server at capacity; rejecting Hello. cumulativeHellosRejected={}",
+          ctx.channel().remoteAddress(),
+          cumulativeHellosRejected);
+
+      throw new UaException(StatusCodes.Bad_TcpNotEnoughResources, "server at capacity");
+    }
+
     final HelloMessage hello = TcpMessageDecoder.decodeHello(buffer);
 
     String endpointUrl = hello.getEndpointUrl();
@@ -12,7 +12,9 @@ package org.eclipse.milo.opcua.stack.transport.server.uasc;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
 import io.netty.handler.codec.ByteToMessageCodec;
 import java.util.ArrayList;
 import java.util.List;
@@ -22,11 +24,13 @@ import org.eclipse.milo.opcua.stack.core.UaSerializationException;
 import org.eclipse.milo.opcua.stack.core.channel.ChannelParameters;
 import org.eclipse.milo.opcua.stack.core.channel.ChunkDecoder;
 import org.eclipse.milo.opcua.stack.core.channel.ChunkDecoder.DecodedMessage;
+import org.eclipse.milo.opcua.stack.core.channel.ChunkDecoder.PartialMessage;
 import org.eclipse.milo.opcua.stack.core.channel.ChunkEncoder;
 import org.eclipse.milo.opcua.stack.core.channel.ChunkEncoder.EncodedMessage;
 import org.eclipse.milo.opcua.stack.core.channel.MessageAbortException;
 import org.eclipse.milo.opcua.stack.core.channel.MessageDecodeException;
 import org.eclipse.milo.opcua.stack.core.channel.MessageEncodeException;
+import org.eclipse.milo.opcua.stack.core.channel.RenewalWriteBarrier;
 import org.eclipse.milo.opcua.stack.core.channel.ServerSecureChannel;
 import org.eclipse.milo.opcua.stack.core.channel.headers.HeaderDecoder;
 import org.eclipse.milo.opcua.stack.core.channel.messages.ErrorMessage;
@@ -37,10 +41,12 @@ import org.eclipse.milo.opcua.stack.core.encoding.binary.OpcUaBinaryEncoder;
 import org.eclipse.milo.opcua.stack.core.transport.TransportProfile;
 import org.eclipse.milo.opcua.stack.core.types.UaRequestMessageType;
 import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ExtensionObject;
 import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
 import org.eclipse.milo.opcua.stack.core.types.structured.ResponseHeader;
 import org.eclipse.milo.opcua.stack.core.types.structured.ServiceFault;
 import org.eclipse.milo.opcua.stack.core.util.BufferUtil;
+import org.eclipse.milo.opcua.stack.core.util.CryptoExecutor;
 import org.eclipse.milo.opcua.stack.transport.server.ServerApplicationContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -52,7 +58,7 @@ public class UascServerSymmetricHandler extends ByteToMessageCodec<UascServiceRe
 
   private final int maxChunkCount;
   private final int maxChunkSize;
-  private List<ByteBuf> chunkBuffers;
+  private final PartialMessage partialMessage = new PartialMessage();
 
   private final OpcUaBinaryEncoder binaryEncoder;
   private final OpcUaBinaryDecoder binaryDecoder;
@@ -65,6 +71,13 @@ public class UascServerSymmetricHandler extends ByteToMessageCodec<UascServiceRe
   private final ChunkDecoder chunkDecoder;
   private final ServerSecureChannel secureChannel;
 
+  private RenewalWriteBarrier writeBarrier;
+
+  /** Set while the OpenSecureChannelRequest of a renewal is being decoded elsewhere. */
+  private boolean decodingPaused = false;
+
+  private ChannelHandlerContext ctx;
+
   UascServerSymmetricHandler(
       UascServerConfig config,
       ServerApplicationContext applicationContext,
@@ -87,17 +100,26 @@ public class UascServerSymmetricHandler extends ByteToMessageCodec<UascServiceRe
 
     maxChunkCount = channelParameters.getLocalMaxChunkCount();
     maxChunkSize = channelParameters.getLocalReceiveBufferSize();
-
-    chunkBuffers = new ArrayList<>(maxChunkCount);
   }
 
   @Override
   public void handlerAdded(ChannelHandlerContext ctx) throws Exception {
+    this.ctx = ctx;
+
+    writeBarrier = new RenewalWriteBarrier(ctx);
+
     ctx.pipeline().addLast(new UascServiceRequestHandler(config, applicationContext));
 
     super.handlerAdded(ctx);
   }
 
+  @Override
+  public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+    partialMessage.release();
+
+    super.channelInactive(ctx);
+  }
+
   @Override
   public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
     if (evt instanceof ErrorMessage errorMessage) {
@@ -110,6 +132,63 @@ public class UascServerSymmetricHandler extends ByteToMessageCodec<UascServiceRe
     super.userEventTriggered(ctx, evt);
   }
 
+  @Override
+  public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise)
+      throws Exception {
+    if (writeBarrier.isHolding()) {
+      // A renewal response is being sealed; keep encoding responses so they're ready to follow it
+      // onto the wire as soon as it's written.
+      if (msg instanceof UascServiceResponse response) {
+        ByteBuf buffer = ctx.alloc().ioBuffer();
+        sendServiceResponse(response, buffer);
+        writeBarrier.hold(buffer, promise);
+      } else {
+        writeBarrier.hold(msg, promise);
+      }
+    } else {
+      super.write(ctx, msg, promise);
+    }
+  }
+
+  /**
+   * @return the {@link RenewalWriteBarrier} renewal responses are written through.
+   */
+  RenewalWriteBarrier getWriteBarrier() {
+    return writeBarrier;
+  }
+
+  /**
+   * Stop decoding received messages, and reading from the channel, until {@link #resumeDecoding()}.
+   *
+   * <p>Messages share sequence numbers with the OpenSecureChannelRequest of a renewal, so none can
+   * be decoded while it's being decoded on the {@link CryptoExecutor}.
+   */
+  void pauseDecoding() {
+    decodingPaused = true;
+
+    ctx.channel().config().setAutoRead(false);
+  }
+
+  /** Resume decoding received messages, starting with any received while paused. */
+  void resumeDecoding() {
+    if (!decodingPaused) {
+      return;
+    }
+
+    decodingPaused = false;
+
+    ctx.channel().config().setAutoRead(true);
+
+    if (!ctx.isRemoved()) {
+      try {
+        // Decode whatever is already buffered; reading alone won't if nothing more arrives.
+        channelRead(ctx, Unpooled.EMPTY_BUFFER);
+      } catch (Exception e) {
+        ctx.fireExceptionCaught(e);
+      }
+    }
+  }
+
   @Override
   protected void encode(ChannelHandlerContext ctx, UascServiceResponse response, ByteBuf buffer)
       throws Exception {
@@ -119,6 +198,10 @@ public class UascServerSymmetricHandler extends ByteToMessageCodec<UascServiceRe
   @Override
   protected void decode(ChannelHandlerContext ctx, ByteBuf buffer, List<Object> out)
       throws Exception {
+    if (decodingPaused) {
+      return;
+    }
+
     if (buffer.readableBytes() >= HEADER_LENGTH) {
       int messageLength = getMessageLength(buffer, maxChunkSize);
 
@@ -142,8 +225,7 @@ public class UascServerSymmetricHandler extends ByteToMessageCodec<UascServiceRe
     char chunkType = (char) buffer.readByte();
 
     if (chunkType == 'A') {
-      chunkBuffers.forEach(ByteBuf::release);
-      chunkBuffers.clear();
+      partialMessage.release();
     } else {
       buffer.skipBytes(4); // Skip messageSize
 
@@ -161,30 +243,40 @@ public class UascServerSymmetricHandler extends ByteToMessageCodec<UascServiceRe
             String.format("max chunk size exceeded (%s)", maxChunkSize));
       }
 
-      chunkBuffers.add(buffer.retain());
+      if (maxChunkCount > 0 && partialMessage.getChunkCount() + 1 > maxChunkCount) {
+        partialMessage.release();
 
-      if (maxChunkCount > 0 && chunkBuffers.size() > maxChunkCount) {
         throw new UaException(
             StatusCodes.Bad_TcpMessageTooLarge,
             String.format("max chunk count exceeded (%s)", maxChunkCount));
       }
 
-      if (chunkType == 'F') {
-        final List<ByteBuf> buffersToDecode = chunkBuffers;
-        chunkBuffers = new ArrayList<>();
+      ByteBuf message = null;
 
-        ByteBuf message = null;
-
-        try {
-          DecodedMessage decodedMessage =
-              chunkDecoder.decodeSymmetric(secureChannel, buffersToDecode);
+      try {
+        // Each chunk is verified and decrypted as it arrives and its plaintext appended to
+        // partialMessage, so the chunk itself doesn't need to be retained.
+        DecodedMessage decodedMessage =
+            chunkDecoder.decodeSymmetricChunk(secureChannel, partialMessage, buffer);
 
+        if (decodedMessage != null) {
           message = decodedMessage.getMessage();
           long requestId = decodedMessage.getRequestId();
 
-          binaryDecoder.setBuffer(message);
-          UaRequestMessageType requestMessage =
-              (UaRequestMessageType) binaryDecoder.decodeMessage(null);
+          List<ExtensionObject.Binary> retainedBodies =
+              config.isRetainExtensionObjectBodies() ? new ArrayList<>() : List.of();
+
+          UaRequestMessageType requestMessage;
+          try {
+            binaryDecoder.setBuffer(message);
+            binaryDecoder.setRetainedBodies(
+                config.isRetainExtensionObjectBodies() ? retainedBodies : null);
+
+            requestMessage = (UaRequestMessageType) binaryDecoder.decodeMessage(null);
+          } catch (Throwable t) {
+            retainedBodies.forEach(ExtensionObject.Binary::release);
+            throw t;
+          }
 
           String endpointUrl = ctx.channel().attr(UascServerHelloHandler.ENDPOINT_URL_KEY).get();
 
@@ -195,23 +287,21 @@ public class UascServerSymmetricHandler extends ByteToMessageCodec<UascServiceRe
                   ctx.channel(),
                   secureChannel,
                   requestMessage,
-                  requestId);
+                  requestId,
+                  retainedBodies);
 
           out.add(serviceRequest);
-        } catch (MessageAbortException e) {
-          logger.warn(
-              "Received message abort chunk; error={}, reason={}",
-              e.getStatusCode(),
-              e.getMessage());
-        } catch (MessageDecodeException e) {
-          logger.error("Error decoding symmetric message", e);
-
-          ctx.close();
-        } finally {
-          if (message != null) {
-            message.release();
-          }
-          buffersToDecode.clear();
+        }
+      } catch (MessageAbortException e) {
+        logger.warn(
+            "Received message abort chunk; error={}, reason={}", e.getStatusCode(), e.getMessage());
+      } catch (MessageDecodeException e) {
+        logger.error("Error decoding symmetric message", e);
+
+        ctx.close();
+      } finally {
+        if (message != null) {
+          message.release();
         }
       }
     }
@@ -219,7 +309,7 @@ public class UascServerSymmetricHandler extends ByteToMessageCodec<UascServiceRe
 
   private void sendServiceResponse(UascServiceResponse response, ByteBuf outBuffer) {
     ByteBuf messageBuffer = BufferUtil.pooledBuffer();
-    CompositeByteBuf chunkComposite = BufferUtil.compositeBuffer();
+    CompositeByteBuf chunkComposite = BufferUtil.compositeBuffer(Integer.MAX_VALUE);
 
     try {
       binaryEncoder.setBuffer(messageBuffer);
@@ -272,7 +362,7 @@ public class UascServerSymmetricHandler extends ByteToMessageCodec<UascServiceRe
                 null));
 
     ByteBuf messageBuffer = BufferUtil.pooledBuffer();
-    CompositeByteBuf chunkComposite = BufferUtil.compositeBuffer();
+    CompositeByteBuf chunkComposite = BufferUtil.compositeBuffer(Integer.MAX_VALUE);
 
     try {
       binaryEncoder.setBuffer(messageBuffer);
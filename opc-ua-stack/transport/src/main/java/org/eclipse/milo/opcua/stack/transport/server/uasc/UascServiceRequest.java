@@ -11,14 +11,17 @@
 package org.eclipse.milo.opcua.stack.transport.server.uasc;
 
 import io.netty.channel.Channel;
+import java.util.List;
 import org.eclipse.milo.opcua.stack.core.channel.SecureChannel;
 import org.eclipse.milo.opcua.stack.core.transport.TransportProfile;
 import org.eclipse.milo.opcua.stack.core.types.UaRequestMessageType;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ExtensionObject;
 import org.eclipse.milo.opcua.stack.transport.server.ServiceRequest;
 
 public class UascServiceRequest extends ServiceRequest {
 
   private final long requestId;
+  private final List<ExtensionObject.Binary> retainedBodies;
 
   public UascServiceRequest(
       String endpointUrl,
@@ -27,12 +30,43 @@ public class UascServiceRequest extends ServiceRequest {
       SecureChannel secureChannel,
       UaRequestMessageType requestMessage,
       long requestId) {
+
+    this(
+        endpointUrl,
+        transportProfile,
+        channel,
+        secureChannel,
+        requestMessage,
+        requestId,
+        List.of());
+  }
+
+  /**
+   * @param retainedBodies the ExtensionObjects in {@code requestMessage} whose bodies are retained
+   *     slices of the buffer it was decoded from. They're released by {@link
+   *     #releaseRetainedBodies()} once the response has been written.
+   */
+  public UascServiceRequest(
+      String endpointUrl,
+      TransportProfile transportProfile,
+      Channel channel,
+      SecureChannel secureChannel,
+      UaRequestMessageType requestMessage,
+      long requestId,
+      List<ExtensionObject.Binary> retainedBodies) {
+
     super(endpointUrl, transportProfile, channel, secureChannel, requestMessage);
 
     this.requestId = requestId;
+    this.retainedBodies = retainedBodies;
   }
 
   public long getRequestId() {
     return requestId;
   }
+
+  /** Release the retained ExtensionObject bodies of the request message, if any. */
+  public void releaseRetainedBodies() {
+    retainedBodies.forEach(ExtensionObject.Binary::release);
+  }
 }
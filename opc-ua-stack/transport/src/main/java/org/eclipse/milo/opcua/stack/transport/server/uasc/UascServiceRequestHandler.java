@@ -48,7 +48,11 @@ public class UascServiceRequestHandler extends SimpleChannelInboundHandler<UascS
           if (response != null) {
             var serviceResponse = new UascServiceResponse(response, serviceRequest.getRequestId());
 
-            serviceRequest.getChannel().pipeline().writeAndFlush(serviceResponse);
+            serviceRequest
+                .getChannel()
+                .pipeline()
+                .writeAndFlush(serviceResponse)
+                .addListener(f -> serviceRequest.releaseRetainedBodies());
           } else {
             StatusCode serviceResult =
                 UaException.extractStatusCode(ex)
@@ -66,7 +70,10 @@ public class UascServiceRequestHandler extends SimpleChannelInboundHandler<UascS
             var serviceResponse =
                 new UascServiceResponse(new ServiceFault(header), serviceRequest.getRequestId());
 
-            serviceRequest.getChannel().writeAndFlush(serviceResponse);
+            serviceRequest
+                .getChannel()
+                .writeAndFlush(serviceResponse)
+                .addListener(f -> serviceRequest.releaseRetainedBodies());
           }
         }));
   }
@@ -12,21 +12,28 @@ package org.eclipse.milo.opcua.stack.transport.client.tcp;
 
 import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.ubyte;
 import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.net.InetSocketAddress;
 import java.security.KeyPair;
 import java.security.Security;
 import java.security.cert.X509Certificate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Stream;
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
 import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaServiceFaultException;
+import org.eclipse.milo.opcua.stack.core.channel.RenewalWriteBarrier;
 import org.eclipse.milo.opcua.stack.core.channel.messages.ErrorMessage;
 import org.eclipse.milo.opcua.stack.core.encoding.DefaultEncodingContext;
 import org.eclipse.milo.opcua.stack.core.encoding.EncodingContext;
@@ -49,6 +56,7 @@ import org.eclipse.milo.opcua.stack.core.types.structured.CreateSessionRequest;
 import org.eclipse.milo.opcua.stack.core.types.structured.EndpointDescription;
 import org.eclipse.milo.opcua.stack.core.types.structured.RequestHeader;
 import org.eclipse.milo.opcua.stack.core.types.structured.UserTokenPolicy;
+import org.eclipse.milo.opcua.stack.core.util.CryptoExecutor;
 import org.eclipse.milo.opcua.stack.transport.client.ClientApplicationContext;
 import org.eclipse.milo.opcua.stack.transport.server.OpcServerTransport;
 import org.eclipse.milo.opcua.stack.transport.server.ServerApplicationContext;
@@ -263,34 +271,152 @@ class OpcTcpTransportTest extends SecurityFixture {
     serverTransport.unbind();
   }
 
+  @Test
+  void renewWhileSendingRequests() throws Exception {
+    // Renewals are decoded and sealed off the event loop while requests and responses keep
+    // flowing; any misordering on the wire would fail sequence number validation and close the
+    // channel.
+
+    var serverCryptoExecutor = new CryptoExecutor(1, 16);
+
+    OpcServerTransport serverTransport =
+        bindServerTransport(
+            SecurityPolicy.Basic256Sha256,
+            MessageSecurityMode.SignAndEncrypt,
+            OpcTcpServerTransportConfig.newBuilder()
+                .setMinimumSecureChannelLifetime(uint(1_000))
+                .setCryptoExecutor(serverCryptoExecutor)
+                .build());
+
+    var applicationContext =
+        new ClientApplicationContext() {
+          @Override
+          public EndpointDescription getEndpoint() {
+            return newEndpointDescription(
+                SecurityPolicy.Basic256Sha256, MessageSecurityMode.SignAndEncrypt);
+          }
+
+          @Override
+          public Optional<KeyPair> getKeyPair() {
+            return Optional.of(clientKeyPair);
+          }
+
+          @Override
+          public Optional<X509Certificate> getCertificate() {
+            return Optional.of(clientCertificate);
+          }
+
+          @Override
+          public Optional<X509Certificate[]> getCertificateChain() {
+            return Optional.of(new X509Certificate[] {clientCertificate});
+          }
+
+          @Override
+          public CertificateValidator getCertificateValidator() {
+            return new CertificateValidator.InsecureCertificateValidator();
+          }
+
+          @Override
+          public EncodingContext getEncodingContext() {
+            return DefaultEncodingContext.INSTANCE;
+          }
+
+          @Override
+          public UInteger getRequestTimeout() {
+            return uint(5_000);
+          }
+        };
+
+    var clientCryptoExecutor = new CryptoExecutor(1, 16);
+
+    OpcTcpClientTransportConfig config =
+        OpcTcpClientTransportConfig.newBuilder()
+            .setChannelLifetime(uint(1_000))
+            .setCryptoExecutor(clientCryptoExecutor)
+            .build();
+
+    var transport = new OpcTcpClientTransport(config);
+    transport.connect(applicationContext).get();
+
+    long renewalsBefore = RenewalWriteBarrier.CUMULATIVE_RENEWALS_SEALED.get();
+    long sealedInlineBefore = RenewalWriteBarrier.CUMULATIVE_RENEWALS_SEALED_INLINE.get();
+    long decodedBefore = RenewalWriteBarrier.CUMULATIVE_RENEWALS_DECODED.get();
+    long decodedInlineBefore = RenewalWriteBarrier.CUMULATIVE_RENEWALS_DECODED_INLINE.get();
+    long serverSubmittedBefore = serverCryptoExecutor.getSubmittedCount();
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(2_000);
+
+    while (System.nanoTime() < deadline) {
+      var futures = new ArrayList<CompletableFuture<UaResponseMessageType>>();
+      for (int i = 0; i < 10; i++) {
+        futures.add(transport.sendRequestMessage(newCreateSessionRequest()));
+      }
+
+      for (CompletableFuture<UaResponseMessageType> future : futures) {
+        // The server answers every request with a ServiceFault.
+        ExecutionException e = assertThrows(ExecutionException.class, future::get);
+        assertInstanceOf(UaServiceFaultException.class, e.getCause());
+      }
+    }
+
+    // At least one renewal by the client and the server each.
+    assertTrue(RenewalWriteBarrier.CUMULATIVE_RENEWALS_SEALED.get() - renewalsBefore >= 2);
+
+    // Each renewal request and response is decoded by the other side, and none of the decoding
+    // or sealing happened on an event loop.
+    assertTrue(RenewalWriteBarrier.CUMULATIVE_RENEWALS_DECODED.get() - decodedBefore >= 2);
+    assertEquals(decodedInlineBefore, RenewalWriteBarrier.CUMULATIVE_RENEWALS_DECODED_INLINE.get());
+    assertEquals(sealedInlineBefore, RenewalWriteBarrier.CUMULATIVE_RENEWALS_SEALED_INLINE.get());
+
+    // The client's renewals are sealed, and its responses decoded, on its configured
+    // CryptoExecutor; the server decodes the request and seals the response on its own.
+    assertTrue(clientCryptoExecutor.getSubmittedCount() >= 2);
+    assertTrue(serverCryptoExecutor.getSubmittedCount() - serverSubmittedBefore >= 2);
+
+    transport.disconnect().get();
+    serverTransport.unbind();
+    clientCryptoExecutor.shutdown();
+    serverCryptoExecutor.shutdown();
+  }
+
   private static void createSession(OpcTcpClientTransport transport) throws Exception {
+    transport.sendRequestMessage(newCreateSessionRequest()).get();
+  }
+
+  private static CreateSessionRequest newCreateSessionRequest() {
     var header =
         new RequestHeader(
             NodeId.NULL_VALUE, DateTime.now(), uint(0), uint(0), null, uint(5_000), null);
 
-    var request =
-        new CreateSessionRequest(
-            header,
-            new ApplicationDescription(
-                "", "", LocalizedText.NULL_VALUE, ApplicationType.Client, null, null, null),
-            null,
-            "opc.tcp://localhost:12685",
-            "sessionName",
-            ByteString.NULL_VALUE,
-            ByteString.NULL_VALUE,
-            60_000d,
-            UInteger.MAX);
-
-    transport.sendRequestMessage(request).get();
+    return new CreateSessionRequest(
+        header,
+        new ApplicationDescription(
+            "", "", LocalizedText.NULL_VALUE, ApplicationType.Client, null, null, null),
+        null,
+        "opc.tcp://localhost:12685",
+        "sessionName",
+        ByteString.NULL_VALUE,
+        ByteString.NULL_VALUE,
+        60_000d,
+        UInteger.MAX);
   }
 
   private OpcServerTransport bindServerTransport(
       SecurityPolicy securityPolicy, MessageSecurityMode messageSecurityMode) throws Exception {
 
+    return bindServerTransport(
+        securityPolicy, messageSecurityMode, OpcTcpServerTransportConfig.newBuilder().build());
+  }
+
+  private OpcServerTransport bindServerTransport(
+      SecurityPolicy securityPolicy,
+      MessageSecurityMode messageSecurityMode,
+      OpcTcpServerTransportConfig config)
+      throws Exception {
+
     var applicationContext =
         new ServerApplicationContext() {
 
-          private final AtomicLong secureChannelId = new AtomicLong(0L);
+          private final AtomicLong secureChannelId = new AtomicLong(1L);
           private final AtomicLong secureChannelTokenId = new AtomicLong(0L);
 
           @Override
@@ -348,8 +474,6 @@ class OpcTcpTransportTest extends SecurityFixture {
           }
         };
 
-    OpcTcpServerTransportConfig config = OpcTcpServerTransportConfig.newBuilder().build();
-
     var transport = new OpcTcpServerTransport(config);
     transport.bind(applicationContext, new InetSocketAddress("localhost", 12685));
     return transport;
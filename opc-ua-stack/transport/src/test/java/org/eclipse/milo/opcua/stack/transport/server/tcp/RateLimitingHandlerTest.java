@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2025 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.transport.server.tcp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+public class RateLimitingHandlerTest {
+
+  private final AtomicLong now =
+      new AtomicLong(Long.MAX_VALUE - TimeUnit.MILLISECONDS.toNanos(500));
+
+  @Test
+  public void burstThenRefill() throws Exception {
+    var handler = new RateLimitingHandler(limits(4, 1000, 100), now::get);
+    InetSocketAddress a = address(1);
+
+    for (int i = 0; i < 4; i++) {
+      assertTrue(handler.accept(null, a));
+    }
+    assertFalse(handler.accept(null, a));
+
+    // One token is refilled every 250ms.
+    advance(250);
+    assertTrue(handler.accept(null, a));
+    assertFalse(handler.accept(null, a));
+
+    // Other addresses have their own bucket.
+    assertTrue(handler.accept(null, address(2)));
+  }
+
+  @Test
+  public void refilledBucketsAreForgotten() throws Exception {
+    var handler = new RateLimitingHandler(limits(4, 1000, 100), now::get);
+
+    for (int i = 0; i < 10; i++) {
+      assertTrue(handler.accept(null, address(i)));
+    }
+    assertEquals(10, handler.getTrackedAddressCount());
+
+    advance(1000);
+    assertTrue(handler.accept(null, address(100)));
+    assertEquals(1, handler.getTrackedAddressCount());
+  }
+
+  @Test
+  public void trackedAddressesAreBounded() throws Exception {
+    var handler = new RateLimitingHandler(limits(4, 1000, 2), now::get);
+
+    assertTrue(handler.accept(null, address(1)));
+    assertTrue(handler.accept(null, address(2)));
+    assertFalse(handler.accept(null, address(3)));
+
+    // Buckets that have refilled make room, even before the periodic sweep.
+    advance(250);
+    assertTrue(handler.accept(null, address(3)));
+    assertEquals(1, handler.getTrackedAddressCount());
+  }
+
+  @Test
+  public void fullTableIsSweptAtMostOncePerInterval() throws Exception {
+    var handler = new RateLimitingHandler(limits(4, 1000, 2), now::get);
+
+    assertTrue(handler.accept(null, address(1)));
+    advance(100);
+    assertTrue(handler.accept(null, address(2)));
+
+    // The sweep for address 3 removes address 1, but address 2 hasn't refilled yet.
+    advance(150);
+    assertTrue(handler.accept(null, address(3)));
+    assertEquals(2, handler.getTrackedAddressCount());
+
+    // Address 2 has refilled now, but the table was swept less than an interval (250ms) ago.
+    advance(100);
+    assertFalse(handler.accept(null, address(4)));
+    assertEquals(2, handler.getTrackedAddressCount());
+
+    advance(150);
+    assertTrue(handler.accept(null, address(4)));
+  }
+
+  @Test
+  public void limitsCanBeChanged() throws Exception {
+    var handler = new RateLimitingHandler(limits(1, 1000, 100), now::get);
+    InetSocketAddress a = address(1);
+
+    assertTrue(handler.accept(null, a));
+    assertFalse(handler.accept(null, a));
+
+    handler.setLimits(new RateLimitingHandler.Limits(false, 1, 1000, 10_000, 100, 100));
+    assertTrue(handler.accept(null, a));
+  }
+
+  private void advance(long millis) {
+    now.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+  }
+
+  private static RateLimitingHandler.Limits limits(
+      int maxAttempts, int windowMs, int maxTrackedAddresses) {
+
+    return new RateLimitingHandler.Limits(
+        true, maxAttempts, windowMs, 10_000, 100, maxTrackedAddresses);
+  }
+
+  private static InetSocketAddress address(int i) throws Exception {
+    return new InetSocketAddress(
+        InetAddress.getByAddress(new byte[] {10, 0, (byte) (i >> 8), (byte) i}), 4840);
+  }
+}